@@ -55,6 +55,11 @@ import org.eclipse.ditto.json.JsonValue;
 
 /**
  * Abstract immutable implementation of {@link org.eclipse.ditto.base.model.headers.DittoHeaders} which is heavily based on {@link java.util.AbstractMap}.
+ * <p>
+ * The headers are kept as the raw string values. Typed values which are expensive to parse and which are read
+ * repeatedly while a signal is processed (authorization context, acknowledgement requests, entity tag matchers and
+ * timeout) are parsed on first access and then kept for the lifetime of the instance.
+ * </p>
  */
 @Immutable
 @SuppressWarnings("squid:S2160")
@@ -62,6 +67,14 @@ public abstract class AbstractDittoHeaders implements DittoHeaders {
 
     final Map<String, Header> headers;
 
+    // Lazily parsed typed values. As the parsed values are immutable and derived from the immutable headers, racy
+    // initialization is fine: in the worst case a value is parsed more than once.
+    @Nullable private AuthorizationContext authorizationContext;
+    @Nullable private Set<AcknowledgementRequest> acknowledgementRequests;
+    @Nullable private Optional<EntityTagMatchers> ifMatch;
+    @Nullable private Optional<EntityTagMatchers> ifNoneMatch;
+    @Nullable private Optional<Duration> timeout;
+
     /**
      * Constructs a new {@code AbstractDittoHeaders} object.
      *
@@ -80,6 +93,7 @@ public abstract class AbstractDittoHeaders implements DittoHeaders {
 
     /**
      * Construct a new {@code AbstractDittoHeaders} from a known case insensitive map.
+     * The map is not copied, thus it must not be modified after it was passed to this constructor.
      *
      * @param headers headers indexed by lower-case keys.
      * @param flag unused disambiguation parameter.
@@ -87,7 +101,7 @@ public abstract class AbstractDittoHeaders implements DittoHeaders {
     @SuppressWarnings("unused")
     protected AbstractDittoHeaders(final Map<String, Header> headers, final boolean flag) {
         checkNotNull(headers, "headers");
-        this.headers = new LinkedHashMap<>(headers);
+        this.headers = headers;
     }
 
     @Override
@@ -101,7 +115,7 @@ public abstract class AbstractDittoHeaders implements DittoHeaders {
 
     @Override
     public Set<String> keySet() {
-        return headers.keySet();
+        return Collections.unmodifiableSet(headers.keySet());
     }
 
     @Override
@@ -186,7 +200,12 @@ public abstract class AbstractDittoHeaders implements DittoHeaders {
 
     @Override
     public AuthorizationContext getAuthorizationContext() {
-        return AuthorizationModelFactory.newAuthContext(getAuthorizationContextAsJson(headers));
+        AuthorizationContext result = authorizationContext;
+        if (null == result) {
+            result = AuthorizationModelFactory.newAuthContext(getAuthorizationContextAsJson(headers));
+            authorizationContext = result;
+        }
+        return result;
     }
 
     protected JsonArray getJsonArrayForDefinition(final HeaderDefinition definition) {
@@ -305,15 +324,27 @@ public abstract class AbstractDittoHeaders implements DittoHeaders {
     }
 
     @Override
+    @SuppressWarnings("OptionalAssignedToNull")
     public Optional<EntityTagMatchers> getIfMatch() {
-        return getStringForDefinition(DittoHeaderDefinition.IF_MATCH)
-                .map(EntityTagMatchers::fromCommaSeparatedString);
+        Optional<EntityTagMatchers> result = ifMatch;
+        if (null == result) {
+            result = getStringForDefinition(DittoHeaderDefinition.IF_MATCH)
+                    .map(EntityTagMatchers::fromCommaSeparatedString);
+            ifMatch = result;
+        }
+        return result;
     }
 
     @Override
+    @SuppressWarnings("OptionalAssignedToNull")
     public Optional<EntityTagMatchers> getIfNoneMatch() {
-        return getStringForDefinition(DittoHeaderDefinition.IF_NONE_MATCH)
-                .map(EntityTagMatchers::fromCommaSeparatedString);
+        Optional<EntityTagMatchers> result = ifNoneMatch;
+        if (null == result) {
+            result = getStringForDefinition(DittoHeaderDefinition.IF_NONE_MATCH)
+                    .map(EntityTagMatchers::fromCommaSeparatedString);
+            ifNoneMatch = result;
+        }
+        return result;
     }
 
     @Override
@@ -346,18 +377,31 @@ public abstract class AbstractDittoHeaders implements DittoHeaders {
 
     @Override
     public Set<AcknowledgementRequest> getAcknowledgementRequests() {
-        final JsonArray jsonValueArray = getJsonArrayForDefinition(DittoHeaderDefinition.REQUESTED_ACKS);
-        return jsonValueArray.stream()
-                .map(JsonValue::asString)
-                .map(AcknowledgementRequest::parseAcknowledgementRequest)
-                .collect(Collectors.toCollection(LinkedHashSet::new));
+        Set<AcknowledgementRequest> parsed = acknowledgementRequests;
+        if (null == parsed) {
+            final JsonArray jsonValueArray = getJsonArrayForDefinition(DittoHeaderDefinition.REQUESTED_ACKS);
+            parsed = jsonValueArray.stream()
+                    .map(JsonValue::asString)
+                    .map(AcknowledgementRequest::parseAcknowledgementRequest)
+                    .collect(Collectors.toCollection(LinkedHashSet::new));
+            acknowledgementRequests = parsed;
+        }
+
+        // callers are used to get a mutable set
+        return new LinkedHashSet<>(parsed);
     }
 
     @Override
+    @SuppressWarnings("OptionalAssignedToNull")
     public Optional<Duration> getTimeout() {
-        return getStringForDefinition(DittoHeaderDefinition.TIMEOUT)
-                .map(DittoDuration::parseDuration)
-                .map(DittoDuration::getDuration);
+        Optional<Duration> result = timeout;
+        if (null == result) {
+            result = getStringForDefinition(DittoHeaderDefinition.TIMEOUT)
+                    .map(DittoDuration::parseDuration)
+                    .map(DittoDuration::getDuration);
+            timeout = result;
+        }
+        return result;
     }
 
     @Override
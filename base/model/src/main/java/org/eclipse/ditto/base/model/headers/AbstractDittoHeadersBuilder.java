@@ -58,6 +58,11 @@ import org.eclipse.ditto.json.JsonValueContainer;
  * This implementation does already most of the work including header value validation. Insertion order and
  * re-insertion order is maintained via a linked hash map. Since Java linked hash map does not maintain
  * re-insertion order, each entry is removed from the map before they are added.
+ * <p>
+ * A builder which is based on existing {@code DittoHeaders} shares their headers until the first modification
+ * (copy-on-write). The same applies to the built {@code DittoHeaders} which share the headers of this builder.
+ * Thus, passing headers through a builder without changing them does not copy them.
+ * </p>
  */
 @NotThreadSafe
 public abstract class AbstractDittoHeadersBuilder<S extends AbstractDittoHeadersBuilder<S, R>, R extends DittoHeaders>
@@ -99,7 +104,8 @@ public abstract class AbstractDittoHeadersBuilder<S extends AbstractDittoHeaders
     }
 
     protected final S myself;
-    private final Map<String, Header> headers;
+    private Map<String, Header> headers;
+    private boolean headersShared;
     private final Map<String, HeaderDefinition> definitions;
     private MetadataHeaders metadataHeaders;
     private JsonFieldSelector getMetadataFieldSelector;
@@ -127,16 +133,18 @@ public abstract class AbstractDittoHeadersBuilder<S extends AbstractDittoHeaders
         validateValueTypes(initialHeaders, definitions); // this constructor does validate the known value types
         myself = (S) selfType.cast(this);
         headers = preserveCaseSensitivity(initialHeaders);
+        headersShared = false;
         metadataHeaders = MetadataHeaders.newInstance();
-        metadataHeaders.addAll(extractMetadataHeaders(headers));
+        metadataHeaders.addAll(extractMetadataHeaders());
         this.definitions = checkNotNull(definitionsMap, "definitionsMap");
-        getMetadataFieldSelector = extractMetadataFieldSelector(headers, DittoHeaderDefinition.GET_METADATA);
-        deleteMetadataFieldSelector = extractMetadataFieldSelector(headers, DittoHeaderDefinition.DELETE_METADATA);
+        getMetadataFieldSelector = extractMetadataFieldSelector(DittoHeaderDefinition.GET_METADATA);
+        deleteMetadataFieldSelector = extractMetadataFieldSelector(DittoHeaderDefinition.DELETE_METADATA);
     }
 
-    private static MetadataHeaders extractMetadataHeaders(final Map<String, Header> headers) {
+    private MetadataHeaders extractMetadataHeaders() {
         final MetadataHeaders result;
-        final CharSequence putMetadataHeaderCharSequence = headers.remove(DittoHeaderDefinition.PUT_METADATA.getKey());
+        final CharSequence putMetadataHeaderCharSequence =
+                removeFromHeaders(DittoHeaderDefinition.PUT_METADATA.getKey());
         if (null != putMetadataHeaderCharSequence) {
             result = MetadataHeaders.parseMetadataHeaders(putMetadataHeaderCharSequence);
         } else {
@@ -145,10 +153,9 @@ public abstract class AbstractDittoHeadersBuilder<S extends AbstractDittoHeaders
         return result;
     }
 
-    private static JsonFieldSelector extractMetadataFieldSelector(final Map<String, Header> headers,
-            final DittoHeaderDefinition headerDefinition) {
+    private JsonFieldSelector extractMetadataFieldSelector(final DittoHeaderDefinition headerDefinition) {
         final JsonFieldSelector result;
-        final CharSequence metadataFieldSelector = headers.remove(headerDefinition.getKey());
+        final CharSequence metadataFieldSelector = removeFromHeaders(headerDefinition.getKey());
 
         if (null != metadataFieldSelector) {
             result = JsonFactory.newFieldSelector(metadataFieldSelector.toString(),
@@ -181,12 +188,37 @@ public abstract class AbstractDittoHeadersBuilder<S extends AbstractDittoHeaders
         checkNotNull(initialHeaders, "initialHeaders");
         checkNotNull(definitions, "definitions");
         myself = (S) selfType.cast(this);
-        headers = preserveCaseSensitivity(initialHeaders);
+        if (initialHeaders instanceof AbstractDittoHeaders) {
+            headers = ((AbstractDittoHeaders) initialHeaders).headers;
+            headersShared = true;
+        } else {
+            headers = preserveCaseSensitivity(initialHeaders);
+            headersShared = false;
+        }
         metadataHeaders = MetadataHeaders.newInstance();
-        metadataHeaders.addAll(extractMetadataHeaders(headers));
+        metadataHeaders.addAll(extractMetadataHeaders());
         this.definitions = checkNotNull(definitionsMap, "definitionsMap");
-        getMetadataFieldSelector = extractMetadataFieldSelector(headers, DittoHeaderDefinition.GET_METADATA);
-        deleteMetadataFieldSelector = extractMetadataFieldSelector(headers, DittoHeaderDefinition.DELETE_METADATA);
+        getMetadataFieldSelector = extractMetadataFieldSelector(DittoHeaderDefinition.GET_METADATA);
+        deleteMetadataFieldSelector = extractMetadataFieldSelector(DittoHeaderDefinition.DELETE_METADATA);
+    }
+
+    /*
+     * Returns the headers for modification; shared headers are copied before.
+     */
+    private Map<String, Header> mutableHeaders() {
+        if (headersShared) {
+            headers = new LinkedHashMap<>(headers);
+            headersShared = false;
+        }
+        return headers;
+    }
+
+    @Nullable
+    private Header removeFromHeaders(final String key) {
+        if (headers.containsKey(key)) {
+            return mutableHeaders().remove(key);
+        }
+        return null;
     }
 
     /**
@@ -226,14 +258,14 @@ public abstract class AbstractDittoHeadersBuilder<S extends AbstractDittoHeaders
         final String key = DittoHeaderDefinition.CORRELATION_ID.getKey();
         if (correlationId != null) {
             checkNotEmpty(correlationId, "correlationId");
-            final Header previousCorrelationId = headers.remove(key);
+            final Header previousCorrelationId = removeFromHeaders(key);
             if (previousCorrelationId != null) {
-                headers.put(key, Header.of(previousCorrelationId.getKey(), correlationId.toString()));
+                mutableHeaders().put(key, Header.of(previousCorrelationId.getKey(), correlationId.toString()));
             } else {
-                headers.put(key, Header.of(key, correlationId.toString()));
+                mutableHeaders().put(key, Header.of(key, correlationId.toString()));
             }
         } else {
-            headers.remove(key);
+            removeFromHeaders(key);
         }
         return myself;
     }
@@ -249,8 +281,8 @@ public abstract class AbstractDittoHeadersBuilder<S extends AbstractDittoHeaders
     protected void putCharSequence(final HeaderDefinition definition, @Nullable final CharSequence value) {
         if (null != value) {
             checkNotEmpty(value, definition.getKey());
-            headers.remove(definition.getKey());
-            headers.put(definition.getKey(), Header.of(definition.getKey(), value.toString()));
+            removeFromHeaders(definition.getKey());
+            mutableHeaders().put(definition.getKey(), Header.of(definition.getKey(), value.toString()));
         } else {
             removeHeader(definition.getKey());
         }
@@ -539,8 +571,8 @@ public abstract class AbstractDittoHeadersBuilder<S extends AbstractDittoHeaders
         } else if (DittoHeaderDefinition.CORRELATION_ID.getKey().equals(keyString)) {
             correlationId(value);
         } else {
-            headers.remove(keyString);
-            headers.put(keyString, Header.of(key.toString(), value.toString()));
+            removeFromHeaders(keyString);
+            mutableHeaders().put(keyString, Header.of(key.toString(), value.toString()));
         }
         return myself;
     }
@@ -579,7 +611,7 @@ public abstract class AbstractDittoHeadersBuilder<S extends AbstractDittoHeaders
     public S removeHeader(final CharSequence key) {
         validateKey(key);
         final String keyString = key.toString().toLowerCase();
-        headers.remove(keyString);
+        removeFromHeaders(keyString);
         if (isPutMetadataKey(keyString)) {
             metadataHeaders.clear();
         }
@@ -595,8 +627,8 @@ public abstract class AbstractDittoHeadersBuilder<S extends AbstractDittoHeaders
 
     @Override
     public S removePreconditionHeaders() {
-        headers.remove(DittoHeaderDefinition.IF_MATCH.getKey());
-        headers.remove(DittoHeaderDefinition.IF_NONE_MATCH.getKey());
+        removeFromHeaders(DittoHeaderDefinition.IF_MATCH.getKey());
+        removeFromHeaders(DittoHeaderDefinition.IF_NONE_MATCH.getKey());
         return myself;
     }
 
@@ -622,27 +654,29 @@ public abstract class AbstractDittoHeadersBuilder<S extends AbstractDittoHeaders
         putGetMetadataFieldSelectorToRegularHeaders();
         putDeleteMetadataFieldSelectorToRegularHeaders();
 
+        // the built headers take over the map of this builder, further modifications of this builder copy it
         final ImmutableDittoHeaders dittoHeaders = ImmutableDittoHeaders.fromBuilder(headers);
+        headersShared = true;
         return doBuild(dittoHeaders);
     }
 
     private void putMetadataHeadersToRegularHeaders() {
         if (!metadataHeaders.isEmpty()) {
-            headers.put(DittoHeaderDefinition.PUT_METADATA.getKey(),
+            mutableHeaders().put(DittoHeaderDefinition.PUT_METADATA.getKey(),
                     Header.of(DittoHeaderDefinition.PUT_METADATA.getKey(), metadataHeaders.toJsonString()));
         }
     }
 
     private void putGetMetadataFieldSelectorToRegularHeaders() {
         if (!getMetadataFieldSelector.isEmpty()) {
-            headers.put(DittoHeaderDefinition.GET_METADATA.getKey(),
+            mutableHeaders().put(DittoHeaderDefinition.GET_METADATA.getKey(),
                     Header.of(DittoHeaderDefinition.GET_METADATA.getKey(), getMetadataFieldSelector.toString()));
         }
     }
 
     private void putDeleteMetadataFieldSelectorToRegularHeaders() {
         if (!deleteMetadataFieldSelector.isEmpty()) {
-            headers.put(DittoHeaderDefinition.DELETE_METADATA.getKey(),
+            mutableHeaders().put(DittoHeaderDefinition.DELETE_METADATA.getKey(),
                     Header.of(DittoHeaderDefinition.DELETE_METADATA.getKey(), deleteMetadataFieldSelector.toString()));
         }
     }
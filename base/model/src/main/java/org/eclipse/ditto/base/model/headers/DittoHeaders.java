@@ -64,6 +64,25 @@ public interface DittoHeaders extends Jsonifiable<JsonObject>, Map<String, Strin
         return newBuilder(headers).build();
     }
 
+    /**
+     * Returns a new instance of {@code DittoHeaders} containing the headers the specified JSON object provides.
+     * In contrast to {@link #newBuilder(JsonObject)} the header values are not validated; typed values are only
+     * parsed when they are accessed.
+     * This is meant for headers which were already validated when they were created, e.g. headers which were
+     * serialized by another service of the cluster.
+     *
+     * @param jsonObject the JSON object which provides the already validated headers.
+     * @return the DittoHeaders.
+     * @throws NullPointerException if {@code jsonObject} is {@code null}.
+     * @since 3.8.0
+     */
+    static DittoHeaders ofValidatedJson(final JsonObject jsonObject) {
+        if (jsonObject.isEmpty()) {
+            return empty();
+        }
+        return ImmutableDittoHeaders.of(AbstractDittoHeadersBuilder.toMap(jsonObject));
+    }
+
     /**
      * Returns a new empty builder for a {@code DittoHeaders} object.
      *
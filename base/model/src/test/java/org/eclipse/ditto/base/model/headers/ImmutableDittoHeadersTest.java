@@ -160,6 +160,8 @@ public final class ImmutableDittoHeadersTest {
     public void testHashCodeAndEquals() {
         EqualsVerifier.forClass(ImmutableDittoHeaders.class)
                 .withNonnullFields("headers")
+                .withIgnoredFields("authorizationContext", "acknowledgementRequests", "ifMatch", "ifNoneMatch",
+                        "timeout")
                 .verify();
     }
 
@@ -250,6 +252,52 @@ public final class ImmutableDittoHeadersTest {
         assertThat(underTest).isEqualTo(allKnownHeaders);
     }
 
+    @Test
+    public void createInstanceOfValidatedHeaderJsonObjectWorksAsExpected() {
+        final Map<String, String> allKnownHeaders = createMapContainingAllKnownHeaders();
+        final JsonObject headersJsonObject = toJsonObject(allKnownHeaders);
+
+        final DittoHeaders underTest = DittoHeaders.ofValidatedJson(headersJsonObject);
+
+        assertThat(underTest).isEqualTo(allKnownHeaders);
+        assertThat(underTest).isEqualTo(DittoHeaders.newBuilder(headersJsonObject).build());
+        assertThat(underTest.getAuthorizationContext()).isEqualTo(AUTH_CONTEXT);
+        assertThat(underTest.getAcknowledgementRequests()).containsExactlyElementsOf(KNOWN_ACK_REQUESTS);
+    }
+
+    @Test
+    public void typedValuesAreParsedOnce() {
+        final DittoHeaders underTest = DittoHeaders.newBuilder()
+                .authorizationContext(AUTH_CONTEXT)
+                .ifMatch(KNOWN_IF_MATCH)
+                .timeout(KNOWN_TIMEOUT)
+                .acknowledgementRequests(KNOWN_ACK_REQUESTS)
+                .build();
+
+        assertThat(underTest.getAuthorizationContext()).isSameAs(underTest.getAuthorizationContext());
+        assertThat(underTest.getIfMatch()).isSameAs(underTest.getIfMatch()).contains(KNOWN_IF_MATCH);
+        assertThat(underTest.getTimeout()).isSameAs(underTest.getTimeout()).contains(KNOWN_TIMEOUT);
+
+        // the acknowledgement requests are parsed once, but each caller gets its own mutable set
+        final Set<AcknowledgementRequest> acknowledgementRequests = underTest.getAcknowledgementRequests();
+        acknowledgementRequests.clear();
+        assertThat(underTest.getAcknowledgementRequests()).containsExactlyElementsOf(KNOWN_ACK_REQUESTS);
+    }
+
+    @Test
+    public void modifyingBuilderOfExistingHeadersDoesNotChangeThem() {
+        final DittoHeaders original = DittoHeaders.newBuilder().correlationId(KNOWN_CORRELATION_ID).build();
+        final DittoHeadersBuilder<?, ?> builder = original.toBuilder();
+        final DittoHeaders unchanged = builder.build();
+
+        final DittoHeaders changed = builder.channel(KNOWN_CHANNEL).correlationId("otherCorrelationId").build();
+
+        assertThat(unchanged).isEqualTo(original);
+        assertThat(original).containsOnly(entry(DittoHeaderDefinition.CORRELATION_ID.getKey(), KNOWN_CORRELATION_ID));
+        assertThat(changed.getCorrelationId()).contains("otherCorrelationId");
+        assertThat(changed.getChannel()).contains(KNOWN_CHANNEL);
+    }
+
     @Test
     public void createInstanceContainingArbitraryKeyValuePair() {
         final String fooKey = "foo";
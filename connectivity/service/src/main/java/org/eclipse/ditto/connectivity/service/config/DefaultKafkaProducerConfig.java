@@ -12,12 +12,15 @@
  */
 package org.eclipse.ditto.connectivity.service.config;
 
+import java.text.MessageFormat;
 import java.time.Duration;
 import java.util.Objects;
 
 import javax.annotation.concurrent.Immutable;
 
 import org.eclipse.ditto.internal.utils.config.ConfigWithFallback;
+import org.eclipse.ditto.internal.utils.config.DittoConfigError;
+import org.eclipse.ditto.internal.utils.config.ScopedConfig;
 
 import com.typesafe.config.Config;
 
@@ -39,8 +42,11 @@ final class DefaultKafkaProducerConfig implements KafkaProducerConfig {
     private final Duration maxRestartsWithin;
     private final Config pekkoConnectorsConfig;
     private final long initTimeoutSeconds;
+    private final boolean batchingEnabled;
+    private final Duration batchingLinger;
+    private final long batchingMaxBytes;
 
-    private DefaultKafkaProducerConfig(final Config kafkaProducerScopedConfig) {
+    private DefaultKafkaProducerConfig(final ScopedConfig kafkaProducerScopedConfig) {
         queueSize = kafkaProducerScopedConfig.getInt(ConfigValue.QUEUE_SIZE.getConfigPath());
         parallelism = kafkaProducerScopedConfig.getInt(ConfigValue.PARALLELISM.getConfigPath());
         minBackoff = kafkaProducerScopedConfig.getDuration(ConfigValue.MIN_BACKOFF.getConfigPath());
@@ -50,6 +56,13 @@ final class DefaultKafkaProducerConfig implements KafkaProducerConfig {
         maxRestartsWithin = kafkaProducerScopedConfig.getDuration(ConfigValue.MAX_RESTARTS_WITHIN.getConfigPath());
         pekkoConnectorsConfig = kafkaProducerScopedConfig.getConfig(PEKKO_CONNECTORS_PATH);
         initTimeoutSeconds = kafkaProducerScopedConfig.getLong(ConfigValue.INIT_TIMEOUT_SECONDS.getConfigPath());
+        batchingEnabled = kafkaProducerScopedConfig.getBoolean(ConfigValue.BATCHING_ENABLED.getConfigPath());
+        batchingLinger = kafkaProducerScopedConfig.getNonNegativeAndNonZeroDurationOrThrow(ConfigValue.BATCHING_LINGER);
+        batchingMaxBytes = kafkaProducerScopedConfig.getNonNegativeBytesOrThrow(ConfigValue.BATCHING_MAX_BYTES);
+        if (batchingMaxBytes == 0) {
+            throw new DittoConfigError(MessageFormat.format("The bytes value at <{0}> must be positive!",
+                    ConfigValue.BATCHING_MAX_BYTES.getConfigPath()));
+        }
     }
 
     /**
@@ -109,6 +122,21 @@ final class DefaultKafkaProducerConfig implements KafkaProducerConfig {
         return initTimeoutSeconds;
     }
 
+    @Override
+    public boolean isBatchingEnabled() {
+        return batchingEnabled;
+    }
+
+    @Override
+    public Duration getBatchingLinger() {
+        return batchingLinger;
+    }
+
+    @Override
+    public long getBatchingMaxBytes() {
+        return batchingMaxBytes;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) return true;
@@ -122,13 +150,17 @@ final class DefaultKafkaProducerConfig implements KafkaProducerConfig {
                 Objects.equals(maxRestartsCount, that.maxRestartsCount) &&
                 Objects.equals(maxRestartsWithin, that.maxRestartsWithin) &&
                 Objects.equals(pekkoConnectorsConfig, that.pekkoConnectorsConfig) &&
-                Objects.equals(initTimeoutSeconds, that.initTimeoutSeconds);
+                Objects.equals(initTimeoutSeconds, that.initTimeoutSeconds) &&
+                batchingEnabled == that.batchingEnabled &&
+                Objects.equals(batchingLinger, that.batchingLinger) &&
+                batchingMaxBytes == that.batchingMaxBytes;
     }
 
     @Override
     public int hashCode() {
         return Objects.hash(queueSize, parallelism, minBackoff, maxBackoff, maxRestartsCount, maxRestartsWithin,
-                randomFactor, pekkoConnectorsConfig, initTimeoutSeconds);
+                randomFactor, pekkoConnectorsConfig, initTimeoutSeconds, batchingEnabled, batchingLinger,
+                batchingMaxBytes);
     }
 
     @Override
@@ -143,6 +175,9 @@ final class DefaultKafkaProducerConfig implements KafkaProducerConfig {
                 ", maxRestartsWithin=" + maxRestartsWithin +
                 ", pekkoConnectorsConfig=" + pekkoConnectorsConfig +
                 ", initTimeoutSeconds=" + initTimeoutSeconds +
+                ", batchingEnabled=" + batchingEnabled +
+                ", batchingLinger=" + batchingLinger +
+                ", batchingMaxBytes=" + batchingMaxBytes +
                 "]";
     }
 
@@ -73,6 +73,27 @@ public interface KafkaProducerConfig {
      */
     long getInitTimeoutSeconds();
 
+    /**
+     * Indicates whether outbound messages are published in batches, each containing the messages to the same topic
+     * and partition which were published within the {@link #getBatchingLinger() linger} duration.
+     *
+     * @return whether batching is enabled.
+     * @since 3.8.0
+     */
+    boolean isBatchingEnabled();
+
+    /**
+     * @return maximum duration to wait for further messages before a batch is published.
+     * @since 3.8.0
+     */
+    Duration getBatchingLinger();
+
+    /**
+     * @return maximum number of payload bytes of the messages of a batch.
+     * @since 3.8.0
+     */
+    long getBatchingMaxBytes();
+
     /**
      * Returns an instance of {@code KafkaProducerConfig} based on the settings of the specified Config.
      *
@@ -100,7 +121,13 @@ public interface KafkaProducerConfig {
 
         MAX_RESTARTS_WITHIN("max-restarts-within", Duration.ofMinutes(5)),
 
-        INIT_TIMEOUT_SECONDS("init-timeout-seconds", 3);
+        INIT_TIMEOUT_SECONDS("init-timeout-seconds", 3),
+
+        BATCHING_ENABLED("batching.enabled", false),
+
+        BATCHING_LINGER("batching.linger", Duration.ofMillis(5)),
+
+        BATCHING_MAX_BYTES("batching.max-bytes", "1MiB");
 
         private final String path;
         private final Object defaultValue;
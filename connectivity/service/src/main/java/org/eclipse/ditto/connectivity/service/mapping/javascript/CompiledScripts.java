@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.connectivity.service.mapping.javascript;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.mozilla.javascript.Context;
+import org.mozilla.javascript.Script;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Caches compiled JavaScript so that the libraries and mapping scripts are compiled once per JVM and per distinct
+ * script source instead of once per mapper instance.
+ * Compiled scripts are independent of any scope and are executed in the scope of each mapper.
+ */
+final class CompiledScripts {
+
+    /**
+     * Limits the number of distinct compiled mapping scripts which are kept when they are no longer used by a mapper.
+     */
+    private static final long MAX_MAPPING_SCRIPTS = 1_000L;
+
+    private static final Map<String, Script> LIBRARIES = new ConcurrentHashMap<>();
+    private static final Cache<MappingScript, Script> MAPPING_SCRIPTS = Caffeine.newBuilder()
+            .maximumSize(MAX_MAPPING_SCRIPTS)
+            .softValues()
+            .build();
+
+    private CompiledScripts() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Returns the compiled JavaScript library contained in the resource of the given name.
+     *
+     * @param cx the Context to compile the library with if it was not compiled before.
+     * @param resourceName the name of the class path resource containing the library.
+     * @return the compiled library.
+     * @throws IllegalStateException if the library could not be loaded.
+     */
+    static Script getLibrary(final Context cx, final String resourceName) {
+        return LIBRARIES.computeIfAbsent(resourceName, name -> compileLibrary(cx, name));
+    }
+
+    /**
+     * Returns the compiled mapping script of the given source.
+     *
+     * @param cx the Context to compile the script with if it was not compiled before.
+     * @param sourceName the name of the script which is reported in errors and stack traces.
+     * @param source the source of the script.
+     * @return the compiled script.
+     * @throws org.mozilla.javascript.RhinoException if the script could not be compiled.
+     */
+    static Script getMappingScript(final Context cx, final String sourceName, final String source) {
+        return MAPPING_SCRIPTS.get(new MappingScript(sourceName, source),
+                mappingScript -> cx.compileString(mappingScript.source(), mappingScript.sourceName(), 1, null));
+    }
+
+    private static Script compileLibrary(final Context cx, final String resourceName) {
+        final InputStream inputStream = CompiledScripts.class.getResourceAsStream(resourceName);
+        if (null == inputStream) {
+            throw new IllegalStateException("Could not find script <" + resourceName + ">");
+        }
+        try (final Reader reader = new InputStreamReader(inputStream, StandardCharsets.UTF_8)) {
+            return cx.compileReader(reader, resourceName, 1, null);
+        } catch (final IOException e) {
+            throw new IllegalStateException("Could not load script <" + resourceName + ">", e);
+        }
+    }
+
+    private record MappingScript(String sourceName, String source) {}
+
+}
@@ -13,7 +13,6 @@
 package org.eclipse.ditto.connectivity.service.mapping.javascript;
 
 import java.io.IOException;
-import java.io.InputStreamReader;
 import java.io.Reader;
 import java.net.URI;
 import java.net.URISyntaxException;
@@ -36,7 +35,6 @@ import org.eclipse.ditto.connectivity.service.mapping.MessageMapper;
 import org.eclipse.ditto.connectivity.service.mapping.MessageMapperConfiguration;
 import org.eclipse.ditto.protocol.Adaptable;
 import org.mozilla.javascript.Context;
-import org.mozilla.javascript.ContextFactory;
 import org.mozilla.javascript.RhinoException;
 import org.mozilla.javascript.Scriptable;
 import org.mozilla.javascript.commonjs.module.RequireBuilder;
@@ -63,7 +61,7 @@ final class JavaScriptMessageMapperRhino extends AbstractMessageMapper {
     static final String INCOMING_SCRIPT = "/javascript/incoming-mapping.js";
     static final String OUTGOING_SCRIPT = "/javascript/outgoing-mapping.js";
 
-    @Nullable private ContextFactory contextFactory;
+    @Nullable private SandboxingContextFactory contextFactory;
     @Nullable private JavaScriptMessageMapperConfiguration configuration;
 
     private MappingFunction<ExternalMessage, List<Adaptable>> incomingMapping = DefaultIncomingMapping.get();
@@ -124,18 +122,13 @@ final class JavaScriptMessageMapperRhino extends AbstractMessageMapper {
                     .build();
         }
 
-        contextFactory = new SandboxingContextFactory(javaScriptConfig.getMaxScriptExecutionTime(),
+        contextFactory = SandboxingContextFactory.of(javaScriptConfig.getMaxScriptExecutionTime(),
                 javaScriptConfig.getMaxScriptStackDepth());
 
         try {
             // create scope once and load the required libraries in order to get best performance:
-            contextFactory.call(cx -> {
-                final Scriptable scope;
-                if (javaScriptConfig.isAllowUnsafeStandardObjects()) {
-                    scope = cx.initStandardObjects();
-                } else {
-                    scope = cx.initSafeStandardObjects(); // that one disables "print, exit, quit", etc.
-                }
+            contextFactory.callWithPooledContext(cx -> {
+                final Scriptable scope = newScope(cx, javaScriptConfig.isAllowUnsafeStandardObjects());
                 initLibraries(cx, scope, javaScriptConfig.getCommonJsModulesPath().orElse(null));
                 return scope;
             });
@@ -166,14 +159,25 @@ final class JavaScriptMessageMapperRhino extends AbstractMessageMapper {
         return outgoingMapping.apply(adaptable);
     }
 
+    /**
+     * Creates the scope of a mapper with its own standard objects. They are not shared with other mappers, because
+     * scripts may extend them, e.g. by polyfilling {@code String.prototype.padStart}, which must neither fail nor leak
+     * into the scripts of other connections.
+     */
+    private static Scriptable newScope(final Context cx, final boolean allowUnsafeStandardObjects) {
+        if (allowUnsafeStandardObjects) {
+            return cx.initStandardObjects();
+        } else {
+            return cx.initSafeStandardObjects(); // that one disables "print, exit, quit", etc.
+        }
+    }
+
     private void initLibraries(final Context cx, final Scriptable scope, @Nullable final Path commonJsModulePath) {
         if (getConfiguration().map(JavaScriptMessageMapperConfiguration::isLoadLongJS).orElse(false)) {
-            loadJavascriptLibrary(cx, scope, new InputStreamReader(getClass().getResourceAsStream(WEBJARS_LONG)),
-                    WEBJARS_LONG);
+            CompiledScripts.getLibrary(cx, WEBJARS_LONG).exec(cx, scope);
         }
         if (getConfiguration().map(JavaScriptMessageMapperConfiguration::isLoadBytebufferJS).orElse(false)) {
-            loadJavascriptLibrary(cx, scope, new InputStreamReader(getClass().getResourceAsStream(WEBJARS_BYTEBUFFER)),
-                    WEBJARS_BYTEBUFFER);
+            CompiledScripts.getLibrary(cx, WEBJARS_BYTEBUFFER).exec(cx, scope);
         }
 
         final List<URI> paths = new ArrayList<>();
@@ -192,12 +196,9 @@ final class JavaScriptMessageMapperRhino extends AbstractMessageMapper {
                 .createRequire(cx, scope)
                 .install(scope);
 
-        loadJavascriptLibrary(cx, scope, new InputStreamReader(getClass().getResourceAsStream(DITTO_SCOPE_SCRIPT)),
-                DITTO_SCOPE_SCRIPT);
-        loadJavascriptLibrary(cx, scope, new InputStreamReader(getClass().getResourceAsStream(INCOMING_SCRIPT)),
-                INCOMING_SCRIPT);
-        loadJavascriptLibrary(cx, scope, new InputStreamReader(getClass().getResourceAsStream(OUTGOING_SCRIPT)),
-                OUTGOING_SCRIPT);
+        CompiledScripts.getLibrary(cx, DITTO_SCOPE_SCRIPT).exec(cx, scope);
+        CompiledScripts.getLibrary(cx, INCOMING_SCRIPT).exec(cx, scope);
+        CompiledScripts.getLibrary(cx, OUTGOING_SCRIPT).exec(cx, scope);
 
         final String userIncomingScript = getConfiguration()
                 .flatMap(JavaScriptMessageMapperConfiguration::getIncomingScript)
@@ -207,8 +208,8 @@ final class JavaScriptMessageMapperRhino extends AbstractMessageMapper {
             incomingMapping = DefaultIncomingMapping.get();
         } else {
             incomingMapping = new ScriptedIncomingMapping(contextFactory, scope);
-            cx.evaluateString(scope, userIncomingScript,
-                    JavaScriptMessageMapperConfigurationProperties.INCOMING_SCRIPT, 1, null);
+            CompiledScripts.getMappingScript(cx, JavaScriptMessageMapperConfigurationProperties.INCOMING_SCRIPT,
+                    userIncomingScript).exec(cx, scope);
         }
 
         final String userOutgoingScript = getConfiguration()
@@ -219,8 +220,8 @@ final class JavaScriptMessageMapperRhino extends AbstractMessageMapper {
             outgoingMapping = DefaultOutgoingMapping.get();
         } else {
             outgoingMapping = new ScriptedOutgoingMapping(contextFactory, scope);
-            cx.evaluateString(scope, userOutgoingScript,
-                    JavaScriptMessageMapperConfigurationProperties.OUTGOING_SCRIPT, 1, null);
+            CompiledScripts.getMappingScript(cx, JavaScriptMessageMapperConfigurationProperties.OUTGOING_SCRIPT,
+                    userOutgoingScript).exec(cx, scope);
         }
     }
 
@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.connectivity.service.mapping.javascript;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonArrayBuilder;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonValue;
+import org.mozilla.javascript.Callable;
+import org.mozilla.javascript.Context;
+import org.mozilla.javascript.NativeArray;
+import org.mozilla.javascript.NativeJSON;
+import org.mozilla.javascript.NativeObject;
+import org.mozilla.javascript.Scriptable;
+import org.mozilla.javascript.ScriptableObject;
+import org.mozilla.javascript.Symbol;
+import org.mozilla.javascript.Undefined;
+
+/**
+ * Converts between Ditto JSON values and native Rhino values directly, i.e. without serializing the values to JSON
+ * strings and parsing them again with {@code JSON.parse} respectively {@code JSON.stringify}.
+ * The results are the same as the ones of the JSON round trip: values which are not plain objects, arrays or
+ * primitives (e.g. dates or objects with a {@code toJSON} function) are delegated to {@code JSON.stringify}.
+ */
+final class RhinoJsonConverter {
+
+    /**
+     * Nesting depth from which on {@code JSON.stringify} is used, which also detects cyclic structures.
+     */
+    private static final int MAX_NATIVE_DEPTH = 256;
+
+    private static final double MAX_LONG_AS_DOUBLE = 0x1p63;
+
+    private RhinoJsonConverter() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Converts the given JSON value to the native Rhino value which {@code JSON.parse} would return for it.
+     *
+     * @param cx the current Context.
+     * @param scope the scope to create objects and arrays in.
+     * @param jsonValue the JSON value to convert.
+     * @return the native value.
+     */
+    @Nullable
+    static Object toNative(final Context cx, final Scriptable scope, final JsonValue jsonValue) {
+        if (jsonValue.isObject()) {
+            final Scriptable nativeObject = cx.newObject(scope);
+            for (final JsonField field : jsonValue.asObject()) {
+                final String key = field.getKeyName();
+                final Object value = toNative(cx, scope, field.getValue());
+                final int index = toArrayIndex(key);
+                if (index < 0) {
+                    nativeObject.put(key, nativeObject, value);
+                } else {
+                    nativeObject.put(index, nativeObject, value);
+                }
+            }
+            return nativeObject;
+        } else if (jsonValue.isArray()) {
+            final JsonArray jsonArray = jsonValue.asArray();
+            final Object[] elements = new Object[jsonArray.getSize()];
+            int i = 0;
+            for (final JsonValue element : jsonArray) {
+                elements[i++] = toNative(cx, scope, element);
+            }
+            return cx.newArray(scope, elements);
+        } else if (jsonValue.isString()) {
+            return jsonValue.asString();
+        } else if (jsonValue.isBoolean()) {
+            return jsonValue.asBoolean();
+        } else if (jsonValue.isInt()) {
+            return jsonValue.asInt();
+        } else if (jsonValue.isNumber()) {
+            return jsonValue.asDouble();
+        }
+        return null;
+    }
+
+    /**
+     * Converts the given native Rhino value to the JSON value which parsing the result of {@code JSON.stringify}
+     * would return for it.
+     * Values which {@code JSON.stringify} omits, e.g. {@code undefined} or functions, are converted to the JSON
+     * {@code null} literal.
+     *
+     * @param cx the current Context.
+     * @param scope the scope of the script which produced the value.
+     * @param value the native value to convert.
+     * @return the JSON value.
+     * @throws org.mozilla.javascript.RhinoException if {@code JSON.stringify} fails for the value, e.g. because it
+     * is cyclic.
+     */
+    static JsonValue toJsonValue(final Context cx, final Scriptable scope, @Nullable final Object value) {
+        final JsonValue jsonValue = toJsonValue(cx, scope, value, 0);
+        return null != jsonValue ? jsonValue : JsonFactory.nullLiteral();
+    }
+
+    @Nullable
+    private static JsonValue toJsonValue(final Context cx, final Scriptable scope, @Nullable final Object value,
+            final int depth) {
+
+        if (null == value) {
+            return JsonFactory.nullLiteral();
+        } else if (value instanceof CharSequence charSequence) {
+            return JsonFactory.newValue(charSequence.toString());
+        } else if (value instanceof Boolean booleanValue) {
+            return JsonFactory.newValue(booleanValue);
+        } else if (value instanceof Integer intValue) {
+            return JsonFactory.newValue(intValue);
+        } else if (value instanceof Double doubleValue) {
+            return toJsonNumber(doubleValue);
+        } else if (isOmitted(value)) {
+            return null;
+        } else if (depth < MAX_NATIVE_DEPTH) {
+            if (value instanceof NativeArray nativeArray && nativeArray.getLength() <= Integer.MAX_VALUE) {
+                return toJsonArray(cx, scope, nativeArray, depth);
+            } else if (value instanceof NativeObject nativeObject && !hasToJsonFunction(nativeObject)) {
+                return toJsonObject(cx, scope, nativeObject, depth);
+            }
+        }
+        return stringify(cx, scope, value);
+    }
+
+    private static JsonObject toJsonObject(final Context cx, final Scriptable scope, final NativeObject nativeObject,
+            final int depth) {
+
+        final JsonObjectBuilder objectBuilder = JsonObject.newBuilder();
+        for (final Object id : nativeObject.getIds()) {
+            final Object value;
+            if (id instanceof Integer index) {
+                value = nativeObject.get(index, nativeObject);
+            } else if (id instanceof CharSequence name) {
+                value = nativeObject.get(name.toString(), nativeObject);
+            } else {
+                // symbol keys are not serialized
+                continue;
+            }
+            final JsonValue jsonValue = toJsonValue(cx, scope, value, depth + 1);
+            if (null != jsonValue) {
+                objectBuilder.set(id.toString(), jsonValue);
+            }
+        }
+        return objectBuilder.build();
+    }
+
+    private static JsonArray toJsonArray(final Context cx, final Scriptable scope, final NativeArray nativeArray,
+            final int depth) {
+
+        final JsonArrayBuilder arrayBuilder = JsonArray.newBuilder();
+        final long length = nativeArray.getLength();
+        for (int i = 0; i < length; i++) {
+            final JsonValue jsonValue = toJsonValue(cx, scope, nativeArray.get(i, nativeArray), depth + 1);
+            arrayBuilder.add(null != jsonValue ? jsonValue : JsonFactory.nullLiteral());
+        }
+        return arrayBuilder.build();
+    }
+
+    private static JsonValue toJsonNumber(final double number) {
+        if (Double.isNaN(number) || Double.isInfinite(number)) {
+            return JsonFactory.nullLiteral();
+        }
+        final int intNumber = (int) number;
+        if (intNumber == number) {
+            return JsonFactory.newValue(intNumber);
+        }
+        if (number == Math.rint(number) && Math.abs(number) < MAX_LONG_AS_DOUBLE) {
+            return JsonFactory.newValue((long) number);
+        }
+        return JsonFactory.newValue(number);
+    }
+
+    private static boolean isOmitted(final Object value) {
+        return value instanceof Undefined || value == Scriptable.NOT_FOUND || value instanceof Callable ||
+                value instanceof Symbol;
+    }
+
+    private static boolean hasToJsonFunction(final NativeObject nativeObject) {
+        return ScriptableObject.getProperty(nativeObject, "toJSON") instanceof Callable;
+    }
+
+    @Nullable
+    private static JsonValue stringify(final Context cx, final Scriptable scope, final Object value) {
+        final Object json = NativeJSON.stringify(cx, scope, value, null, null);
+        if (json instanceof CharSequence jsonString) {
+            return JsonFactory.readFrom(jsonString.toString());
+        }
+        return null;
+    }
+
+    private static int toArrayIndex(final String key) {
+        final int length = key.length();
+        if (length == 0 || length > 10 || (length > 1 && key.charAt(0) == '0')) {
+            return -1;
+        }
+        long index = 0;
+        for (int i = 0; i < length; i++) {
+            final char c = key.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            index = index * 10 + (c - '0');
+        }
+        return index <= Integer.MAX_VALUE ? (int) index : -1;
+    }
+
+}
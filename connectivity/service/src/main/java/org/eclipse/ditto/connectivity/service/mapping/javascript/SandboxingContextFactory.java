@@ -13,9 +13,12 @@
 package org.eclipse.ditto.connectivity.service.mapping.javascript;
 
 import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.mozilla.javascript.Callable;
 import org.mozilla.javascript.Context;
+import org.mozilla.javascript.ContextAction;
 import org.mozilla.javascript.ContextFactory;
 import org.mozilla.javascript.Scriptable;
 
@@ -24,6 +27,8 @@ import org.mozilla.javascript.Scriptable;
  */
 final class SandboxingContextFactory extends ContextFactory {
 
+    private static final Map<Limits, SandboxingContextFactory> INSTANCES = new ConcurrentHashMap<>();
+
     /**
      * Make Rhino runtime to call observeInstructionCount each 10000 bytecode instructions.
      */
@@ -36,6 +41,7 @@ final class SandboxingContextFactory extends ContextFactory {
 
     private final Duration maxScriptExecutionTime;
     private final int maxStackDepth;
+    private final ThreadLocal<Context> pooledContexts;
 
     /**
      * Constructs a new ContextFactory for sandboxing Rhino executions.
@@ -48,6 +54,38 @@ final class SandboxingContextFactory extends ContextFactory {
     SandboxingContextFactory(final Duration maxScriptExecutionTime, final int maxStackDepth) {
         this.maxScriptExecutionTime = maxScriptExecutionTime;
         this.maxStackDepth = maxStackDepth;
+        pooledContexts = ThreadLocal.withInitial(this::makeContext);
+    }
+
+    /**
+     * Returns the ContextFactory for sandboxing Rhino executions with the given limits which is shared by all mappers
+     * configured with the same limits, so that the contexts pooled by the factory are shared as well.
+     *
+     * @param maxScriptExecutionTime the maximum execution time of a mapping script to run.
+     * @param maxStackDepth the maximum call stack depth in the mapping script.
+     * @return the shared ContextFactory.
+     */
+    static SandboxingContextFactory of(final Duration maxScriptExecutionTime, final int maxStackDepth) {
+        return INSTANCES.computeIfAbsent(new Limits(maxScriptExecutionTime, maxStackDepth),
+                limits -> new SandboxingContextFactory(limits.maxScriptExecutionTime(), limits.maxStackDepth()));
+    }
+
+    /**
+     * Calls the given action with the Context pooled for the current thread instead of creating a new Context for
+     * each call like {@link #call(ContextAction)} does. A pooled Context is only ever entered by its own thread; the
+     * execution time of scripts is still measured for each top call.
+     *
+     * @param action the action to call.
+     * @param <T> the type of the result of the action.
+     * @return the result of the action.
+     */
+    <T> T callWithPooledContext(final ContextAction<T> action) {
+        final Context cx = enterContext(pooledContexts.get());
+        try {
+            return action.run(cx);
+        } finally {
+            Context.exit();
+        }
     }
 
     @Override
@@ -86,6 +124,8 @@ final class SandboxingContextFactory extends ContextFactory {
         return super.doTopCall(callable, cx, scope, thisObj, args);
     }
 
+    private record Limits(Duration maxScriptExecutionTime, int maxStackDepth) {}
+
     /**
      * Custom Context to store execution time.
      */
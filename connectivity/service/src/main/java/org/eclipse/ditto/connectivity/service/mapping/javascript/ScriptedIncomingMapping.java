@@ -22,14 +22,11 @@ import org.eclipse.ditto.base.model.exceptions.DittoJsonException;
 import org.eclipse.ditto.base.model.headers.DittoHeaders;
 import org.eclipse.ditto.connectivity.api.ExternalMessage;
 import org.eclipse.ditto.connectivity.model.MessageMappingFailedException;
-import org.eclipse.ditto.json.JsonFactory;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.protocol.Adaptable;
 import org.eclipse.ditto.protocol.ProtocolFactory;
 import org.mozilla.javascript.Context;
-import org.mozilla.javascript.ContextFactory;
 import org.mozilla.javascript.NativeArray;
-import org.mozilla.javascript.NativeJSON;
 import org.mozilla.javascript.NativeObject;
 import org.mozilla.javascript.RhinoException;
 import org.mozilla.javascript.Scriptable;
@@ -48,11 +45,12 @@ public class ScriptedIncomingMapping implements MappingFunction<ExternalMessage,
     private static final String INCOMING_FUNCTION_NAME = "mapToDittoProtocolMsgWrapper";
 
     @Nullable
-    private ContextFactory contextFactory;
+    private SandboxingContextFactory contextFactory;
     @Nullable
     private Scriptable scope;
 
-    ScriptedIncomingMapping(@Nullable final ContextFactory contextFactory, @Nullable final Scriptable scope) {
+    ScriptedIncomingMapping(@Nullable final SandboxingContextFactory contextFactory,
+            @Nullable final Scriptable scope) {
         this.contextFactory = contextFactory;
         this.scope = scope;
     }
@@ -60,7 +58,7 @@ public class ScriptedIncomingMapping implements MappingFunction<ExternalMessage,
     @Override
     public List<Adaptable> apply(final ExternalMessage message) {
         try {
-            return contextFactory.call(cx -> {
+            return contextFactory.callWithPooledContext(cx -> {
                 final NativeObject externalMessage = mapExternalMessageToNativeObject(message);
 
                 final org.mozilla.javascript.Function
@@ -123,10 +121,8 @@ public class ScriptedIncomingMapping implements MappingFunction<ExternalMessage,
     }
 
     private Adaptable getAdaptableFromObject(final Context cx, final Object result) {
-        final String dittoProtocolJsonStr = (String) NativeJSON.stringify(cx, scope, result, null, null);
-
         return DittoJsonException.wrapJsonRuntimeException(() -> {
-            final JsonObject jsonObject = JsonFactory.readFrom(dittoProtocolJsonStr).asObject();
+            final JsonObject jsonObject = RhinoJsonConverter.toJsonValue(cx, scope, result).asObject();
             return ProtocolFactory.jsonifiableAdaptableFromJson(jsonObject);
         });
     }
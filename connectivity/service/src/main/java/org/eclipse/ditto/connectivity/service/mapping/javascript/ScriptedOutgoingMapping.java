@@ -41,12 +41,8 @@ import org.eclipse.ditto.json.JsonParseException;
 import org.eclipse.ditto.protocol.Adaptable;
 import org.eclipse.ditto.protocol.JsonifiableAdaptable;
 import org.eclipse.ditto.protocol.ProtocolFactory;
-import org.mozilla.javascript.Callable;
 import org.mozilla.javascript.ConsString;
-import org.mozilla.javascript.Context;
-import org.mozilla.javascript.ContextFactory;
 import org.mozilla.javascript.NativeArray;
-import org.mozilla.javascript.NativeJSON;
 import org.mozilla.javascript.NativeObject;
 import org.mozilla.javascript.RhinoException;
 import org.mozilla.javascript.Scriptable;
@@ -68,10 +64,11 @@ public final class ScriptedOutgoingMapping implements MappingFunction<Adaptable,
     private static final String OUTGOING_FUNCTION_NAME = "mapFromDittoProtocolMsgWrapper";
     private static final Logger log = LoggerFactory.getLogger(ScriptedOutgoingMapping.class);
 
-    @Nullable private final ContextFactory contextFactory;
+    @Nullable private final SandboxingContextFactory contextFactory;
     @Nullable private final Scriptable scope;
 
-    ScriptedOutgoingMapping(@Nullable final ContextFactory contextFactory, @Nullable final Scriptable scope) {
+    ScriptedOutgoingMapping(@Nullable final SandboxingContextFactory contextFactory,
+            @Nullable final Scriptable scope) {
         this.contextFactory = contextFactory;
         this.scope = scope;
     }
@@ -80,9 +77,9 @@ public final class ScriptedOutgoingMapping implements MappingFunction<Adaptable,
     public List<ExternalMessage> apply(final Adaptable adaptable) {
         try {
             final JsonifiableAdaptable jsonifiableAdaptable = ProtocolFactory.wrapAsJsonifiableAdaptable(adaptable);
-            return contextFactory.call(cx -> {
+            return contextFactory.callWithPooledContext(cx -> {
                 final Object dittoProtocolMessage =
-                        NativeJSON.parse(cx, scope, jsonifiableAdaptable.toJsonString(), new NullCallable());
+                        RhinoJsonConverter.toNative(cx, scope, jsonifiableAdaptable.toJson());
 
                 final org.mozilla.javascript.Function mapFromDittoProtocolMsgWrapper =
                         (org.mozilla.javascript.Function) scope.get(OUTGOING_FUNCTION_NAME, scope);
@@ -247,13 +244,4 @@ public final class ScriptedOutgoingMapping implements MappingFunction<Adaptable,
         return Optional.empty();
     }
 
-    private static final class NullCallable implements Callable {
-
-        @Override
-        public Object call(final Context context, final Scriptable scope, final Scriptable holdable,
-                final Object[] objects) {
-            return objects[1];
-        }
-    }
-
 }
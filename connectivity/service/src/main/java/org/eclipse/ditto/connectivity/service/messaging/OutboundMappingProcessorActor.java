@@ -92,6 +92,8 @@ import org.eclipse.ditto.edge.service.placeholders.FeaturePlaceholder;
 import org.eclipse.ditto.edge.service.placeholders.ThingJsonPlaceholder;
 import org.eclipse.ditto.edge.service.placeholders.ThingPlaceholder;
 import org.eclipse.ditto.internal.models.signalenrichment.SignalEnrichmentFacade;
+import org.eclipse.ditto.internal.utils.cache.Cache;
+import org.eclipse.ditto.internal.utils.cache.CaffeineCache;
 import org.eclipse.ditto.internal.utils.config.ScopedConfig;
 import org.eclipse.ditto.internal.utils.pekko.controlflow.AbstractGraphActor;
 import org.eclipse.ditto.internal.utils.pekko.logging.ThreadSafeDittoLoggingAdapter;
@@ -113,15 +115,16 @@ import org.eclipse.ditto.protocol.adapter.DittoProtocolAdapter;
 import org.eclipse.ditto.protocol.placeholders.ResourcePlaceholder;
 import org.eclipse.ditto.protocol.placeholders.TopicPathPlaceholder;
 import org.eclipse.ditto.rql.parser.RqlPredicateParser;
-import org.eclipse.ditto.rql.query.criteria.Criteria;
 import org.eclipse.ditto.rql.query.filter.QueryFilterCriteriaFactory;
-import org.eclipse.ditto.rql.query.things.ThingPredicateVisitor;
+import org.eclipse.ditto.rql.query.things.CompiledThingPredicate;
 import org.eclipse.ditto.things.model.Thing;
 import org.eclipse.ditto.things.model.ThingFieldSelector;
 import org.eclipse.ditto.things.model.ThingId;
 import org.eclipse.ditto.things.model.signals.commands.exceptions.ThingNotAccessibleException;
 import org.eclipse.ditto.things.model.signals.events.ThingEventToThingConverter;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
+
 import scala.PartialFunction;
 import scala.runtime.BoxedUnit;
 
@@ -150,6 +153,12 @@ public final class OutboundMappingProcessorActor
     private static final TimePlaceholder TIME_PLACEHOLDER = TimePlaceholder.getInstance();
     private static final ThingJsonPlaceholder THING_JSON_PLACEHOLDER = ThingJsonPlaceholder.getInstance();
     private static final HeadersPlaceholder HEADERS_PLACEHOLDER = PlaceholderFactory.newHeadersPlaceholder();
+    private static final QueryFilterCriteriaFactory FILTER_CRITERIA_FACTORY =
+            QueryFilterCriteriaFactory.modelBased(RqlPredicateParser.getInstance(), TOPIC_PATH_PLACEHOLDER,
+                    ENTITY_ID_PLACEHOLDER, THING_PLACEHOLDER, FEATURE_PLACEHOLDER, RESOURCE_PLACEHOLDER,
+                    TIME_PLACEHOLDER);
+    private static final Cache<String, CompiledThingPredicate> FILTER_PREDICATES =
+            CaffeineCache.of(Caffeine.newBuilder().maximumSize(1024), "ditto_connectivity_outbound_filter_cache");
 
     private final ActorRef clientActor;
     private final Connection connection;
@@ -809,21 +818,18 @@ public final class OutboundMappingProcessorActor
             final PlaceholderResolver<Object> timePlaceholderResolver = PlaceholderFactory
                     .newPlaceholderResolver(TIME_PLACEHOLDER, new Object());
             final DittoHeaders dittoHeaders = signal.getDittoHeaders();
-            final Criteria criteria = QueryFilterCriteriaFactory.modelBased(RqlPredicateParser.getInstance(),
-                    topicPathPlaceholderResolver, entityIdPlaceholderResolver, thingPlaceholderResolver,
-                    featurePlaceholderResolver, resourcePlaceholderResolver, timePlaceholderResolver
-            ).filterCriteria(filter.get(), dittoHeaders);
+            final CompiledThingPredicate filterPredicate = FILTER_PREDICATES.asMap().computeIfAbsent(filter.get(),
+                    f -> CompiledThingPredicate.of(FILTER_CRITERIA_FACTORY.filterCriteria(f, dittoHeaders)));
             return outboundSignalWithExtra.getExtra()
                     .flatMap(extra -> ThingEventToThingConverter
                             .mergeThingWithExtraFields(signal, extraFields.get(), extra)
                             .filter(thing -> {
                                 final PlaceholderResolver<Thing> thingJsonPlaceholderResolver = PlaceholderFactory
                                         .newPlaceholderResolver(THING_JSON_PLACEHOLDER, thing);
-                                return ThingPredicateVisitor.apply(criteria, topicPathPlaceholderResolver,
-                                                entityIdPlaceholderResolver, thingPlaceholderResolver,
-                                                featurePlaceholderResolver, resourcePlaceholderResolver,
-                                                timePlaceholderResolver, thingJsonPlaceholderResolver)
-                                        .test(thing);
+                                return filterPredicate.test(thing, List.of(topicPathPlaceholderResolver,
+                                        entityIdPlaceholderResolver, thingPlaceholderResolver,
+                                        featurePlaceholderResolver, resourcePlaceholderResolver,
+                                        timePlaceholderResolver, thingJsonPlaceholderResolver));
                             })
                             .map(thing -> outboundSignalWithExtra))
                     .map(Collections::singletonList)
@@ -16,6 +16,10 @@ import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -320,8 +324,7 @@ final class KafkaPublisherActor extends BasePublisherActor<KafkaPublishTarget> {
                  b) The client count of this connection is not configured high enough.""";
 
         private final KillSwitch killSwitch;
-        private final SourceQueueWithComplete<ProducerMessage.Envelope<String, ByteBuffer, CompletableFuture<RecordMetadata>>>
-                sourceQueue;
+        private final SourceQueueWithComplete<PendingRecord> sourceQueue;
         private final AtomicReference<SendProducer<String, ByteBuffer>> sendProducer = new AtomicReference<>();
 
         private KafkaProducerStream(final KafkaProducerConfig config, final Materializer materializer,
@@ -331,13 +334,23 @@ final class KafkaPublisherActor extends BasePublisherActor<KafkaPublishTarget> {
                     RestartSettings.create(config.getMinBackoff(), config.getMaxBackoff(), config.getRandomFactor())
                             .withMaxRestarts(config.getMaxRestartsCount(), config.getMaxRestartsWithin());
 
-            final Pair<SourceQueueWithComplete<ProducerMessage.Envelope<String, ByteBuffer, CompletableFuture<RecordMetadata>>>, Source<ProducerMessage.Envelope<String, ByteBuffer, CompletableFuture<RecordMetadata>>, NotUsed>>
-                    sourcePair =
-                    Source.<ProducerMessage.Envelope<String, ByteBuffer, CompletableFuture<RecordMetadata>>>
-                            queue(config.getQueueSize(), OverflowStrategy.dropNew()).preMaterialize(materializer);
+            final Pair<SourceQueueWithComplete<PendingRecord>, Source<PendingRecord, NotUsed>> sourcePair =
+                    Source.<PendingRecord>queue(config.getQueueSize(), OverflowStrategy.dropNew())
+                            .preMaterialize(materializer);
+
+            final Source<ProducerMessage.Envelope<String, ByteBuffer, List<CompletableFuture<RecordMetadata>>>, NotUsed>
+                    envelopes;
+            if (config.isBatchingEnabled()) {
+                envelopes = sourcePair.second()
+                        .groupedWeightedWithin(config.getBatchingMaxBytes(), KafkaProducerStream::getPayloadSize,
+                                config.getBatchingLinger())
+                        .mapConcat(KafkaProducerStream::toBatchEnvelopes);
+            } else {
+                envelopes = sourcePair.second().map(PendingRecord::toEnvelope);
+            }
 
             sourceQueue = sourcePair.first();
-            killSwitch = sourcePair.second()
+            killSwitch = envelopes
                     .via(RestartFlow.onFailuresWithBackoff(restartSettings, () -> {
                         logger.debug("Creating new kafka publish flow.");
                         Optional.ofNullable(sendProducer.getAndSet(producerFactory.newSendProducer()))
@@ -353,24 +366,69 @@ final class KafkaPublisherActor extends BasePublisherActor<KafkaPublishTarget> {
                     .run(materializer);
         }
 
+        private static long getPayloadSize(final PendingRecord pendingRecord) {
+            // count each record with at least 1 byte, so that batches of records without payload are bounded as well
+            return Math.max(1L, pendingRecord.producerRecord().value().remaining());
+        }
+
+        /**
+         * Splits the records published within the linger duration into one envelope per topic and partition, which
+         * keeps the order of the records of each partition.
+         * Records without explicit partition are grouped per topic and partitioned by the producer.
+         */
+        private static List<ProducerMessage.Envelope<String, ByteBuffer, List<CompletableFuture<RecordMetadata>>>>
+        toBatchEnvelopes(final List<PendingRecord> pendingRecords) {
+
+            final Map<Pair<String, Integer>, List<PendingRecord>> recordsPerPartition = new LinkedHashMap<>();
+            for (final PendingRecord pendingRecord : pendingRecords) {
+                final ProducerRecord<String, ByteBuffer> producerRecord = pendingRecord.producerRecord();
+                recordsPerPartition.computeIfAbsent(Pair.create(producerRecord.topic(), producerRecord.partition()),
+                        topicPartition -> new ArrayList<>()).add(pendingRecord);
+            }
+
+            final List<ProducerMessage.Envelope<String, ByteBuffer, List<CompletableFuture<RecordMetadata>>>>
+                    envelopes = new ArrayList<>(recordsPerPartition.size());
+            for (final List<PendingRecord> batch : recordsPerPartition.values()) {
+                if (batch.size() == 1) {
+                    envelopes.add(batch.get(0).toEnvelope());
+                } else {
+                    final List<ProducerRecord<String, ByteBuffer>> producerRecords = new ArrayList<>(batch.size());
+                    final List<CompletableFuture<RecordMetadata>> resultFutures = new ArrayList<>(batch.size());
+                    for (final PendingRecord pendingRecord : batch) {
+                        producerRecords.add(pendingRecord.producerRecord());
+                        resultFutures.add(pendingRecord.resultFuture());
+                    }
+                    envelopes.add(ProducerMessage.multi(producerRecords, resultFutures));
+                }
+            }
+            return envelopes;
+        }
+
         private void handleSendResult(
-                @Nullable final ProducerMessage.Results<String, ByteBuffer, CompletableFuture<RecordMetadata>> results,
-                @Nullable final Throwable exception, final CompletableFuture<RecordMetadata> resultFuture) {
+                @Nullable final ProducerMessage.Results<String, ByteBuffer, List<CompletableFuture<RecordMetadata>>>
+                        results,
+                @Nullable final Throwable exception, final List<CompletableFuture<RecordMetadata>> resultFutures) {
             if (exception == null) {
-                if (results instanceof ProducerMessage.Result) {
-                    final ProducerMessage.Result<String, ByteBuffer, CompletableFuture<RecordMetadata>> result =
-                            (ProducerMessage.Result<String, ByteBuffer, CompletableFuture<RecordMetadata>>) results;
-                    resultFuture.complete(result.metadata());
+                if (results instanceof ProducerMessage.Result<String, ByteBuffer,
+                        List<CompletableFuture<RecordMetadata>>> result) {
+                    resultFutures.forEach(resultFuture -> resultFuture.complete(result.metadata()));
+                } else if (results instanceof ProducerMessage.MultiResult<String, ByteBuffer,
+                        List<CompletableFuture<RecordMetadata>>> multiResult) {
+                    // the parts of a multi result have the order of the records of the envelope
+                    final Iterator<CompletableFuture<RecordMetadata>> resultFutureIterator = resultFutures.iterator();
+                    multiResult.getParts()
+                            .forEach(part -> resultFutureIterator.next().complete(part.metadata()));
                 } else {
-                    // should never happen, we provide only ProducerMessage.single to the source
-                    logger.warning("Received multipart result, ignoring: {}", results);
-                    resultFuture.completeExceptionally(
-                            new IllegalArgumentException("Received unexpected multipart result."));
+                    // should never happen, we provide only ProducerMessage.single and ProducerMessage.multi
+                    logger.warning("Received unexpected result, ignoring: {}", results);
+                    resultFutures.forEach(resultFuture -> resultFuture.completeExceptionally(
+                            new IllegalArgumentException("Received unexpected result.")));
                 }
             } else {
-                logger.debug("Failed to send kafka record: [{}] {}", exception.getClass().getName(),
+                logger.debug("Failed to send kafka records: [{}] {}", exception.getClass().getName(),
                         exception.getMessage());
-                resultFuture.completeExceptionally(exception);
+                // a batch is sent as a whole, so all of its records fail if one of them fails
+                resultFutures.forEach(resultFuture -> resultFuture.completeExceptionally(exception));
                 escalate(exception, ConnectionFailure.determineFailureDescription(Instant.now(),
                         exception, "Broker may not be available."));
             }
@@ -381,10 +439,9 @@ final class KafkaPublisherActor extends BasePublisherActor<KafkaPublishTarget> {
 
             final CompletableFuture<RecordMetadata> resultFuture = new CompletableFuture<>();
             final ProducerRecord<String, ByteBuffer> producerRecord = getProducerRecord(publishTarget, externalMessage);
-            final ProducerMessage.Envelope<String, ByteBuffer, CompletableFuture<RecordMetadata>> envelope =
-                    ProducerMessage.single(producerRecord, resultFuture);
             if (null != sourceQueue) {
-                sourceQueue.offer(envelope).whenComplete(handleQueueOfferResult(externalMessage, resultFuture));
+                sourceQueue.offer(new PendingRecord(producerRecord, resultFuture))
+                        .whenComplete(handleQueueOfferResult(externalMessage, resultFuture));
             } else {
                 final IllegalStateException ex = new IllegalStateException("Publisher not initialized");
                 logger.error(ex, ex.getMessage());
@@ -455,6 +512,18 @@ final class KafkaPublisherActor extends BasePublisherActor<KafkaPublishTarget> {
             killSwitch.shutdown();
         }
 
+        /**
+         * A record to publish together with the future to complete with the metadata of the published record.
+         */
+        private record PendingRecord(ProducerRecord<String, ByteBuffer> producerRecord,
+                                     CompletableFuture<RecordMetadata> resultFuture) {
+
+            private ProducerMessage.Envelope<String, ByteBuffer, List<CompletableFuture<RecordMetadata>>> toEnvelope() {
+                return ProducerMessage.single(producerRecord, List.of(resultFuture));
+            }
+
+        }
+
     }
 
 }
@@ -43,6 +43,7 @@ import org.eclipse.ditto.connectivity.service.messaging.monitoring.ConnectionMon
 import org.eclipse.ditto.edge.service.placeholders.EntityIdPlaceholder;
 import org.eclipse.ditto.edge.service.placeholders.FeaturePlaceholder;
 import org.eclipse.ditto.edge.service.placeholders.ThingPlaceholder;
+import org.eclipse.ditto.internal.utils.search.ParsedCriteriaCaches;
 import org.eclipse.ditto.json.JsonFieldSelector;
 import org.eclipse.ditto.json.JsonPointer;
 import org.eclipse.ditto.messages.model.signals.commands.MessageCommand;
@@ -72,6 +73,7 @@ import org.eclipse.ditto.things.model.signals.events.ThingEventToThingConverter;
  */
 public final class SignalFilter {
 
+    private static final String PARSED_CRITERIA_CACHE_NAME = "connectivity_parsed_criteria";
     private static final DittoProtocolAdapter DITTO_PROTOCOL_ADAPTER = DittoProtocolAdapter.newInstance();
     private static final TopicPathPlaceholder TOPIC_PATH_PLACEHOLDER = TopicPathPlaceholder.getInstance();
     private static final EntityIdPlaceholder ENTITY_ID_PLACEHOLDER = EntityIdPlaceholder.getInstance();
@@ -214,6 +216,7 @@ public final class SignalFilter {
     private static Criteria parseCriteria(final String filter, final DittoHeaders dittoHeaders,
             final PlaceholderResolver<?>... placeholderResolvers) {
         return QueryFilterCriteriaFactory.modelBased(RqlPredicateParser.getInstance(), placeholderResolvers)
+                .withCache(ParsedCriteriaCaches.get(PARSED_CRITERIA_CACHE_NAME))
                 .filterCriteria(filter, dittoHeaders);
     }
 
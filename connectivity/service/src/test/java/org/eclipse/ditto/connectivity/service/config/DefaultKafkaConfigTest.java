@@ -68,5 +68,8 @@ public class DefaultKafkaConfigTest {
 
         assertThat(underTest.getProducerConfig().getQueueSize()).isEqualTo(39);
         assertThat(underTest.getProducerConfig().getParallelism()).isEqualTo(3);
+        assertThat(underTest.getProducerConfig().isBatchingEnabled()).isTrue();
+        assertThat(underTest.getProducerConfig().getBatchingLinger()).isEqualTo(Duration.ofMillis(10));
+        assertThat(underTest.getProducerConfig().getBatchingMaxBytes()).isEqualTo(64 * 1024L);
     }
 }
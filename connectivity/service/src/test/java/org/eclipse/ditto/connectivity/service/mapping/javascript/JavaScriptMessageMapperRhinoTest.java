@@ -1095,6 +1095,29 @@ public final class JavaScriptMessageMapperRhinoTest {
         assertThat(adaptable.getPayload().getValue()).contains(JsonValue.of(MAPPING_INCOMING_PAYLOAD_STRING));
     }
 
+    @Test
+    public void scriptsExtendingStandardObjectsDoNotAffectOtherMappers() {
+        final String extendingScript = "String.prototype.shout = function() { return this.toUpperCase() + '!'; };\n" +
+                "Math.answer = 42;\n" +
+                "var mapperGlobal = 'extending';\n" +
+                MAPPING_INCOMING_PLAIN.replace("let value = textPayload;",
+                        "let value = textPayload.shout() + Math.answer + mapperGlobal;");
+        final String inspectingScript = MAPPING_INCOMING_PLAIN.replace("let value = textPayload;",
+                "let value = [typeof String.prototype.shout, typeof Math.answer, typeof mapperGlobal].join();");
+        final MessageMapper extendingMapper = createIncomingMapper("extending", extendingScript);
+        final MessageMapper inspectingMapper = createIncomingMapper("inspecting", inspectingScript);
+        final ExternalMessage message = ExternalMessageFactory.newExternalMessageBuilder(
+                        Map.of(HEADER_CORRELATION_ID, UUID.randomUUID().toString(),
+                                ExternalMessage.CONTENT_TYPE_HEADER, CONTENT_TYPE_PLAIN))
+                .withText(MAPPING_INCOMING_PAYLOAD_STRING)
+                .build();
+
+        assertThat(extendingMapper.map(message).get(0).getPayload().getValue())
+                .contains(JsonValue.of("HELLO!!42extending"));
+        assertThat(inspectingMapper.map(message).get(0).getPayload().getValue())
+                .contains(JsonValue.of("undefined,undefined,undefined"));
+    }
+
     @Test
     public void testPlainJavascriptIncomingMappingWithStatus() {
         final String correlationId = UUID.randomUUID().toString();
@@ -1300,6 +1323,20 @@ public final class JavaScriptMessageMapperRhinoTest {
         });
     }
 
+    private static MessageMapper createIncomingMapper(final String id, final String incomingScript) {
+        final MessageMapper mapper = JavaScriptMessageMapperFactory.createJavaScriptMessageMapperRhino();
+        mapper.configure(CONNECTION,
+                CONNECTIVITY_CONFIG,
+                JavaScriptMessageMapperFactory
+                        .createJavaScriptMessageMapperConfigurationBuilder(id, Collections.emptyMap())
+                        .incomingScript(incomingScript)
+                        .outgoingScript(MAPPING_OUTGOING_PLAIN)
+                        .build(),
+                actorSystem
+        );
+        return mapper;
+    }
+
     @Nullable
     private static String byteBuffer2String(@Nullable final ByteBuffer buf) {
         if (buf == null) {
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.connectivity.service.mapping.javascript;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.time.Duration;
+import java.util.function.BiConsumer;
+
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.junit.Test;
+import org.mozilla.javascript.Context;
+import org.mozilla.javascript.NativeJSON;
+import org.mozilla.javascript.RhinoException;
+import org.mozilla.javascript.Scriptable;
+import org.mozilla.javascript.ScriptableObject;
+
+/**
+ * Unit test for {@link RhinoJsonConverter}.
+ */
+public final class RhinoJsonConverterTest {
+
+    private static final JsonObject DITTO_PROTOCOL_MESSAGE = JsonObject.of("{" +
+            "\"topic\":\"org.eclipse.ditto/thing/things/twin/events/modified\"," +
+            "\"headers\":{\"correlation-id\":\"c-1\",\"response-required\":false}," +
+            "\"path\":\"/attributes\"," +
+            "\"value\":{\"int\":42,\"long\":3000000000,\"double\":1.5,\"array\":[1,\"two\",null,{\"3\":true}]," +
+            "\"0\":\"index key\"}," +
+            "\"revision\":23}");
+
+    @Test
+    public void convertsJsonToNativeValuesLikeJsonParse() {
+        withContext((cx, scope) -> {
+            final Object nativeValue = RhinoJsonConverter.toNative(cx, scope, DITTO_PROTOCOL_MESSAGE);
+            ScriptableObject.putProperty(scope, "msg", nativeValue);
+
+            final Object result = cx.evaluateString(scope,
+                    "msg.value[0] + ' ' + msg.value.array[3][3] + ' ' + (msg.value.long + msg.revision)",
+                    "test", 1, null);
+
+            assertThat(stringify(cx, scope, nativeValue)).isEqualTo(DITTO_PROTOCOL_MESSAGE);
+            assertThat(Context.toString(result)).isEqualTo("index key true 3000000023");
+        });
+    }
+
+    @Test
+    public void convertsNativeValuesToJsonLikeJsonStringify() {
+        withContext((cx, scope) -> {
+            final Object nativeValue = cx.evaluateString(scope, "({" +
+                    "a: 'x' + 1, b: 1.0, c: 3000000000, d: 0.5, e: undefined, f: function() {}, " +
+                    "g: [undefined, NaN, , 1], h: new Date(0), i: { toJSON: function() { return 'custom'; } }, " +
+                    "3: null })", "test", 1, null);
+
+            assertThat(RhinoJsonConverter.toJsonValue(cx, scope, nativeValue))
+                    .isEqualTo(stringify(cx, scope, nativeValue))
+                    .isEqualTo(JsonObject.of("{\"3\":null,\"a\":\"x1\",\"b\":1,\"c\":3000000000,\"d\":0.5," +
+                            "\"g\":[null,null,null,1],\"h\":\"1970-01-01T00:00:00.000Z\",\"i\":\"custom\"}"));
+        });
+    }
+
+    @Test
+    public void convertsUndefinedToNullLiteral() {
+        withContext((cx, scope) -> assertThat(RhinoJsonConverter.toJsonValue(cx, scope,
+                cx.evaluateString(scope, "undefined", "test", 1, null))).isEqualTo(JsonFactory.nullLiteral()));
+    }
+
+    @Test
+    public void failsForCyclicValuesLikeJsonStringify() {
+        withContext((cx, scope) -> {
+            final Object cyclicValue = cx.evaluateString(scope, "var o = { a: [] }; o.a.push(o); o", "test", 1, null);
+
+            assertThatExceptionOfType(RhinoException.class)
+                    .isThrownBy(() -> RhinoJsonConverter.toJsonValue(cx, scope, cyclicValue));
+        });
+    }
+
+    private static JsonObject stringify(final Context cx, final Scriptable scope, final Object nativeValue) {
+        return JsonObject.of(Context.toString(NativeJSON.stringify(cx, scope, nativeValue, null, null)));
+    }
+
+    private static void withContext(final BiConsumer<Context, Scriptable> test) {
+        new SandboxingContextFactory(Duration.ofMillis(500), 10).call(cx -> {
+            test.accept(cx, cx.initSafeStandardObjects());
+            return null;
+        });
+    }
+
+}
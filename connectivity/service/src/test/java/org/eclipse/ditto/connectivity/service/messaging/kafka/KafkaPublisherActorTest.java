@@ -68,6 +68,8 @@ import org.eclipse.ditto.things.model.signals.events.ThingDeleted;
 import org.eclipse.ditto.things.model.signals.events.ThingEvent;
 import org.junit.Test;
 
+import com.typesafe.config.ConfigValueFactory;
+
 import org.apache.pekko.actor.ActorRef;
 import org.apache.pekko.actor.Props;
 import org.apache.pekko.actor.Status;
@@ -246,6 +248,41 @@ public class KafkaPublisherActorTest extends AbstractPublisherActorTest {
         }};
     }
 
+    @Test
+    public void testBatchedMessagesAreAllPublishedAndAcknowledged() {
+        new TestKit(actorSystem) {{
+            mockSendProducerFactory = MockSendProducerFactory.getInstance(TARGET_TOPIC, published);
+            final DittoConnectivityConfig batchingConnectivityConfig =
+                    DittoConnectivityConfig.of(DefaultScopedConfig.dittoScoped(CONFIG
+                            .withValue("ditto.connectivity.connection.kafka.producer.batching.enabled",
+                                    ConfigValueFactory.fromAnyRef(true))
+                            .withValue("ditto.connectivity.connection.kafka.producer.batching.linger",
+                                    ConfigValueFactory.fromAnyRef("100ms"))));
+            final int messageCount = 10;
+
+            final ActorRef publisherActor = childActorOf(KafkaPublisherActor.props(TestConstants.createConnection(),
+                    mockSendProducerFactory,
+                    false,
+                    mock(ConnectivityStatusResolver.class),
+                    batchingConnectivityConfig));
+
+            publisherCreated(this, publisherActor);
+
+            IntStream.range(0, messageCount).forEach(i -> publisherActor.tell(
+                    OutboundSignalFactory.newMultiMappedOutboundSignal(List.of(getMockOutboundSignalWithAutoAck("ack",
+                            DittoHeaderDefinition.CORRELATION_ID.getKey(), "msg" + i,
+                            DittoHeaderDefinition.DITTO_ACKREGATOR_ADDRESS.getKey(),
+                            getRef().path().toSerializationFormat())), getRef()),
+                    getRef()));
+
+            for (int i = 0; i < messageCount; i++) {
+                final Acknowledgements acknowledgements = expectMsgClass(Duration.ofSeconds(5), Acknowledgements.class);
+                assertThat(acknowledgements.getFailedAcknowledgements()).isEmpty();
+            }
+            assertThat(published).hasSize(messageCount);
+        }};
+    }
+
     @Test
     public void verifyAcknowledgementsWithDebugEnabled() {
         new TestKit(actorSystem) {
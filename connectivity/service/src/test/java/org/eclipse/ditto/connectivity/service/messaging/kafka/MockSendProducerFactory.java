@@ -17,6 +17,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import java.nio.ByteBuffer;
+import java.util.List;
 import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -31,6 +32,8 @@ import org.apache.pekko.kafka.ProducerMessage;
 import org.apache.pekko.kafka.javadsl.SendProducer;
 import org.apache.pekko.kafka.testkit.ProducerResultFactory;
 
+import scala.jdk.javaapi.CollectionConverters;
+
 /**
  * Creates mock {@code SendProducer}s.
  */
@@ -110,13 +113,23 @@ final class MockSendProducerFactory implements SendProducerFactory {
                             Thread.sleep(1000);
                         }
 
-                        final ProducerMessage.Envelope<String, ByteBuffer, CompletableFuture<RecordMetadata>> envelope =
+                        final ProducerMessage.Envelope<String, ByteBuffer, Object> envelope =
                                 invocationOnMock.getArgument(0);
                         final RecordMetadata dummyMetadata =
                                 new RecordMetadata(new TopicPartition(targetTopic, 5),
                                         0L, 0, 0L, 0, 0);
-                        final ProducerMessage.Message<String, ByteBuffer, CompletableFuture<RecordMetadata>> message =
-                                (ProducerMessage.Message<String, ByteBuffer, CompletableFuture<RecordMetadata>>) envelope;
+                        if (envelope instanceof ProducerMessage.MultiMessage<String, ByteBuffer, Object> multiMessage) {
+                            final List<ProducerMessage.MultiResultPart<String, ByteBuffer>> parts =
+                                    CollectionConverters.asJava(multiMessage.records())
+                                            .stream()
+                                            .peek(published::offer)
+                                            .map(record -> ProducerResultFactory.multiResultPart(dummyMetadata, record))
+                                            .toList();
+                            return CompletableFuture.completedFuture(
+                                    ProducerResultFactory.multiResult(parts, multiMessage.passThrough()));
+                        }
+                        final ProducerMessage.Message<String, ByteBuffer, Object> message =
+                                (ProducerMessage.Message<String, ByteBuffer, Object>) envelope;
                         published.offer(message.record());
 
                         return CompletableFuture.completedFuture(ProducerResultFactory.result(dummyMetadata, message));
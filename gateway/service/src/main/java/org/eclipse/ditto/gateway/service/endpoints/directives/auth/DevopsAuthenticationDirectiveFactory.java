@@ -38,7 +38,8 @@ public final class DevopsAuthenticationDirectiveFactory {
                 jwtAuthenticationFactory.newJwtAuthenticationResultProvider(
                         dittoExtensionConfig, "devops"
                 ),
-                jwtAuthenticationFactory.getJwtValidator()
+                jwtAuthenticationFactory.getJwtValidator(),
+                jwtAuthenticationFactory.newJwtAuthenticationResultCache("devops")
         );
         return new DevopsAuthenticationDirectiveFactory(jwtAuthenticationProvider, devOpsConfig);
     }
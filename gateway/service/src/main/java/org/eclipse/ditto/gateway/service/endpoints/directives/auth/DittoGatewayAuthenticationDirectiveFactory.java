@@ -67,7 +67,8 @@ public final class DittoGatewayAuthenticationDirectiveFactory implements Gateway
                             jwtAuthenticationFactory.newJwtAuthenticationResultProvider(
                                     dittoExtensionConfig, null
                             ),
-                            jwtAuthenticationFactory.getJwtValidator()
+                            jwtAuthenticationFactory.getJwtValidator(),
+                            jwtAuthenticationFactory.newJwtAuthenticationResultCache("http")
                     );
             gatewayHttpAuthenticationDirective =
                     generateGatewayAuthenticationDirective(authConfig, jwtHttpAuthenticationProvider,
@@ -86,7 +87,8 @@ public final class DittoGatewayAuthenticationDirectiveFactory implements Gateway
                             jwtAuthenticationFactory.newJwtAuthenticationResultProvider(
                                     dittoExtensionConfig, null
                             ),
-                            jwtAuthenticationFactory.getJwtValidator()
+                            jwtAuthenticationFactory.getJwtValidator(),
+                            jwtAuthenticationFactory.newJwtAuthenticationResultCache("ws")
                     );
             gatewayWsAuthenticationDirective =
                     generateGatewayAuthenticationDirective(authConfig, jwtWsAuthenticationProvider,
@@ -74,6 +74,7 @@ import org.eclipse.ditto.base.service.UriEncoding;
 import org.eclipse.ditto.gateway.service.endpoints.routes.AbstractRoute;
 import org.eclipse.ditto.gateway.service.endpoints.routes.things.ThingsParameter;
 import org.eclipse.ditto.gateway.service.endpoints.utils.GatewaySignalEnrichmentProvider;
+import org.eclipse.ditto.gateway.service.streaming.SharedSignalSerializations;
 import org.eclipse.ditto.gateway.service.streaming.StreamingAuthorizationEnforcer;
 import org.eclipse.ditto.gateway.service.streaming.actors.SessionedJsonifiable;
 import org.eclipse.ditto.gateway.service.streaming.actors.StreamingSession;
@@ -86,6 +87,7 @@ import org.eclipse.ditto.internal.utils.config.ScopedConfig;
 import org.eclipse.ditto.internal.utils.metrics.DittoMetrics;
 import org.eclipse.ditto.internal.utils.metrics.instruments.counter.Counter;
 import org.eclipse.ditto.internal.utils.pubsub.StreamingType;
+import org.eclipse.ditto.internal.utils.search.ParsedCriteriaCaches;
 import org.eclipse.ditto.internal.utils.search.SearchSource;
 import org.eclipse.ditto.json.JsonCollectors;
 import org.eclipse.ditto.json.JsonFactory;
@@ -164,6 +166,7 @@ public final class ThingsSseRouteBuilder extends RouteDirectives implements SseR
     private final ActorRef pubSubMediator;
     private final HeaderTranslator headerTranslator;
     private final DittoProtocolAdapter dittoProtocolAdapter;
+    private final SharedSignalSerializations sharedSerializations;
     private SseConnectionSupervisor sseConnectionSupervisor;
     private SseEventSniffer eventSniffer;
     private StreamingAuthorizationEnforcer sseAuthorizationEnforcer;
@@ -184,6 +187,7 @@ public final class ThingsSseRouteBuilder extends RouteDirectives implements SseR
         this.headerTranslator = headerTranslator;
 
         dittoProtocolAdapter = DittoProtocolAdapter.of(headerTranslator);
+        sharedSerializations = SharedSignalSerializations.of(streamingConfig.getSharedSerializationCacheSize());
 
         final Config config = actorSystem.settings().config();
         final var dittoExtensionsConfig = ScopedConfig.dittoExtension(config);
@@ -215,7 +219,8 @@ public final class ThingsSseRouteBuilder extends RouteDirectives implements SseR
         final var queryFilterCriteriaFactory =
                 QueryFilterCriteriaFactory.modelBased(RqlPredicateParser.getInstance(),
                         TopicPathPlaceholder.getInstance(), ResourcePlaceholder.getInstance(),
-                        TimePlaceholder.getInstance());
+                        TimePlaceholder.getInstance())
+                        .withCache(ParsedCriteriaCaches.get("gateway_parsed_criteria"));
 
         return new ThingsSseRouteBuilder(actorSystem, streamingActor, streamingConfig, queryFilterCriteriaFactory,
                 pubSubMediator, headerTranslator);
@@ -646,7 +651,10 @@ public final class ThingsSseRouteBuilder extends RouteDirectives implements SseR
                                 .thenApply(extra ->
                                         Optional.of(session.mergeThingWithExtra(event, extra))
                                                 .filter(thing -> session.matchesFilter(thing, event))
-                                                .map(thing -> toNonemptyValue(thing, event, fieldPointer, fields))
+                                                .map(thing -> sharedSerializations.get(event,
+                                                        new SerializationVariant(session.getExtraFields().orElse(null),
+                                                                extra, fieldPointer, fields),
+                                                        () -> toNonemptyValue(thing, event, fieldPointer, fields)))
                                                 .orElseGet(Collections::emptyList)
                                 )
                                 .exceptionally(error -> {
@@ -823,4 +831,12 @@ public final class ThingsSseRouteBuilder extends RouteDirectives implements SseR
                 .collect(JsonCollectors.fieldsToObject());
     }
 
+    /**
+     * Everything the value sent for a thing event depends on besides the event itself.
+     */
+    private record SerializationVariant(@Nullable ThingFieldSelector extraFieldsSelector,
+            JsonObject extra,
+            JsonPointer fieldPointer,
+            @Nullable JsonFieldSelector fields) {}
+
 }
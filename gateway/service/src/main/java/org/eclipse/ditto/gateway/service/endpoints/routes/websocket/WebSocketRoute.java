@@ -86,6 +86,7 @@ import org.eclipse.ditto.gateway.api.GatewayWebsocketSessionExpiredException;
 import org.eclipse.ditto.gateway.service.endpoints.routes.AbstractRoute;
 import org.eclipse.ditto.gateway.service.endpoints.utils.GatewaySignalEnrichmentProvider;
 import org.eclipse.ditto.gateway.service.security.HttpHeader;
+import org.eclipse.ditto.gateway.service.streaming.SharedSignalSerializations;
 import org.eclipse.ditto.gateway.service.streaming.StreamingAuthorizationEnforcer;
 import org.eclipse.ditto.gateway.service.streaming.actors.SessionedJsonifiable;
 import org.eclipse.ditto.gateway.service.streaming.actors.StreamingActor;
@@ -175,6 +176,7 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
 
     private final ActorRef streamingActor;
     private final StreamingConfig streamingConfig;
+    private final SharedSignalSerializations sharedSerializations;
     private final Materializer materializer;
 
     private IncomingWebSocketEventSniffer incomingMessageSniffer;
@@ -193,6 +195,7 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
 
         this.streamingActor = checkNotNull(streamingActor, "streamingActor");
         this.streamingConfig = streamingConfig;
+        sharedSerializations = SharedSignalSerializations.of(streamingConfig.getSharedSerializationCacheSize());
 
         final var config = actorSystem.settings().config();
         final var dittoExtensionsConfig = ScopedConfig.dittoExtension(config);
@@ -762,18 +765,18 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
                 );
             }
 
-            final Adaptable adaptable = jsonifiableToAdaptable(jsonifiable, adapter);
             final CompletionStage<JsonObject> extraFuture = sessionedJsonifiable.retrieveExtraFields(facade);
             return extraFuture.<Collection<String>>thenApply(extra -> {
                 if (matchesFilter(sessionedJsonifiable, extra)) {
-                    return Collections.singletonList(toJsonStringWithExtra(adaptable, extra));
+                    return Collections.singletonList(toJsonStringWithExtra(sessionedJsonifiable, adapter, extra));
                 }
                 issuePotentialWeakAcknowledgements(sessionedJsonifiable);
                 sessionedJsonifiable.finishSpan();
                 return Collections.emptyList();
             }).exceptionally(error -> {
                 sessionedJsonifiable.finishSpan();
-                return WebSocketRoute.reportEnrichmentError(error, adapter, adaptable, logger);
+                return WebSocketRoute.reportEnrichmentError(error, adapter,
+                        jsonifiableToAdaptable(jsonifiable, adapter), logger);
             });
         };
     }
@@ -826,6 +829,22 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
         return Collections.singletonList(errorAdaptable.toJsonString());
     }
 
+    /**
+     * Converts a Jsonifiable to the Ditto Protocol string sent to the session. Signals published to the sessions are
+     * converted only once for all sessions of this node with the same protocol adapter and extra fields.
+     */
+    private String toJsonStringWithExtra(final SessionedJsonifiable sessionedJsonifiable,
+            final ProtocolAdapter adapter,
+            final JsonObject extra) {
+
+        final Jsonifiable.WithPredicate<JsonObject, JsonField> jsonifiable = sessionedJsonifiable.getJsonifiable();
+        if (jsonifiable instanceof Signal<?> signal && sessionedJsonifiable.getSession().isPresent()) {
+            return sharedSerializations.get(signal, new SerializationVariant(adapter, extra),
+                    () -> toJsonStringWithExtra(jsonifiableToAdaptable(signal, adapter), extra));
+        }
+        return toJsonStringWithExtra(jsonifiableToAdaptable(jsonifiable, adapter), extra);
+    }
+
     private static String toJsonStringWithExtra(final Adaptable adaptable, final JsonObject extra) {
         final Adaptable enrichedAdaptable = extra.isEmpty() ? adaptable : ProtocolFactory.setExtra(adaptable, extra);
         return ProtocolFactory.wrapAsJsonifiableAdaptable(enrichedAdaptable).toJsonString();
@@ -925,4 +944,6 @@ public final class WebSocketRoute implements WebSocketRouteBuilder {
                 .map(ImmutableJsonWebToken::fromAuthorization);
     }
 
+    private record SerializationVariant(ProtocolAdapter adapter, JsonObject extra) {}
+
 }
@@ -43,6 +43,21 @@ final class DefaultJwtAuthenticationResult extends AbstractAuthenticationResult
         return Optional.ofNullable(jwt);
     }
 
+    /**
+     * Returns a copy of this authentication result with the given DittoHeaders, e.g. to reuse the result of a JWT for
+     * another request with the same JWT.
+     *
+     * @param dittoHeaders the DittoHeaders of the copy.
+     * @return the copy.
+     * @since 3.8.0
+     */
+    DefaultJwtAuthenticationResult setDittoHeaders(final DittoHeaders dittoHeaders) {
+        if (isSuccess()) {
+            return new DefaultJwtAuthenticationResult(dittoHeaders, getAuthorizationContext(), null, jwt);
+        }
+        return new DefaultJwtAuthenticationResult(dittoHeaders, null, getReasonOfFailure(), jwt);
+    }
+
     @Override
     public boolean equals(final Object that) {
         return super.equals(that) && Objects.equals(jwt, ((DefaultJwtAuthenticationResult) that).jwt);
@@ -29,9 +29,13 @@ import com.typesafe.config.Config;
 public final class JwtAuthenticationFactory {
 
     private static final String PUBLIC_KEY_CACHE_NAME = "ditto_authorization_jwt_publicKeys_cache";
+    private static final String AUTHENTICATION_RESULT_CACHE_NAME_PREFIX =
+            "ditto_authorization_jwt_authenticationResults_";
+    private static final String CACHE_NAME_SUFFIX = "_cache";
 
     private final OAuthConfig oAuthConfig;
     private final CacheConfig publicKeyCacheConfig;
+    @Nullable private final CacheConfig authenticationResultCacheConfig;
     private final HttpClientFacade httpClientFacade;
     private final ActorSystem actorSystem;
 
@@ -41,11 +45,13 @@ public final class JwtAuthenticationFactory {
 
     private JwtAuthenticationFactory(final OAuthConfig oAuthConfig,
             final CacheConfig publicKeyCacheConfig,
+            @Nullable final CacheConfig authenticationResultCacheConfig,
             final HttpClientFacade httpClientFacade,
             final ActorSystem actorSystem) {
 
         this.oAuthConfig = checkNotNull(oAuthConfig, "authenticationConfig");
         this.publicKeyCacheConfig = checkNotNull(publicKeyCacheConfig, "publicKeyCacheConfig");
+        this.authenticationResultCacheConfig = authenticationResultCacheConfig;
         this.httpClientFacade = checkNotNull(httpClientFacade, "httpClientFacade");
         this.actorSystem = checkNotNull(actorSystem, "actorSystem");
     }
@@ -64,8 +70,29 @@ public final class JwtAuthenticationFactory {
             final HttpClientFacade httpClientFacade,
             final ActorSystem actorSystem) {
 
-        return new JwtAuthenticationFactory(oAuthConfig, publicKeyCacheConfig, httpClientFacade,
-                actorSystem);
+        return newInstance(oAuthConfig, publicKeyCacheConfig, null, httpClientFacade, actorSystem);
+    }
+
+    /**
+     * Creates a new {@code JwtAuthenticationFactory} instance.
+     *
+     * @param oAuthConfig the OAuth configuration.
+     * @param publicKeyCacheConfig the public key cache configuration.
+     * @param authenticationResultCacheConfig the configuration of the caches of JWT authentication results or
+     * {@code null} to not cache authentication results.
+     * @param httpClientFacade the client facade of the HTTP client.
+     * @param actorSystem the actor system.
+     * @return the new created instance.
+     * @since 3.8.0
+     */
+    public static JwtAuthenticationFactory newInstance(final OAuthConfig oAuthConfig,
+            final CacheConfig publicKeyCacheConfig,
+            @Nullable final CacheConfig authenticationResultCacheConfig,
+            final HttpClientFacade httpClientFacade,
+            final ActorSystem actorSystem) {
+
+        return new JwtAuthenticationFactory(oAuthConfig, publicKeyCacheConfig, authenticationResultCacheConfig,
+                httpClientFacade, actorSystem);
     }
 
     public JwtValidator getJwtValidator() {
@@ -75,6 +102,26 @@ public final class JwtAuthenticationFactory {
         return jwtValidator;
     }
 
+    /**
+     * Creates a new cache of the authentication results of JWTs which are verified by the public keys of this
+     * factory. Authentication providers should not share caches unless they derive the same authentication results.
+     * The metrics of the cache are reported as {@code ditto_authorization_jwt_authenticationResults_<name>_cache},
+     * so each cache of this factory should get a distinct name.
+     *
+     * @param name the name of the cache, e.g. the API whose requests are authenticated.
+     * @return the new cache, which does not cache at all if no cache config was provided.
+     * @throws NullPointerException if {@code name} is {@code null}.
+     * @since 3.8.0
+     */
+    public JwtAuthenticationResultCache newJwtAuthenticationResultCache(final String name) {
+        checkNotNull(name, "name");
+        if (null == authenticationResultCacheConfig) {
+            return JwtAuthenticationResultCache.disabled();
+        }
+        return JwtAuthenticationResultCache.of(authenticationResultCacheConfig, getPublicKeyProvider(),
+                AUTHENTICATION_RESULT_CACHE_NAME_PREFIX + name + CACHE_NAME_SUFFIX);
+    }
+
     private PublicKeyProvider getPublicKeyProvider() {
         if (null == publicKeyProvider) {
             publicKeyProvider = DittoPublicKeyProvider.of(
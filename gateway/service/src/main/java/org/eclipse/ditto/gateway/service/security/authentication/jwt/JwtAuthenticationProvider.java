@@ -47,14 +47,17 @@ public final class JwtAuthenticationProvider extends TimeMeasuringAuthentication
     private final JwtAuthenticationResultProvider jwtAuthResultProvider;
     private final JwtValidator jwtValidator;
     private final JwtExtractor jwtExtractor;
+    private final JwtAuthenticationResultCache jwtAuthResultCache;
 
     private JwtAuthenticationProvider(final JwtAuthenticationResultProvider jwtAuthenticationResultProvider,
-            final JwtValidator jwtValidator, final JwtExtractor jwtExtractor) {
+            final JwtValidator jwtValidator, final JwtExtractor jwtExtractor,
+            final JwtAuthenticationResultCache jwtAuthenticationResultCache) {
 
         super(LOGGER);
         jwtAuthResultProvider = checkNotNull(jwtAuthenticationResultProvider, "jwtAuthorizationContextProvider");
         this.jwtValidator = checkNotNull(jwtValidator, "jwtValidator");
         this.jwtExtractor = checkNotNull(jwtExtractor, "jwtExtractor");
+        jwtAuthResultCache = checkNotNull(jwtAuthenticationResultCache, "jwtAuthenticationResultCache");
     }
 
     /**
@@ -68,8 +71,26 @@ public final class JwtAuthenticationProvider extends TimeMeasuringAuthentication
     public static JwtAuthenticationProvider newInstance(
             final JwtAuthenticationResultProvider jwtAuthenticationResultProvider, final JwtValidator jwtValidator) {
 
+        return newInstance(jwtAuthenticationResultProvider, jwtValidator, JwtAuthenticationResultCache.disabled());
+    }
+
+    /**
+     * Creates a new instance of the JWT authentication provider that extracts the JWT from the Authorization header
+     * and caches the results of successful authentications.
+     *
+     * @param jwtValidator the JWT validator
+     * @param jwtAuthenticationResultProvider builds the authorization context based on the JWT.
+     * @param jwtAuthenticationResultCache caches the authentication results of JWTs.
+     * @return the created instance.
+     * @throws NullPointerException if any argument is {@code null}.
+     * @since 3.8.0
+     */
+    public static JwtAuthenticationProvider newInstance(
+            final JwtAuthenticationResultProvider jwtAuthenticationResultProvider, final JwtValidator jwtValidator,
+            final JwtAuthenticationResultCache jwtAuthenticationResultCache) {
+
         return new JwtAuthenticationProvider(jwtAuthenticationResultProvider, jwtValidator,
-                DefaultJwtExtractor.getInstance());
+                DefaultJwtExtractor.getInstance(), jwtAuthenticationResultCache);
     }
 
     /**
@@ -84,8 +105,26 @@ public final class JwtAuthenticationProvider extends TimeMeasuringAuthentication
     public static JwtAuthenticationProvider newWsInstance(
             final JwtAuthenticationResultProvider jwtAuthenticationResultProvider, final JwtValidator jwtValidator) {
 
+        return newWsInstance(jwtAuthenticationResultProvider, jwtValidator, JwtAuthenticationResultCache.disabled());
+    }
+
+    /**
+     * Creates a new instance of the JWT authentication provider that extracts the JWT also from the {@code access_token}
+     * query parameter in addition to the Authorization header and caches the results of successful authentications.
+     *
+     * @param jwtValidator the JWT validator
+     * @param jwtAuthenticationResultProvider builds the authorization context based on the JWT.
+     * @param jwtAuthenticationResultCache caches the authentication results of JWTs.
+     * @return the created instance.
+     * @throws NullPointerException if any argument is {@code null}.
+     * @since 3.8.0
+     */
+    public static JwtAuthenticationProvider newWsInstance(
+            final JwtAuthenticationResultProvider jwtAuthenticationResultProvider, final JwtValidator jwtValidator,
+            final JwtAuthenticationResultCache jwtAuthenticationResultCache) {
+
         return new JwtAuthenticationProvider(jwtAuthenticationResultProvider, jwtValidator,
-                WebSocketJwtExtractor.getInstance());
+                WebSocketJwtExtractor.getInstance(), jwtAuthenticationResultCache);
     }
 
     /**
@@ -127,11 +166,22 @@ public final class JwtAuthenticationProvider extends TimeMeasuringAuthentication
         return failOnTimeout(authenticationResultFuture, dittoHeaders);
     }
 
-    @SuppressWarnings("ConstantConditions")
     private CompletionStage<AuthenticationResult> getAuthenticationResult(final JsonWebToken jwt,
             final DittoHeaders dittoHeaders) {
 
         final ThreadSafeDittoLogger logger = LOGGER.withCorrelationId(dittoHeaders);
+        return jwtAuthResultCache.getAuthenticationResult(jwt, dittoHeaders,
+                        () -> validateAndGetAuthenticationResult(jwt, dittoHeaders, logger))
+                .thenApply(authenticationResult -> {
+                    logger.info("Completed JWT authentication successfully.");
+                    return authenticationResult;
+                });
+    }
+
+    @SuppressWarnings("ConstantConditions")
+    private CompletionStage<AuthenticationResult> validateAndGetAuthenticationResult(final JsonWebToken jwt,
+            final DittoHeaders dittoHeaders, final ThreadSafeDittoLogger logger) {
+
         return jwtValidator.validate(jwt)
                 .thenCompose(validationResult -> {
                     if (!validationResult.isValid()) {
@@ -143,10 +193,6 @@ public final class JwtAuthenticationProvider extends TimeMeasuringAuthentication
                                 DefaultAuthenticationResult.failed(dittoHeaders, reasonForFailure));
                     }
                     return tryToGetAuthenticationResult(jwt, dittoHeaders);
-                })
-                .thenApply(authenticationResult -> {
-                    logger.info("Completed JWT authentication successfully.");
-                    return authenticationResult;
                 });
     }
 
@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.gateway.service.security.authentication.jwt;
+
+import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.PublicKey;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.gateway.service.security.authentication.AuthenticationResult;
+import org.eclipse.ditto.internal.utils.cache.CaffeineCache;
+import org.eclipse.ditto.internal.utils.cache.config.CacheConfig;
+import org.eclipse.ditto.json.JsonRuntimeException;
+import org.eclipse.ditto.jwt.model.JsonWebToken;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+/**
+ * Cache of the authentication results of successfully authenticated JSON Web Tokens, which spares the verification of
+ * the signature and the derivation of the authentication result for tokens that were authenticated before.
+ * The result of the {@link JwtAuthenticationResultProvider} is restored with the headers of the current request.
+ * Entries are keyed by a SHA-256 digest of the token, so that the cache does not retain the tokens themselves.
+ * An entry expires at the expiration time of its token at the latest and is only used as long as the public key
+ * provider still returns the public key which the token was verified with, i.e. rotating the keys of an issuer
+ * invalidates the authentication results of the tokens signed with the previous keys.
+ *
+ * @since 3.8.0
+ */
+@ThreadSafe
+public final class JwtAuthenticationResultCache {
+
+    @Nullable private final CaffeineCache<String, CachedAuthentication> cache;
+    @Nullable private final PublicKeyProvider publicKeyProvider;
+
+    private JwtAuthenticationResultCache(@Nullable final CaffeineCache<String, CachedAuthentication> cache,
+            @Nullable final PublicKeyProvider publicKeyProvider) {
+
+        this.cache = cache;
+        this.publicKeyProvider = publicKeyProvider;
+    }
+
+    /**
+     * Returns a new instance of {@code JwtAuthenticationResultCache}.
+     *
+     * @param cacheConfig the config of the cache. Its {@code expire-after-write} caps the time an authentication result
+     * is kept for tokens with a later expiration time.
+     * @param publicKeyProvider the provider of the public keys which tokens are verified with.
+     * @param cacheName the name of the cache to report metrics for or {@code null} to not report metrics.
+     * @return the instance.
+     * @throws NullPointerException if {@code cacheConfig} or {@code publicKeyProvider} is {@code null}.
+     */
+    public static JwtAuthenticationResultCache of(final CacheConfig cacheConfig,
+            final PublicKeyProvider publicKeyProvider,
+            @Nullable final String cacheName) {
+
+        checkNotNull(cacheConfig, "cacheConfig");
+        checkNotNull(publicKeyProvider, "publicKeyProvider");
+        final Caffeine<String, CachedAuthentication> caffeine = Caffeine.newBuilder()
+                .maximumSize(cacheConfig.getMaximumSize())
+                .expireAfter(new UntilTokenExpires(cacheConfig.getExpireAfterWrite()));
+
+        return new JwtAuthenticationResultCache(CaffeineCache.of(caffeine, cacheName), publicKeyProvider);
+    }
+
+    /**
+     * Returns an instance of {@code JwtAuthenticationResultCache} which does not cache at all.
+     *
+     * @return the instance.
+     */
+    public static JwtAuthenticationResultCache disabled() {
+        return new JwtAuthenticationResultCache(null, null);
+    }
+
+    /**
+     * Returns the result of authenticating a JWT, which is either restored from the cache or computed by the given
+     * authentication. Only successful authentication results of tokens with an expiration time are cached, and only if
+     * they were created by {@code JwtAuthenticationResult.successful(...)}.
+     *
+     * @param jwt the JWT to authenticate.
+     * @param dittoHeaders the DittoHeaders of the request to authenticate.
+     * @param authentication validates the JWT and derives its authentication result in case of a cache miss.
+     * @return the authentication result.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    public CompletionStage<AuthenticationResult> getAuthenticationResult(final JsonWebToken jwt,
+            final DittoHeaders dittoHeaders,
+            final Supplier<CompletionStage<AuthenticationResult>> authentication) {
+
+        checkNotNull(jwt, "jwt");
+        checkNotNull(dittoHeaders, "dittoHeaders");
+        checkNotNull(authentication, "authentication");
+        if (null == cache || null == publicKeyProvider) {
+            return authentication.get();
+        }
+
+        final String key = digest(jwt.getToken());
+        return cache.getIfPresent(key).thenCompose(cachedAuthentication -> getPublicKey(jwt, publicKeyProvider)
+                .thenCompose(publicKey -> {
+                    if (cachedAuthentication.isPresent() && publicKey.isPresent() &&
+                            cachedAuthentication.get().publicKey().equals(publicKey.get())) {
+
+                        return CompletableFuture.completedStage(
+                                cachedAuthentication.get().authenticationResult().setDittoHeaders(dittoHeaders));
+                    }
+                    if (cachedAuthentication.isPresent()) {
+                        // the public key of the token was rotated or is no longer available
+                        cache.invalidate(key);
+                    }
+                    return authentication.get().thenApply(authenticationResult -> {
+                        publicKey.ifPresent(theKey -> putIfSuccessful(key, jwt, theKey, authenticationResult));
+                        return authenticationResult;
+                    });
+                }));
+    }
+
+    private void putIfSuccessful(final String key, final JsonWebToken jwt, final PublicKey publicKey,
+            final AuthenticationResult authenticationResult) {
+
+        // other implementations of authentication results may not be restorable with the headers of another request
+        if (null != cache && authenticationResult instanceof DefaultJwtAuthenticationResult jwtAuthenticationResult &&
+                jwtAuthenticationResult.isSuccess()) {
+            getExpirationTime(jwt).ifPresent(expirationTime -> cache.put(key,
+                    new CachedAuthentication(jwtAuthenticationResult, publicKey, expirationTime)));
+        }
+    }
+
+    private static CompletionStage<Optional<PublicKey>> getPublicKey(final JsonWebToken jwt,
+            final PublicKeyProvider publicKeyProvider) {
+
+        // failures to retrieve the public key are reported by the authentication itself
+        return publicKeyProvider.getPublicKeyWithParser(jwt.getIssuer(), jwt.getKeyId())
+                .thenApply(publicKeyWithParser -> publicKeyWithParser.map(PublicKeyWithParser::getPublicKey))
+                .exceptionally(error -> Optional.empty());
+    }
+
+    private static Optional<Instant> getExpirationTime(final JsonWebToken jwt) {
+        try {
+            return Optional.of(jwt.getExpirationTime());
+        } catch (final JsonRuntimeException e) {
+            // tokens without expiration time are not cached
+            return Optional.empty();
+        }
+    }
+
+    private static String digest(final String token) {
+        try {
+            final MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return Base64.getEncoder().encodeToString(sha256.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (final NoSuchAlgorithmException e) {
+            // impossible - all JVM must support SHA-256.
+            throw new CompletionException(e);
+        }
+    }
+
+    private record CachedAuthentication(DefaultJwtAuthenticationResult authenticationResult, PublicKey publicKey,
+            Instant expirationTime) {}
+
+    private record UntilTokenExpires(Duration maximumDuration) implements Expiry<String, CachedAuthentication> {
+
+        @Override
+        public long expireAfterCreate(final String key, final CachedAuthentication value, final long currentTime) {
+            final Duration untilExpiration = Duration.between(Instant.now(), value.expirationTime());
+            if (untilExpiration.isNegative()) {
+                return 0L;
+            }
+            return untilExpiration.compareTo(maximumDuration) < 0
+                    ? untilExpiration.toNanos()
+                    : maximumDuration.toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(final String key, final CachedAuthentication value, final long currentTime,
+                final long currentDuration) {
+
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(final String key, final CachedAuthentication value, final long currentTime,
+                final long currentDuration) {
+
+            return currentDuration;
+        }
+
+    }
+
+}
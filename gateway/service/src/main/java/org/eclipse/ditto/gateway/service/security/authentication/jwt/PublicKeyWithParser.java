@@ -37,6 +37,10 @@ final class PublicKeyWithParser {
         this.jwtParser = jwtParser;
     }
 
+    PublicKey getPublicKey() {
+        return publicKey;
+    }
+
     JwtParser getJwtParser() {
         return jwtParser;
     }
@@ -14,6 +14,8 @@ package org.eclipse.ditto.gateway.service.starter;
 
 import java.util.concurrent.CompletionStage;
 
+import javax.annotation.Nullable;
+
 import org.apache.pekko.actor.ActorRef;
 import org.apache.pekko.actor.ActorRefFactory;
 import org.apache.pekko.actor.ActorSystem;
@@ -62,6 +64,7 @@ import org.eclipse.ditto.gateway.service.util.config.GatewayConfig;
 import org.eclipse.ditto.gateway.service.util.config.endpoints.HttpConfig;
 import org.eclipse.ditto.gateway.service.util.config.health.HealthCheckConfig;
 import org.eclipse.ditto.gateway.service.util.config.security.AuthenticationConfig;
+import org.eclipse.ditto.gateway.service.util.config.security.CachesConfig;
 import org.eclipse.ditto.gateway.service.util.config.security.DevOpsConfig;
 import org.eclipse.ditto.gateway.service.util.config.security.OAuthConfig;
 import org.eclipse.ditto.internal.utils.cache.config.CacheConfig;
@@ -101,7 +104,12 @@ public final class GatewayRootActor extends DittoRootActor {
         final Config config = actorSystem.settings().config();
         final var clusterConfig = gatewayConfig.getClusterConfig();
         final AuthenticationConfig authenticationConfig = gatewayConfig.getAuthenticationConfig();
-        final CacheConfig publicKeysConfig = gatewayConfig.getCachesConfig().getPublicKeysConfig();
+        final CachesConfig cachesConfig = gatewayConfig.getCachesConfig();
+        final CacheConfig publicKeysConfig = cachesConfig.getPublicKeysConfig();
+        final CacheConfig jwtAuthenticationResultsConfig =
+                cachesConfig.isJwtAuthenticationResultsCacheEnabled()
+                        ? cachesConfig.getJwtAuthenticationResultsConfig()
+                        : null;
         final HealthCheckConfig healthCheckConfig = gatewayConfig.getHealthCheckConfig();
         final HttpConfig httpConfig = gatewayConfig.getHttpConfig();
 
@@ -121,15 +129,16 @@ public final class GatewayRootActor extends DittoRootActor {
         final OAuthConfig oAuthConfig = authenticationConfig.getOAuthConfig();
 
         final JwtAuthenticationFactory jwtAuthenticationFactory =
-                JwtAuthenticationFactory.newInstance(oAuthConfig, publicKeysConfig, httpClient, actorSystem);
+                JwtAuthenticationFactory.newInstance(oAuthConfig, publicKeysConfig, jwtAuthenticationResultsConfig,
+                        httpClient, actorSystem);
 
         final JwtAuthenticationResultProvider jwtAuthenticationResultProvider =
                 jwtAuthenticationFactory.newJwtAuthenticationResultProvider(dittoExtensionConfig, null);
 
         final DevOpsConfig devOpsConfig = authenticationConfig.getDevOpsConfig();
         final DevopsAuthenticationDirectiveFactory devopsAuthenticationDirectiveFactory =
-                getDevopsAuthenticationDirectiveFactory(httpClient, publicKeysConfig, devOpsConfig, actorSystem,
-                        dittoExtensionConfig);
+                getDevopsAuthenticationDirectiveFactory(httpClient, publicKeysConfig, jwtAuthenticationResultsConfig,
+                        devOpsConfig, actorSystem, dittoExtensionConfig);
 
         final ProtocolAdapterProvider protocolAdapterProvider =
                 ProtocolAdapterProvider.load(gatewayConfig.getProtocolConfig(), actorSystem);
@@ -304,12 +313,14 @@ public final class GatewayRootActor extends DittoRootActor {
     private static DevopsAuthenticationDirectiveFactory getDevopsAuthenticationDirectiveFactory(
             final HttpClientFacade httpClient,
             final CacheConfig publicKeysConfig,
+            @Nullable final CacheConfig jwtAuthenticationResultsConfig,
             final DevOpsConfig devOpsConfig,
             final ActorSystem actorSystem,
             final Config dittoExtensionConfig) {
         final var devopsOauthConfig = devOpsConfig.getOAuthConfig();
         final var devopsJwtAuthenticationFactory =
-                JwtAuthenticationFactory.newInstance(devopsOauthConfig, publicKeysConfig, httpClient, actorSystem);
+                JwtAuthenticationFactory.newInstance(devopsOauthConfig, publicKeysConfig,
+                        jwtAuthenticationResultsConfig, httpClient, actorSystem);
 
         return DevopsAuthenticationDirectiveFactory.newInstance(devopsJwtAuthenticationFactory, devOpsConfig,
                 dittoExtensionConfig);
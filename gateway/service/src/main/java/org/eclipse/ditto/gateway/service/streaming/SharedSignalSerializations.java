@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.gateway.service.streaming;
+
+import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.base.model.signals.Signal;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Node-local serializations of the signals published to the streaming sessions of a gateway node, shared by all
+ * sessions which receive the same signal.
+ * Pub-sub delivers a published signal as the same instance to all local sessions subscribed for it, therefore the
+ * serializations are looked up by the identity of the signal and by a variant key which captures everything else the
+ * serialization of a session depends on, e.g. the protocol adapter and the extra fields of the session.
+ * Signals are held weakly, i.e. their serializations are discarded as soon as no session references them anymore.
+ *
+ * @since 3.8.0
+ */
+@ThreadSafe
+public final class SharedSignalSerializations {
+
+    @Nullable private final Cache<Signal<?>, Map<Object, Object>> serializations;
+
+    private SharedSignalSerializations(@Nullable final Cache<Signal<?>, Map<Object, Object>> serializations) {
+        this.serializations = serializations;
+    }
+
+    /**
+     * Returns a new instance of {@code SharedSignalSerializations}.
+     *
+     * @param maximumSize the maximum number of signals to keep serializations of, {@code 0} to not share
+     * serializations at all.
+     * @return the instance.
+     * @throws IllegalArgumentException if {@code maximumSize} is negative.
+     */
+    public static SharedSignalSerializations of(final int maximumSize) {
+        if (maximumSize < 0) {
+            throw new IllegalArgumentException("The maximum size must not be negative, but was: " + maximumSize);
+        }
+        if (maximumSize == 0) {
+            return new SharedSignalSerializations(null);
+        }
+        return new SharedSignalSerializations(Caffeine.newBuilder()
+                .weakKeys()
+                .maximumSize(maximumSize)
+                .build());
+    }
+
+    /**
+     * Returns the serialization of a signal for a variant, computing it if no session serialized the signal for the
+     * variant before.
+     *
+     * @param signal the published signal.
+     * @param variant key of everything the serialization depends on besides the signal. Must implement
+     * {@code equals} and {@code hashCode}.
+     * @param serialization computes the serialization.
+     * @param <T> the type of the serialization.
+     * @return the shared serialization.
+     * @throws NullPointerException if any argument is {@code null}.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(final Signal<?> signal, final Object variant, final Supplier<T> serialization) {
+        checkNotNull(signal, "signal");
+        checkNotNull(variant, "variant");
+        checkNotNull(serialization, "serialization");
+        if (null == serializations) {
+            return serialization.get();
+        }
+        final Map<Object, Object> variants = serializations.get(signal, s -> new ConcurrentHashMap<>());
+        return (T) variants.computeIfAbsent(variant, v -> serialization.get());
+    }
+
+}
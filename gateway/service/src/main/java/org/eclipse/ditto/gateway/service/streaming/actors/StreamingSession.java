@@ -28,8 +28,7 @@ import org.eclipse.ditto.placeholders.TimePlaceholder;
 import org.eclipse.ditto.protocol.adapter.DittoProtocolAdapter;
 import org.eclipse.ditto.protocol.placeholders.ResourcePlaceholder;
 import org.eclipse.ditto.protocol.placeholders.TopicPathPlaceholder;
-import org.eclipse.ditto.rql.query.criteria.Criteria;
-import org.eclipse.ditto.rql.query.things.ThingPredicateVisitor;
+import org.eclipse.ditto.rql.query.things.CompiledThingPredicate;
 import org.eclipse.ditto.things.model.Thing;
 import org.eclipse.ditto.things.model.ThingFieldSelector;
 import org.eclipse.ditto.things.model.signals.events.ThingEventToThingConverter;
@@ -54,31 +53,30 @@ public final class StreamingSession {
     private final ActorRef streamingSessionActor;
     private final ThreadSafeDittoLoggingAdapter logger;
 
-    private StreamingSession(final List<String> namespaces, @Nullable final Criteria filterCriteria,
+    private StreamingSession(final List<String> namespaces, @Nullable final CompiledThingPredicate filterPredicate,
             @Nullable final ThingFieldSelector extraFields, final ActorRef streamingSessionActor,
             final ThreadSafeDittoLoggingAdapter logger) {
         this.namespaces = namespaces;
-        thingPredicate = filterCriteria == null
+        thingPredicate = filterPredicate == null
                 ? (thing, signal) -> true
-                : (thing, signal) -> ThingPredicateVisitor.apply(filterCriteria,
+                : (thing, signal) -> filterPredicate.test(thing, List.of(
                         PlaceholderFactory.newPlaceholderResolver(TOPIC_PATH_PLACEHOLDER,
                                 PROTOCOL_ADAPTER.toTopicPath(signal)),
                         PlaceholderFactory.newPlaceholderResolver(ENTITY_ID_PLACEHOLDER,
                                         ((WithEntityId) signal).getEntityId()),
                         PlaceholderFactory.newPlaceholderResolver(RESOURCE_PLACEHOLDER, signal),
                         PlaceholderFactory.newPlaceholderResolver(TIME_PLACEHOLDER, new Object())
-                )
-                .test(thing);
+                ));
         this.extraFields = extraFields;
         this.streamingSessionActor = streamingSessionActor;
         this.logger = logger;
     }
 
-    static StreamingSession of(final List<String> namespaces, @Nullable final Criteria filterCriteria,
+    static StreamingSession of(final List<String> namespaces, @Nullable final CompiledThingPredicate filterPredicate,
             @Nullable final ThingFieldSelector extraFields, final ActorRef streamingSessionActor,
             final ThreadSafeDittoLoggingAdapter logger) {
 
-        return new StreamingSession(namespaces, filterCriteria, extraFields, streamingSessionActor, logger);
+        return new StreamingSession(namespaces, filterPredicate, extraFields, streamingSessionActor, logger);
     }
 
     /**
@@ -87,6 +87,8 @@ import org.eclipse.ditto.gateway.service.streaming.signals.RefreshSession;
 import org.eclipse.ditto.gateway.service.streaming.signals.StartStreaming;
 import org.eclipse.ditto.gateway.service.streaming.signals.StopStreaming;
 import org.eclipse.ditto.gateway.service.util.config.streaming.StreamingConfig;
+import org.eclipse.ditto.internal.utils.cache.Cache;
+import org.eclipse.ditto.internal.utils.cache.CaffeineCache;
 import org.eclipse.ditto.internal.utils.pekko.logging.DittoLoggerFactory;
 import org.eclipse.ditto.internal.utils.pekko.logging.ThreadSafeDittoLoggingAdapter;
 import org.eclipse.ditto.internal.utils.pubsub.StreamingType;
@@ -103,9 +105,12 @@ import org.eclipse.ditto.protocol.placeholders.TopicPathPlaceholder;
 import org.eclipse.ditto.rql.parser.RqlPredicateParser;
 import org.eclipse.ditto.rql.query.criteria.Criteria;
 import org.eclipse.ditto.rql.query.filter.QueryFilterCriteriaFactory;
+import org.eclipse.ditto.rql.query.things.CompiledThingPredicate;
 import org.eclipse.ditto.thingsearch.model.signals.commands.ThingSearchCommand;
 import org.eclipse.ditto.thingsearch.model.signals.events.SubscriptionEvent;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
+
 import scala.PartialFunction;
 
 /**
@@ -125,6 +130,12 @@ final class StreamingSessionActor extends AbstractActorWithTimers {
      */
     private static final Duration MAX_SESSION_TIMEOUT = Duration.ofDays(100L);
 
+    /**
+     * Compiled RQL filters shared by all sessions of this gateway instance, as many sessions use the same filter.
+     */
+    private static final Cache<String, CompiledThingPredicate> FILTER_PREDICATES =
+            CaffeineCache.of(Caffeine.newBuilder().maximumSize(1024), "ditto_gateway_streaming_filter_cache");
+
     private final JsonSchemaVersion jsonSchemaVersion;
     private final String connectionCorrelationId;
     private final String type;
@@ -380,13 +391,14 @@ final class StreamingSessionActor extends AbstractActorWithTimers {
                 .match(StartStreaming.class, startStreaming -> {
                     authorizationContext = startStreaming.getAuthorizationContext();
                     namespaces = startStreaming.getNamespaces();
-                    Criteria criteria;
+                    CompiledThingPredicate filterPredicate;
                     try {
-                        criteria = startStreaming.getFilter()
-                                .map(f -> parseCriteria(f, DittoHeaders.newBuilder()
-                                        .correlationId(startStreaming.getCorrelationId()
-                                                .orElse(startStreaming.getConnectionCorrelationId()))
-                                        .build()))
+                        filterPredicate = startStreaming.getFilter()
+                                .map(f -> FILTER_PREDICATES.asMap().computeIfAbsent(f, filter ->
+                                        CompiledThingPredicate.of(parseCriteria(filter, DittoHeaders.newBuilder()
+                                                .correlationId(startStreaming.getCorrelationId()
+                                                        .orElse(startStreaming.getConnectionCorrelationId()))
+                                                .build()))))
                                 .orElse(null);
                     } catch (final DittoRuntimeException e) {
                         logger.info("Got 'DittoRuntimeException' <{}> session during 'StartStreaming' processing:" +
@@ -394,7 +406,7 @@ final class StreamingSessionActor extends AbstractActorWithTimers {
                         eventAndResponsePublisher.offer(SessionedJsonifiable.error(e));
                         return;
                     }
-                    final var session = StreamingSession.of(startStreaming.getNamespaces(), criteria,
+                    final var session = StreamingSession.of(startStreaming.getNamespaces(), filterPredicate,
                             startStreaming.getExtraFields().orElse(null), getSelf(), logger);
                     streamingSessions.put(startStreaming.getStreamingType(), session);
 
@@ -582,13 +594,19 @@ final class StreamingSessionActor extends AbstractActorWithTimers {
         final var entityIdOptional = WithEntityId.getEntityId(signal);
         if (entityIdOptional.isPresent()) {
             final var entityIdWithType = entityIdOptional.get();
-            return AcknowledgementForwarderActor.startAcknowledgementForwarder(getContext(),
-                    getSelf(),
-                    getContext().actorSelection(commandForwarder.path()),
-                    entityIdWithType,
-                    signal,
-                    streamingConfig.getAcknowledgementConfig(),
-                    declaredAcks::contains);
+            final Signal<?> signalWithAckForwarder =
+                    AcknowledgementForwarderActor.startAcknowledgementForwarder(getContext(),
+                            getSelf(),
+                            getContext().actorSelection(commandForwarder.path()),
+                            entityIdWithType,
+                            signal,
+                            streamingConfig.getAcknowledgementConfig(),
+                            declaredAcks::contains);
+            // keep the instance published to all sessions of this node if the headers are unchanged, so that its
+            // serialization is shared with the other sessions
+            return signalWithAckForwarder.getDittoHeaders().equals(signal.getDittoHeaders())
+                    ? signal
+                    : signalWithAckForwarder;
         } else {
             return signal;
         }
@@ -15,6 +15,7 @@ package org.eclipse.ditto.gateway.service.util.config.security;
 import javax.annotation.concurrent.Immutable;
 
 import org.eclipse.ditto.internal.utils.cache.config.CacheConfig;
+import org.eclipse.ditto.internal.utils.config.KnownConfigValue;
 
 /**
  * Provides configuration settings for the caches of the Gateway service.
@@ -29,4 +30,52 @@ public interface CachesConfig {
      */
     CacheConfig getPublicKeysConfig();
 
+    /**
+     * Indicates whether the results of successful JWT authentications are cached.
+     *
+     * @return {@code true} if JWT authentication results are cached, {@code false} else.
+     * @since 3.8.0
+     */
+    boolean isJwtAuthenticationResultsCacheEnabled();
+
+    /**
+     * Returns the configuration settings of the cache of JWT authentication results.
+     * Its {@code expire-after-write} caps how long the result of a JWT is cached if the JWT expires later.
+     *
+     * @return the config.
+     * @since 3.8.0
+     */
+    CacheConfig getJwtAuthenticationResultsConfig();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * {@code CachesConfig}.
+     */
+    enum CachesConfigValue implements KnownConfigValue {
+
+        /**
+         * Determines whether the results of successful JWT authentications are cached.
+         */
+        JWT_AUTHENTICATION_RESULTS_ENABLED("jwt-authentication-results.enabled", true);
+
+        private final String path;
+        private final Object defaultValue;
+
+        CachesConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+    }
+
 }
@@ -18,6 +18,7 @@ import javax.annotation.concurrent.Immutable;
 
 import org.eclipse.ditto.internal.utils.cache.config.CacheConfig;
 import org.eclipse.ditto.internal.utils.cache.config.DefaultCacheConfig;
+import org.eclipse.ditto.internal.utils.config.ConfigWithFallback;
 import org.eclipse.ditto.internal.utils.config.DefaultScopedConfig;
 
 import com.typesafe.config.Config;
@@ -30,10 +31,19 @@ public final class DefaultCachesConfig implements CachesConfig {
 
     private static final String CONFIG_PATH = "cache";
 
+    private static final String JWT_AUTHENTICATION_RESULTS_PATH = "jwt-authentication-results";
+
     private final CacheConfig publicKeysConfig;
+    private final boolean jwtAuthenticationResultsCacheEnabled;
+    private final CacheConfig jwtAuthenticationResultsConfig;
+
+    private DefaultCachesConfig(final CacheConfig thePublicKeysConfig,
+            final boolean jwtAuthenticationResultsCacheEnabled,
+            final CacheConfig jwtAuthenticationResultsConfig) {
 
-    private DefaultCachesConfig(final CacheConfig thePublicKeysConfig) {
         publicKeysConfig = thePublicKeysConfig;
+        this.jwtAuthenticationResultsCacheEnabled = jwtAuthenticationResultsCacheEnabled;
+        this.jwtAuthenticationResultsConfig = jwtAuthenticationResultsConfig;
     }
 
     /**
@@ -46,7 +56,12 @@ public final class DefaultCachesConfig implements CachesConfig {
     public static DefaultCachesConfig of(final Config config) {
         final var cacheScopedConfig = DefaultScopedConfig.newInstance(config, CONFIG_PATH);
 
-        return new DefaultCachesConfig(DefaultCacheConfig.of(cacheScopedConfig, "publickeys"));
+        final var configWithFallback =
+                ConfigWithFallback.newInstance(config, CONFIG_PATH, CachesConfigValue.values());
+
+        return new DefaultCachesConfig(DefaultCacheConfig.of(cacheScopedConfig, "publickeys"),
+                configWithFallback.getBoolean(CachesConfigValue.JWT_AUTHENTICATION_RESULTS_ENABLED.getConfigPath()),
+                DefaultCacheConfig.of(cacheScopedConfig, JWT_AUTHENTICATION_RESULTS_PATH));
     }
 
     @Override
@@ -54,6 +69,16 @@ public final class DefaultCachesConfig implements CachesConfig {
         return publicKeysConfig;
     }
 
+    @Override
+    public boolean isJwtAuthenticationResultsCacheEnabled() {
+        return jwtAuthenticationResultsCacheEnabled;
+    }
+
+    @Override
+    public CacheConfig getJwtAuthenticationResultsConfig() {
+        return jwtAuthenticationResultsConfig;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -63,18 +88,22 @@ public final class DefaultCachesConfig implements CachesConfig {
             return false;
         }
         final DefaultCachesConfig that = (DefaultCachesConfig) o;
-        return Objects.equals(publicKeysConfig, that.publicKeysConfig);
+        return jwtAuthenticationResultsCacheEnabled == that.jwtAuthenticationResultsCacheEnabled &&
+                Objects.equals(publicKeysConfig, that.publicKeysConfig) &&
+                Objects.equals(jwtAuthenticationResultsConfig, that.jwtAuthenticationResultsConfig);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(publicKeysConfig);
+        return Objects.hash(publicKeysConfig, jwtAuthenticationResultsCacheEnabled, jwtAuthenticationResultsConfig);
     }
 
     @Override
     public String toString() {
         return getClass().getSimpleName() + " [" +
                 "publicKeysConfig=" + publicKeysConfig +
+                ", jwtAuthenticationResultsCacheEnabled=" + jwtAuthenticationResultsCacheEnabled +
+                ", jwtAuthenticationResultsConfig=" + jwtAuthenticationResultsConfig +
                 "]";
     }
 
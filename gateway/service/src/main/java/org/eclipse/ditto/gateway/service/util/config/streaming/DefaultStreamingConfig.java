@@ -35,6 +35,7 @@ public final class DefaultStreamingConfig implements StreamingConfig {
     private final AcknowledgementConfig acknowledgementConfig;
     private final Duration searchIdleTimeout;
     private final Duration subscriptionRefreshDelay;
+    private final int sharedSerializationCacheSize;
     private final WebsocketConfig websocketConfig;
     private final SseConfig sseConfig;
 
@@ -47,6 +48,8 @@ public final class DefaultStreamingConfig implements StreamingConfig {
         searchIdleTimeout = scopedConfig.getNonNegativeDurationOrThrow(StreamingConfigValue.SEARCH_IDLE_TIMEOUT);
         subscriptionRefreshDelay =
                 scopedConfig.getNonNegativeDurationOrThrow(StreamingConfigValue.SUBSCRIPTION_REFRESH_DELAY);
+        sharedSerializationCacheSize =
+                scopedConfig.getNonNegativeIntOrThrow(StreamingConfigValue.SHARED_SERIALIZATION_CACHE_SIZE);
         websocketConfig = DefaultWebsocketConfig.of(scopedConfig);
         sseConfig = DefaultSseConfig.of(scopedConfig);
     }
@@ -98,6 +101,11 @@ public final class DefaultStreamingConfig implements StreamingConfig {
         return subscriptionRefreshDelay;
     }
 
+    @Override
+    public int getSharedSerializationCacheSize() {
+        return sharedSerializationCacheSize;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -108,6 +116,7 @@ public final class DefaultStreamingConfig implements StreamingConfig {
         }
         final DefaultStreamingConfig that = (DefaultStreamingConfig) o;
         return parallelism == that.parallelism &&
+                sharedSerializationCacheSize == that.sharedSerializationCacheSize &&
                 Objects.equals(searchIdleTimeout, that.searchIdleTimeout) &&
                 Objects.equals(subscriptionRefreshDelay, that.subscriptionRefreshDelay) &&
                 Objects.equals(sessionCounterScrapeInterval, that.sessionCounterScrapeInterval) &&
@@ -119,7 +128,7 @@ public final class DefaultStreamingConfig implements StreamingConfig {
     @Override
     public int hashCode() {
         return Objects.hash(parallelism, sessionCounterScrapeInterval, acknowledgementConfig, websocketConfig,
-                sseConfig, searchIdleTimeout, subscriptionRefreshDelay);
+                sseConfig, searchIdleTimeout, subscriptionRefreshDelay, sharedSerializationCacheSize);
     }
 
     @Override
@@ -129,6 +138,7 @@ public final class DefaultStreamingConfig implements StreamingConfig {
                 ", parallelism=" + parallelism +
                 ", searchIdleTimeout=" + searchIdleTimeout +
                 ", subscriptionRefreshDelay=" + subscriptionRefreshDelay +
+                ", sharedSerializationCacheSize=" + sharedSerializationCacheSize +
                 ", acknowledgementConfig=" + acknowledgementConfig +
                 ", websocketConfig=" + websocketConfig +
                 ", sseConfig=" + sseConfig +
@@ -82,6 +82,15 @@ public interface StreamingConfig {
      */
     Duration getSubscriptionRefreshDelay();
 
+    /**
+     * Returns the maximum number of published signals of which the serializations are shared by the streaming
+     * sessions of a gateway node.
+     *
+     * @return the maximum number of signals, {@code 0} if serializations are not shared.
+     * @since 3.8.0
+     */
+    int getSharedSerializationCacheSize();
+
     /**
      * Render this object into a Config object from which a copy of this object can be constructed.
      *
@@ -94,6 +103,8 @@ public interface StreamingConfig {
         map.put(StreamingConfigValue.PARALLELISM.getConfigPath(), getParallelism());
         map.put(StreamingConfigValue.SEARCH_IDLE_TIMEOUT.getConfigPath(), getSearchIdleTimeout());
         map.put(StreamingConfigValue.SUBSCRIPTION_REFRESH_DELAY.getConfigPath(), getSubscriptionRefreshDelay());
+        map.put(StreamingConfigValue.SHARED_SERIALIZATION_CACHE_SIZE.getConfigPath(),
+                getSharedSerializationCacheSize());
         return ConfigFactory.parseMap(map)
                 .withFallback(getWebsocketConfig().render())
                 .atKey(CONFIG_PATH);
@@ -123,7 +134,13 @@ public interface StreamingConfig {
         /**
          * Minimum delay before refreshing the Ditto pubsub subscriptions of a stream.
          */
-        SUBSCRIPTION_REFRESH_DELAY("subscription-refresh-delay", Duration.ofMinutes(5));
+        SUBSCRIPTION_REFRESH_DELAY("subscription-refresh-delay", Duration.ofMinutes(5)),
+
+        /**
+         * Maximum number of published signals of which the serializations are shared by the streaming sessions of a
+         * gateway node.
+         */
+        SHARED_SERIALIZATION_CACHE_SIZE("shared-serialization-cache-size", 1000);
 
         private final String path;
         private final Object defaultValue;
@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.gateway.service.security.authentication.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.security.PublicKey;
+import java.time.Instant;
+import java.util.Date;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.eclipse.ditto.base.model.auth.AuthorizationContext;
+import org.eclipse.ditto.base.model.auth.AuthorizationSubject;
+import org.eclipse.ditto.base.model.auth.DittoAuthorizationContextType;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.gateway.api.GatewayAuthenticationFailedException;
+import org.eclipse.ditto.gateway.service.security.authentication.AuthenticationResult;
+import org.eclipse.ditto.gateway.service.security.authentication.DefaultAuthenticationResult;
+import org.eclipse.ditto.internal.utils.cache.config.CacheConfig;
+import org.eclipse.ditto.internal.utils.cache.config.DefaultCacheConfig;
+import org.eclipse.ditto.jwt.model.ImmutableJsonWebToken;
+import org.eclipse.ditto.jwt.model.JsonWebToken;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+
+/**
+ * Unit test for {@link JwtAuthenticationResultCache}.
+ */
+public final class JwtAuthenticationResultCacheTest {
+
+    private static final CacheConfig CACHE_CONFIG = DefaultCacheConfig.of(
+            ConfigFactory.parseString("cache { maximum-size = 10, expire-after-write = 1h }"), "cache");
+
+    private static final AuthorizationContext AUTHORIZATION_CONTEXT =
+            AuthorizationContext.newInstance(DittoAuthorizationContextType.JWT,
+                    AuthorizationSubject.newInstance("integration:ditto"));
+
+    private final AtomicInteger authenticationCount = new AtomicInteger();
+
+    private PublicKeyProvider publicKeyProvider;
+    private JwtAuthenticationResultCache underTest;
+
+    @Before
+    public void setUp() {
+        publicKeyProvider = mock(PublicKeyProvider.class);
+        providePublicKey(JwtTestConstants.PUBLIC_KEY);
+        underTest = JwtAuthenticationResultCache.of(CACHE_CONFIG, publicKeyProvider, null);
+    }
+
+    @Test
+    public void restoresSuccessfulAuthenticationResultWithHeadersOfRequest() {
+        final JsonWebToken jwt = newJwt(Instant.now().plusSeconds(3600));
+
+        authenticate(jwt, DittoHeaders.newBuilder().correlationId("first").build());
+        final AuthenticationResult result =
+                authenticate(jwt, DittoHeaders.newBuilder().correlationId("other").build());
+
+        assertThat(authenticationCount).hasValue(1);
+        assertThat(result.isSuccess()).isTrue();
+        assertThat(result.getAuthorizationContext()).isEqualTo(AUTHORIZATION_CONTEXT);
+        assertThat(result.getDittoHeaders().getCorrelationId()).contains("other");
+        assertThat(result).isInstanceOfSatisfying(JwtAuthenticationResult.class,
+                jwtResult -> assertThat(jwtResult.getJwt()).contains(jwt));
+    }
+
+    @Test
+    public void doesNotCacheOtherImplementationsOfAuthenticationResults() {
+        final JsonWebToken jwt = newJwt(Instant.now().plusSeconds(3600));
+        final Supplier<CompletionStage<AuthenticationResult>> customAuthentication = () -> {
+            authenticationCount.incrementAndGet();
+            return CompletableFuture.completedStage(
+                    DefaultAuthenticationResult.successful(DittoHeaders.empty(), AUTHORIZATION_CONTEXT));
+        };
+
+        underTest.getAuthenticationResult(jwt, DittoHeaders.empty(), customAuthentication).toCompletableFuture()
+                .join();
+        underTest.getAuthenticationResult(jwt, DittoHeaders.empty(), customAuthentication).toCompletableFuture()
+                .join();
+
+        assertThat(authenticationCount).hasValue(2);
+    }
+
+    @Test
+    public void doesNotCacheFailedAuthenticationResults() {
+        final JsonWebToken jwt = newJwt(Instant.now().plusSeconds(3600));
+        final Supplier<CompletionStage<AuthenticationResult>> failingAuthentication = () -> {
+            authenticationCount.incrementAndGet();
+            return CompletableFuture.completedStage(DefaultAuthenticationResult.failed(DittoHeaders.empty(),
+                    GatewayAuthenticationFailedException.newBuilder("invalid").build()));
+        };
+
+        underTest.getAuthenticationResult(jwt, DittoHeaders.empty(), failingAuthentication).toCompletableFuture()
+                .join();
+        underTest.getAuthenticationResult(jwt, DittoHeaders.empty(), failingAuthentication).toCompletableFuture()
+                .join();
+
+        assertThat(authenticationCount).hasValue(2);
+    }
+
+    @Test
+    public void doesNotRestoreAuthenticationResultsOfExpiredTokens() {
+        final JsonWebToken jwt = newJwt(Instant.now().minusSeconds(1));
+
+        authenticate(jwt, DittoHeaders.empty());
+        authenticate(jwt, DittoHeaders.empty());
+
+        assertThat(authenticationCount).hasValue(2);
+    }
+
+    @Test
+    public void authenticatesAgainAfterPublicKeyRotation() {
+        final JsonWebToken jwt = newJwt(Instant.now().plusSeconds(3600));
+
+        authenticate(jwt, DittoHeaders.empty());
+        providePublicKey(JwtTestConstants.PUBLIC_KEY_2);
+        authenticate(jwt, DittoHeaders.empty());
+        authenticate(jwt, DittoHeaders.empty());
+
+        assertThat(authenticationCount).hasValue(2);
+    }
+
+    @Test
+    public void disabledCacheAlwaysAuthenticates() {
+        underTest = JwtAuthenticationResultCache.disabled();
+        final JsonWebToken jwt = newJwt(Instant.now().plusSeconds(3600));
+
+        authenticate(jwt, DittoHeaders.empty());
+        authenticate(jwt, DittoHeaders.empty());
+
+        assertThat(authenticationCount).hasValue(2);
+    }
+
+    private AuthenticationResult authenticate(final JsonWebToken jwt, final DittoHeaders dittoHeaders) {
+        return underTest.getAuthenticationResult(jwt, dittoHeaders, () -> {
+            authenticationCount.incrementAndGet();
+            return CompletableFuture.completedStage(
+                    JwtAuthenticationResult.successful(dittoHeaders, AUTHORIZATION_CONTEXT, jwt));
+        }).toCompletableFuture().join();
+    }
+
+    private void providePublicKey(final PublicKey publicKey) {
+        when(publicKeyProvider.getPublicKeyWithParser(JwtTestConstants.ISSUER, JwtTestConstants.KEY_ID))
+                .thenReturn(CompletableFuture.completedFuture(
+                        Optional.of(new PublicKeyWithParser(publicKey, mock(JwtParser.class)))));
+    }
+
+    private static JsonWebToken newJwt(final Instant expirationTime) {
+        return ImmutableJsonWebToken.fromToken(Jwts.builder()
+                .setHeaderParam("kid", JwtTestConstants.KEY_ID)
+                .setIssuer(JwtTestConstants.ISSUER)
+                .setExpiration(Date.from(expirationTime))
+                .signWith(JwtTestConstants.PRIVATE_KEY, SignatureAlgorithm.RS256)
+                .compact());
+    }
+
+}
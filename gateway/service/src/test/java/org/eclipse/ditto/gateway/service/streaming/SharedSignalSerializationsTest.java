@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.gateway.service.streaming;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.base.model.signals.Signal;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.things.model.signals.events.ThingDeleted;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link SharedSignalSerializations}.
+ */
+public final class SharedSignalSerializationsTest {
+
+    private final AtomicInteger serializationCount = new AtomicInteger();
+
+    @Test
+    public void serializesSignalOncePerVariant() {
+        final SharedSignalSerializations underTest = SharedSignalSerializations.of(10);
+        final Signal<?> signal = newSignal();
+
+        assertThat(underTest.get(signal, "variant", countingSerialization("a"))).isEqualTo("a");
+        assertThat(underTest.get(signal, "variant", countingSerialization("b"))).isEqualTo("a");
+        assertThat(underTest.get(signal, "other-variant", countingSerialization("c"))).isEqualTo("c");
+        assertThat(serializationCount).hasValue(2);
+    }
+
+    @Test
+    public void serializesEqualSignalsSeparately() {
+        final SharedSignalSerializations underTest = SharedSignalSerializations.of(10);
+
+        assertThat(underTest.get(newSignal(), "variant", countingSerialization("a"))).isEqualTo("a");
+        assertThat(underTest.get(newSignal(), "variant", countingSerialization("b"))).isEqualTo("b");
+        assertThat(serializationCount).hasValue(2);
+    }
+
+    @Test
+    public void doesNotShareSerializationsIfDisabled() {
+        final SharedSignalSerializations underTest = SharedSignalSerializations.of(0);
+        final Signal<?> signal = newSignal();
+
+        assertThat(underTest.get(signal, "variant", countingSerialization("a"))).isEqualTo("a");
+        assertThat(underTest.get(signal, "variant", countingSerialization("b"))).isEqualTo("b");
+        assertThat(serializationCount).hasValue(2);
+    }
+
+    @Test
+    public void rejectsNegativeMaximumSize() {
+        assertThatIllegalArgumentException().isThrownBy(() -> SharedSignalSerializations.of(-1));
+    }
+
+    private Supplier<String> countingSerialization(final String serialization) {
+        return () -> {
+            serializationCount.incrementAndGet();
+            return serialization;
+        };
+    }
+
+    private static Signal<?> newSignal() {
+        return ThingDeleted.of(ThingId.of("org.eclipse.ditto:thing"), 1L, null, DittoHeaders.empty(), null);
+    }
+
+}
@@ -62,6 +62,9 @@ public final class DefaultStreamingConfigTest {
         softly.assertThat(underTest.getSubscriptionRefreshDelay())
                 .as(StreamingConfig.StreamingConfigValue.SUBSCRIPTION_REFRESH_DELAY.getConfigPath())
                 .isEqualTo(StreamingConfig.StreamingConfigValue.SUBSCRIPTION_REFRESH_DELAY.getDefaultValue());
+        softly.assertThat(underTest.getSharedSerializationCacheSize())
+                .as(StreamingConfig.StreamingConfigValue.SHARED_SERIALIZATION_CACHE_SIZE.getConfigPath())
+                .isEqualTo(StreamingConfig.StreamingConfigValue.SHARED_SERIALIZATION_CACHE_SIZE.getDefaultValue());
     }
 
     @Test
@@ -80,6 +83,9 @@ public final class DefaultStreamingConfigTest {
         softly.assertThat(underTest.getSubscriptionRefreshDelay())
                 .as(StreamingConfig.StreamingConfigValue.SUBSCRIPTION_REFRESH_DELAY.getConfigPath())
                 .isEqualTo(Duration.ofHours(8));
+        softly.assertThat(underTest.getSharedSerializationCacheSize())
+                .as(StreamingConfig.StreamingConfigValue.SHARED_SERIALIZATION_CACHE_SIZE.getConfigPath())
+                .isEqualTo(42);
         softly.assertThat(underTest.getWebsocketConfig().getThrottlingConfig().getInterval())
                 .as("websocket.throttling.interval")
                 .isEqualTo(Duration.ofSeconds(8L));
@@ -156,8 +156,9 @@ public final class MetricsStatsCounter implements StatsCounter {
      * @param maxSizeSupplier supplier for the maximum size of the cache
      * @param estimatedSizeSupplier supplier for the estimated size of the cache.
      * @return the instance.
+     * @since 3.8.0 public, e.g. for caches which are not created by the {@link CacheFactory}
      */
-    static MetricsStatsCounter of(final String cacheName, final Supplier<Long> maxSizeSupplier,
+    public static MetricsStatsCounter of(final String cacheName, final Supplier<Long> maxSizeSupplier,
             final Supplier<Long> estimatedSizeSupplier) {
         return new MetricsStatsCounter(cacheName, maxSizeSupplier, estimatedSizeSupplier);
     }
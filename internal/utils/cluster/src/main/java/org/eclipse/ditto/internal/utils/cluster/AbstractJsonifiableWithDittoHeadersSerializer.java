@@ -34,7 +34,6 @@ import org.apache.pekko.serialization.SerializerWithStringManifest;
 import org.eclipse.ditto.base.model.exceptions.DittoJsonException;
 import org.eclipse.ditto.base.model.exceptions.DittoRuntimeException;
 import org.eclipse.ditto.base.model.headers.DittoHeaders;
-import org.eclipse.ditto.base.model.headers.DittoHeadersBuilder;
 import org.eclipse.ditto.base.model.headers.WithDittoHeaders;
 import org.eclipse.ditto.base.model.json.FieldType;
 import org.eclipse.ditto.base.model.json.JsonSchemaVersion;
@@ -369,9 +368,9 @@ public abstract class AbstractJsonifiableWithDittoHeadersSerializer extends Seri
     protected abstract JsonValue deserializeFromByteBuffer(ByteBuffer byteBuffer);
 
     private static DittoHeaders deserializeDittoHeaders(final JsonObject jsonObject) {
+        // the headers were validated by the sender, thus their typed values are only parsed on demand
         return jsonObject.getValue(JSON_DITTO_HEADERS)
-                .map(DittoHeaders::newBuilder)
-                .map(DittoHeadersBuilder::build)
+                .map(DittoHeaders::ofValidatedJson)
                 .orElseGet(DittoHeaders::empty);
     }
 
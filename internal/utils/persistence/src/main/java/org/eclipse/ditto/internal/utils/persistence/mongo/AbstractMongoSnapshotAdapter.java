@@ -20,6 +20,7 @@ import java.util.Optional;
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.ThreadSafe;
 
+import org.bson.BsonDocument;
 import org.bson.BsonValue;
 import org.eclipse.ditto.base.model.exceptions.DittoJsonException;
 import org.eclipse.ditto.base.model.exceptions.DittoRuntimeException;
@@ -44,9 +45,26 @@ public abstract class AbstractMongoSnapshotAdapter<T extends Jsonifiable.WithFie
         implements SnapshotAdapter<T> {
 
     private final Logger logger;
+    @Nullable private final CompactSnapshotFormat compactSnapshotFormat;
 
     protected AbstractMongoSnapshotAdapter(final Logger logger) {
+        this(logger, null);
+    }
+
+    /**
+     * Constructs a snapshot adapter which stores snapshots in the given compact format. Snapshots are read in both
+     * formats regardless of the format they are stored in.
+     *
+     * @param logger the logger.
+     * @param compactSnapshotFormat the compact format to store snapshots in or {@code null} to store them as plain
+     * BSON documents.
+     * @since 3.8.0
+     */
+    protected AbstractMongoSnapshotAdapter(final Logger logger,
+            @Nullable final CompactSnapshotFormat compactSnapshotFormat) {
+
         this.logger = logger;
+        this.compactSnapshotFormat = compactSnapshotFormat;
     }
 
     /**
@@ -77,8 +95,11 @@ public abstract class AbstractMongoSnapshotAdapter<T extends Jsonifiable.WithFie
 
         onSnapshotStoreConversion(snapshotEntity, json);
 
+        if (null != compactSnapshotFormat) {
+            return compactSnapshotFormat.encode(json);
+        }
         final DittoBsonJson dittoBsonJson = DittoBsonJson.getInstance();
-        return dittoBsonJson.parse(json);
+        return dittoBsonJson.encode(json);
     }
 
     /**
@@ -153,6 +174,9 @@ public abstract class AbstractMongoSnapshotAdapter<T extends Jsonifiable.WithFie
      */
     private static JsonObject convertToJson(final BsonValue bsonValue) {
         checkNotNull(bsonValue, "BsonValue to be converted");
+        if (bsonValue instanceof BsonDocument bsonDocument && CompactSnapshotFormat.isCompact(bsonDocument)) {
+            return DittoJsonException.wrapJsonRuntimeException(() -> CompactSnapshotFormat.decode(bsonDocument));
+        }
         final DittoBsonJson dittoBsonJson = DittoBsonJson.getInstance();
         final JsonObject jsonObject = dittoBsonJson.serialize(bsonValue).asObject();
         return DittoJsonException.wrapJsonRuntimeException(() -> jsonObject);
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistence.mongo;
+
+import static scala.compat.java8.FutureConverters.toJava;
+import static scala.compat.java8.FutureConverters.toScala;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import org.apache.pekko.persistence.SelectedSnapshot;
+import org.apache.pekko.persistence.SnapshotSelectionCriteria;
+
+import com.typesafe.config.Config;
+
+import pekko.contrib.persistence.mongodb.MongoSnapshots;
+import scala.Option;
+import scala.concurrent.Future;
+
+/**
+ * MongoDB snapshot plugin which loads the newest snapshots of recovering persistence actors in batches via the
+ * {@link MongoRecoveryCoordinator}. Only the newest snapshot requested by the default recovery is loaded in batches;
+ * falls back to the lookup of the {@link MongoSnapshots} for other selection criteria, if batching is disabled, no
+ * snapshot was found or the batched lookup failed.
+ *
+ * @since 3.8.0
+ */
+public final class BatchedRecoveryMongoSnapshots extends MongoSnapshots {
+
+    private static final String SNAPS_COLLECTION_NAME_KEY = "overrides.snaps-collection";
+
+    private final MongoRecoveryCoordinator recoveryCoordinator;
+    private final boolean batchingEnabled;
+
+    /**
+     * Constructs the snapshot plugin. Called by Pekko persistence.
+     *
+     * @param config the configuration of the snapshot plugin.
+     */
+    public BatchedRecoveryMongoSnapshots(final Config config) {
+        super(config);
+        recoveryCoordinator = MongoRecoveryCoordinator.get(context().system());
+        batchingEnabled = config.hasPath(SNAPS_COLLECTION_NAME_KEY) &&
+                recoveryCoordinator.isEnabledForSnapshotStore(config.getString(SNAPS_COLLECTION_NAME_KEY));
+    }
+
+    @Override
+    public Future<Option<SelectedSnapshot>> loadAsync(final String persistenceId,
+            final SnapshotSelectionCriteria criteria) {
+
+        if (!batchingEnabled || !SnapshotSelectionCriteria.latest().equals(criteria)) {
+            return super.loadAsync(persistenceId, criteria);
+        }
+        final CompletionStage<Option<SelectedSnapshot>> newestSnapshot =
+                recoveryCoordinator.loadNewestSnapshot(persistenceId)
+                        .handle((snapshot, error) -> null == error ? snapshot : Optional.<SelectedSnapshot>empty())
+                        .thenCompose(snapshot -> snapshot
+                                .map(s -> CompletableFuture.completedFuture(Option.apply(s)))
+                                .orElseGet(() -> toJava(super.loadAsync(persistenceId, criteria))
+                                        .toCompletableFuture()));
+        return toScala(newestSnapshot);
+    }
+
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistence.mongo;
+
+import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collection;
+import java.util.Set;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.bson.BsonBinary;
+import org.bson.BsonDocument;
+import org.eclipse.ditto.internal.utils.json.CborFactoryLoader;
+import org.eclipse.ditto.json.CborFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonParseException;
+
+/**
+ * Compact format of snapshots: the JSON of the snapshot entity is stored as deflate-compressed CBOR in the binary
+ * field {@value #CBOR_FIELD}, which avoids repeating all keys in BSON and shrinks the snapshot collection. Only the
+ * configured plain fields, e.g. the fields queried by the {@link org.eclipse.ditto.internal.utils.persistence.mongo.streaming.MongoReadJournal},
+ * are kept as plain BSON next to the binary field.
+ *
+ * @since 3.8.0
+ */
+@Immutable
+public final class CompactSnapshotFormat {
+
+    /**
+     * Name of the binary field containing the compressed CBOR of all fields which are not kept plain.
+     */
+    static final String CBOR_FIELD = "__cbor";
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final Set<String> plainFieldNames;
+
+    private CompactSnapshotFormat(final Set<String> plainFieldNames) {
+        this.plainFieldNames = plainFieldNames;
+    }
+
+    /**
+     * Returns an instance of {@code CompactSnapshotFormat}.
+     *
+     * @param plainFieldNames names of the top-level fields to keep as plain BSON.
+     * @return the instance.
+     * @throws NullPointerException if {@code plainFieldNames} is {@code null}.
+     */
+    public static CompactSnapshotFormat of(final Collection<String> plainFieldNames) {
+        return new CompactSnapshotFormat(Set.copyOf(checkNotNull(plainFieldNames, "plainFieldNames")));
+    }
+
+    /**
+     * Indicates whether a snapshot is stored in the compact format.
+     *
+     * @param snapshot the stored snapshot.
+     * @return {@code true} if {@code snapshot} contains the binary CBOR field.
+     */
+    public static boolean isCompact(final BsonDocument snapshot) {
+        return snapshot.isBinary(CBOR_FIELD);
+    }
+
+    /**
+     * Encodes the JSON of a snapshot entity in the compact format.
+     *
+     * @param snapshotJson the JSON of the snapshot entity.
+     * @return the BSON document to store.
+     * @throws UncheckedIOException if the JSON could not be written as CBOR.
+     */
+    public BsonDocument encode(final JsonObject snapshotJson) {
+        final JsonObjectBuilder plainFields = JsonObject.newBuilder();
+        final JsonObjectBuilder cborFields = JsonObject.newBuilder();
+        for (final JsonField field : snapshotJson) {
+            if (plainFieldNames.contains(field.getKeyName())) {
+                plainFields.set(field);
+            } else {
+                cborFields.set(field);
+            }
+        }
+
+        final BsonDocument result = DittoBsonJson.getInstance().parse(plainFields.build());
+        try {
+            final byte[] cbor = getCborFactory().toByteArray(cborFields.build());
+            result.append(CBOR_FIELD, new BsonBinary(deflate(cbor)));
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Failed to write snapshot as CBOR", e);
+        }
+        return result;
+    }
+
+    /**
+     * Decodes the JSON of a snapshot entity stored in the compact format.
+     *
+     * @param snapshot the stored snapshot.
+     * @return the JSON of the snapshot entity.
+     * @throws JsonParseException if the binary CBOR field is missing or corrupted.
+     */
+    public static JsonObject decode(final BsonDocument snapshot) {
+        if (!isCompact(snapshot)) {
+            throw JsonParseException.newBuilder()
+                    .message("The snapshot does not contain the binary field <" + CBOR_FIELD + ">.")
+                    .build();
+        }
+        final JsonObject plainFields = DittoBsonJson.getInstance().serialize(snapshot).remove(CBOR_FIELD);
+        final byte[] cbor = inflate(snapshot.getBinary(CBOR_FIELD).getData());
+        final JsonObject cborFields = getCborFactory().readFrom(cbor).asObject();
+        return plainFields.toBuilder()
+                .setAll(cborFields)
+                .build();
+    }
+
+    private static CborFactory getCborFactory() {
+        return CborFactoryLoader.getInstance().getCborFactoryOrThrow();
+    }
+
+    private static byte[] deflate(final byte[] bytes) {
+        final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(bytes);
+            deflater.finish();
+            final ByteArrayOutputStream outputStream = new ByteArrayOutputStream(bytes.length / 2 + 16);
+            final byte[] buffer = new byte[BUFFER_SIZE];
+            while (!deflater.finished()) {
+                final int length = deflater.deflate(buffer);
+                outputStream.write(buffer, 0, length);
+            }
+            return outputStream.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(final byte[] bytes) {
+        final Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(bytes);
+            final ByteArrayOutputStream outputStream = new ByteArrayOutputStream(bytes.length * 4);
+            final byte[] buffer = new byte[BUFFER_SIZE];
+            while (!inflater.finished()) {
+                final int length = inflater.inflate(buffer);
+                if (length == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new DataFormatException("Truncated compressed data");
+                }
+                outputStream.write(buffer, 0, length);
+            }
+            return outputStream.toByteArray();
+        } catch (final DataFormatException e) {
+            throw JsonParseException.newBuilder()
+                    .message("The binary field <" + CBOR_FIELD + "> of the snapshot is corrupted.")
+                    .cause(e)
+                    .build();
+        } finally {
+            inflater.end();
+        }
+    }
+
+}
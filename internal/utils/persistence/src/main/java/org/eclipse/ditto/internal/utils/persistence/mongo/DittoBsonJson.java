@@ -21,7 +21,10 @@ import javax.annotation.Nullable;
 
 import org.bson.BsonArray;
 import org.bson.BsonDocument;
+import org.bson.BsonDocumentReader;
 import org.bson.BsonValue;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.DecoderContext;
 import org.eclipse.ditto.json.JsonArray;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonValue;
@@ -35,19 +38,21 @@ public final class DittoBsonJson {
 
     private static final DittoBsonJson INSTANCE = DittoBsonJson.newInstance();
 
+    private static final DecoderContext DECODER_CONTEXT = DecoderContext.builder().build();
+
     private final JsonValueToDbEntityMapper jsonValueToDbEntityMapper;
-    private final Function<BsonDocument, JsonObject> bsonDocumentToJsonObjectMapper;
+    private final DittoBsonJsonCodec codec;
     private final Function<BsonArray, JsonArray> bsonArrayToJsonObjectMapper;
 
     /*
      * Inhibit instantiation of this utility class.
      */
     private DittoBsonJson(final JsonValueToDbEntityMapper jsonValueToDbEntityMapper,
-            final Function<BsonDocument, JsonObject> bsonDocumentToJsonObjectMapper,
+            final DittoBsonJsonCodec codec,
             final Function<BsonArray, JsonArray> bsonArrayToJsonObjectMapper) {
 
         this.jsonValueToDbEntityMapper = jsonValueToDbEntityMapper;
-        this.bsonDocumentToJsonObjectMapper = bsonDocumentToJsonObjectMapper;
+        this.codec = codec;
         this.bsonArrayToJsonObjectMapper = bsonArrayToJsonObjectMapper;
     }
 
@@ -65,7 +70,7 @@ public final class DittoBsonJson {
         final KeyNameReviser jsonKeyNameReviser = KeyNameReviser.decodeKnownUnicodeChars();
 
         return new DittoBsonJson(JsonValueToDbEntityMapper.of(jsonToMongoDbKeyNameReviser),
-                BsonDocumentToJsonObjectMapper.getInstance(jsonKeyNameReviser),
+                DittoBsonJsonCodec.getInstance(),
                 BsonArrayToJsonObjectMapper.getInstance(jsonKeyNameReviser));
     }
 
@@ -99,7 +104,13 @@ public final class DittoBsonJson {
      * @throws NullPointerException if {@code bsonDocument} is {@code null}.
      */
     public JsonObject serialize(final BsonDocument bsonDocument) {
-        return bsonDocumentToJsonObjectMapper.apply(checkNotNull(bsonDocument, "BsonDocument to be serialized"));
+        checkNotNull(bsonDocument, "BsonDocument to be serialized");
+        if (bsonDocument instanceof RawBsonDocument rawBsonDocument) {
+            // read the raw bytes without creating the BsonValues of the document
+            return rawBsonDocument.decode(codec);
+        } else {
+            return codec.decode(new BsonDocumentReader(bsonDocument), DECODER_CONTEXT);
+        }
     }
 
     /**
@@ -125,6 +136,20 @@ public final class DittoBsonJson {
         return jsonValueToDbEntityMapper.mapJsonObjectToBsonDocument(jsonObject);
     }
 
+    /**
+     * Encodes the specified {@link JsonObject} into the bytes of an immutable {@link RawBsonDocument} without
+     * creating the {@link BsonValue}s of a mutable {@link BsonDocument}, applying the replacement of "special"
+     * characters {@code "$"} and {@code "."}.
+     *
+     * @param jsonObject the JSON object to be encoded.
+     * @return the encoded JSON object.
+     * @throws NullPointerException if {@code jsonObject} is {@code null}.
+     * @since 3.8.0
+     */
+    public RawBsonDocument encode(final JsonObject jsonObject) {
+        return new RawBsonDocument(checkNotNull(jsonObject, "JSON object to be encoded"), codec);
+    }
+
     /**
      * Parses the passed in {@link JsonArray} into an {@link BsonArray}.
      *
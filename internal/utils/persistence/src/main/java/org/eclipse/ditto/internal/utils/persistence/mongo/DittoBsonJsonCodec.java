@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistence.mongo;
+
+import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
+
+import java.time.Instant;
+import java.util.function.Function;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonArrayBuilder;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonValue;
+
+/**
+ * MongoDB {@link Codec} which encodes a {@link JsonObject} straight into a {@link BsonWriter} and decodes a
+ * {@link BsonReader} straight into a {@link JsonObject}, without creating {@link org.bson.BsonValue}s in between.
+ * Like {@link DittoBsonJson}, the codec replaces dots {@code "."} and dollar signs {@code "$"} in JSON keys with their
+ * unicode representations when encoding and vice versa when decoding.
+ *
+ * @since 3.8.0
+ */
+@Immutable
+public final class DittoBsonJsonCodec implements Codec<JsonObject> {
+
+    private static final DittoBsonJsonCodec INSTANCE = new DittoBsonJsonCodec(
+            KeyNameReviser.escapeProblematicPlainChars(),
+            KeyNameReviser.decodeKnownUnicodeChars());
+
+    private final Function<String, String> jsonToMongoDbKeyNameReviser;
+    private final Function<String, String> jsonKeyNameReviser;
+
+    private DittoBsonJsonCodec(final Function<String, String> jsonToMongoDbKeyNameReviser,
+            final Function<String, String> jsonKeyNameReviser) {
+
+        this.jsonToMongoDbKeyNameReviser = jsonToMongoDbKeyNameReviser;
+        this.jsonKeyNameReviser = jsonKeyNameReviser;
+    }
+
+    /**
+     * Returns an instance of {@code DittoBsonJsonCodec}.
+     *
+     * @return the instance.
+     */
+    public static DittoBsonJsonCodec getInstance() {
+        return INSTANCE;
+    }
+
+    @Override
+    public void encode(final BsonWriter writer, final JsonObject jsonObject, final EncoderContext encoderContext) {
+        checkNotNull(jsonObject, "JSON object to be encoded");
+        writeJsonObject(writer, jsonObject);
+    }
+
+    @Override
+    public JsonObject decode(final BsonReader reader, final DecoderContext decoderContext) {
+        return readJsonObject(reader);
+    }
+
+    @Override
+    public Class<JsonObject> getEncoderClass() {
+        return JsonObject.class;
+    }
+
+    private void writeJsonObject(final BsonWriter writer, final JsonObject jsonObject) {
+        writer.writeStartDocument();
+        jsonObject.forEach(jsonField -> {
+            writer.writeName(jsonToMongoDbKeyNameReviser.apply(jsonField.getKeyName()));
+            writeJsonValue(writer, jsonField.getValue());
+        });
+        writer.writeEndDocument();
+    }
+
+    private void writeJsonArray(final BsonWriter writer, final JsonArray jsonArray) {
+        writer.writeStartArray();
+        jsonArray.forEach(jsonValue -> writeJsonValue(writer, jsonValue));
+        writer.writeEndArray();
+    }
+
+    private void writeJsonValue(final BsonWriter writer, final JsonValue jsonValue) {
+        if (jsonValue.isString()) {
+            writer.writeString(jsonValue.asString());
+        } else if (jsonValue.isNumber()) {
+            if (jsonValue.isInt()) {
+                writer.writeInt32(jsonValue.asInt());
+            } else if (jsonValue.isLong()) {
+                writer.writeInt64(jsonValue.asLong());
+            } else {
+                writer.writeDouble(jsonValue.asDouble());
+            }
+        } else if (jsonValue.isObject()) {
+            writeJsonObject(writer, jsonValue.asObject());
+        } else if (jsonValue.isArray()) {
+            writeJsonArray(writer, jsonValue.asArray());
+        } else if (jsonValue.isBoolean()) {
+            writer.writeBoolean(jsonValue.asBoolean());
+        } else {
+            writer.writeNull();
+        }
+    }
+
+    private JsonObject readJsonObject(final BsonReader reader) {
+        final JsonObjectBuilder builder = JsonFactory.newObjectBuilder();
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            final String keyName = jsonKeyNameReviser.apply(reader.readName());
+            builder.set(JsonFactory.newField(JsonFactory.newKey(keyName), readJsonValue(reader)));
+        }
+        reader.readEndDocument();
+        return builder.build();
+    }
+
+    private JsonArray readJsonArray(final BsonReader reader) {
+        final JsonArrayBuilder builder = JsonFactory.newArrayBuilder();
+        reader.readStartArray();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            builder.add(readJsonValue(reader));
+        }
+        reader.readEndArray();
+        return builder.build();
+    }
+
+    private JsonValue readJsonValue(final BsonReader reader) {
+        final JsonValue result;
+        switch (reader.getCurrentBsonType()) {
+            case STRING -> result = JsonFactory.newValue(reader.readString());
+            case INT32 -> result = JsonFactory.newValue(reader.readInt32());
+            case INT64 -> result = JsonFactory.newValue(reader.readInt64());
+            case DOUBLE -> result = JsonFactory.newValue(reader.readDouble());
+            case DOCUMENT -> result = readJsonObject(reader);
+            case ARRAY -> result = readJsonArray(reader);
+            case BOOLEAN -> result = JsonFactory.newValue(reader.readBoolean());
+            case TIMESTAMP -> result =
+                    JsonFactory.newValue(Instant.ofEpochSecond(reader.readTimestamp().getTime()).toString());
+            case NULL -> {
+                reader.readNull();
+                result = JsonFactory.nullLiteral();
+            }
+            default -> {
+                // like DittoBsonJson, map BSON types without JSON counterpart to null
+                reader.skipValue();
+                result = JsonFactory.nullLiteral();
+            }
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistence.mongo;
+
+import static scala.compat.java8.FutureConverters.toJava;
+import static scala.compat.java8.FutureConverters.toScala;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import javax.annotation.Nullable;
+
+import org.apache.pekko.persistence.AtomicWrite;
+import org.apache.pekko.stream.Materializer;
+
+import com.typesafe.config.Config;
+
+import pekko.contrib.persistence.mongodb.MongoJournal;
+import scala.concurrent.Future;
+import scala.jdk.javaapi.CollectionConverters;
+import scala.runtime.BoxedUnit;
+import scala.util.Try;
+
+/**
+ * MongoDB journal plugin extending the {@link MongoJournal} by
+ * <ul>
+ *     <li>
+ *         reading the highest sequence numbers of recovering persistence actors in batches via the
+ *         {@link MongoRecoveryCoordinator}. Falls back to the lookup of the {@link MongoJournal} if batching is
+ *         disabled, the journal has no events of the persistence ID or the batched lookup failed.
+ *     </li>
+ *     <li>
+ *         an opt-in {@link JournalGroupCommit}: the event writes of all persistence actors of the node arriving
+ *         within {@code group-commit.max-delay} are coalesced into one ordered bulk write of the {@link MongoJournal}.
+ *         Each write is acknowledged with its own results; if the bulk write fails, only the failing writes fail.
+ *     </li>
+ * </ul>
+ *
+ * @since 3.8.0
+ */
+public final class DittoMongoJournal extends MongoJournal {
+
+    private static final String JOURNAL_COLLECTION_NAME_KEY = "overrides.journal-collection";
+    private static final String GROUP_COMMIT_ENABLED_KEY = "group-commit.enabled";
+    private static final String GROUP_COMMIT_MAX_DELAY_KEY = "group-commit.max-delay";
+    private static final String GROUP_COMMIT_MAX_BATCH_SIZE_KEY = "group-commit.max-batch-size";
+    private static final Duration DEFAULT_GROUP_COMMIT_MAX_DELAY = Duration.ofMillis(2);
+    private static final int DEFAULT_GROUP_COMMIT_MAX_BATCH_SIZE = 500;
+
+    private final MongoRecoveryCoordinator recoveryCoordinator;
+    private final boolean batchingEnabled;
+    @Nullable private final JournalGroupCommit groupCommit;
+
+    /**
+     * Constructs the journal plugin. Called by Pekko persistence.
+     *
+     * @param config the configuration of the journal plugin.
+     */
+    public DittoMongoJournal(final Config config) {
+        super(config);
+        recoveryCoordinator = MongoRecoveryCoordinator.get(context().system());
+        batchingEnabled = config.hasPath(JOURNAL_COLLECTION_NAME_KEY) &&
+                recoveryCoordinator.isEnabledForJournal(config.getString(JOURNAL_COLLECTION_NAME_KEY));
+        if (config.hasPath(GROUP_COMMIT_ENABLED_KEY) && config.getBoolean(GROUP_COMMIT_ENABLED_KEY)) {
+            groupCommit = startGroupCommit(config);
+        } else {
+            groupCommit = null;
+        }
+    }
+
+    @Override
+    public Future<Object> asyncReadHighestSequenceNr(final String persistenceId, final long fromSequenceNr) {
+        if (!batchingEnabled) {
+            return super.asyncReadHighestSequenceNr(persistenceId, fromSequenceNr);
+        }
+        final CompletionStage<Object> highestSequenceNr = recoveryCoordinator.readHighestSequenceNumber(persistenceId)
+                .handle((sequenceNr, error) -> null == error ? sequenceNr : Optional.<Long>empty())
+                .thenCompose(sequenceNr -> sequenceNr
+                        .map(sn -> CompletableFuture.<Object>completedFuture(sn))
+                        .orElseGet(() -> toJava(super.asyncReadHighestSequenceNr(persistenceId, fromSequenceNr))
+                                .toCompletableFuture()));
+        return toScala(highestSequenceNr);
+    }
+
+    @Override
+    public Future<scala.collection.immutable.Seq<Try<BoxedUnit>>> asyncWriteMessages(
+            final scala.collection.immutable.Seq<AtomicWrite> messages) {
+
+        if (null != groupCommit) {
+            final Optional<CompletionStage<List<Try<BoxedUnit>>>> results =
+                    groupCommit.offer(CollectionConverters.asJava(messages));
+            if (results.isPresent()) {
+                return toScala(results.get().<scala.collection.immutable.Seq<Try<BoxedUnit>>>thenApply(r ->
+                        CollectionConverters.asScala(r).toList()));
+            }
+            // the group commit is saturated: the persistence actor has no other write in flight, so writing
+            // directly does not reorder its events
+        }
+        return super.asyncWriteMessages(messages);
+    }
+
+    private JournalGroupCommit startGroupCommit(final Config config) {
+        final Duration maxDelay = config.hasPath(GROUP_COMMIT_MAX_DELAY_KEY)
+                ? config.getDuration(GROUP_COMMIT_MAX_DELAY_KEY)
+                : DEFAULT_GROUP_COMMIT_MAX_DELAY;
+        final int maxBatchSize = config.hasPath(GROUP_COMMIT_MAX_BATCH_SIZE_KEY)
+                ? config.getInt(GROUP_COMMIT_MAX_BATCH_SIZE_KEY)
+                : DEFAULT_GROUP_COMMIT_MAX_BATCH_SIZE;
+
+        // the stream is stopped together with the journal actor
+        return new JournalGroupCommit(maxDelay, maxBatchSize, this::writeMessages,
+                Materializer.createMaterializer(context()));
+    }
+
+    private CompletionStage<List<Try<BoxedUnit>>> writeMessages(final List<AtomicWrite> messages) {
+        return toJava(super.asyncWriteMessages(CollectionConverters.asScala(messages).toList()))
+                .thenApply(CollectionConverters::asJava);
+    }
+
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistence.mongo;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+
+import javax.annotation.Nullable;
+
+import org.apache.pekko.Done;
+import org.apache.pekko.persistence.AtomicWrite;
+import org.apache.pekko.stream.BoundedSourceQueue;
+import org.apache.pekko.stream.Materializer;
+import org.apache.pekko.stream.QueueOfferResult;
+import org.apache.pekko.stream.javadsl.Sink;
+import org.apache.pekko.stream.javadsl.Source;
+import org.eclipse.ditto.internal.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.internal.utils.metrics.instruments.histogram.Histogram;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.bulk.BulkWriteError;
+
+import scala.runtime.BoxedUnit;
+import scala.util.Success;
+import scala.util.Try;
+
+/**
+ * Coalesces the event writes of the persistence actors of a node arriving within a maximum delay into one write of
+ * the journal, i.e. into one ordered bulk insert of one document per {@link AtomicWrite}.
+ * <p>
+ * Groups are written one after another and each persistence actor has at most one write in flight, so the order of
+ * the events of each persistence actor is preserved. If a group fails, each write of the group is acknowledged as if
+ * it had been written on its own:
+ * </p>
+ * <ul>
+ *     <li>
+ *         if the bulk insert reports the index of the failed document, the writes before it were stored and succeed,
+ *         the write containing it fails and the writes after it, which were not attempted, are written on their own;
+ *     </li>
+ *     <li>
+ *         otherwise it is unknown which writes were stored, so every write is retried on its own and gets the result
+ *         of its retry.
+ *     </li>
+ * </ul>
+ */
+final class JournalGroupCommit {
+
+    private static final Histogram GROUP_COMMIT_SIZE = DittoMetrics.histogram("journal_group_commit_size");
+
+    private final Function<List<AtomicWrite>, CompletionStage<List<Try<BoxedUnit>>>> journal;
+    private final BoundedSourceQueue<Write> queue;
+
+    /**
+     * Starts the group commit.
+     *
+     * @param maxDelay how long a write waits for other writes of the same group.
+     * @param maxBatchSize the maximum number of atomic writes of one group.
+     * @param journal writes atomic writes in one ordered bulk insert and completes with one result per atomic write
+     * or with an empty list if all of them succeeded.
+     * @param materializer the materializer of the group commit stream, which is stopped together with it.
+     */
+    JournalGroupCommit(final Duration maxDelay, final int maxBatchSize,
+            final Function<List<AtomicWrite>, CompletionStage<List<Try<BoxedUnit>>>> journal,
+            final Materializer materializer) {
+
+        this.journal = journal;
+        queue = Source.<Write>queue(maxBatchSize * 2)
+                .groupedWeightedWithin(maxBatchSize, write -> (long) write.messages().size(), maxDelay)
+                .mapAsync(1, this::writeGroup)
+                .to(Sink.ignore())
+                .run(materializer);
+    }
+
+    /**
+     * Adds the atomic writes of one persistence actor to the next group.
+     *
+     * @param messages the atomic writes.
+     * @return the future results of the atomic writes, or an empty optional if the group commit is saturated and the
+     * atomic writes have to be written directly.
+     */
+    Optional<CompletionStage<List<Try<BoxedUnit>>>> offer(final List<AtomicWrite> messages) {
+        final Write write = new Write(messages, new CompletableFuture<>());
+        if (QueueOfferResult.enqueued().equals(queue.offer(write))) {
+            return Optional.of(write.result());
+        }
+        return Optional.empty();
+    }
+
+    private CompletionStage<Done> writeGroup(final List<Write> group) {
+        final List<AtomicWrite> messages = group.stream()
+                .flatMap(write -> write.messages().stream())
+                .toList();
+        GROUP_COMMIT_SIZE.record((long) messages.size());
+        return journal.apply(messages)
+                .handle((results, error) -> {
+                    if (null == error) {
+                        completeWithResults(group, results);
+                        return CompletableFuture.completedStage(Done.getInstance());
+                    }
+                    return writeFailedGroup(group, error);
+                })
+                .thenCompose(Function.identity());
+    }
+
+    private CompletionStage<Done> writeFailedGroup(final List<Write> group, final Throwable error) {
+        final OptionalInt failedIndex = getIndexOfFailedDocument(error);
+        final List<CompletableFuture<?>> retries = new ArrayList<>();
+        int offset = 0;
+        for (final Write write : group) {
+            final int size = write.messages().size();
+            if (failedIndex.isPresent() && offset + size <= failedIndex.getAsInt()) {
+                write.result().complete(Collections.nCopies(size, new Success<>(BoxedUnit.UNIT)));
+            } else if (failedIndex.isPresent() && offset <= failedIndex.getAsInt()) {
+                write.result().completeExceptionally(error);
+            } else {
+                retries.add(writeAlone(write));
+            }
+            offset += size;
+        }
+        return CompletableFuture.allOf(retries.toArray(CompletableFuture[]::new))
+                .handle((done, retryError) -> Done.getInstance());
+    }
+
+    private CompletableFuture<?> writeAlone(final Write write) {
+        return journal.apply(write.messages())
+                .whenComplete((results, error) -> {
+                    if (null != error) {
+                        write.result().completeExceptionally(error);
+                    } else {
+                        write.result().complete(results);
+                    }
+                })
+                .toCompletableFuture();
+    }
+
+    private static void completeWithResults(final List<Write> group, final List<Try<BoxedUnit>> results) {
+        // the journal may answer with an empty result to indicate that all atomic writes succeeded
+        int offset = 0;
+        for (final Write write : group) {
+            final int size = write.messages().size();
+            write.result().complete(results.isEmpty() ? List.of() : results.subList(offset, offset + size));
+            offset += size;
+        }
+    }
+
+    private static OptionalInt getIndexOfFailedDocument(final Throwable error) {
+        @Nullable Throwable cause = error;
+        while (null != cause) {
+            if (cause instanceof MongoBulkWriteException bulkWriteException) {
+                // the bulk insert is ordered, i.e. it stops at the first failed document
+                return bulkWriteException.getWriteErrors().stream()
+                        .mapToInt(BulkWriteError::getIndex)
+                        .min();
+            }
+            cause = cause.getCause();
+        }
+        return OptionalInt.empty();
+    }
+
+    private record Write(List<AtomicWrite> messages, CompletableFuture<List<Try<BoxedUnit>>> result) {}
+
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistence.mongo;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+
+import org.apache.pekko.Done;
+import org.apache.pekko.NotUsed;
+import org.apache.pekko.actor.AbstractExtensionId;
+import org.apache.pekko.actor.ActorSystem;
+import org.apache.pekko.actor.ExtendedActorSystem;
+import org.apache.pekko.actor.Extension;
+import org.apache.pekko.japi.Pair;
+import org.apache.pekko.persistence.SelectedSnapshot;
+import org.apache.pekko.stream.BoundedSourceQueue;
+import org.apache.pekko.stream.Materializer;
+import org.apache.pekko.stream.QueueOfferResult;
+import org.apache.pekko.stream.SystemMaterializer;
+import org.apache.pekko.stream.javadsl.Sink;
+import org.apache.pekko.stream.javadsl.Source;
+import org.eclipse.ditto.internal.utils.config.DefaultScopedConfig;
+import org.eclipse.ditto.internal.utils.persistence.mongo.config.DefaultMongoDbConfig;
+import org.eclipse.ditto.internal.utils.persistence.mongo.config.MongoDbConfig;
+import org.eclipse.ditto.internal.utils.persistence.mongo.config.MongoReadJournalConfig;
+import org.eclipse.ditto.internal.utils.persistence.mongo.streaming.MongoReadJournal;
+
+/**
+ * Coordinates the recovery of the persistence actors of one node: the snapshot and highest sequence number lookups of
+ * persistence actors recovering at about the same time, e.g. after a rolling restart, are batched into single
+ * {@code $in} queries of the {@link MongoReadJournal} instead of one query per persistence actor.
+ *
+ * @since 3.8.0
+ */
+public final class MongoRecoveryCoordinator implements Extension {
+
+    private final boolean enabled;
+    private final String journalCollection;
+    private final String snapshotCollection;
+    private final BatchedLookup<SelectedSnapshot> newestSnapshots;
+    private final BatchedLookup<Long> highestSequenceNumbers;
+
+    MongoRecoveryCoordinator(final MongoReadJournal readJournal,
+            final MongoReadJournalConfig readJournalConfig,
+            final Materializer materializer) {
+
+        enabled = readJournalConfig.isRecoveryBatchingEnabled();
+        journalCollection = readJournal.getJournalCollectionName();
+        snapshotCollection = readJournal.getSnapshotCollectionName();
+        newestSnapshots = new BatchedLookup<>(readJournalConfig, materializer,
+                pids -> readJournal.getNewestSnapshotsOfPids(pids)
+                        .map(snapshot -> Pair.create(snapshot.metadata().persistenceId(), snapshot)));
+        highestSequenceNumbers = new BatchedLookup<>(readJournalConfig, materializer,
+                readJournal::getLatestEventSeqNosOfPids);
+    }
+
+    /**
+     * Returns the recovery coordinator of the given actor system.
+     *
+     * @param actorSystem the actor system.
+     * @return the recovery coordinator.
+     */
+    public static MongoRecoveryCoordinator get(final ActorSystem actorSystem) {
+        return ExtensionId.INSTANCE.get(actorSystem);
+    }
+
+    /**
+     * Indicates whether highest sequence number lookups of a journal plugin may be batched by this coordinator.
+     *
+     * @param journalCollectionName the name of the event journal collection of the journal plugin.
+     * @return whether batching is enabled and the coordinator queries the given journal collection.
+     */
+    public boolean isEnabledForJournal(final String journalCollectionName) {
+        return enabled && journalCollection.equals(journalCollectionName);
+    }
+
+    /**
+     * Indicates whether snapshot lookups of a snapshot plugin may be batched by this coordinator.
+     *
+     * @param snapshotCollectionName the name of the snapshot collection of the snapshot plugin.
+     * @return whether batching is enabled and the coordinator queries the given snapshot collection.
+     */
+    public boolean isEnabledForSnapshotStore(final String snapshotCollectionName) {
+        return enabled && snapshotCollection.equals(snapshotCollectionName);
+    }
+
+    /**
+     * Loads the newest snapshot of a persistence ID together with the newest snapshots of other persistence IDs
+     * requested at about the same time.
+     *
+     * @param persistenceId the persistence ID.
+     * @return a future of the newest snapshot or an empty optional if the persistence ID has no snapshot stored as
+     * BSON document. Fails if the lookup could not be enqueued or the query failed.
+     */
+    public CompletionStage<Optional<SelectedSnapshot>> loadNewestSnapshot(final String persistenceId) {
+        return newestSnapshots.lookup(persistenceId);
+    }
+
+    /**
+     * Reads the highest sequence number of the events of a persistence ID together with the highest sequence numbers
+     * of other persistence IDs requested at about the same time.
+     *
+     * @param persistenceId the persistence ID.
+     * @return a future of the highest sequence number or an empty optional if the persistence ID has no events in the
+     * journal. Fails if the lookup could not be enqueued or the query failed.
+     */
+    public CompletionStage<Optional<Long>> readHighestSequenceNumber(final String persistenceId) {
+        return highestSequenceNumbers.lookup(persistenceId);
+    }
+
+    /**
+     * Collects lookups by persistence ID and performs them in batches.
+     *
+     * @param <T> type of the looked up values.
+     */
+    private static final class BatchedLookup<T> {
+
+        private final Materializer materializer;
+        private final Function<List<String>, Source<Pair<String, T>, NotUsed>> query;
+        private final BoundedSourceQueue<Lookup<T>> queue;
+
+        private BatchedLookup(final MongoReadJournalConfig config, final Materializer materializer,
+                final Function<List<String>, Source<Pair<String, T>, NotUsed>> query) {
+
+            this.materializer = materializer;
+            this.query = query;
+            final int batchSize = config.getRecoveryBatchSize();
+            final int parallelism = config.getRecoveryBatchParallelism();
+            // lookups exceeding the buffer fail and are performed one by one by the persistence plugins
+            queue = Source.<Lookup<T>>queue(batchSize * parallelism * 2)
+                    .groupedWithin(batchSize, config.getRecoveryBatchMaxDelay())
+                    .mapAsyncUnordered(parallelism, this::perform)
+                    .to(Sink.ignore())
+                    .run(materializer);
+        }
+
+        private CompletionStage<Optional<T>> lookup(final String persistenceId) {
+            final Lookup<T> lookup = new Lookup<>(persistenceId, new CompletableFuture<>());
+            final QueueOfferResult offerResult = queue.offer(lookup);
+            if (!QueueOfferResult.enqueued().equals(offerResult)) {
+                lookup.result().completeExceptionally(
+                        new IllegalStateException("Recovery lookup was not enqueued: " + offerResult));
+            }
+            return lookup.result();
+        }
+
+        private CompletionStage<Done> perform(final List<Lookup<T>> lookups) {
+            final List<String> persistenceIds = lookups.stream().map(Lookup::persistenceId).distinct().toList();
+            final Map<String, T> results = new HashMap<>();
+            return query.apply(persistenceIds)
+                    .runForeach(pair -> results.put(pair.first(), pair.second()), materializer)
+                    .handle((done, error) -> {
+                        lookups.forEach(lookup -> {
+                            if (null != error) {
+                                lookup.result().completeExceptionally(error);
+                            } else {
+                                lookup.result().complete(Optional.ofNullable(results.get(lookup.persistenceId())));
+                            }
+                        });
+                        return Done.getInstance();
+                    });
+        }
+
+    }
+
+    private record Lookup<T>(String persistenceId, CompletableFuture<Optional<T>> result) {}
+
+    private static final class ExtensionId extends AbstractExtensionId<MongoRecoveryCoordinator> {
+
+        private static final ExtensionId INSTANCE = new ExtensionId();
+
+        @Override
+        public MongoRecoveryCoordinator createExtension(final ExtendedActorSystem system) {
+            final MongoDbConfig mongoDbConfig =
+                    DefaultMongoDbConfig.of(DefaultScopedConfig.dittoScoped(system.settings().config()));
+            final MongoReadJournal readJournal = MongoReadJournal.newInstance(system);
+            return new MongoRecoveryCoordinator(readJournal, mongoDbConfig.getReadJournalConfig(),
+                    SystemMaterializer.get(system).materializer());
+        }
+
+    }
+
+}
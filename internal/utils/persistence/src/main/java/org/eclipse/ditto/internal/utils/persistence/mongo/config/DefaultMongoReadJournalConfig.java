@@ -12,6 +12,7 @@
  */
 package org.eclipse.ditto.internal.utils.persistence.mongo.config;
 
+import java.time.Duration;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -40,6 +41,10 @@ public final class DefaultMongoReadJournalConfig implements MongoReadJournalConf
     @Nullable private final String listNewestActiveSnapshotsByBatchPidId;
     @Nullable private final String listNewestActiveSnapshotsByBatchPid;
     @Nullable private final String listNewestActiveSnapshotsByBatchId;
+    private final boolean recoveryBatchingEnabled;
+    private final int recoveryBatchSize;
+    private final Duration recoveryBatchMaxDelay;
+    private final int recoveryBatchParallelism;
 
     private DefaultMongoReadJournalConfig(final ScopedConfig config) {
         createAdditionalSnapshotAggregationIndexPidId = config.getBoolean(
@@ -61,6 +66,13 @@ public final class DefaultMongoReadJournalConfig implements MongoReadJournalConf
                 MongoReadJournalConfigValue.HINT_NAME_LIST_NEWEST_ACTIVE_SNAPSHOT_BY_BATCH_PID);
         listNewestActiveSnapshotsByBatchId = getNullableString(config,
                 MongoReadJournalConfigValue.HINT_NAME_LIST_NEWEST_ACTIVE_SNAPSHOT_BY_BATCH_ID);
+        recoveryBatchingEnabled =
+                config.getBoolean(MongoReadJournalConfigValue.RECOVERY_BATCHING_ENABLED.getConfigPath());
+        recoveryBatchSize = config.getPositiveIntOrThrow(MongoReadJournalConfigValue.RECOVERY_BATCH_SIZE);
+        recoveryBatchMaxDelay =
+                config.getNonNegativeAndNonZeroDurationOrThrow(MongoReadJournalConfigValue.RECOVERY_BATCH_MAX_DELAY);
+        recoveryBatchParallelism =
+                config.getPositiveIntOrThrow(MongoReadJournalConfigValue.RECOVERY_BATCH_PARALLELISM);
     }
 
     /**
@@ -123,6 +135,26 @@ public final class DefaultMongoReadJournalConfig implements MongoReadJournalConf
         return Optional.ofNullable(listNewestActiveSnapshotsByBatchId);
     }
 
+    @Override
+    public boolean isRecoveryBatchingEnabled() {
+        return recoveryBatchingEnabled;
+    }
+
+    @Override
+    public int getRecoveryBatchSize() {
+        return recoveryBatchSize;
+    }
+
+    @Override
+    public Duration getRecoveryBatchMaxDelay() {
+        return recoveryBatchMaxDelay;
+    }
+
+    @Override
+    public int getRecoveryBatchParallelism() {
+        return recoveryBatchParallelism;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -139,7 +171,11 @@ public final class DefaultMongoReadJournalConfig implements MongoReadJournalConf
                 Objects.equals(hintNameFilterPidsThatDoesntContainTagInNewestEntry,
                         that.hintNameFilterPidsThatDoesntContainTagInNewestEntry) &&
                 Objects.equals(hintNameListLatestJournalEntries, that.hintNameListLatestJournalEntries) &&
-                Objects.equals(listNewestActiveSnapshotsByBatchPidId, that.listNewestActiveSnapshotsByBatchPidId);
+                Objects.equals(listNewestActiveSnapshotsByBatchPidId, that.listNewestActiveSnapshotsByBatchPidId) &&
+                recoveryBatchingEnabled == that.recoveryBatchingEnabled &&
+                recoveryBatchSize == that.recoveryBatchSize &&
+                Objects.equals(recoveryBatchMaxDelay, that.recoveryBatchMaxDelay) &&
+                recoveryBatchParallelism == that.recoveryBatchParallelism;
     }
 
     @Override
@@ -148,7 +184,8 @@ public final class DefaultMongoReadJournalConfig implements MongoReadJournalConf
                 createAdditionalSnapshotAggregationIndexPidSn, createAdditionalSnapshotAggregationIndexPidSnId,
                 hintNameFilterPidsThatDoesntContainTagInNewestEntry, hintNameListLatestJournalEntries,
                 listNewestActiveSnapshotsByBatchPidId, listNewestActiveSnapshotsByBatchPid,
-                listNewestActiveSnapshotsByBatchId);
+                listNewestActiveSnapshotsByBatchId, recoveryBatchingEnabled, recoveryBatchSize, recoveryBatchMaxDelay,
+                recoveryBatchParallelism);
     }
 
     @Override
@@ -163,6 +200,10 @@ public final class DefaultMongoReadJournalConfig implements MongoReadJournalConf
                 ", listNewestActiveSnapshotsByBatchPidId=" + listNewestActiveSnapshotsByBatchPidId +
                 ", listNewestActiveSnapshotsByBatchPid=" + listNewestActiveSnapshotsByBatchPid +
                 ", listNewestActiveSnapshotsByBatchId=" + listNewestActiveSnapshotsByBatchId +
+                ", recoveryBatchingEnabled=" + recoveryBatchingEnabled +
+                ", recoveryBatchSize=" + recoveryBatchSize +
+                ", recoveryBatchMaxDelay=" + recoveryBatchMaxDelay +
+                ", recoveryBatchParallelism=" + recoveryBatchParallelism +
                 "]";
     }
 
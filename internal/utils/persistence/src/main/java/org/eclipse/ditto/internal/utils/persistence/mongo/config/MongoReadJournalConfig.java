@@ -12,6 +12,7 @@
  */
 package org.eclipse.ditto.internal.utils.persistence.mongo.config;
 
+import java.time.Duration;
 import java.util.Optional;
 
 import javax.annotation.Nullable;
@@ -71,6 +72,31 @@ public interface MongoReadJournalConfig {
      */
     Optional<String> getIndexNameHintForListNewestActiveSnapshotsByBatchId();
 
+    /**
+     * @return whether the snapshot and highest sequence number lookups of recovering persistence actors are batched
+     * into single queries for many persistence IDs.
+     * @since 3.8.0
+     */
+    boolean isRecoveryBatchingEnabled();
+
+    /**
+     * @return the maximum number of persistence IDs looked up in one recovery query.
+     * @since 3.8.0
+     */
+    int getRecoveryBatchSize();
+
+    /**
+     * @return how long to wait for more recovering persistence actors before a recovery query is sent.
+     * @since 3.8.0
+     */
+    Duration getRecoveryBatchMaxDelay();
+
+    /**
+     * @return the maximum number of concurrent recovery queries per lookup.
+     * @since 3.8.0
+     */
+    int getRecoveryBatchParallelism();
+
     /**
      * An enumeration of the known config path expressions and their associated default values for
      * {@code MongoReadJournalConfig}.
@@ -118,7 +144,35 @@ public interface MongoReadJournalConfig {
         /**
          * Hint name for aggregation done in {@code listNewestActiveSnapshotsByBatchId}.
          */
-        HINT_NAME_LIST_NEWEST_ACTIVE_SNAPSHOT_BY_BATCH_ID("hint-name-listNewestActiveSnapshotsByBatchId", null);
+        HINT_NAME_LIST_NEWEST_ACTIVE_SNAPSHOT_BY_BATCH_ID("hint-name-listNewestActiveSnapshotsByBatchId", null),
+
+        /**
+         * Whether the lookups of recovering persistence actors are batched.
+         *
+         * @since 3.8.0
+         */
+        RECOVERY_BATCHING_ENABLED("recovery-batching-enabled", false),
+
+        /**
+         * The maximum number of persistence IDs looked up in one recovery query.
+         *
+         * @since 3.8.0
+         */
+        RECOVERY_BATCH_SIZE("recovery-batch-size", 100),
+
+        /**
+         * How long to wait for more recovering persistence actors before a recovery query is sent.
+         *
+         * @since 3.8.0
+         */
+        RECOVERY_BATCH_MAX_DELAY("recovery-batch-max-delay", Duration.ofMillis(10)),
+
+        /**
+         * The maximum number of concurrent recovery queries per lookup.
+         *
+         * @since 3.8.0
+         */
+        RECOVERY_BATCH_PARALLELISM("recovery-batch-parallelism", 4);
 
         private final String path;
         private final Object defaultValue;
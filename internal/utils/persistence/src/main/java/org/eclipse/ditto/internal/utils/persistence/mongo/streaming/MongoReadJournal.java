@@ -30,6 +30,8 @@ import org.apache.pekko.Done;
 import org.apache.pekko.NotUsed;
 import org.apache.pekko.actor.ActorSystem;
 import org.apache.pekko.japi.Pair;
+import org.apache.pekko.persistence.SelectedSnapshot;
+import org.apache.pekko.persistence.SnapshotMetadata;
 import org.apache.pekko.persistence.query.EventEnvelope;
 import org.apache.pekko.persistence.query.Offset;
 import org.apache.pekko.persistence.query.PersistenceQuery;
@@ -66,6 +68,7 @@ import org.eclipse.ditto.internal.utils.persistence.mongo.indices.IndexFactory;
 import org.eclipse.ditto.internal.utils.persistence.mongo.indices.IndexInitializer;
 import org.eclipse.ditto.utils.jsr305.annotations.AllValuesAreNonnullByDefault;
 
+import com.mongodb.MongoClientSettings;
 import com.mongodb.client.model.Accumulators;
 import com.mongodb.client.model.Aggregates;
 import com.mongodb.client.model.BsonField;
@@ -154,6 +157,8 @@ public final class MongoReadJournal implements CurrentEventsByPersistenceIdQuery
 
     private static final String S_SERIALIZED_SNAPSHOT = "s2";
 
+    private static final String NEWEST_SNAPSHOT = "newestSnapshot";
+
     /**
      * Document field of lifecycle of snapshots.
      */
@@ -253,6 +258,22 @@ public final class MongoReadJournal implements CurrentEventsByPersistenceIdQuery
         );
     }
 
+    /**
+     * @return the name of the event journal collection this read journal queries.
+     * @since 3.8.0
+     */
+    public String getJournalCollectionName() {
+        return journalCollection;
+    }
+
+    /**
+     * @return the name of the snapshot collection this read journal queries.
+     * @since 3.8.0
+     */
+    public String getSnapshotCollectionName() {
+        return snapsCollection;
+    }
+
     /**
      * Ensure a compound index exists for journal PID streaming based on tags.
      *
@@ -603,6 +624,55 @@ public final class MongoReadJournal implements CurrentEventsByPersistenceIdQuery
                 .mapConcat(pids -> pids);
     }
 
+    /**
+     * Retrieve the newest snapshot of each of the given PIDs with one query, e.g. in order to recover many entities
+     * at once.
+     *
+     * @param pids the PIDs to retrieve the newest snapshots for.
+     * @return source of the newest snapshots of those PIDs whose newest snapshot is stored as BSON document, in no
+     * particular order.
+     * @since 3.8.0
+     */
+    public Source<SelectedSnapshot, NotUsed> getNewestSnapshotsOfPids(final Collection<String> pids) {
+        return getSnapshotStore()
+                .withAttributes(Attributes.inputBuffer(1, 1))
+                .flatMapConcat(snaps -> Source.fromPublisher(snaps.aggregate(List.of(
+                        Aggregates.match(Filters.in(S_PROCESSOR_ID, pids)),
+                        Aggregates.sort(Sorts.orderBy(Sorts.ascending(S_PROCESSOR_ID), Sorts.descending(S_SN))),
+                        Aggregates.group("$" + S_PROCESSOR_ID, Accumulators.first(NEWEST_SNAPSHOT, "$$ROOT")),
+                        Aggregates.replaceRoot("$" + NEWEST_SNAPSHOT)
+                ))))
+                .filter(document -> document.get(S_SERIALIZED_SNAPSHOT) instanceof Document)
+                .map(document -> SelectedSnapshot.create(
+                        new SnapshotMetadata(document.getString(S_PROCESSOR_ID),
+                                document.get(S_SN, Number.class).longValue(),
+                                Optional.ofNullable(document.get(S_TS, Number.class))
+                                        .map(Number::longValue)
+                                        .orElse(0L)),
+                        document.get(S_SERIALIZED_SNAPSHOT, Document.class)
+                                .toBsonDocument(BsonDocument.class, MongoClientSettings.getDefaultCodecRegistry())
+                ));
+    }
+
+    /**
+     * Find the highest event sequence number in the journal of each of the given PIDs with one query, e.g. in order
+     * to recover many entities at once.
+     *
+     * @param pids the PIDs to search for.
+     * @return source of pairs of PID and highest event sequence number of those PIDs which have events in the
+     * journal, in no particular order.
+     * @since 3.8.0
+     */
+    public Source<Pair<String, Long>, NotUsed> getLatestEventSeqNosOfPids(final Collection<String> pids) {
+        return getJournal()
+                .withAttributes(Attributes.inputBuffer(1, 1))
+                .flatMapConcat(journal -> Source.fromPublisher(journal.aggregate(List.of(
+                        Aggregates.match(Filters.in(J_PROCESSOR_ID, pids)),
+                        Aggregates.group("$" + J_PROCESSOR_ID, Accumulators.max(J_TO, "$" + J_TO))
+                ))))
+                .map(document -> Pair.create(document.getString(J_ID), document.get(J_TO, Number.class).longValue()));
+    }
+
     /**
      * Find the smallest event sequence number of a PID.
      *
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistence.mongo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.List;
+
+import org.bson.BsonBinary;
+import org.bson.BsonDocument;
+import org.bson.BsonInt64;
+import org.bson.BsonString;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonParseException;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link CompactSnapshotFormat}.
+ */
+public final class CompactSnapshotFormatTest {
+
+    private static final JsonObject SNAPSHOT_JSON = JsonObject.of("{" +
+            "\"thingId\": \"org.eclipse.ditto:thing\"," +
+            "\"_revision\": 42," +
+            "\"attributes\": {\"location\": \"kitchen\", \"a.b\": [1, 2.5, null]}," +
+            "\"features\": {\"lamp\": {\"properties\": {\"on\": true}}}" +
+            "}");
+
+    private final CompactSnapshotFormat underTest = CompactSnapshotFormat.of(List.of("thingId", "_revision"));
+
+    @Test
+    public void encodeKeepsPlainFieldsAsBson() {
+        final BsonDocument encoded = underTest.encode(SNAPSHOT_JSON);
+
+        assertThat(encoded.keySet()).containsExactlyInAnyOrder("thingId", "_revision",
+                CompactSnapshotFormat.CBOR_FIELD);
+        assertThat(encoded.get("thingId")).isEqualTo(new BsonString("org.eclipse.ditto:thing"));
+        assertThat(encoded.get("_revision").asNumber().longValue()).isEqualTo(42L);
+        assertThat(CompactSnapshotFormat.isCompact(encoded)).isTrue();
+    }
+
+    @Test
+    public void decodeRestoresEncodedJson() {
+        final BsonDocument encoded = underTest.encode(SNAPSHOT_JSON);
+
+        assertThat(CompactSnapshotFormat.decode(encoded)).isEqualTo(SNAPSHOT_JSON);
+    }
+
+    @Test
+    public void plainBsonSnapshotIsNotCompact() {
+        final BsonDocument plain = DittoBsonJson.getInstance().parse(SNAPSHOT_JSON);
+
+        assertThat(CompactSnapshotFormat.isCompact(plain)).isFalse();
+        assertThatExceptionOfType(JsonParseException.class)
+                .isThrownBy(() -> CompactSnapshotFormat.decode(plain));
+    }
+
+    @Test
+    public void decodeCorruptedSnapshotThrowsJsonParseException() {
+        final BsonDocument corrupted = new BsonDocument("_revision", new BsonInt64(42L))
+                .append(CompactSnapshotFormat.CBOR_FIELD, new BsonBinary(new byte[]{1, 2, 3}));
+
+        assertThatExceptionOfType(JsonParseException.class)
+                .isThrownBy(() -> CompactSnapshotFormat.decode(corrupted));
+    }
+
+}
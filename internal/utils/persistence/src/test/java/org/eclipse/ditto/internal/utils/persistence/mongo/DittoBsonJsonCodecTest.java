@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistence.mongo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentReader;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.DecoderContext;
+import org.eclipse.ditto.json.JsonObject;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link DittoBsonJsonCodec}.
+ */
+public final class DittoBsonJsonCodecTest {
+
+    private static final JsonObject JSON_OBJECT = JsonObject.of("{" +
+            "\"org.eclipse.ditto\": 42," +
+            "\"$something\": 2147483648," +
+            "\"double\": 4.2," +
+            "\"string\": \"foo\"," +
+            "\"boolean\": true," +
+            "\"null\": null," +
+            "\"nested\": {\"a.b\": [1, \"two\", {\"$c\": false}, [null]]}" +
+            "}");
+
+    private final DittoBsonJsonCodec underTest = DittoBsonJsonCodec.getInstance();
+
+    @Test
+    public void encodesLikeDittoBsonJson() {
+        final RawBsonDocument encoded = new RawBsonDocument(JSON_OBJECT, underTest);
+
+        assertThat((BsonDocument) encoded).isEqualTo(DittoBsonJson.getInstance().parse(JSON_OBJECT));
+    }
+
+    @Test
+    public void escapesProblematicCharactersInKeys() {
+        final RawBsonDocument encoded = new RawBsonDocument(JSON_OBJECT, underTest);
+
+        assertThat(encoded.containsKey("org．eclipse．ditto")).isTrue();
+        assertThat(encoded.containsKey("＄something")).isTrue();
+        assertThat(encoded.getDocument("nested").containsKey("a．b")).isTrue();
+    }
+
+    @Test
+    public void decodesRawBsonDocument() {
+        final RawBsonDocument encoded = new RawBsonDocument(JSON_OBJECT, underTest);
+
+        assertThat(encoded.decode(underTest)).isEqualTo(JSON_OBJECT);
+    }
+
+    @Test
+    public void decodesBsonDocument() {
+        final BsonDocument bsonDocument = DittoBsonJson.getInstance().parse(JSON_OBJECT);
+
+        final JsonObject decoded =
+                underTest.decode(new BsonDocumentReader(bsonDocument), DecoderContext.builder().build());
+
+        assertThat(decoded).isEqualTo(JSON_OBJECT);
+    }
+
+}
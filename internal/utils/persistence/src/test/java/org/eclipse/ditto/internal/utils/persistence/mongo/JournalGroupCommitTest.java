@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistence.mongo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.bson.BsonDocument;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.bulk.BulkWriteError;
+import com.typesafe.config.ConfigFactory;
+
+import org.apache.pekko.actor.ActorRef;
+import org.apache.pekko.actor.ActorSystem;
+import org.apache.pekko.persistence.AtomicWrite;
+import org.apache.pekko.persistence.PersistentRepr;
+import org.apache.pekko.stream.SystemMaterializer;
+import org.apache.pekko.testkit.javadsl.TestKit;
+
+import scala.runtime.BoxedUnit;
+import scala.util.Failure;
+import scala.util.Success;
+import scala.util.Try;
+
+/**
+ * Tests {@link JournalGroupCommit}.
+ */
+public final class JournalGroupCommitTest {
+
+    private static final Try<BoxedUnit> SUCCESS = new Success<>(BoxedUnit.UNIT);
+
+    private final List<List<AtomicWrite>> journalWrites = new CopyOnWriteArrayList<>();
+
+    private ActorSystem actorSystem;
+
+    @Before
+    public void setUp() {
+        actorSystem = ActorSystem.create("PekkoTestSystem", ConfigFactory.load("test"));
+    }
+
+    @After
+    public void shutdownActorSystem() {
+        TestKit.shutdownActorSystem(actorSystem);
+    }
+
+    @Test
+    public void writesWritesOfDifferentPersistenceActorsWithOneJournalWrite() {
+        final List<AtomicWrite> a = List.of(atomicWrite("thing:a", 1L));
+        final List<AtomicWrite> b = List.of(atomicWrite("thing:b", 1L), atomicWrite("thing:b", 2L));
+        final JournalGroupCommit underTest = newGroupCommit(3, messages -> CompletableFuture.completedStage(List.of()));
+
+        final CompletableFuture<List<Try<BoxedUnit>>> resultA = offer(underTest, a);
+        final CompletableFuture<List<Try<BoxedUnit>>> resultB = offer(underTest, b);
+
+        assertThat(resultA).succeedsWithin(5, TimeUnit.SECONDS);
+        assertThat(resultB).succeedsWithin(5, TimeUnit.SECONDS);
+        assertThat(journalWrites).containsExactly(List.of(a.get(0), b.get(0), b.get(1)));
+    }
+
+    @Test
+    public void acknowledgesEachWriteWithItsOwnResults() {
+        final List<AtomicWrite> a = List.of(atomicWrite("thing:a", 1L));
+        final List<AtomicWrite> b = List.of(atomicWrite("thing:b", 1L));
+        final Try<BoxedUnit> rejected = new Failure<>(new IllegalArgumentException("too large"));
+        final JournalGroupCommit underTest =
+                newGroupCommit(2, messages -> CompletableFuture.completedStage(List.of(SUCCESS, rejected)));
+
+        final CompletableFuture<List<Try<BoxedUnit>>> resultA = offer(underTest, a);
+        final CompletableFuture<List<Try<BoxedUnit>>> resultB = offer(underTest, b);
+
+        assertThat(resultA).succeedsWithin(5, TimeUnit.SECONDS).isEqualTo(List.of(SUCCESS));
+        assertThat(resultB).succeedsWithin(5, TimeUnit.SECONDS).isEqualTo(List.of(rejected));
+    }
+
+    @Test
+    public void failsOnlyTheWriteOfTheFailedDocumentOfAFailedGroup() {
+        final List<AtomicWrite> before = List.of(atomicWrite("thing:a", 1L));
+        final List<AtomicWrite> bad = List.of(atomicWrite("thing:b", 1L));
+        final List<AtomicWrite> after = List.of(atomicWrite("thing:c", 1L));
+        final MongoBulkWriteException error = bulkWriteException(1);
+        final JournalGroupCommit underTest = newGroupCommit(3, messages -> messages.size() > 1
+                ? CompletableFuture.failedStage(error)
+                : CompletableFuture.completedStage(List.of()));
+
+        final CompletableFuture<List<Try<BoxedUnit>>> resultBefore = offer(underTest, before);
+        final CompletableFuture<List<Try<BoxedUnit>>> resultBad = offer(underTest, bad);
+        final CompletableFuture<List<Try<BoxedUnit>>> resultAfter = offer(underTest, after);
+
+        assertThat(resultBefore).succeedsWithin(5, TimeUnit.SECONDS).isEqualTo(List.of(SUCCESS));
+        assertThat(resultBad).failsWithin(5, TimeUnit.SECONDS)
+                .withThrowableOfType(ExecutionException.class)
+                .withCause(error);
+        assertThat(resultAfter).succeedsWithin(5, TimeUnit.SECONDS).isEqualTo(List.of());
+        // the write after the failed document was not attempted by the bulk write and is written on its own
+        assertThat(journalWrites).containsExactly(List.of(before.get(0), bad.get(0), after.get(0)), after);
+    }
+
+    @Test
+    public void writesEachWriteOfAFailedGroupOnItsOwnIfTheFailedDocumentIsUnknown() {
+        final List<AtomicWrite> a = List.of(atomicWrite("thing:a", 1L));
+        final List<AtomicWrite> bad = List.of(atomicWrite("thing:b", 1L));
+        final List<AtomicWrite> c = List.of(atomicWrite("thing:c", 1L));
+        final IllegalStateException groupError = new IllegalStateException("connection reset");
+        final IllegalStateException badError = new IllegalStateException("document too large");
+        final JournalGroupCommit underTest = newGroupCommit(3, messages -> {
+            if (messages.size() > 1) {
+                return CompletableFuture.failedStage(groupError);
+            } else if (messages.equals(bad)) {
+                return CompletableFuture.failedStage(badError);
+            }
+            return CompletableFuture.completedStage(List.of());
+        });
+
+        final CompletableFuture<List<Try<BoxedUnit>>> resultA = offer(underTest, a);
+        final CompletableFuture<List<Try<BoxedUnit>>> resultBad = offer(underTest, bad);
+        final CompletableFuture<List<Try<BoxedUnit>>> resultC = offer(underTest, c);
+
+        assertThat(resultA).succeedsWithin(5, TimeUnit.SECONDS);
+        assertThat(resultBad).failsWithin(5, TimeUnit.SECONDS)
+                .withThrowableOfType(ExecutionException.class)
+                .withCause(badError);
+        assertThat(resultC).succeedsWithin(5, TimeUnit.SECONDS);
+        assertThat(journalWrites).hasSize(4).containsAll(List.of(a, bad, c));
+    }
+
+    private JournalGroupCommit newGroupCommit(final int maxBatchSize,
+            final Function<List<AtomicWrite>, CompletionStage<List<Try<BoxedUnit>>>> journal) {
+
+        return new JournalGroupCommit(Duration.ofSeconds(1), maxBatchSize, messages -> {
+            journalWrites.add(messages);
+            return journal.apply(messages);
+        }, SystemMaterializer.get(actorSystem).materializer());
+    }
+
+    private static CompletableFuture<List<Try<BoxedUnit>>> offer(final JournalGroupCommit underTest,
+            final List<AtomicWrite> messages) {
+
+        return underTest.offer(messages).orElseThrow().toCompletableFuture();
+    }
+
+    private static AtomicWrite atomicWrite(final String persistenceId, final long sequenceNr) {
+        return AtomicWrite.apply(PersistentRepr.apply("event", sequenceNr, persistenceId, "", false,
+                ActorRef.noSender(), "writer"));
+    }
+
+    private static MongoBulkWriteException bulkWriteException(final int indexOfFailedDocument) {
+        final MongoBulkWriteException error = Mockito.mock(MongoBulkWriteException.class);
+        when(error.getWriteErrors()).thenReturn(List.of(
+                new BulkWriteError(11000, "E11000 duplicate key error", new BsonDocument(), indexOfFailedDocument)));
+        return error;
+    }
+
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistence.mongo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.eclipse.ditto.internal.utils.persistence.mongo.config.DefaultMongoReadJournalConfig;
+import org.eclipse.ditto.internal.utils.persistence.mongo.config.MongoReadJournalConfig;
+import org.eclipse.ditto.internal.utils.persistence.mongo.streaming.MongoReadJournal;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import com.typesafe.config.ConfigFactory;
+
+import org.apache.pekko.actor.ActorSystem;
+import org.apache.pekko.japi.Pair;
+import org.apache.pekko.persistence.SelectedSnapshot;
+import org.apache.pekko.persistence.SnapshotMetadata;
+import org.apache.pekko.stream.SystemMaterializer;
+import org.apache.pekko.stream.javadsl.Source;
+import org.apache.pekko.testkit.javadsl.TestKit;
+
+/**
+ * Tests {@link MongoRecoveryCoordinator}.
+ */
+public final class MongoRecoveryCoordinatorTest {
+
+    private static final String JOURNAL_COLLECTION = "things_journal";
+    private static final String SNAPSHOT_COLLECTION = "things_snaps";
+
+    private ActorSystem actorSystem;
+    private MongoReadJournal readJournal;
+
+    @Before
+    public void setUp() {
+        actorSystem = ActorSystem.create("PekkoTestSystem", ConfigFactory.load("test"));
+        readJournal = Mockito.mock(MongoReadJournal.class);
+        when(readJournal.getJournalCollectionName()).thenReturn(JOURNAL_COLLECTION);
+        when(readJournal.getSnapshotCollectionName()).thenReturn(SNAPSHOT_COLLECTION);
+    }
+
+    @After
+    public void shutdownActorSystem() {
+        TestKit.shutdownActorSystem(actorSystem);
+    }
+
+    @Test
+    public void isEnabledOnlyForCollectionsOfItsReadJournal() {
+        final MongoRecoveryCoordinator underTest = newCoordinator(true, 3, "1s", 1);
+
+        assertThat(underTest.isEnabledForJournal(JOURNAL_COLLECTION)).isTrue();
+        assertThat(underTest.isEnabledForJournal("policies_journal")).isFalse();
+        assertThat(underTest.isEnabledForSnapshotStore(SNAPSHOT_COLLECTION)).isTrue();
+        assertThat(underTest.isEnabledForSnapshotStore("policies_snaps")).isFalse();
+    }
+
+    @Test
+    public void isNotEnabledIfRecoveryBatchingIsDisabled() {
+        final MongoRecoveryCoordinator underTest = newCoordinator(false, 3, "1s", 1);
+
+        assertThat(underTest.isEnabledForJournal(JOURNAL_COLLECTION)).isFalse();
+        assertThat(underTest.isEnabledForSnapshotStore(SNAPSHOT_COLLECTION)).isFalse();
+    }
+
+    @Test
+    public void readsHighestSequenceNumbersOfConcurrentLookupsWithOneQuery() {
+        when(readJournal.getLatestEventSeqNosOfPids(any()))
+                .thenReturn(Source.from(List.of(Pair.create("thing:a", 3L), Pair.create("thing:b", 5L))));
+        final MongoRecoveryCoordinator underTest = newCoordinator(true, 3, "1s", 1);
+
+        final CompletionStage<Optional<Long>> a = underTest.readHighestSequenceNumber("thing:a");
+        final CompletionStage<Optional<Long>> b = underTest.readHighestSequenceNumber("thing:b");
+        final CompletionStage<Optional<Long>> withoutEvents = underTest.readHighestSequenceNumber("thing:c");
+
+        assertThat(join(a)).contains(3L);
+        assertThat(join(b)).contains(5L);
+        assertThat(join(withoutEvents)).isEmpty();
+        verify(readJournal).getLatestEventSeqNosOfPids(List.of("thing:a", "thing:b", "thing:c"));
+    }
+
+    @Test
+    public void loadsNewestSnapshotsOfConcurrentLookupsWithOneQuery() {
+        final SelectedSnapshot snapshot = SelectedSnapshot.create(new SnapshotMetadata("thing:a", 3L, 0L), "a");
+        when(readJournal.getNewestSnapshotsOfPids(any())).thenReturn(Source.single(snapshot));
+        final MongoRecoveryCoordinator underTest = newCoordinator(true, 2, "1s", 1);
+
+        final CompletionStage<Optional<SelectedSnapshot>> a = underTest.loadNewestSnapshot("thing:a");
+        final CompletionStage<Optional<SelectedSnapshot>> withoutSnapshot = underTest.loadNewestSnapshot("thing:b");
+
+        assertThat(join(a)).contains(snapshot);
+        assertThat(join(withoutSnapshot)).isEmpty();
+        verify(readJournal).getNewestSnapshotsOfPids(List.of("thing:a", "thing:b"));
+        verify(readJournal, never()).getLatestEventSeqNosOfPids(any());
+    }
+
+    @Test
+    public void performsIncompleteBatchAfterMaxDelay() {
+        when(readJournal.getLatestEventSeqNosOfPids(any()))
+                .thenReturn(Source.single(Pair.create("thing:a", 1L)));
+        final MongoRecoveryCoordinator underTest = newCoordinator(true, 100, "50ms", 1);
+
+        assertThat(join(underTest.readHighestSequenceNumber("thing:a"))).contains(1L);
+        verify(readJournal).getLatestEventSeqNosOfPids(List.of("thing:a"));
+    }
+
+    @Test
+    public void failsAllLookupsOfBatchIfQueryFails() {
+        final IllegalStateException error = new IllegalStateException("MongoDB not reachable");
+        when(readJournal.getLatestEventSeqNosOfPids(any())).thenReturn(Source.failed(error));
+        final MongoRecoveryCoordinator underTest = newCoordinator(true, 2, "1s", 1);
+
+        final CompletableFuture<Optional<Long>> a = underTest.readHighestSequenceNumber("thing:a")
+                .toCompletableFuture();
+        final CompletableFuture<Optional<Long>> b = underTest.readHighestSequenceNumber("thing:b")
+                .toCompletableFuture();
+
+        assertThat(a).failsWithin(5, TimeUnit.SECONDS).withThrowableOfType(ExecutionException.class).withCause(error);
+        assertThat(b).failsWithin(5, TimeUnit.SECONDS).withThrowableOfType(ExecutionException.class).withCause(error);
+    }
+
+    @Test
+    public void failsLookupsWhichExceedTheBuffer() {
+        when(readJournal.getLatestEventSeqNosOfPids(any())).thenReturn(Source.never());
+        final MongoRecoveryCoordinator underTest = newCoordinator(true, 1, "1s", 1);
+
+        final List<CompletableFuture<Optional<Long>>> lookups = IntStream.range(0, 100)
+                .mapToObj(i -> underTest.readHighestSequenceNumber("thing:" + i).toCompletableFuture())
+                .toList();
+
+        assertThat(lookups).anySatisfy(lookup -> assertThat(lookup).isCompletedExceptionally());
+    }
+
+    private MongoRecoveryCoordinator newCoordinator(final boolean enabled, final int batchSize,
+            final String maxDelay, final int parallelism) {
+
+        final MongoReadJournalConfig config = DefaultMongoReadJournalConfig.of(ConfigFactory.parseMap(Map.of(
+                "read-journal.recovery-batching-enabled", enabled,
+                "read-journal.recovery-batch-size", batchSize,
+                "read-journal.recovery-batch-max-delay", maxDelay,
+                "read-journal.recovery-batch-parallelism", parallelism)));
+        return new MongoRecoveryCoordinator(readJournal, config, SystemMaterializer.get(actorSystem).materializer());
+    }
+
+    private static <T> Optional<T> join(final CompletionStage<Optional<T>> lookup) {
+        return lookup.toCompletableFuture().orTimeout(5, TimeUnit.SECONDS).join();
+    }
+
+}
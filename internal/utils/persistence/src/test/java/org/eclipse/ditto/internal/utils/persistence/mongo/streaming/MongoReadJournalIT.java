@@ -13,6 +13,7 @@
 package org.eclipse.ditto.internal.utils.persistence.mongo.streaming;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 
 import java.time.Duration;
 import java.time.Instant;
@@ -24,6 +25,8 @@ import java.util.Set;
 import java.util.stream.Stream;
 
 import org.apache.pekko.actor.ActorSystem;
+import org.apache.pekko.japi.Pair;
+import org.apache.pekko.persistence.SelectedSnapshot;
 import org.apache.pekko.stream.Materializer;
 import org.apache.pekko.stream.SystemMaterializer;
 import org.apache.pekko.stream.javadsl.Sink;
@@ -652,6 +655,47 @@ public final class MongoReadJournalIT {
         assertThat(pids).containsExactly("pid3", "pid4", "pid6");
     }
 
+    @Test
+    public void getNewestSnapshotsOfPids() {
+        insert("test_snaps", snapshot("pid1", 1L, false));
+        insert("test_snaps", snapshot("pid1", 3L, false));
+        insert("test_snaps", snapshot("pid1", 2L, false));
+        insert("test_snaps", snapshot("pid2", 1L, true));
+        insert("test_snaps", snapshot("pid3", 5L, false));
+
+        final List<SelectedSnapshot> snapshots =
+                readJournal.getNewestSnapshotsOfPids(List.of("pid1", "pid2", "pid4"))
+                        .runWith(Sink.seq(), materializer)
+                        .toCompletableFuture()
+                        .join();
+
+        assertThat(snapshots)
+                .extracting(snapshot -> snapshot.metadata().persistenceId(),
+                        snapshot -> snapshot.metadata().sequenceNr())
+                .containsExactlyInAnyOrder(tuple("pid1", 3L), tuple("pid2", 1L));
+        assertThat(snapshots)
+                .filteredOn(snapshot -> "pid1".equals(snapshot.metadata().persistenceId()))
+                .extracting(SelectedSnapshot::snapshot)
+                .containsExactly(BsonDocument.parse(snapshot("pid1", 3L, false).get("s2", Document.class).toJson()));
+    }
+
+    @Test
+    public void getLatestEventSeqNosOfPids() {
+        insert("test_journal", new JournalEntry("pid1").withSn(1L).getDocument());
+        insert("test_journal", new JournalEntry("pid1").withSn(4L).getDocument());
+        insert("test_journal", new JournalEntry("pid1").withSn(2L).getDocument());
+        insert("test_journal", new JournalEntry("pid2").withSn(7L).getDocument());
+        insert("test_journal", new JournalEntry("pid3").withSn(9L).getDocument());
+
+        final List<Pair<String, Long>> seqNos =
+                readJournal.getLatestEventSeqNosOfPids(List.of("pid1", "pid2", "pid4"))
+                        .runWith(Sink.seq(), materializer)
+                        .toCompletableFuture()
+                        .join();
+
+        assertThat(seqNos).containsExactlyInAnyOrder(Pair.create("pid1", 4L), Pair.create("pid2", 7L));
+    }
+
     private void insert(final CharSequence collection, final Document... documents) {
         Source.fromPublisher(mongoClient.getCollection(collection).insertMany(Arrays.asList(documents)))
                 .runWith(Sink.ignore(), materializer)
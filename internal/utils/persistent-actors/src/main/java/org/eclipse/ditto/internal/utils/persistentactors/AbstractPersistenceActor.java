@@ -14,17 +14,19 @@ package org.eclipse.ditto.internal.utils.persistentactors;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.stream.LongStream;
 
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
 
 import org.apache.pekko.actor.ActorRef;
-import org.apache.pekko.actor.Cancellable;
 import org.apache.pekko.japi.pf.ReceiveBuilder;
 import org.apache.pekko.pattern.Patterns;
 import org.apache.pekko.persistence.RecoveryCompleted;
@@ -32,11 +34,6 @@ import org.apache.pekko.persistence.RecoveryTimedOut;
 import org.apache.pekko.persistence.SaveSnapshotFailure;
 import org.apache.pekko.persistence.SaveSnapshotSuccess;
 import org.apache.pekko.persistence.SnapshotOffer;
-import org.apache.pekko.persistence.SnapshotProtocol;
-import org.apache.pekko.persistence.SnapshotSelectionCriteria;
-import org.apache.pekko.persistence.query.EventEnvelope;
-import org.apache.pekko.stream.javadsl.Sink;
-import org.bson.BsonDocument;
 import org.eclipse.ditto.base.api.commands.sudo.SudoCommand;
 import org.eclipse.ditto.base.model.entity.id.EntityId;
 import org.eclipse.ditto.base.model.entity.id.NamespacedEntityId;
@@ -51,20 +48,19 @@ import org.eclipse.ditto.base.model.json.JsonSchemaVersion;
 import org.eclipse.ditto.base.model.json.Jsonifiable;
 import org.eclipse.ditto.base.model.signals.FeatureToggle;
 import org.eclipse.ditto.base.model.signals.commands.Command;
+import org.eclipse.ditto.base.model.signals.events.Event;
 import org.eclipse.ditto.base.model.signals.events.EventsourcedEvent;
-import org.eclipse.ditto.base.model.signals.events.GlobalEventRegistry;
 import org.eclipse.ditto.internal.utils.config.ScopedConfig;
 import org.eclipse.ditto.internal.utils.namespaces.BlockedNamespaces;
 import org.eclipse.ditto.internal.utils.pekko.PingCommand;
 import org.eclipse.ditto.internal.utils.pekko.PingCommandResponse;
 import org.eclipse.ditto.internal.utils.pekko.logging.DittoDiagnosticLoggingAdapter;
 import org.eclipse.ditto.internal.utils.persistence.SnapshotAdapter;
-import org.eclipse.ditto.internal.utils.persistence.mongo.AbstractMongoEventAdapter;
-import org.eclipse.ditto.internal.utils.persistence.mongo.DittoBsonJson;
 import org.eclipse.ditto.internal.utils.persistence.mongo.config.ActivityCheckConfig;
 import org.eclipse.ditto.internal.utils.persistence.mongo.config.SnapshotConfig;
 import org.eclipse.ditto.internal.utils.persistence.mongo.streaming.MongoReadJournal;
 import org.eclipse.ditto.internal.utils.persistentactors.commands.CommandStrategy;
+import org.eclipse.ditto.internal.utils.persistentactors.events.EventCoalescingStrategy;
 import org.eclipse.ditto.internal.utils.persistentactors.events.EventStrategy;
 import org.eclipse.ditto.internal.utils.persistentactors.results.Result;
 import org.eclipse.ditto.internal.utils.persistentactors.results.ResultFactory;
@@ -73,7 +69,9 @@ import org.eclipse.ditto.internal.utils.tracing.DittoTracing;
 import org.eclipse.ditto.internal.utils.tracing.span.SpanOperationName;
 import org.eclipse.ditto.internal.utils.tracing.span.SpanTagKey;
 import org.eclipse.ditto.internal.utils.tracing.span.StartedSpan;
+import org.eclipse.ditto.json.JsonFactory;
 import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonFieldDefinition;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonValue;
 
@@ -103,13 +101,35 @@ public abstract class AbstractPersistenceActor<
      */
     public static final String JOURNAL_TAG_ALWAYS_ALIVE = "always-alive";
 
+    private static final String PERSIST_COALESCED_EVENTS_TIMER = "persistCoalescedEvents";
+
+    private static final JsonFieldDefinition<Long> RESERVED_REVISIONS =
+            JsonFactory.newLongFieldDefinition("reservedRevisions");
+
     private final SnapshotAdapter<S> snapshotAdapter;
     private final Receive handleEvents;
     private final Receive handleCleanups;
     private final MongoReadJournal mongoReadJournal;
+    @Nullable private HistoricalEntityReader<S, E> historicalEntityReader;
     private long lastSnapshotRevision;
     private long confirmedSnapshotRevision;
 
+    /**
+     * Coalesced events which were applied to the entity but not yet persisted.
+     */
+    private final List<E> coalescedEvents;
+
+    /**
+     * Number of coalesced events (or their placeholders) being persisted.
+     */
+    private long persistingCoalescedEvents;
+
+    /**
+     * Highest revision reserved in the journal for coalesced events; revisions up to it which are not in the journal
+     * after recovery may have been published by lost coalesced events and are skipped.
+     */
+    private long reservedRevision;
+
     /**
      * The current entity, or null if it was never created.
      */
@@ -141,12 +161,17 @@ public abstract class AbstractPersistenceActor<
 
         lastSnapshotRevision = 0L;
         confirmedSnapshotRevision = 0L;
+        coalescedEvents = new ArrayList<>();
+        persistingCoalescedEvents = 0L;
+        reservedRevision = 0L;
 
         handleEvents = ReceiveBuilder.create()
                 .match(getEventClass(), event ->
                         entity = getEventStrategy().handle((E) event, entity, getRevisionNumber()))
-                .match(EmptyEvent.class, event ->
-                        log.withCorrelationId(event).debug("Recovered EmptyEvent: <{}>", event))
+                .match(EmptyEvent.class, event -> {
+                    log.withCorrelationId(event).debug("Recovered EmptyEvent: <{}>", event);
+                    getReservedRevisions(event).ifPresent(revisions -> reservedRevision = lastSequenceNr() + revisions);
+                })
                 .build();
 
         handleCleanups = super.createReceive();
@@ -261,6 +286,17 @@ public abstract class AbstractPersistenceActor<
      */
     protected abstract boolean isEntityAlwaysAlive();
 
+    /**
+     * Get the strategy deciding which events are coalesced instead of being persisted one by one. Overridable in
+     * subclasses; coalesces no events by default.
+     *
+     * @return the event coalescing strategy.
+     * @since 3.8.0
+     */
+    protected EventCoalescingStrategy<E, S> getEventCoalescingStrategy() {
+        return EventCoalescingStrategy.disabled();
+    }
+
     /**
      * Callback at the end of recovery. Overridable in subclasses.
      *
@@ -287,12 +323,17 @@ public abstract class AbstractPersistenceActor<
      * @return the current revision number for event handling.
      */
     protected long getRevisionNumber() {
-        return lastSequenceNr();
+        // coalesced events not persisted yet already count as revisions of the entity
+        return lastSequenceNr() + coalescedEvents.size() + persistingCoalescedEvents;
     }
 
     @Override
     public void postStop() throws Exception {
         log.debug("Stopping PersistenceActor for entity with ID <{}>.", entityId);
+        if (!coalescedEvents.isEmpty()) {
+            log.warning("Stopping PersistenceActor for entity with ID <{}> loses <{}> coalesced events.", entityId,
+                    coalescedEvents.size());
+        }
         super.postStop();
     }
 
@@ -320,7 +361,10 @@ public abstract class AbstractPersistenceActor<
                         log.warning("RecoveryTimeout occurred during recovery for entity with ID {}", entityId)
                 )
                 // # Recovery handling
-                .match(RecoveryCompleted.class, this::recoveryCompleted)
+                .match(RecoveryCompleted.class, recoveryCompleted -> {
+                    skipReservedRevisions();
+                    recoveryCompleted(recoveryCompleted);
+                })
                 .matchAny(m -> log.warning("Unknown recover message: {}", m))
                 .build());
     }
@@ -339,10 +383,13 @@ public abstract class AbstractPersistenceActor<
                         .match(CheckForActivity.class, this::checkForActivity)
                         .match(PingCommand.class, this::processPingCommand)
                         .matchEquals(Control.TAKE_SNAPSHOT, this::takeSnapshotByInterval)
+                        .matchEquals(Control.PERSIST_COALESCED_EVENTS, control -> persistCoalescedEvents())
                         .match(SaveSnapshotSuccess.class, this::saveSnapshotSuccess)
                         .match(SaveSnapshotFailure.class, this::saveSnapshotFailure)
                         .match(PersistEventAsync.class, persistEventAsync ->
                                 persistAndApplyEvent((E) persistEventAsync.event, persistEventAsync.handler))
+                        .match(HistoricalStateRead.class, historicalStateRead ->
+                                handleHistoricalStateRead((HistoricalStateRead<C, S>) historicalStateRead))
                         .build())
                 .orElse(matchAnyAfterInitialization());
 
@@ -368,25 +415,26 @@ public abstract class AbstractPersistenceActor<
             getSender().tell(dre, getSelf());
             return;
         }
-
-        final CommandStrategy<C, S, K, E> commandStrategy = getCreatedStrategy();
-        final EventStrategy<E, S> eventStrategy = getEventStrategy();
-        final ActorRef sender = getSender();
-        final ActorRef self = getSelf();
+        final long revision = getRevisionNumber();
         final Optional<Long> atHistoricalRevision = Optional
                 .ofNullable(command.getDittoHeaders().get(DittoHeaderDefinition.AT_HISTORICAL_REVISION.getKey()))
                 .map(Long::parseLong);
-        if (atHistoricalRevision.isPresent() && atHistoricalRevision.get() > lastSequenceNr()) {
+        if (atHistoricalRevision.isPresent() && atHistoricalRevision.get() > revision) {
             getSender().tell(
                     newHistoryNotAccessibleExceptionBuilder(atHistoricalRevision.get())
                             .dittoHeaders(command.getDittoHeaders())
                             .build(),
                     getSelf()
             );
-        } else if (atHistoricalRevision.isPresent() && atHistoricalRevision.get() == lastSequenceNr()) {
+        } else if (atHistoricalRevision.isPresent() && atHistoricalRevision.get() == revision) {
             // for current revision, don't make the effort to load snapshot, etc., but return from memory like a normal
             // "RetrieveThing" command does:
             handleByCommandStrategy(command);
+        } else if (revision > lastSequenceNr()) {
+            // the history is read from the journal and has to contain all revisions: handle the command again once
+            // the coalesced events are persisted
+            persistCoalescedEvents();
+            getSelf().forward(command, getContext());
         } else {
             final Instant atHistoricalTimestamp = Optional
                     .ofNullable(command.getDittoHeaders().get(DittoHeaderDefinition.AT_HISTORICAL_TIMESTAMP.getKey()))
@@ -402,134 +450,53 @@ public abstract class AbstractPersistenceActor<
                 return;
             }
 
-            loadSnapshot(persistenceId(), SnapshotSelectionCriteria.create(
-                    atHistoricalRevision.orElseGet(this::lastSequenceNr),
-                    atHistoricalTimestamp.equals(Instant.EPOCH) ? Long.MAX_VALUE : atHistoricalTimestamp.toEpochMilli(),
-                    0L,
-                    0L
-            ), getLatestSnapshotSequenceNumber());
-
-            final Duration waitTimeout = Duration.ofSeconds(5);
-            final Cancellable cancellableSnapshotLoadTimeout =
-                    getContext().getSystem().getScheduler().scheduleOnce(waitTimeout, getSelf(), waitTimeout,
-                            getContext().getDispatcher(), getSelf());
-            getContext().become(ReceiveBuilder.create()
-                    .match(SnapshotProtocol.LoadSnapshotResult.class, loadSnapshotResult ->
-                            historicalRetrieveHandleLoadSnapshotResult(command,
-                                    commandStrategy,
-                                    eventStrategy,
-                                    sender,
-                                    self,
-                                    atHistoricalRevision.orElseGet(this::lastSequenceNr),
-                                    atHistoricalTimestamp,
-                                    cancellableSnapshotLoadTimeout,
-                                    loadSnapshotResult
-                            )
-                    )
-                    .match(SnapshotProtocol.LoadSnapshotFailed.class, loadSnapshotFailed ->
-                            log.warning(loadSnapshotFailed.cause(), "Loading snapshot failed")
-                    )
-                    .matchEquals(waitTimeout, wt -> {
-                        log.withCorrelationId(command)
-                                .warning("Timed out waiting for receiving snapshot result!");
-                        becomeCreatedOrDeletedHandler();
-                        unstashAll();
-                    })
-                    .matchAny(any -> stash())
-                    .build());
+            // the reader restores the historical entity without this actor, which meanwhile processes live traffic;
+            // the command strategy is applied once the restored state is piped back to this actor
+            final long toRevision = atHistoricalRevision.orElse(revision);
+            final ActorRef sender = getSender();
+            final CompletionStage<HistoricalStateRead<C, S>> historicalStateRead = getHistoricalEntityReader()
+                    .read(toRevision, atHistoricalTimestamp.equals(Instant.EPOCH) ? null : atHistoricalTimestamp,
+                            getLatestSnapshotSequenceNumber())
+                    .handle((historicalState, error) -> new HistoricalStateRead<>(command, sender, toRevision,
+                            atHistoricalTimestamp, null == error ? historicalState.orElse(null) : null, error));
+            Patterns.pipe(historicalStateRead, getContext().getDispatcher()).to(getSelf());
         }
     }
 
-    private void historicalRetrieveHandleLoadSnapshotResult(final C command,
-            final CommandStrategy<C, S, K, E> commandStrategy,
-            final EventStrategy<E, S> eventStrategy,
-            final ActorRef sender,
-            final ActorRef self,
-            final long atHistoricalRevision,
-            final Instant atHistoricalTimestamp,
-            final Cancellable cancellableSnapshotLoadTimeout,
-            final SnapshotProtocol.LoadSnapshotResult loadSnapshotResult) {
-
-        final Option<S> snapshotEntity = loadSnapshotResult.snapshot()
-                .map(snapshotAdapter::fromSnapshotStore);
-        final boolean snapshotIsPresent = snapshotEntity.isDefined();
-
-        // when "getLatestSnapshotSequenceNumber() == 0", then no snapshot was stored yet to the snapshot store (e.g. for new things)
-        if (snapshotIsPresent || getLatestSnapshotSequenceNumber() == 0) {
-            final long snapshotEntityRevision = snapshotIsPresent ?
-                    loadSnapshotResult.snapshot().get().metadata().sequenceNr() : 0L;
-
-            final long fromSequenceNr;
-            if (atHistoricalRevision == snapshotEntityRevision) {
-                fromSequenceNr = snapshotEntityRevision;
-            } else {
-                fromSequenceNr = snapshotEntityRevision + 1;
-            }
-
-            @Nullable final S entityFromSnapshot = snapshotIsPresent ? snapshotEntity.get() : null;
-            mongoReadJournal.currentEventsByPersistenceId(persistenceId(),
-                            fromSequenceNr,
-                            atHistoricalRevision
-                    )
-                    .map(AbstractPersistenceActor::mapJournalEntryToEvent)
-                    .map(journalEntryEvent -> new EntityWithEvent(
-                            eventStrategy.handle((E) journalEntryEvent, entityFromSnapshot,
-                                    journalEntryEvent.getRevision()),
-                            (E) journalEntryEvent
-                    ))
-                    .takeWhile(entityWithEvent -> {
-                        if (atHistoricalTimestamp.equals(Instant.EPOCH)) {
-                            // no at-historical-timestamp was specified, so take all up to "at-historical-revision":
-                            return true;
-                        } else {
-                            // take while the timestamps of the events are before the specified "at-historical-timestamp":
-                            return entityWithEvent.event.getTimestamp()
-                                    .filter(ts -> ts.isBefore(atHistoricalTimestamp))
-                                    .isPresent();
-                        }
-                    })
-                    .fold(new EntityWithEvent(null, null), (ewe1, ewe2) -> {
-                        if (ewe1.event == null) {
-                            return ewe2; // for start element of "fold", use the first real element
-                        } else if (ewe2.event != null && ewe2.revision != null) {
-                            return new EntityWithEvent(
-                                    eventStrategy.handle(ewe2.event, ewe1.entity, ewe2.revision),
-                                    ewe2.event
-                            );
-                        } else {
-                            return ewe1;
-                        }
-                    })
-                    .runWith(Sink.foreach(entityWithEvent -> {
-                                if (entityWithEvent.event != null && entityWithEvent.revision != null) {
-                                    commandStrategy.apply(getStrategyContext(),
-                                            entityWithEvent.entity,
-                                            entityWithEvent.revision,
-                                            command
-                                    ).accept(new HistoricalResultListener(sender,
-                                            entityWithEvent.event.getDittoHeaders()), null);
-                                } else {
-                                    if (!atHistoricalTimestamp.equals(Instant.EPOCH)) {
-                                        sender.tell(newHistoryNotAccessibleExceptionBuilder(atHistoricalTimestamp).build(),
-                                                self);
-                                    } else {
-                                        sender.tell(newHistoryNotAccessibleExceptionBuilder(atHistoricalRevision).build(),
-                                                self);
-                                    }
-                                }
-                            }),
-                            getContext().getSystem());
+    private void handleHistoricalStateRead(final HistoricalStateRead<C, S> historicalStateRead) {
+        final C command = historicalStateRead.command();
+        final ActorRef sender = historicalStateRead.sender();
+        @Nullable final HistoricalEntityReader.HistoricalState<S> state = historicalStateRead.state();
+        @Nullable final Throwable error = historicalStateRead.error();
+        if (null != error) {
+            log.withCorrelationId(command)
+                    .warning("Reading historical entity failed: <{}: {}>", error.getClass().getSimpleName(),
+                            error.getMessage());
+        }
+        if (null != state) {
+            final DittoHeaders historicalHeaders = null != state.historicalHeaders()
+                    ? state.historicalHeaders()
+                    : DittoHeaders.empty();
+            getCreatedStrategy().apply(getStrategyContext(), state.entity(), state.revision(), command)
+                    .accept(new HistoricalResultListener(sender, historicalHeaders), null);
+        } else if (!historicalStateRead.atHistoricalTimestamp().equals(Instant.EPOCH)) {
+            sender.tell(newHistoryNotAccessibleExceptionBuilder(historicalStateRead.atHistoricalTimestamp())
+                    .dittoHeaders(command.getDittoHeaders())
+                    .build(), getSelf());
         } else {
-            if (!atHistoricalTimestamp.equals(Instant.EPOCH)) {
-                sender.tell(newHistoryNotAccessibleExceptionBuilder(atHistoricalTimestamp).build(), self);
-            } else {
-                sender.tell(newHistoryNotAccessibleExceptionBuilder(atHistoricalRevision).build(), self);
-            }
+            sender.tell(newHistoryNotAccessibleExceptionBuilder(historicalStateRead.toRevision())
+                    .dittoHeaders(command.getDittoHeaders())
+                    .build(), getSelf());
         }
+    }
 
-        cancellableSnapshotLoadTimeout.cancel();
-        becomeCreatedOrDeletedHandler();
-        unstashAll();
+    private HistoricalEntityReader<S, E> getHistoricalEntityReader() {
+        if (null == historicalEntityReader) {
+            // the reader asks the snapshot plugin of this actor directly instead of loading the snapshot via this actor
+            historicalEntityReader = new HistoricalEntityReader<>(persistenceId(), mongoReadJournal, snapshotStore(),
+                    snapshotAdapter, getEventStrategy(), getContext().getSystem());
+        }
+        return historicalEntityReader;
     }
 
     /**
@@ -572,12 +539,25 @@ public abstract class AbstractPersistenceActor<
         final E modifiedEvent = modifyEventBeforePersist(event);
         if (modifiedEvent.getDittoHeaders().isDryRun()) {
             handler.accept(modifiedEvent, entity);
-        } else {
+        } else if (!getEventCoalescingStrategy().isCoalescable(modifiedEvent, entity)) {
+            // coalesced events precede this event in the journal
+            persistCoalescedEvents();
             persistEvent(modifiedEvent, persistedEvent -> {
                 // after the event was persisted, apply the event on the current actor state
                 applyEvent(persistedEvent);
                 handler.accept(persistedEvent, entity);
             });
+        } else if (getRevisionNumber() < reservedRevision) {
+            coalesceEvent(modifiedEvent, handler);
+        } else {
+            // coalesced events are published before they are persisted: their revisions are reserved in the journal
+            // so that they are skipped instead of reused if the coalesced events are lost
+            persistCoalescedEvents();
+            persistEvent(modifiedEvent, persistedEvent -> {
+                applyEvent(persistedEvent);
+                handler.accept(persistedEvent, entity);
+                reserveRevisions(getEventCoalescingStrategy().getMaxEvents(), () -> {});
+            });
         }
     }
 
@@ -585,6 +565,13 @@ public abstract class AbstractPersistenceActor<
             E extends EventsourcedEvent<? extends E>,
             S extends Jsonifiable.WithFieldSelectorAndPredicate<JsonField>>(E event, BiConsumer<E, S> handler) {}
 
+    private record HistoricalStateRead<C, S>(C command,
+                                             ActorRef sender,
+                                             long toRevision,
+                                             Instant atHistoricalTimestamp,
+                                             @Nullable HistoricalEntityReader.HistoricalState<S> state,
+                                             @Nullable Throwable error) {}
+
     /**
      * Persist an event, modify actor state by the event strategy, then invoke the handler.
      *
@@ -639,6 +626,12 @@ public abstract class AbstractPersistenceActor<
             takeSnapshot("the entity is deleted and has no up-to-date snapshot");
         } else if (accessCounter > message.accessCounter) {
             log.debug("Entity <{}> was accessed since last activity check, preventing Actor shutdown.", entityId);
+        } else if (!coalescedEvents.isEmpty()) {
+            log.debug("Entity <{}> has coalesced events to persist, preventing Actor shutdown.", entityId);
+            persistCoalescedEvents();
+        } else if (isRevisionReservationOpen()) {
+            log.debug("Entity <{}> has reserved revisions to release, preventing Actor shutdown.", entityId);
+            reserveRevisions(0L, () -> {});
         } else if (isEntityActive() && isEntityAlwaysAlive()) {
             log.debug("Entity <{}> is active and marked as 'always-alive', preventing Actor shutdown.", entityId);
         } else {
@@ -655,6 +648,7 @@ public abstract class AbstractPersistenceActor<
 
     private void handlePersistEmptyEvent(final PersistEmptyEvent persistEmptyEvent) {
         log.debug("Received PersistEmptyEvent: <{}>", persistEmptyEvent);
+        persistCoalescedEvents();
         persist(persistEmptyEvent.getEmptyEvent(), event -> log.debug("Persisted EmptyEvent: <{}>", event));
     }
 
@@ -669,10 +663,13 @@ public abstract class AbstractPersistenceActor<
         return handleCleanups.orElse(handleByDeletedStrategyReceiveBuilder()
                         .match(CheckForActivity.class, this::checkForActivity)
                         .matchEquals(Control.TAKE_SNAPSHOT, this::takeSnapshotByInterval)
+                        .matchEquals(Control.PERSIST_COALESCED_EVENTS, control -> persistCoalescedEvents())
                         .match(SaveSnapshotSuccess.class, this::saveSnapshotSuccess)
                         .match(SaveSnapshotFailure.class, this::saveSnapshotFailure)
                         .match(PersistEventAsync.class, persistEventAsync ->
                                 persistAndApplyEvent((E) persistEventAsync.event, persistEventAsync.handler))
+                        .match(HistoricalStateRead.class, historicalStateRead ->
+                                handleHistoricalStateRead((HistoricalStateRead<C, S>) historicalStateRead))
                         .build())
                 .orElse(matchAnyWhenDeleted());
     }
@@ -909,7 +906,125 @@ public abstract class AbstractPersistenceActor<
         }
     }
 
+    private void coalesceEvent(final E event, final BiConsumer<E, S> handler) {
+        log.withCorrelationId(event).debug("Coalescing Event <{}>.", event.getType());
+        final EventCoalescingStrategy<E, S> coalescingStrategy = getEventCoalescingStrategy();
+
+        // the event counts as revision before it is applied
+        coalescedEvents.add(event);
+        applyEvent(event);
+        handler.accept(event, entity);
+        onEntityModified();
+
+        if (coalescedEvents.size() >= coalescingStrategy.getMaxEvents()) {
+            persistCoalescedEvents();
+        } else if (coalescedEvents.size() == 1) {
+            timers().startSingleTimer(PERSIST_COALESCED_EVENTS_TIMER, Control.PERSIST_COALESCED_EVENTS,
+                    coalescingStrategy.getMaxDelay());
+        }
+    }
+
+    /**
+     * Persists the coalesced events with one write; events superseded by later coalesced events are replaced by
+     * {@link EmptyEvent}s so that the sequence numbers of the journal stay equal to the revisions of the entity.
+     */
+    private void persistCoalescedEvents() {
+        if (coalescedEvents.isEmpty()) {
+            return;
+        }
+        timers().cancel(PERSIST_COALESCED_EVENTS_TIMER);
+
+        final EventCoalescingStrategy<E, S> coalescingStrategy = getEventCoalescingStrategy();
+        final List<Object> eventsToPersist = new ArrayList<>(coalescedEvents.size());
+        for (int i = 0; i < coalescedEvents.size(); i++) {
+            final E event = coalescedEvents.get(i);
+            final boolean superseded = coalescedEvents.subList(i + 1, coalescedEvents.size())
+                    .stream()
+                    .anyMatch(laterEvent -> coalescingStrategy.isSupersededBy(event, laterEvent));
+            eventsToPersist.add(superseded
+                    ? new EmptyEvent(EmptyEvent.EFFECT_COALESCED, event.getRevision(), DittoHeaders.empty())
+                    : event);
+        }
+        log.debug("Persisting <{}> coalesced events of which <{}> are superseded.", eventsToPersist.size(),
+                eventsToPersist.stream().filter(EmptyEvent.class::isInstance).count());
+        persistingCoalescedEvents += coalescedEvents.size();
+        coalescedEvents.clear();
+
+        final Object lastEvent = eventsToPersist.getLast();
+        persistAll(eventsToPersist, persistedEvent -> {
+            persistingCoalescedEvents--;
+            if (persistedEvent == lastEvent && snapshotThresholdPassed()) {
+                takeSnapshot("snapshot threshold is reached");
+            }
+        });
+    }
+
+    /**
+     * Persists an {@link EmptyEvent} reserving the given number of revisions following it for coalesced events;
+     * a reservation of zero revisions releases the revisions reserved before.
+     *
+     * @param revisions the number of revisions to reserve.
+     * @param andThen what happens after the reservation was persisted.
+     */
+    private void reserveRevisions(final long revisions, final Runnable andThen) {
+        final JsonObject effect = JsonObject.newBuilder().set(RESERVED_REVISIONS, revisions).build();
+        persist(new EmptyEvent(effect, getRevisionNumber() + 1, DittoHeaders.empty()), reservation -> {
+            log.debug("Reserved <{}> revisions following revision <{}>.", revisions, lastSequenceNr());
+            reservedRevision = lastSequenceNr() + revisions;
+            andThen.run();
+        });
+    }
+
+    private boolean isRevisionReservationOpen() {
+        return lastSequenceNr() < reservedRevision;
+    }
+
+    /**
+     * Persists placeholders for the reserved revisions missing in the recovered journal: coalesced events may have
+     * been published with those revisions before they got lost.
+     */
+    private void skipReservedRevisions() {
+        if (isRevisionReservationOpen()) {
+            log.warning("Skipping revisions <{}> to <{}> of entity <{}> possibly taken by lost coalesced events.",
+                    lastSequenceNr() + 1, reservedRevision, entityId);
+            final List<EmptyEvent> placeholders = LongStream.rangeClosed(lastSequenceNr() + 1, reservedRevision)
+                    .mapToObj(revision ->
+                            new EmptyEvent(EmptyEvent.EFFECT_REVISION_SKIPPED, revision, DittoHeaders.empty()))
+                    .toList();
+            persistAll(placeholders, placeholder -> {});
+        }
+    }
+
+    private static Optional<Long> getReservedRevisions(final EmptyEvent emptyEvent) {
+        final JsonValue effect = emptyEvent.getEffect();
+        return effect.isObject() ? effect.asObject().getValue(RESERVED_REVISIONS) : Optional.empty();
+    }
+
+    /**
+     * Indicates whether an event in the journal is no event of the entity but only keeps the revisions of coalesced
+     * events apart.
+     *
+     * @param event the event read from the journal.
+     * @return {@code true} if the event is a placeholder or a revision reservation of the event coalescing.
+     */
+    static boolean isEventCoalescingPlaceholder(final Event<?> event) {
+        return event instanceof EmptyEvent emptyEvent &&
+                (EmptyEvent.EFFECT_COALESCED.equals(emptyEvent.getEffect()) ||
+                        EmptyEvent.EFFECT_REVISION_SKIPPED.equals(emptyEvent.getEffect()) ||
+                        getReservedRevisions(emptyEvent).isPresent());
+    }
+
     private void takeSnapshot(final String reason) {
+        if (!coalescedEvents.isEmpty()) {
+            // snapshots are only taken of persisted revisions; persisting the coalesced events checks the threshold
+            persistCoalescedEvents();
+            return;
+        }
+        if (isRevisionReservationOpen()) {
+            // a snapshot hides the reservation from the recovery: release the reserved revisions first
+            reserveRevisions(0L, () -> takeSnapshot(reason));
+            return;
+        }
 
         if (entityId instanceof NamespacedEntityId namespacedEntityId) {
             final String namespace = namespacedEntityId.getNamespace();
@@ -929,7 +1044,10 @@ public abstract class AbstractPersistenceActor<
 
     private void doTakeSnapshot(final String reason) {
         final long revision = getRevisionNumber();
-        if (entity != null && lastSnapshotRevision != revision) {
+        if (isRevisionReservationOpen()) {
+            log.debug("Not taking snapshot for entity <{}> even if {}, because revisions up to <{}> are reserved.",
+                    entityId, reason, reservedRevision);
+        } else if (entity != null && lastSnapshotRevision != revision) {
             log.debug("Taking snapshot for entity with ID <{}> and sequence number <{}> because {}.", entityId,
                     revision,
                     reason);
@@ -1057,18 +1175,6 @@ public abstract class AbstractPersistenceActor<
         return new CheckForActivity(accessCounter);
     }
 
-    private static EventsourcedEvent<?> mapJournalEntryToEvent(final EventEnvelope eventEnvelope) {
-
-        final BsonDocument event = (BsonDocument) eventEnvelope.event();
-        final JsonObject eventAsJsonObject = DittoBsonJson.getInstance()
-                .serialize(event);
-
-        final DittoHeaders dittoHeaders = eventAsJsonObject.getValue(AbstractMongoEventAdapter.HISTORICAL_EVENT_HEADERS)
-                .map(obj -> DittoHeaders.newBuilder(obj).build())
-                .orElseGet(DittoHeaders::empty);
-        return (EventsourcedEvent<?>) GlobalEventRegistry.getInstance().parse(eventAsJsonObject, dittoHeaders);
-    }
-
     /**
      * Check if any command is processed.
      */
@@ -1083,7 +1189,8 @@ public abstract class AbstractPersistenceActor<
     }
 
     private enum Control {
-        TAKE_SNAPSHOT
+        TAKE_SNAPSHOT,
+        PERSIST_COALESCED_EVENTS
     }
 
 
@@ -1113,29 +1220,6 @@ public abstract class AbstractPersistenceActor<
 
     }
 
-    @Immutable
-    private final class EntityWithEvent {
-
-        @Nullable private final S entity;
-        @Nullable private final Long revision;
-        @Nullable private final E event;
-
-        private EntityWithEvent(@Nullable final S entity, @Nullable final E event) {
-            this.entity = entity;
-            this.revision = event != null ? event.getRevision() : null;
-            this.event = event;
-        }
-
-        @Override
-        public String toString() {
-            return getClass().getSimpleName() + " [" +
-                    "entity=" + entity +
-                    ", revision=" + revision +
-                    ", event=" + event +
-                    ']';
-        }
-    }
-
     private final class HistoricalResultListener implements ResultVisitor<E> {
 
         private final ActorRef sender;
@@ -283,6 +283,8 @@ public abstract class AbstractPersistenceSupervisor<E extends EntityId, S extend
                                 .map(eventEnvelope ->
                                         mapJournalEntryToEvent(
                                                 (SubscribeForPersistedEvents) enforcedStreamPersistedEvents, eventEnvelope))
+                                // skip the placeholders of the event coalescing, they are no events of the entity
+                                .filterNot(AbstractPersistenceActor::isEventCoalescingPlaceholder)
                                 .filter(event ->
                                         fromHistoricalTimestamp.flatMap(instant ->
                                                 event.getTimestamp().map(eventTs -> eventTs.isAfter(instant))
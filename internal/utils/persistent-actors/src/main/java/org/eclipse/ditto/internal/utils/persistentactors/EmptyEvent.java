@@ -52,6 +52,21 @@ public final class EmptyEvent implements Event<EmptyEvent> {
      */
     public static final JsonValue EFFECT_PRIORITY_UPDATE = JsonValue.of("priorityUpdate");
 
+    /**
+     * Known effect of the "empty event" which takes the place of a coalesced event superseded by a later event.
+     *
+     * @since 3.8.0
+     */
+    public static final JsonValue EFFECT_COALESCED = JsonValue.of("coalesced");
+
+    /**
+     * Known effect of the "empty event" which takes the place of a revision reserved for coalesced events which were
+     * lost before they were persisted.
+     *
+     * @since 3.8.0
+     */
+    public static final JsonValue EFFECT_REVISION_SKIPPED = JsonValue.of("revisionSkipped");
+
     static final String TYPE_PREFIX = "persistence-actor-internal:";
 
     static final String NAME = "empty-event";
@@ -0,0 +1,276 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistentactors;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.apache.pekko.actor.ActorRef;
+import org.apache.pekko.actor.ActorSystem;
+import org.apache.pekko.pattern.Patterns;
+import org.apache.pekko.persistence.SelectedSnapshot;
+import org.apache.pekko.persistence.SnapshotProtocol;
+import org.apache.pekko.persistence.SnapshotSelectionCriteria;
+import org.apache.pekko.persistence.query.EventEnvelope;
+import org.bson.BsonDocument;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.base.model.signals.events.Event;
+import org.eclipse.ditto.base.model.signals.events.EventsourcedEvent;
+import org.eclipse.ditto.base.model.signals.events.GlobalEventRegistry;
+import org.eclipse.ditto.internal.utils.persistence.SnapshotAdapter;
+import org.eclipse.ditto.internal.utils.persistence.mongo.AbstractMongoEventAdapter;
+import org.eclipse.ditto.internal.utils.persistence.mongo.DittoBsonJson;
+import org.eclipse.ditto.internal.utils.persistence.mongo.streaming.MongoReadJournal;
+import org.eclipse.ditto.internal.utils.persistentactors.events.EventStrategy;
+import org.eclipse.ditto.json.JsonObject;
+
+/**
+ * Restores historical states of the entity of one persistence actor without involving the persistence actor: the
+ * snapshot is requested from the snapshot plugin and the events are streamed from the {@link MongoReadJournal}, so
+ * the persistence actor keeps on processing live traffic meanwhile.
+ * <p>
+ * Every {@value #CHECKPOINT_INTERVAL}th replayed revision and each restored state are kept as intermediate states
+ * (at most {@value #MAX_INTERMEDIATE_STATES}, least recently used ones are evicted), from which later retrievals of the
+ * same or nearby revisions replay only the few missing events.
+ *
+ * @param <S> the type of the entity.
+ * @param <E> the type of the events.
+ */
+@ThreadSafe
+final class HistoricalEntityReader<S, E extends EventsourcedEvent<? extends E>> {
+
+    static final int CHECKPOINT_INTERVAL = 100;
+    static final int MAX_INTERMEDIATE_STATES = 20;
+    private static final Duration SNAPSHOT_LOAD_TIMEOUT = Duration.ofSeconds(5);
+
+    private final String persistenceId;
+    private final MongoReadJournal mongoReadJournal;
+    private final ActorRef snapshotStore;
+    private final SnapshotAdapter<S> snapshotAdapter;
+    private final EventStrategy<E, S> eventStrategy;
+    private final ActorSystem actorSystem;
+    private final IntermediateStates<S> intermediateStates;
+
+    HistoricalEntityReader(final String persistenceId,
+            final MongoReadJournal mongoReadJournal,
+            final ActorRef snapshotStore,
+            final SnapshotAdapter<S> snapshotAdapter,
+            final EventStrategy<E, S> eventStrategy,
+            final ActorSystem actorSystem) {
+
+        this.persistenceId = persistenceId;
+        this.mongoReadJournal = mongoReadJournal;
+        this.snapshotStore = snapshotStore;
+        this.snapshotAdapter = snapshotAdapter;
+        this.eventStrategy = eventStrategy;
+        this.actorSystem = actorSystem;
+        intermediateStates = new IntermediateStates<>();
+    }
+
+    /**
+     * Restores the state of the entity at a historical revision or timestamp.
+     *
+     * @param atRevision the revision to restore, or the current revision if {@code atTimestamp} is given.
+     * @param atTimestamp the optional timestamp: restores the state after the last event before this timestamp.
+     * @param latestSnapshotSequenceNumber the sequence number of the latest snapshot of the persistence actor.
+     * @return a future of the historical state or an empty optional if the state is not accessible, e.g. because
+     * the snapshots and events were cleaned up. Fails if the snapshot or the events could not be loaded.
+     */
+    CompletionStage<Optional<HistoricalState<S>>> read(final long atRevision,
+            @Nullable final Instant atTimestamp,
+            final long latestSnapshotSequenceNumber) {
+
+        final Optional<HistoricalState<S>> intermediateState = intermediateStates.floor(atRevision, atTimestamp);
+        if (null == atTimestamp && intermediateState.isPresent()) {
+            final HistoricalState<S> state = intermediateState.get();
+            if (state.revision() == atRevision) {
+                return CompletableFuture.completedFuture(intermediateState);
+            } else if (atRevision - state.revision() <= CHECKPOINT_INTERVAL) {
+                return replay(state, atRevision, null);
+            }
+        }
+
+        return loadSnapshot(atRevision, atTimestamp, latestSnapshotSequenceNumber)
+                .thenCompose(snapshotState -> {
+                    final Optional<HistoricalState<S>> start = newerOf(snapshotState, intermediateState);
+                    if (start.isPresent()) {
+                        return replay(start.get(), atRevision, atTimestamp);
+                    } else if (latestSnapshotSequenceNumber == 0) {
+                        // no snapshot was stored yet, e.g. for new entities: replay all events
+                        return replay(new HistoricalState<>(null, 0L, null, null), atRevision, atTimestamp);
+                    } else {
+                        return CompletableFuture.completedFuture(Optional.empty());
+                    }
+                });
+    }
+
+    private CompletionStage<Optional<HistoricalState<S>>> loadSnapshot(final long atRevision,
+            @Nullable final Instant atTimestamp,
+            final long latestSnapshotSequenceNumber) {
+
+        final SnapshotSelectionCriteria criteria = SnapshotSelectionCriteria.create(atRevision,
+                null == atTimestamp ? Long.MAX_VALUE : atTimestamp.toEpochMilli(), 0L, 0L);
+        final Object loadSnapshot =
+                new SnapshotProtocol.LoadSnapshot(persistenceId, criteria, latestSnapshotSequenceNumber);
+        return Patterns.ask(snapshotStore, loadSnapshot, SNAPSHOT_LOAD_TIMEOUT)
+                .thenApply(response -> {
+                    if (response instanceof SnapshotProtocol.LoadSnapshotResult loadSnapshotResult) {
+                        return loadSnapshotResult.snapshot().isDefined()
+                                ? Optional.of(toHistoricalState(loadSnapshotResult.snapshot().get()))
+                                : Optional.empty();
+                    } else if (response instanceof SnapshotProtocol.LoadSnapshotFailed loadSnapshotFailed) {
+                        throw new IllegalStateException("Loading snapshot failed", loadSnapshotFailed.cause());
+                    } else {
+                        throw new IllegalStateException("Unexpected response to LoadSnapshot: " + response);
+                    }
+                });
+    }
+
+    private HistoricalState<S> toHistoricalState(final SelectedSnapshot selectedSnapshot) {
+        // the snapshot does not contain the headers of the event of its revision
+        return new HistoricalState<>(snapshotAdapter.fromSnapshotStore(selectedSnapshot),
+                selectedSnapshot.metadata().sequenceNr(),
+                Instant.ofEpochMilli(selectedSnapshot.metadata().timestamp()),
+                null);
+    }
+
+    @SuppressWarnings("unchecked")
+    private CompletionStage<Optional<HistoricalState<S>>> replay(final HistoricalState<S> start,
+            final long atRevision,
+            @Nullable final Instant atTimestamp) {
+
+        // replay the event of a snapshot's revision again if the snapshot is the requested state, as the response
+        // contains the headers of the event
+        final long fromSequenceNr = null == start.historicalHeaders() && start.revision() == atRevision
+                ? start.revision()
+                : start.revision() + 1;
+        final HistoricalState<S> initialState = fromSequenceNr == start.revision()
+                ? new HistoricalState<>(start.entity(), start.revision() - 1, start.timestamp(), null)
+                : start;
+
+        return mongoReadJournal.currentEventsByPersistenceId(persistenceId, Math.max(1L, fromSequenceNr), atRevision)
+                .map(HistoricalEntityReader::mapJournalEntryToEvent)
+                // skip empty events, e.g. placeholders of coalesced events
+                .filter(EventsourcedEvent.class::isInstance)
+                .map(event -> (E) event)
+                .takeWhile(event -> null == atTimestamp ||
+                        event.getTimestamp().filter(timestamp -> timestamp.isBefore(atTimestamp)).isPresent())
+                .runFold(initialState, (state, event) -> {
+                    final long revision = event.getRevision();
+                    final HistoricalState<S> nextState = new HistoricalState<>(
+                            eventStrategy.handle(event, state.entity(), revision),
+                            revision,
+                            event.getTimestamp().orElse(null),
+                            event.getDittoHeaders());
+                    if (revision % CHECKPOINT_INTERVAL == 0) {
+                        intermediateStates.put(nextState);
+                    }
+                    return nextState;
+                }, actorSystem)
+                .thenApply(state -> {
+                    // fall back to the snapshot if the event of its revision was not replayed
+                    final HistoricalState<S> result = state.revision() < start.revision() ? start : state;
+                    if (null == result.entity()) {
+                        return Optional.empty();
+                    }
+                    intermediateStates.put(result);
+                    return Optional.of(result);
+                });
+    }
+
+    private static <S> Optional<HistoricalState<S>> newerOf(final Optional<HistoricalState<S>> state1,
+            final Optional<HistoricalState<S>> state2) {
+        return state1.isEmpty() || state2.filter(s -> s.revision() > state1.get().revision()).isPresent()
+                ? state2
+                : state1;
+    }
+
+    private static Event<?> mapJournalEntryToEvent(final EventEnvelope eventEnvelope) {
+
+        final BsonDocument event = (BsonDocument) eventEnvelope.event();
+        final JsonObject eventAsJsonObject = DittoBsonJson.getInstance()
+                .serialize(event);
+
+        final DittoHeaders dittoHeaders = eventAsJsonObject.getValue(AbstractMongoEventAdapter.HISTORICAL_EVENT_HEADERS)
+                .map(obj -> DittoHeaders.newBuilder(obj).build())
+                .orElseGet(DittoHeaders::empty);
+        return GlobalEventRegistry.getInstance().parse(eventAsJsonObject, dittoHeaders);
+    }
+
+    /**
+     * State of the entity at a historical revision.
+     *
+     * @param entity the entity or {@code null} if it did not exist at the revision.
+     * @param revision the revision.
+     * @param timestamp the timestamp of the event of the revision if known.
+     * @param historicalHeaders the persisted headers of the event of the revision or {@code null} if unknown.
+     * @param <S> the type of the entity.
+     */
+    @Immutable
+    record HistoricalState<S>(@Nullable S entity,
+                              long revision,
+                              @Nullable Instant timestamp,
+                              @Nullable DittoHeaders historicalHeaders) {}
+
+    /**
+     * Bounded cache of intermediate states by revision, evicting the least recently used state.
+     */
+    @ThreadSafe
+    static final class IntermediateStates<S> {
+
+        private final Map<Long, HistoricalState<S>> states =
+                new LinkedHashMap<>(MAX_INTERMEDIATE_STATES, 0.75f, true) {
+                    @Override
+                    protected boolean removeEldestEntry(final Map.Entry<Long, HistoricalState<S>> eldest) {
+                        return size() > MAX_INTERMEDIATE_STATES;
+                    }
+                };
+
+        synchronized void put(final HistoricalState<S> state) {
+            // states restored from snapshots lack the headers of the event of their revision
+            if (null != state.entity() && null != state.historicalHeaders()) {
+                states.put(state.revision(), state);
+            }
+        }
+
+        /**
+         * Returns the newest intermediate state at or before a revision and before a timestamp.
+         */
+        synchronized Optional<HistoricalState<S>> floor(final long revision, @Nullable final Instant timestamp) {
+            HistoricalState<S> floor = null;
+            for (final HistoricalState<S> state : states.values()) {
+                if (state.revision() <= revision &&
+                        (null == timestamp || null != state.timestamp() && state.timestamp().isBefore(timestamp)) &&
+                        (null == floor || state.revision() > floor.revision())) {
+                    floor = state;
+                }
+            }
+            if (null != floor) {
+                // mark the state as recently used
+                states.get(floor.revision());
+            }
+            return Optional.ofNullable(floor);
+        }
+
+    }
+
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistentactors.events;
+
+import java.time.Duration;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.base.model.signals.events.EventsourcedEvent;
+
+/**
+ * Strategy deciding which events of a persistent actor are coalesced ("last write wins"): coalesced events are applied
+ * to the entity and published immediately, but only persisted after {@link #getMaxDelay()} or once
+ * {@link #getMaxEvents()} events were coalesced, all of them in one write. Events superseded by a later coalesced
+ * event are persisted as empty placeholder events, which keeps the revisions of the entity equal to the sequence
+ * numbers of the journal.
+ * <p>
+ * Coalesced events which were not persisted yet are lost if the persistent actor stops unexpectedly.
+ *
+ * @param <E> the type of the events.
+ * @param <S> the type of the entity.
+ * @since 3.8.0
+ */
+public interface EventCoalescingStrategy<E extends EventsourcedEvent<?>, S> {
+
+    /**
+     * Returns a strategy which coalesces no events.
+     *
+     * @param <E> the type of the events.
+     * @param <S> the type of the entity.
+     * @return the strategy.
+     */
+    static <E extends EventsourcedEvent<?>, S> EventCoalescingStrategy<E, S> disabled() {
+        return new EventCoalescingStrategy<>() {
+            @Override
+            public boolean isCoalescable(final E event, @Nullable final S entity) {
+                return false;
+            }
+
+            @Override
+            public boolean isSupersededBy(final E event, final E laterEvent) {
+                return false;
+            }
+
+            @Override
+            public Duration getMaxDelay() {
+                return Duration.ZERO;
+            }
+
+            @Override
+            public int getMaxEvents() {
+                return 1;
+            }
+        };
+    }
+
+    /**
+     * Indicates whether an event may be coalesced.
+     *
+     * @param event the event about to be persisted.
+     * @param entity the entity before the event is applied.
+     * @return {@code true} if the event may be persisted later together with other events.
+     */
+    boolean isCoalescable(E event, @Nullable S entity);
+
+    /**
+     * Indicates whether a coalesced event does not need to be persisted because a later coalesced event completely
+     * overwrites its effect on the entity.
+     *
+     * @param event the earlier coalesced event.
+     * @param laterEvent the later coalesced event.
+     * @return {@code true} if {@code laterEvent} supersedes {@code event}.
+     */
+    boolean isSupersededBy(E event, E laterEvent);
+
+    /**
+     * @return the maximum time coalesced events are kept in memory before they are persisted.
+     */
+    Duration getMaxDelay();
+
+    /**
+     * @return the maximum number of coalesced events kept in memory before they are persisted.
+     */
+    int getMaxEvents();
+
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.persistentactors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.junit.Test;
+
+/**
+ * Tests {@link HistoricalEntityReader.IntermediateStates}.
+ */
+public final class HistoricalEntityReaderIntermediateStatesTest {
+
+    private static final Instant TIMESTAMP = Instant.parse("2026-01-01T00:00:00Z");
+
+    @Test
+    public void floorReturnsNewestStateAtOrBeforeRevision() {
+        final HistoricalEntityReader.IntermediateStates<String> underTest =
+                new HistoricalEntityReader.IntermediateStates<>();
+        underTest.put(state(100L));
+        underTest.put(state(200L));
+        underTest.put(state(300L));
+
+        assertThat(underTest.floor(250L, null)).contains(state(200L));
+        assertThat(underTest.floor(300L, null)).contains(state(300L));
+        assertThat(underTest.floor(99L, null)).isEmpty();
+    }
+
+    @Test
+    public void floorRespectsTimestamp() {
+        final HistoricalEntityReader.IntermediateStates<String> underTest =
+                new HistoricalEntityReader.IntermediateStates<>();
+        underTest.put(state(100L));
+        underTest.put(state(200L));
+
+        assertThat(underTest.floor(300L, TIMESTAMP.plusSeconds(150L))).contains(state(100L));
+        assertThat(underTest.floor(300L, TIMESTAMP)).isEmpty();
+    }
+
+    @Test
+    public void statesWithoutHistoricalHeadersAreNotKept() {
+        final HistoricalEntityReader.IntermediateStates<String> underTest =
+                new HistoricalEntityReader.IntermediateStates<>();
+        underTest.put(new HistoricalEntityReader.HistoricalState<>("snapshot", 100L, TIMESTAMP, null));
+
+        assertThat(underTest.floor(100L, null)).isEmpty();
+    }
+
+    @Test
+    public void leastRecentlyUsedStateIsEvicted() {
+        final HistoricalEntityReader.IntermediateStates<String> underTest =
+                new HistoricalEntityReader.IntermediateStates<>();
+        for (long revision = 1L; revision <= HistoricalEntityReader.MAX_INTERMEDIATE_STATES; revision++) {
+            underTest.put(state(revision));
+        }
+        // use the oldest state so that the second oldest one is evicted next
+        assertThat(underTest.floor(1L, null)).contains(state(1L));
+
+        underTest.put(state(HistoricalEntityReader.MAX_INTERMEDIATE_STATES + 1L));
+
+        assertThat(underTest.floor(1L, null)).contains(state(1L));
+        assertThat(underTest.floor(2L, null)).contains(state(1L));
+    }
+
+    private static HistoricalEntityReader.HistoricalState<String> state(final long revision) {
+        return new HistoricalEntityReader.HistoricalState<>("entity-" + revision, revision,
+                TIMESTAMP.plusSeconds(revision), DittoHeaders.empty());
+    }
+
+}
@@ -34,6 +34,7 @@ import org.eclipse.ditto.internal.utils.metrics.instruments.counter.Counter;
 import org.eclipse.ditto.internal.utils.pubsub.DistributedAcks;
 import org.eclipse.ditto.internal.utils.pubsub.api.PublishSignal;
 import org.eclipse.ditto.internal.utils.pubsub.api.RemoteAcksChanged;
+import org.eclipse.ditto.internal.utils.pubsub.config.PubSubConfig;
 import org.eclipse.ditto.internal.utils.pubsub.ddata.DDataReader;
 import org.eclipse.ditto.internal.utils.pubsub.ddata.ack.Grouped;
 import org.eclipse.ditto.internal.utils.pubsub.extractors.AckExtractor;
@@ -70,6 +71,7 @@ public final class Publisher extends AbstractActor {
     private final Counter sentMessagesCounter = DittoMetrics.counter("pubsub-sent-messages");
     private final Map<Key<?>, PublisherIndex<Long>> publisherIndexes = new HashMap<>();
     private final int subscriberPoolSize;
+    private final double falsePositiveRate;
 
     private PublisherIndex<Long> publisherIndex = PublisherIndex.empty();
     private RemoteAcksChanged remoteAcks = RemoteAcksChanged.of(Map.of());
@@ -78,6 +80,7 @@ public final class Publisher extends AbstractActor {
     private Publisher(final DDataReader<ActorRef, String> ddataReader, final DistributedAcks distributedAcks) {
         this.ddataReader = ddataReader;
         subscriberPoolSize = distributedAcks.getConfig().getSubscriberPoolSize();
+        falsePositiveRate = PubSubConfig.of(getContext().getSystem()).getPublisherFalsePositiveRate();
         ddataReader.receiveChanges(getSelf());
         distributedAcks.receiveDistributedDeclaredAcks(getSelf());
     }
@@ -214,7 +217,8 @@ public final class Publisher extends AbstractActor {
                 .stream()
                 .map(entry -> Pair.create(entry.getKey(), deserializeGroupedHashes(entry.getValue())))
                 .collect(Collectors.toMap(Pair::first, Pair::second));
-        final PublisherIndex<Long> thePublisherIndex = PublisherIndex.fromDeserializedMMap(deserializedMMap);
+        final PublisherIndex<Long> thePublisherIndex =
+                PublisherIndex.fromDeserializedMMap(deserializedMMap, falsePositiveRate);
         publisherIndexes.put(event.key(), thePublisherIndex);
         publisherIndex = PublisherIndex.fromMultipleIndexes(publisherIndexes.values());
     }
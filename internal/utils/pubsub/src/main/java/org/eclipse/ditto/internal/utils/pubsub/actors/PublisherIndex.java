@@ -36,6 +36,11 @@ import org.apache.pekko.japi.Pair;
 
 /**
  * Index for publishing to a set of subscribers with groups.
+ * The index of remote subscribers retains only a Bloom filter of the hashed topics per subscriber without group, so
+ * that its size is bounded by the number of subscribed topics times a few bits. Signals published to the false
+ * positives of the Bloom filters are dropped by the subscribers, which filter by the exact topics of their local
+ * subscriptions. Subscriptions with a group stay indexed exactly: a false positive chosen as the only receiver of a
+ * group would drop the signal for the whole group.
  *
  * @param <T> the type of topics.
  */
@@ -43,44 +48,50 @@ final class PublisherIndex<T> {
 
     private final Predicate<Collection<T>> constantTrue = topics -> true;
 
-    private final Map<T, Map<ActorRef, Set<String>>> index;
+    private final TopicIndex<T> index;
     private final Map<ActorRef, Predicate<Collection<T>>> filterMap;
 
-    PublisherIndex(final Map<T, Map<ActorRef, Set<String>>> index,
-            final Map<ActorRef, Predicate<Collection<T>>> filterMap) {
+    private PublisherIndex(final TopicIndex<T> index, final Map<ActorRef, Predicate<Collection<T>>> filterMap) {
         this.index = index;
         this.filterMap = filterMap;
     }
 
     static <T> PublisherIndex<T> empty() {
-        return new PublisherIndex<>(Map.of(), Map.of());
+        return new PublisherIndex<>(new ExactTopicIndex<>(Map.of()), Map.of());
     }
 
-    static <T> PublisherIndex<T> fromMultipleIndexes(final Collection<PublisherIndex<T>> indexes) {
-        final Map<T, Map<ActorRef, Set<String>>> combinedIndex = new HashMap<>();
-        indexes.stream()
-                .map(p -> p.index)
-                .forEach(index -> index.forEach((t, map) ->
-                                combinedIndex.compute(t, (theT, existingMap) -> {
-                                    final Map<ActorRef, Set<String>> nonNullMap = existingMap == null ? new HashMap<>() :
-                                            existingMap;
-                                    nonNullMap.putAll(map);
-                                    return nonNullMap;
-                                })
-                        )
-                );
-
-        return new PublisherIndex<>(combinedIndex, Map.of());
+    static PublisherIndex<Long> fromMultipleIndexes(final Collection<PublisherIndex<Long>> indexes) {
+        final List<SubscriberBloomFilter> combinedFilters = new ArrayList<>();
+        final Map<Long, Map<ActorRef, Set<String>>> combinedGroupedIndex = new HashMap<>();
+        indexes.forEach(publisherIndex -> {
+            if (publisherIndex.index instanceof final HashedTopicIndex hashedIndex) {
+                combinedFilters.addAll(hashedIndex.filters());
+                hashedIndex.groupedIndex().forEach((topic, subscribers) ->
+                        subscribers.forEach((subscriber, groups) -> groups.forEach(group ->
+                                computeIndex(combinedGroupedIndex, subscriber, group).accept(topic))));
+            }
+        });
+
+        return new PublisherIndex<>(new HashedTopicIndex(combinedFilters, combinedGroupedIndex), Map.of());
     }
 
-    static PublisherIndex<Long> fromDeserializedMMap(final Map<ActorRef, List<Grouped<Long>>> mmap) {
-        final Map<Long, Map<ActorRef, Set<String>>> index = new HashMap<>();
-        mmap.forEach((subscriber, groupedList) ->
-                groupedList.forEach(grouped -> grouped.getValues()
-                        .forEach(computeIndex(index, subscriber, grouped.getGroup().orElse("")))
-                ));
+    static PublisherIndex<Long> fromDeserializedMMap(final Map<ActorRef, List<Grouped<Long>>> mmap,
+            final double falsePositiveRate) {
+
+        final List<SubscriberBloomFilter> filters = new ArrayList<>();
+        final Map<Long, Map<ActorRef, Set<String>>> groupedIndex = new HashMap<>();
+        mmap.forEach((subscriber, groupedList) -> {
+            final Set<Long> ungroupedHashes = new HashSet<>();
+            groupedList.forEach(grouped -> grouped.getGroup().filter(group -> !group.isEmpty()).ifPresentOrElse(
+                    group -> grouped.getValues().forEach(computeIndex(groupedIndex, subscriber, group)),
+                    () -> ungroupedHashes.addAll(grouped.getValues())));
+            if (!ungroupedHashes.isEmpty()) {
+                filters.add(new SubscriberBloomFilter(subscriber,
+                        TopicBloomFilter.of(ungroupedHashes, falsePositiveRate)));
+            }
+        });
 
-        return new PublisherIndex<>(index, Map.of());
+        return new PublisherIndex<>(new HashedTopicIndex(filters, groupedIndex), Map.of());
     }
 
     static PublisherIndex<String> fromSubscriptionsReader(final SubscriptionsReader reader) {
@@ -91,7 +102,7 @@ final class PublisherIndex<T> {
             data.getTopics().forEach(computeIndex(index, subscriber, data.getGroup().orElse("")));
         });
 
-        return new PublisherIndex<>(index, filterMap);
+        return new PublisherIndex<>(new ExactTopicIndex<>(index), filterMap);
     }
 
     List<Pair<ActorRef, PublishSignal>> assignGroupsToSubscribers(final Signal<?> signal,
@@ -108,7 +119,7 @@ final class PublisherIndex<T> {
         final Map<ActorRef, Map<String, Integer>> subscriberToChosenGroups = new HashMap<>();
         // compute groupToSubscribers and allot subscribers with the empty group
         for (final T topic : topics) {
-            index.getOrDefault(topic, Map.of()).forEach((subscriber, groups) -> {
+            index.getSubscribers(topic).forEach((subscriber, groups) -> {
                 if (filterMap.getOrDefault(subscriber, constantTrue).test(topics)) {
                     for (final String group : groups) {
                         if (group.isEmpty()) {
@@ -181,4 +192,54 @@ final class PublisherIndex<T> {
                 ", filterMap=" + filterMap +
                 "]";
     }
+
+    /**
+     * Lookup of the subscribers of a topic together with the groups they subscribed with.
+     *
+     * @param <T> the type of topics.
+     */
+    private interface TopicIndex<T> {
+
+        Map<ActorRef, Set<String>> getSubscribers(T topic);
+    }
+
+    private record ExactTopicIndex<T>(Map<T, Map<ActorRef, Set<String>>> index) implements TopicIndex<T> {
+
+        @Override
+        public Map<ActorRef, Set<String>> getSubscribers(final T topic) {
+            return index.getOrDefault(topic, Map.of());
+        }
+    }
+
+    /**
+     * Index of hashed topics looking up subscribers without group in their Bloom filters, which may yield false
+     * positives, and subscribers with a group exactly.
+     */
+    private record HashedTopicIndex(List<SubscriberBloomFilter> filters,
+                                    Map<Long, Map<ActorRef, Set<String>>> groupedIndex) implements TopicIndex<Long> {
+
+        @Override
+        public Map<ActorRef, Set<String>> getSubscribers(final Long topic) {
+            final Map<ActorRef, Set<String>> groupedSubscribers = groupedIndex.getOrDefault(topic, Map.of());
+            Map<ActorRef, Set<String>> result = groupedSubscribers;
+            for (final SubscriberBloomFilter filter : filters) {
+                if (filter.topics().mightContain(topic)) {
+                    if (result == groupedSubscribers) {
+                        // the index itself must not be modified
+                        result = copyOf(groupedSubscribers);
+                    }
+                    result.computeIfAbsent(filter.subscriber(), subscriber -> new HashSet<>()).add("");
+                }
+            }
+            return result;
+        }
+
+        private static Map<ActorRef, Set<String>> copyOf(final Map<ActorRef, Set<String>> subscribers) {
+            final Map<ActorRef, Set<String>> copy = new HashMap<>();
+            subscribers.forEach((subscriber, groups) -> copy.put(subscriber, new HashSet<>(groups)));
+            return copy;
+        }
+    }
+
+    private record SubscriberBloomFilter(ActorRef subscriber, TopicBloomFilter topics) {}
 }
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.pubsub.actors;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Bloom filter of hashed topics as computed by {@link org.eclipse.ditto.internal.utils.pubsub.ddata.Hashes#hashAsLong}.
+ * The two 32-bit hash codes of a hashed topic are combined by double hashing to derive the bit positions, so that
+ * the seeds of the hash family shared across the cluster are the only hash functions involved.
+ * Instead of all topics, the filter retains only a few bits per topic, at the cost of false positives.
+ */
+@Immutable
+final class TopicBloomFilter {
+
+    private static final double LN_2 = Math.log(2.0);
+
+    private final long[] bits;
+    private final int bitCount;
+    private final int hashCount;
+
+    private TopicBloomFilter(final long[] bits, final int bitCount, final int hashCount) {
+        this.bits = bits;
+        this.bitCount = bitCount;
+        this.hashCount = hashCount;
+    }
+
+    /**
+     * Create a Bloom filter of hashed topics.
+     *
+     * @param hashedTopics the hashed topics.
+     * @param falsePositiveRate the false positive rate to size the filter for, between 0 and 1 exclusive.
+     * @return the Bloom filter.
+     * @throws IllegalArgumentException if {@code falsePositiveRate} is not between 0 and 1 exclusive.
+     */
+    static TopicBloomFilter of(final Collection<Long> hashedTopics, final double falsePositiveRate) {
+        if (!(falsePositiveRate > 0.0 && falsePositiveRate < 1.0)) {
+            throw new IllegalArgumentException("False positive rate must be between 0 and 1 exclusive, but was: " +
+                    falsePositiveRate);
+        }
+        final int topicCount = Math.max(1, hashedTopics.size());
+        final long optimalBitCount = (long) Math.ceil(-topicCount * Math.log(falsePositiveRate) / (LN_2 * LN_2));
+        final int bitCount = (int) Math.min(Integer.MAX_VALUE, Math.max(Long.SIZE, optimalBitCount));
+        final int hashCount = Math.max(1, (int) Math.round((double) bitCount / topicCount * LN_2));
+        final TopicBloomFilter filter =
+                new TopicBloomFilter(new long[(bitCount + Long.SIZE - 1) / Long.SIZE], bitCount, hashCount);
+        for (final Long hashedTopic : hashedTopics) {
+            filter.put(hashedTopic);
+        }
+        return filter;
+    }
+
+    /**
+     * Test whether a hashed topic might be in this filter.
+     *
+     * @param hashedTopic the hashed topic.
+     * @return {@code false} if the topic is definitely not in this filter, {@code true} if it probably is.
+     */
+    boolean mightContain(final long hashedTopic) {
+        final int hash1 = (int) (hashedTopic >>> Integer.SIZE);
+        final int hash2 = (int) hashedTopic;
+        for (int i = 0; i < hashCount; i++) {
+            final int bitIndex = getBitIndex(hash1, hash2, i);
+            if ((bits[bitIndex / Long.SIZE] & (1L << bitIndex)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return the number of bits of this filter.
+     */
+    int getBitCount() {
+        return bitCount;
+    }
+
+    private void put(final long hashedTopic) {
+        final int hash1 = (int) (hashedTopic >>> Integer.SIZE);
+        final int hash2 = (int) hashedTopic;
+        for (int i = 0; i < hashCount; i++) {
+            final int bitIndex = getBitIndex(hash1, hash2, i);
+            bits[bitIndex / Long.SIZE] |= 1L << bitIndex;
+        }
+    }
+
+    private int getBitIndex(final int hash1, final int hash2, final int i) {
+        return (int) Math.floorMod(hash1 + (long) i * hash2, (long) bitCount);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final TopicBloomFilter that = (TopicBloomFilter) o;
+        return bitCount == that.bitCount && hashCount == that.hashCount && Arrays.equals(bits, that.bits);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * bitCount + hashCount) + Arrays.hashCode(bits);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "bitCount=" + bitCount +
+                ", hashCount=" + hashCount +
+                "]";
+    }
+}
@@ -12,6 +12,7 @@
  */
 package org.eclipse.ditto.internal.utils.pubsub.config;
 
+import java.text.MessageFormat;
 import java.time.Duration;
 import java.util.Arrays;
 import java.util.Objects;
@@ -22,6 +23,7 @@ import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
 
 import org.eclipse.ditto.internal.utils.config.ConfigWithFallback;
+import org.eclipse.ditto.internal.utils.config.DittoConfigError;
 
 import com.typesafe.config.Config;
 
@@ -41,6 +43,7 @@ final class DefaultPubSubConfig implements PubSubConfig {
     private final Duration updateInterval;
     private final Duration syncInterval;
     private final double resetProbability;
+    private final double publisherFalsePositiveRate;
 
     private DefaultPubSubConfig(final ConfigWithFallback config) {
         seed = config.getString(ConfigValue.SEED.getConfigPath());
@@ -48,6 +51,12 @@ final class DefaultPubSubConfig implements PubSubConfig {
         updateInterval = config.getDuration(ConfigValue.UPDATE_INTERVAL.getConfigPath());
         syncInterval = config.getDuration(ConfigValue.SYNC_INTERVAL.getConfigPath());
         resetProbability = config.getDouble(ConfigValue.RESET_PROBABILITY.getConfigPath());
+        publisherFalsePositiveRate = config.getDouble(ConfigValue.PUBLISHER_FALSE_POSITIVE_RATE.getConfigPath());
+        if (!(publisherFalsePositiveRate > 0.0 && publisherFalsePositiveRate < 1.0)) {
+            throw new DittoConfigError(MessageFormat.format("The value for <{0}> must be between 0 and 1 " +
+                            "exclusive, but it was <{1}>!", ConfigValue.PUBLISHER_FALSE_POSITIVE_RATE.getConfigPath(),
+                    publisherFalsePositiveRate));
+        }
     }
 
     static PubSubConfig of(final Config config) {
@@ -79,12 +88,18 @@ final class DefaultPubSubConfig implements PubSubConfig {
         return resetProbability;
     }
 
+    @Override
+    public double getPublisherFalsePositiveRate() {
+        return publisherFalsePositiveRate;
+    }
+
     private String[] getFieldNames() {
-        return new String[]{"seed", "restartDelay", "updateInterval", "syncInterval", "resetProbability"};
+        return new String[]{"seed", "restartDelay", "updateInterval", "syncInterval", "resetProbability",
+                "publisherFalsePositiveRate"};
     }
 
     private Object[] getFieldValues() {
-        return new Object[]{seed, restartDelay, updateInterval, syncInterval, resetProbability};
+        return new Object[]{seed, restartDelay, updateInterval, syncInterval, resetProbability, publisherFalsePositiveRate};
     }
 
     @Override
@@ -51,6 +51,15 @@ public interface PubSubConfig {
      */
     double getResetProbability();
 
+    /**
+     * Returns the rate of false positives of the Bloom filters by which publishers index the topics of remote
+     * subscribers.
+     *
+     * @return the false positive rate between 0 and 1 exclusive.
+     * @since 3.8.0
+     */
+    double getPublisherFalsePositiveRate();
+
     /**
      * Create a {@code PubSubConfig} object from a {@code Config} object at the key {@code pubsub}.
      *
@@ -106,7 +115,14 @@ public interface PubSubConfig {
         /**
          * Probability to reset the distributed data of a subscriber.
          */
-        RESET_PROBABILITY("reset-probability", 0.01);
+        RESET_PROBABILITY("reset-probability", 0.01),
+
+        /**
+         * Rate of false positives of the Bloom filters by which publishers index the topics of remote subscribers.
+         * Lower rates send fewer signals to subscribers without matching subscriptions at the cost of more memory
+         * per subscribed topic.
+         */
+        PUBLISHER_FALSE_POSITIVE_RATE("publisher-false-positive-rate", 0.01);
 
         private final String path;
         private final Object defaultValue;
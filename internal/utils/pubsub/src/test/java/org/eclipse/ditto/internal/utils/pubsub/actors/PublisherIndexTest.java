@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.pubsub.actors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import org.apache.pekko.actor.ActorRef;
+import org.apache.pekko.actor.ActorSystem;
+import org.apache.pekko.japi.Pair;
+import org.apache.pekko.testkit.TestProbe;
+import org.apache.pekko.testkit.javadsl.TestKit;
+import org.eclipse.ditto.base.model.acks.AcknowledgementLabel;
+import org.eclipse.ditto.base.model.common.HttpStatus;
+import org.eclipse.ditto.base.model.entity.id.EntityId;
+import org.eclipse.ditto.base.model.entity.type.EntityType;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.base.model.signals.Signal;
+import org.eclipse.ditto.base.model.signals.acks.Acknowledgement;
+import org.eclipse.ditto.internal.utils.pubsub.api.PublishSignal;
+import org.eclipse.ditto.internal.utils.pubsub.ddata.ack.Grouped;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests {@link PublisherIndex}.
+ */
+public final class PublisherIndexTest {
+
+    /**
+     * A high false positive rate to find topics colliding with the Bloom filters easily.
+     */
+    private static final double FALSE_POSITIVE_RATE = 0.5;
+
+    private static final String GROUP = "group";
+
+    private static final Signal<?> SIGNAL = Acknowledgement.of(AcknowledgementLabel.of("publisher-index-test"),
+            EntityId.of(EntityType.of("thing"), "org.eclipse.ditto:thing"), HttpStatus.OK, DittoHeaders.empty());
+
+    private ActorSystem actorSystem;
+    private ActorRef subscriber1;
+    private ActorRef subscriber2;
+
+    @Before
+    public void setUp() {
+        actorSystem = ActorSystem.create(getClass().getSimpleName());
+        subscriber1 = TestProbe.apply("subscriber1", actorSystem).ref();
+        subscriber2 = TestProbe.apply("subscriber2", actorSystem).ref();
+    }
+
+    @After
+    public void tearDown() {
+        TestKit.shutdownActorSystem(actorSystem);
+    }
+
+    @Test
+    public void assignsGroupOnlyToSubscriberOfCollidingTopic() {
+        final Set<Long> topics = TopicBloomFilterTest.hashTopics("subscribed", 100);
+        final long collidingTopic = findCollidingTopic(topics);
+        final PublisherIndex<Long> underTest = PublisherIndex.fromDeserializedMMap(Map.of(
+                subscriber1, List.of(Grouped.of(GROUP, topics)),
+                subscriber2, List.of(Grouped.of(GROUP, Set.of(collidingTopic)))
+        ), FALSE_POSITIVE_RATE);
+
+        assertGroupIsAlwaysAssignedTo(underTest, collidingTopic, subscriber2);
+    }
+
+    @Test
+    public void assignsGroupOnlyToSubscriberOfCollidingTopicAcrossCombinedIndexes() {
+        final Set<Long> topics = TopicBloomFilterTest.hashTopics("subscribed", 100);
+        final long collidingTopic = findCollidingTopic(topics);
+        final PublisherIndex<Long> underTest = PublisherIndex.fromMultipleIndexes(List.of(
+                PublisherIndex.fromDeserializedMMap(Map.of(subscriber1, List.of(Grouped.of(GROUP, topics))),
+                        FALSE_POSITIVE_RATE),
+                PublisherIndex.fromDeserializedMMap(
+                        Map.of(subscriber2, List.of(Grouped.of(GROUP, Set.of(collidingTopic)))),
+                        FALSE_POSITIVE_RATE)
+        ));
+
+        assertGroupIsAlwaysAssignedTo(underTest, collidingTopic, subscriber2);
+    }
+
+    @Test
+    public void publishesToSubscribersWithoutGroupAndToChosenSubscriberOfGroup() {
+        final Set<Long> topics = TopicBloomFilterTest.hashTopics("subscribed", 10);
+        final long topic = topics.iterator().next();
+        final PublisherIndex<Long> underTest = PublisherIndex.fromDeserializedMMap(Map.of(
+                subscriber1, List.of(Grouped.of(topics)),
+                subscriber2, List.of(Grouped.of(GROUP, Set.of(topic)))
+        ), FALSE_POSITIVE_RATE);
+
+        final List<Pair<ActorRef, PublishSignal>> result =
+                underTest.assignGroupsToSubscribers(SIGNAL, List.of(topic), "key");
+
+        assertThat(result).hasSize(2);
+        assertThat(result).anySatisfy(pair -> {
+            assertThat(pair.first()).isEqualTo(subscriber1);
+            assertThat(pair.second().getGroups()).isEmpty();
+        });
+        assertThat(result).anySatisfy(pair -> {
+            assertThat(pair.first()).isEqualTo(subscriber2);
+            assertThat(pair.second().getGroups()).containsExactly(Map.entry(GROUP, 1));
+        });
+    }
+
+    private static void assertGroupIsAlwaysAssignedTo(final PublisherIndex<Long> underTest, final long topic,
+            final ActorRef expectedSubscriber) {
+
+        IntStream.range(0, 100).forEach(i -> {
+            final List<Pair<ActorRef, PublishSignal>> result =
+                    underTest.assignGroupsToSubscribers(SIGNAL, List.of(topic), "key-" + i);
+            assertThat(result).extracting(Pair::first).containsExactly(expectedSubscriber);
+            assertThat(result.get(0).second().getGroups()).containsExactly(Map.entry(GROUP, 1));
+        });
+    }
+
+    /**
+     * Finds a topic which is not subscribed but a false positive of the Bloom filter of the subscribed topics.
+     */
+    private static long findCollidingTopic(final Set<Long> subscribedTopics) {
+        final TopicBloomFilter bloomFilter = TopicBloomFilter.of(subscribedTopics, FALSE_POSITIVE_RATE);
+        return TopicBloomFilterTest.hashTopics("unsubscribed", 1000)
+                .stream()
+                .filter(topic -> !subscribedTopics.contains(topic) && bloomFilter.mightContain(topic))
+                .findAny()
+                .orElseThrow();
+    }
+
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.pubsub.actors;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH Benchmark for the memory of the Bloom filters of the {@link PublisherIndex} versus their false positive rate.
+ * Run with {@code -prof gc}: the normalized allocation rate ({@code gc.alloc.rate.norm}) of
+ * {@link #buildBloomFilter()} approximates the retained heap size of the Bloom filter of all subscribed topics, the
+ * one of {@link #buildExactIndex()} the retained heap size of an exact index of the same topics.
+ * The secondary result {@code falsePositives} of {@link #lookUpUnsubscribedTopic(FalsePositives)} divided by the one
+ * of {@code lookups} is the measured false positive rate.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+public class TopicBloomFilterBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 3;
+    private static final int MEASUREMENT_ITERATIONS = 5;
+    private static final int WARMUP_TIME = 1000;
+    private static final int MEASUREMENT_TIME = 1000;
+
+    @Param({"1000000"})
+    public int topicCount;
+
+    @Param({"0.001", "0.01", "0.1"})
+    public double falsePositiveRate;
+
+    private Set<Long> subscribedTopics;
+    private long[] unsubscribedTopics;
+    private TopicBloomFilter bloomFilter;
+    private int counter;
+
+    @Setup
+    public void setUp() {
+        subscribedTopics = TopicBloomFilterTest.hashTopics("subscribed", topicCount);
+        unsubscribedTopics = TopicBloomFilterTest.hashTopics("unsubscribed", topicCount)
+                .stream()
+                .mapToLong(Long::longValue)
+                .toArray();
+        bloomFilter = TopicBloomFilter.of(subscribedTopics, falsePositiveRate);
+        counter = 0;
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public TopicBloomFilter buildBloomFilter() {
+        return TopicBloomFilter.of(subscribedTopics, falsePositiveRate);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public Map<Long, Map<String, Set<String>>> buildExactIndex() {
+        // the structure of the exact index by topic, subscriber and groups the Bloom filters replace
+        final Map<Long, Map<String, Set<String>>> index = new HashMap<>();
+        for (final Long topic : subscribedTopics) {
+            index.computeIfAbsent(topic, t -> new HashMap<>()).put("subscriber", Set.of(""));
+        }
+        return index;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public boolean lookUpUnsubscribedTopic(final FalsePositives falsePositives) {
+        final long topic = unsubscribedTopics[counter++ % unsubscribedTopics.length];
+        final boolean result = bloomFilter.mightContain(topic);
+        falsePositives.lookups++;
+        if (result) {
+            falsePositives.falsePositives++;
+        }
+        return result;
+    }
+
+    /**
+     * Counters of the false positives of {@link #lookUpUnsubscribedTopic(FalsePositives)}.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class FalsePositives {
+
+        public long lookups;
+        public long falsePositives;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            lookups = 0;
+            falsePositives = 0;
+        }
+    }
+
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.pubsub.actors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.eclipse.ditto.internal.utils.pubsub.ddata.Hashes;
+import org.junit.Test;
+
+/**
+ * Tests {@link TopicBloomFilter}.
+ */
+public final class TopicBloomFilterTest {
+
+    private static final Hashes HASHES =
+            () -> Hashes.digestStringsToIntegers("TopicBloomFilterTest", Hashes.HASH_FAMILY_SIZE);
+
+    private static final int TOPIC_COUNT = 10_000;
+
+    @Test
+    public void containsAllTopics() {
+        final Set<Long> topics = hashTopics("subscribed", TOPIC_COUNT);
+
+        final TopicBloomFilter underTest = TopicBloomFilter.of(topics, 0.01);
+
+        assertThat(topics).allMatch(underTest::mightContain);
+    }
+
+    @Test
+    public void falsePositiveRateIsCloseToConfiguredRate() {
+        final double falsePositiveRate = 0.01;
+        final TopicBloomFilter underTest = TopicBloomFilter.of(hashTopics("subscribed", TOPIC_COUNT), falsePositiveRate);
+
+        final long falsePositives = hashTopics("unsubscribed", TOPIC_COUNT).stream()
+                .filter(underTest::mightContain)
+                .count();
+
+        assertThat((double) falsePositives / TOPIC_COUNT).isLessThan(2 * falsePositiveRate);
+        assertThat(underTest.getBitCount()).isLessThan(TOPIC_COUNT * 10);
+    }
+
+    @Test
+    public void emptyFilterContainsNothing() {
+        final TopicBloomFilter underTest = TopicBloomFilter.of(List.of(), 0.01);
+
+        assertThat(hashTopics("unsubscribed", TOPIC_COUNT)).noneMatch(underTest::mightContain);
+    }
+
+    @Test
+    public void rejectsInvalidFalsePositiveRate() {
+        assertThatIllegalArgumentException().isThrownBy(() -> TopicBloomFilter.of(List.of(), 0.0));
+        assertThatIllegalArgumentException().isThrownBy(() -> TopicBloomFilter.of(List.of(), 1.0));
+    }
+
+    static Set<Long> hashTopics(final String prefix, final int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> HASHES.hashAsLong("org.eclipse.ditto:" + prefix + "-" + i))
+                .collect(Collectors.toSet());
+    }
+
+}
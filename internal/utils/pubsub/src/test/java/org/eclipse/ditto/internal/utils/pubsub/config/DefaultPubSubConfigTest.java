@@ -68,6 +68,10 @@ public final class DefaultPubSubConfigTest {
         softly.assertThat(underTest.getResetProbability())
                 .as(PubSubConfig.ConfigValue.RESET_PROBABILITY.getConfigPath())
                 .isCloseTo(0.01, Percentage.withPercentage(0.1));
+
+        softly.assertThat(underTest.getPublisherFalsePositiveRate())
+                .as(PubSubConfig.ConfigValue.PUBLISHER_FALSE_POSITIVE_RATE.getConfigPath())
+                .isCloseTo(0.01, Percentage.withPercentage(0.1));
     }
 
     @Test
@@ -93,6 +97,10 @@ public final class DefaultPubSubConfigTest {
         softly.assertThat(underTest.getResetProbability())
                 .as(PubSubConfig.ConfigValue.RESET_PROBABILITY.getConfigPath())
                 .isCloseTo(0.6, Percentage.withPercentage(0.1));
+
+        softly.assertThat(underTest.getPublisherFalsePositiveRate())
+                .as(PubSubConfig.ConfigValue.PUBLISHER_FALSE_POSITIVE_RATE.getConfigPath())
+                .isCloseTo(0.05, Percentage.withPercentage(0.1));
     }
 
 }
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.internal.utils.search;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.ditto.internal.utils.cache.MetricsStatsCounter;
+import org.eclipse.ditto.rql.query.filter.ParsedCriteriaCache;
+
+import com.github.benmanes.caffeine.cache.RemovalCause;
+
+/**
+ * Provides the {@link ParsedCriteriaCache}s shared within a service, e.g. by all SSE connections or all connection
+ * targets, and reports their statistics with the same metrics as the caches created by
+ * {@link org.eclipse.ditto.internal.utils.cache.CacheFactory}, tagged with the cache name.
+ *
+ * @since 3.8.0
+ */
+public final class ParsedCriteriaCaches {
+
+    /**
+     * The maximum number of parsed filters held by each shared cache.
+     */
+    static final int MAXIMUM_SIZE = 1024;
+
+    private static final Map<String, ParsedCriteriaCache> CACHES = new ConcurrentHashMap<>();
+
+    private ParsedCriteriaCaches() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Returns the shared cache with the given name, creating it on first use.
+     *
+     * @param cacheName the name of the cache, used as metrics tag.
+     * @return the shared cache.
+     */
+    public static ParsedCriteriaCache get(final String cacheName) {
+        return CACHES.computeIfAbsent(cacheName, ParsedCriteriaCaches::newMetricsReportingCache);
+    }
+
+    private static ParsedCriteriaCache newMetricsReportingCache(final String cacheName) {
+        final AtomicReference<ParsedCriteriaCache> cacheReference = new AtomicReference<>();
+        final MetricsStatsCounter statsCounter = MetricsStatsCounter.of(cacheName, () -> (long) MAXIMUM_SIZE,
+                () -> {
+                    final ParsedCriteriaCache cache = cacheReference.get();
+                    return null != cache ? cache.size() : 0L;
+                });
+        final ParsedCriteriaCache cache =
+                ParsedCriteriaCache.newInstance(MAXIMUM_SIZE, new MetricsStatisticsListener(statsCounter));
+        cacheReference.set(cache);
+        return cache;
+    }
+
+    private static final class MetricsStatisticsListener implements ParsedCriteriaCache.StatisticsListener {
+
+        private final MetricsStatsCounter statsCounter;
+
+        private MetricsStatisticsListener(final MetricsStatsCounter statsCounter) {
+            this.statsCounter = statsCounter;
+        }
+
+        @Override
+        public void onHit() {
+            statsCounter.recordHits(1);
+        }
+
+        @Override
+        public void onMiss() {
+            statsCounter.recordMisses(1);
+        }
+
+        @Override
+        public void onParseSuccess(final long parseTimeNanos) {
+            statsCounter.recordLoadSuccess(parseTimeNanos);
+        }
+
+        @Override
+        public void onParseFailure(final long parseTimeNanos) {
+            statsCounter.recordLoadFailure(parseTimeNanos);
+        }
+
+        @Override
+        public void onEviction() {
+            statsCounter.recordEviction(1, RemovalCause.SIZE);
+        }
+
+    }
+
+}
@@ -226,23 +226,46 @@ public final class JacksonCborFactory implements CborFactory {
         }
     }
 
+    /**
+     * Parses a value nested in an object or array. Nested objects are not decoded but only their CBOR representation
+     * is retained, they decode their fields on first access. Thus fields which are never accessed, e.g. because they
+     * are only passed on, are never decoded.
+     */
+    private static JsonValue parseNestedValue(final CBORParser parser, final ByteBuffer byteBuffer,
+            @Nullable final JsonToken currentToken) throws IOException {
+
+        if (JsonToken.START_OBJECT == currentToken) {
+            return parseLazyObject(parser, byteBuffer);
+        }
+        return parseValue(parser, byteBuffer, currentToken);
+    }
+
     private static JsonObject parseObject(final CBORParser parser, final ByteBuffer byteBuffer) throws IOException {
         final LinkedHashMap<String, JsonField> map = new LinkedHashMap<>();
         final long startOffset = parser.getTokenLocation().getByteOffset();
         while (parser.nextToken() == JsonToken.FIELD_NAME) {
             final String key = parser.currentName();
-            final JsonField jsonField = JsonField.newInstance(key, parseValue(parser, byteBuffer));
-            map.put(key, jsonField);
+            final JsonValue jsonValue = parseNestedValue(parser, byteBuffer, parser.nextToken());
+            map.put(key, JsonField.newInstance(key, jsonValue));
         }
         final long endOffset = parser.getTokenLocation().getByteOffset();
         return JsonFactory.createJsonObject(map, getBytesFromInputSource(startOffset, endOffset, byteBuffer));
     }
 
+    private static JsonObject parseLazyObject(final CBORParser parser, final ByteBuffer byteBuffer)
+            throws IOException {
+
+        final long startOffset = parser.getTokenLocation().getByteOffset();
+        parser.skipChildren();
+        final long endOffset = parser.getTokenLocation().getByteOffset();
+        return JsonFactory.createLazyJsonObject(getBytesFromInputSource(startOffset, endOffset, byteBuffer));
+    }
+
     private static JsonArray parseArray(final CBORParser parser, final ByteBuffer byteBuffer) throws IOException {
         final LinkedList<JsonValue> list = new LinkedList<>();
         final long startOffset = parser.getTokenLocation().getByteOffset();
         while (parser.nextToken() != JsonToken.END_ARRAY) {
-            final JsonValue jsonValue = parseValue(parser, byteBuffer, parser.currentToken());
+            final JsonValue jsonValue = parseNestedValue(parser, byteBuffer, parser.currentToken());
             list.add(jsonValue);
         }
         final long endOffset = parser.getTokenLocation().getByteOffset();
@@ -20,6 +20,7 @@ import org.eclipse.ditto.json.SerializationContext;
 
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.cbor.CBORGenerator;
 
 /**
  * Implementation of {@link SerializationContext} backed by Jackson's {@link JsonGenerator}.
@@ -127,6 +128,31 @@ public final class JacksonSerializationContext implements SerializationContext {
         jacksonGenerator.writeFieldName(name);
     }
 
+    @Override
+    public void writeStartObject(final int size) throws IOException {
+        if (jacksonGenerator instanceof CBORGenerator) {
+            // encodes the length in the CBOR object header instead of using an indefinite length object
+            ((CBORGenerator) jacksonGenerator).writeStartObject(size);
+        } else {
+            jacksonGenerator.writeStartObject();
+        }
+    }
+
+    @Override
+    public void writeEndObject() throws IOException {
+        jacksonGenerator.writeEndObject();
+    }
+
+    @Override
+    public void writeStartArray(final int size) throws IOException {
+        jacksonGenerator.writeStartArray(null, size);
+    }
+
+    @Override
+    public void writeEndArray() throws IOException {
+        jacksonGenerator.writeEndArray();
+    }
+
     private void informJacksonThatOneElementWasWritten() throws IOException {
         // Deactivating the output stream to write a pseudo element and ensure that the internal counter keeping track
         // of array and object lengths is accurate.
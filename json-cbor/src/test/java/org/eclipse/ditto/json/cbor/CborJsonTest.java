@@ -18,6 +18,7 @@ import static org.eclipse.ditto.json.JsonFactory.newValue;
 
 import java.io.IOException;
 import java.lang.reflect.Field;
+import java.lang.reflect.Method;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -203,18 +204,54 @@ public final class CborJsonTest {
     @Test
     public void validateImmutableJsonObjectInternalCachingBehaviour() throws IOException {
         final JsonObject objectWithSelfGeneratedCache = JsonFactory.newObjectBuilder(KNOWN_FIELDS.values()).build();
-        assertInternalCachesAreAsExpected(objectWithSelfGeneratedCache, true, false);
+        assertInternalCachesAreAsExpected(objectWithSelfGeneratedCache, false, false);
 
         final ByteBuffer byteBuffer = cborFactory.toByteBuffer(objectWithSelfGeneratedCache);
         final JsonObject objectWithCborCache = cborFactory.readFrom(byteBuffer).asObject();
-        assertInternalCachesAreAsExpected(objectWithSelfGeneratedCache, true, false);
+        assertInternalCachesAreAsExpected(objectWithSelfGeneratedCache, false, false);
         final JsonObject objectWithJsonCache = JsonFactory.newObject(objectWithSelfGeneratedCache.toString());
-        assertInternalCachesAreAsExpected(objectWithSelfGeneratedCache, true, true);
+        assertInternalCachesAreAsExpected(objectWithSelfGeneratedCache, false, true);
 
         assertInternalCachesAreAsExpected(objectWithCborCache, true, false);
         assertInternalCachesAreAsExpected(objectWithJsonCache, false, true);
     }
 
+    @Test
+    public void nestedObjectsAreDecodedOnFirstAccess() throws IOException {
+        final JsonObject nested = JsonFactory.newObjectBuilder(KNOWN_FIELDS.values()).build();
+        final JsonObject original = JsonObject.newBuilder()
+                .set("thingId", "org.eclipse.ditto:lazy")
+                .set("attributes", nested)
+                .set("list", JsonArray.of(nested, 1))
+                .build();
+
+        final JsonObject read = cborFactory.readFrom(cborFactory.toByteBuffer(original)).asObject();
+        final JsonObject readNested = read.getValue("attributes").get().asObject();
+        final JsonObject readNestedInArray = read.getValue("list").get().asArray().get(0).get().asObject();
+
+        assertThat(isDecoded(read)).isTrue();
+        assertThat(isDecoded(readNested)).isFalse();
+        assertThat(isDecoded(readNestedInArray)).isFalse();
+        assertThat(readNested.getValue(KNOWN_KEY_BAZ)).contains(KNOWN_VALUE_BAZ);
+        assertThat(isDecoded(readNested)).isTrue();
+        assertThat(read).isEqualTo(original);
+        assertThat(read.toString()).isEqualTo(original.toString());
+    }
+
+    @Test
+    public void undecodedObjectIsSerializedWithoutDecoding() throws IOException {
+        final JsonObject nested = JsonFactory.newObjectBuilder(KNOWN_FIELDS.values()).build();
+        final JsonObject original = JsonObject.newBuilder().set("attributes", nested).build();
+        final ByteBuffer originalBytes = cborFactory.toByteBuffer(original);
+
+        final JsonObject read = cborFactory.readFrom(originalBytes.duplicate()).asObject();
+        final JsonObject readNested = read.getValue("attributes").get().asObject();
+        final JsonObject rebuilt = JsonObject.newBuilder().set("attributes", readNested).build();
+
+        assertThat(cborFactory.toByteBuffer(rebuilt)).isEqualTo(originalBytes);
+        assertThat(isDecoded(readNested)).isFalse();
+    }
+
     @Test
     public void writeImmutableJsonArrayWritesExpectedForSimpleArray() throws IOException {
         final String expectedString
@@ -267,6 +304,19 @@ public final class CborJsonTest {
         assertInternalCachesAreAsExpected(arrayWithJsonCache, false, true);
     }
 
+    private static boolean isDecoded(final JsonObject jsonObject) {
+        try {
+            final Field fieldMapField = jsonObject.getClass().getDeclaredField("fieldMap");
+            fieldMapField.setAccessible(true);
+            final Object fieldMap = fieldMapField.get(jsonObject);
+            final Method isDecodedMethod = fieldMap.getClass().getDeclaredMethod("isDecoded");
+            isDecodedMethod.setAccessible(true);
+            return (boolean) isDecodedMethod.invoke(fieldMap);
+        } catch (final ReflectiveOperationException e) {
+            throw new AssertionError("Failed to access internal field map of JsonObject using reflection.", e);
+        }
+    }
+
     private void assertInternalCachesAreAsExpected(final JsonObject jsonObject, final boolean cborExpected,
             final boolean jsonExpected) {
         try {
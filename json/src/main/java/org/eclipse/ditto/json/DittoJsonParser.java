@@ -0,0 +1,654 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+/**
+ * Single-pass recursive-descent JSON parser which creates ditto-json values directly from a string.
+ * <p>
+ * In contrast to parsing with minimal-json and a {@link DittoJsonHandler} no intermediate per-container string
+ * builders are created: the compact string representation of each parsed JSON object and array is cut out of the
+ * input string as long as the input does not contain any whitespace or escape sequences. Only if the input deviates
+ * from its compact form, a single string builder for the whole document is used.
+ * Numbers are parsed directly from the input characters to their primitive specialized {@link JsonNumber} type and
+ * object keys are taken from a small shared key cache in order to avoid allocating the same keys over and over again.
+ * </p>
+ * <p>
+ * Additionally, the parser is able to only materialize the parts of a JSON object which are selected by a
+ * {@link JsonFieldSelectorTrie}; all other values are validated and skipped without allocating anything.
+ * </p>
+ * <p>
+ * <em>An instance of this class must only be used for parsing one single input.</em>
+ * </p>
+ */
+@NotThreadSafe
+final class DittoJsonParser {
+
+    private static final int KEY_CACHE_SIZE = 1024;
+    private static final int KEY_CACHE_MASK = KEY_CACHE_SIZE - 1;
+    private static final int MAX_CACHED_KEY_LENGTH = 64;
+
+    /**
+     * Direct mapped cache of recently parsed JSON keys which is shared between all parser instances.
+     * Racy access is fine as JSON keys are immutable and a lost update only results in a cache miss.
+     */
+    private static final JsonKey[] KEY_CACHE = new JsonKey[KEY_CACHE_SIZE];
+
+    /**
+     * Maximum number of digits of an integer number which can be accumulated to a long without overflow.
+     */
+    private static final int MAX_SAFE_LONG_DIGITS = 18;
+
+    private final String input;
+    private final int length;
+    private int pos;
+
+    /**
+     * Compact string representation of the input parsed so far. Is {@code null} as long as the input did not deviate
+     * from its compact form; in that case the compact representation is the input itself.
+     */
+    @Nullable private StringBuilder compact;
+
+    private DittoJsonParser(final String input, final boolean forceCompactBuilder) {
+        this.input = input;
+        length = input.length();
+        pos = 0;
+        compact = forceCompactBuilder ? new StringBuilder(Math.min(length, 1024)) : null;
+    }
+
+    /**
+     * Parses the given string to a JSON value.
+     *
+     * @param jsonString the string to be parsed.
+     * @return the parsed JSON value.
+     * @throws NullPointerException if {@code jsonString} is {@code null}.
+     * @throws JsonParseException if {@code jsonString} is no valid JSON.
+     * @throws NumberFormatException if {@code jsonString} contains an integer number which exceeds the range of
+     * {@code long}.
+     * @throws IllegalArgumentException if {@code jsonString} contains an object with an empty key.
+     */
+    static JsonValue parse(final String jsonString) {
+        final DittoJsonParser parser = new DittoJsonParser(jsonString, false);
+        parser.skipWhitespace();
+        final JsonValue result = parser.readValue(null);
+        parser.skipWhitespace();
+        parser.expectEndOfInput();
+        return result;
+    }
+
+    /**
+     * Parses the given string to a JSON object which only contains the values along the paths of the given trie.
+     * The values at the leafs of the trie are parsed completely.
+     * All other values of the string are validated but not materialized.
+     *
+     * @param jsonString the string to be parsed.
+     * @param trie selects the values to be materialized.
+     * @return the parsed JSON value. Only if this is a JSON object, the selection was applied.
+     * @throws NullPointerException if any argument is {@code null}.
+     * @throws JsonParseException if {@code jsonString} is no valid JSON.
+     */
+    static JsonValue parseSelected(final String jsonString, final JsonFieldSelectorTrie trie) {
+        final DittoJsonParser parser = new DittoJsonParser(jsonString, true);
+        parser.skipWhitespace();
+        final JsonValue result = parser.readValue(trie);
+        parser.skipWhitespace();
+        parser.expectEndOfInput();
+        return result;
+    }
+
+    private JsonValue readValue(@Nullable final JsonFieldSelectorTrie trie) {
+        if (pos >= length) {
+            throw unexpectedEndOfInput();
+        }
+        final char c = input.charAt(pos);
+        switch (c) {
+            case '{':
+                return readObject(trie);
+            case '[':
+                return readArray(trie);
+            case '"':
+                return ImmutableJsonString.of(readString());
+            case 'n':
+                readLiteral("null");
+                return ImmutableJsonNull.getInstance();
+            case 't':
+                readLiteral("true");
+                return ImmutableJsonBoolean.TRUE;
+            case 'f':
+                readLiteral("false");
+                return ImmutableJsonBoolean.FALSE;
+            default:
+                if ('-' == c || isDigit(c)) {
+                    return readNumber();
+                }
+                throw unexpectedCharacter("value");
+        }
+    }
+
+    private JsonValue readObject(@Nullable final JsonFieldSelectorTrie trie) {
+        final int compactStart = compactLength();
+        appendCompact('{');
+        pos++;
+        skipWhitespace();
+
+        final Map<String, JsonField> fields = new LinkedHashMap<>();
+        if (!tryToConsume('}')) {
+            int compactFieldStart = compactLength();
+            do {
+                skipWhitespace();
+                final JsonKey key = readKey();
+                skipWhitespace();
+                expect(':');
+                appendCompact(':');
+                skipWhitespace();
+                if (null == trie) {
+                    putField(fields, key, readValue(null));
+                } else if (trie.getKeys().contains(key)) {
+                    removeSeparatorOfFirstSelectedField(fields, compactFieldStart);
+                    final JsonFieldSelectorTrie childTrie = trie.descend(key);
+                    putField(fields, key, readValue(childTrie.isEmpty() ? null : childTrie));
+                } else {
+                    truncateCompact(compactFieldStart);
+                    skipValue();
+                }
+                skipWhitespace();
+                compactFieldStart = compactLength();
+            } while (tryToConsumeSeparator());
+            expect('}');
+        }
+        appendCompact('}');
+        return ImmutableJsonObject.of(fields, compactSubstring(compactStart));
+    }
+
+    /**
+     * If all fields before the first selected field were skipped, the separator in front of the selected field has to
+     * be removed from the compact representation.
+     */
+    private void removeSeparatorOfFirstSelectedField(final Map<String, JsonField> fields,
+            final int compactFieldStart) {
+
+        final StringBuilder compactBuilder = compact;
+        if (fields.isEmpty() && null != compactBuilder && ',' == compactBuilder.charAt(compactFieldStart)) {
+            compactBuilder.deleteCharAt(compactFieldStart);
+        }
+    }
+
+    private static void putField(final Map<String, JsonField> fields, final JsonKey key, final JsonValue value) {
+        fields.put(key.toString(), JsonField.newInstance(key, value));
+    }
+
+    private JsonValue readArray(@Nullable final JsonFieldSelectorTrie trie) {
+        final int compactStart = compactLength();
+        appendCompact('[');
+        pos++;
+        skipWhitespace();
+
+        final List<JsonValue> values = new ArrayList<>();
+        if (!tryToConsume(']')) {
+            do {
+                skipWhitespace();
+                values.add(readValue(trie));
+                skipWhitespace();
+            } while (tryToConsumeSeparator());
+            expect(']');
+        }
+        appendCompact(']');
+        return ImmutableJsonArray.of(values, compactSubstring(compactStart));
+    }
+
+    private JsonKey readKey() {
+        if (pos >= length || '"' != input.charAt(pos)) {
+            throw unexpectedCharacter("name");
+        }
+        final int start = pos + 1;
+        final int end = findEndOfPlainString(start);
+        if (end >= 0) {
+            pos = end + 1;
+            appendCompact(input, start - 1, pos);
+            return getCachedKey(start, end);
+        }
+        return JsonKey.of(readEscapedString(start));
+    }
+
+    private JsonKey getCachedKey(final int start, final int end) {
+        final int keyLength = end - start;
+        if (0 == keyLength || MAX_CACHED_KEY_LENGTH < keyLength) {
+            return JsonKey.of(input.substring(start, end));
+        }
+        int hash = 0;
+        for (int i = start; i < end; i++) {
+            hash = 31 * hash + input.charAt(i);
+        }
+        final int index = (hash ^ (hash >>> 16)) & KEY_CACHE_MASK;
+        final JsonKey cachedKey = KEY_CACHE[index];
+        if (null != cachedKey) {
+            final String cachedKeyString = cachedKey.toString();
+            if (cachedKeyString.length() == keyLength && cachedKeyString.regionMatches(0, input, start, keyLength)) {
+                return cachedKey;
+            }
+        }
+        final JsonKey result = JsonKey.of(input.substring(start, end));
+        KEY_CACHE[index] = result;
+        return result;
+    }
+
+    /**
+     * Returns the index of the closing quote of the string starting at {@code start} if the string does not contain
+     * any escape sequence and thus its compact representation equals its input.
+     *
+     * @param start the index of the first character after the opening quote.
+     * @return the index of the closing quote or {@code -1} if the string contains an escape sequence.
+     */
+    private int findEndOfPlainString(final int start) {
+        for (int i = start; i < length; i++) {
+            final char c = input.charAt(i);
+            if ('"' == c) {
+                return i;
+            } else if ('\\' == c) {
+                return -1;
+            } else if (c < 0x20) {
+                pos = i;
+                throw unexpectedCharacter("valid string character");
+            }
+        }
+        pos = length;
+        throw unexpectedEndOfInput();
+    }
+
+    private String readString() {
+        final int start = pos + 1;
+        final int end = findEndOfPlainString(start);
+        if (end >= 0) {
+            pos = end + 1;
+            appendCompact(input, start - 1, pos);
+            return input.substring(start, end);
+        }
+        return readEscapedString(start);
+    }
+
+    private String readEscapedString(final int start) {
+        final StringBuilder stringBuilder = new StringBuilder(32);
+        pos = start;
+        while (true) {
+            if (pos >= length) {
+                throw unexpectedEndOfInput();
+            }
+            final char c = input.charAt(pos);
+            if ('"' == c) {
+                pos++;
+                break;
+            } else if ('\\' == c) {
+                pos++;
+                stringBuilder.append(readEscapedChar());
+            } else if (c < 0x20) {
+                throw unexpectedCharacter("valid string character");
+            } else {
+                stringBuilder.append(c);
+                pos++;
+            }
+        }
+        final String result = stringBuilder.toString();
+        appendCompactEscaped(result, start - 1);
+        return result;
+    }
+
+    private char readEscapedChar() {
+        if (pos >= length) {
+            throw unexpectedEndOfInput();
+        }
+        final char c = input.charAt(pos++);
+        switch (c) {
+            case '"':
+            case '/':
+            case '\\':
+                return c;
+            case 'b':
+                return '\b';
+            case 'f':
+                return '\f';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 't':
+                return '\t';
+            case 'u':
+                return readUnicodeEscape();
+            default:
+                pos--;
+                throw unexpectedCharacter("valid escape sequence");
+        }
+    }
+
+    private char readUnicodeEscape() {
+        int result = 0;
+        for (int i = 0; i < 4; i++) {
+            if (pos >= length) {
+                throw unexpectedEndOfInput();
+            }
+            final int digit = Character.digit(input.charAt(pos), 16);
+            if (digit < 0) {
+                throw unexpectedCharacter("hexadecimal digit");
+            }
+            result = (result << 4) | digit;
+            pos++;
+        }
+        return (char) result;
+    }
+
+    private void readLiteral(final String literal) {
+        skipLiteral(literal);
+        appendCompact(literal);
+    }
+
+    private JsonNumber readNumber() {
+        final int start = pos;
+        final boolean isNegative = tryToConsume('-');
+        final int firstDigit = pos;
+        readIntegerPart();
+        final int digitCount = pos - firstDigit;
+        boolean isDecimal = false;
+        if (tryToConsume('.')) {
+            isDecimal = true;
+            readDigits();
+        }
+        if (pos < length && ('e' == input.charAt(pos) || 'E' == input.charAt(pos))) {
+            isDecimal = true;
+            pos++;
+            if (!tryToConsume('+')) {
+                tryToConsume('-');
+            }
+            readDigits();
+        }
+        appendCompact(input, start, pos);
+
+        if (isDecimal) {
+            return ImmutableJsonDouble.of(Double.parseDouble(input.substring(start, pos)));
+        }
+        final long longValue;
+        if (digitCount <= MAX_SAFE_LONG_DIGITS) {
+            long accumulated = 0;
+            for (int i = firstDigit; i < pos; i++) {
+                accumulated = accumulated * 10 + (input.charAt(i) - '0');
+            }
+            longValue = isNegative ? -accumulated : accumulated;
+        } else {
+            // throws a NumberFormatException if the value exceeds the range of long like the former parser did
+            longValue = Long.parseLong(input.substring(start, pos));
+        }
+        if (Integer.MIN_VALUE <= longValue && longValue <= Integer.MAX_VALUE) {
+            return ImmutableJsonInt.of((int) longValue);
+        }
+        return ImmutableJsonLong.of(longValue);
+    }
+
+    private void readIntegerPart() {
+        if (pos >= length) {
+            throw unexpectedEndOfInput();
+        }
+        final char c = input.charAt(pos);
+        if ('0' == c) {
+            pos++;
+        } else if (isDigit(c)) {
+            readDigits();
+        } else {
+            throw unexpectedCharacter("digit");
+        }
+    }
+
+    private void readDigits() {
+        if (pos >= length) {
+            throw unexpectedEndOfInput();
+        }
+        if (!isDigit(input.charAt(pos))) {
+            throw unexpectedCharacter("digit");
+        }
+        do {
+            pos++;
+        } while (pos < length && isDigit(input.charAt(pos)));
+    }
+
+    private static boolean isDigit(final char c) {
+        return '0' <= c && c <= '9';
+    }
+
+    /**
+     * Validates the value at the current position and moves behind it without materializing anything.
+     */
+    private void skipValue() {
+        if (pos >= length) {
+            throw unexpectedEndOfInput();
+        }
+        final char c = input.charAt(pos);
+        switch (c) {
+            case '{':
+                skipContainer('}', true);
+                break;
+            case '[':
+                skipContainer(']', false);
+                break;
+            case '"':
+                skipString();
+                break;
+            case 'n':
+                skipLiteral("null");
+                break;
+            case 't':
+                skipLiteral("true");
+                break;
+            case 'f':
+                skipLiteral("false");
+                break;
+            default:
+                if ('-' == c || isDigit(c)) {
+                    skipNumber();
+                } else {
+                    throw unexpectedCharacter("value");
+                }
+        }
+    }
+
+    private void skipContainer(final char closingChar, final boolean isObject) {
+        pos++;
+        skipWhitespace();
+        if (tryToConsume(closingChar)) {
+            return;
+        }
+        do {
+            skipWhitespace();
+            if (isObject) {
+                if (pos >= length || '"' != input.charAt(pos)) {
+                    throw unexpectedCharacter("name");
+                }
+                skipString();
+                skipWhitespace();
+                expect(':');
+                skipWhitespace();
+            }
+            skipValue();
+            skipWhitespace();
+        } while (tryToConsume(','));
+        expect(closingChar);
+    }
+
+    private void skipString() {
+        pos++;
+        while (true) {
+            if (pos >= length) {
+                throw unexpectedEndOfInput();
+            }
+            final char c = input.charAt(pos);
+            if ('"' == c) {
+                pos++;
+                return;
+            } else if ('\\' == c) {
+                pos++;
+                readEscapedChar();
+            } else if (c < 0x20) {
+                throw unexpectedCharacter("valid string character");
+            } else {
+                pos++;
+            }
+        }
+    }
+
+    private void skipLiteral(final String literal) {
+        final int literalLength = literal.length();
+        if (!input.startsWith(literal, pos)) {
+            for (int i = 0; i < literalLength; i++) {
+                if (pos >= length) {
+                    throw unexpectedEndOfInput();
+                }
+                if (input.charAt(pos) != literal.charAt(i)) {
+                    throw unexpectedCharacter("'" + literal.charAt(i) + "'");
+                }
+                pos++;
+            }
+        }
+        pos += literalLength;
+    }
+
+    private void skipNumber() {
+        tryToConsume('-');
+        readIntegerPart();
+        if (tryToConsume('.')) {
+            readDigits();
+        }
+        if (pos < length && ('e' == input.charAt(pos) || 'E' == input.charAt(pos))) {
+            pos++;
+            if (!tryToConsume('+')) {
+                tryToConsume('-');
+            }
+            readDigits();
+        }
+    }
+
+    private void skipWhitespace() {
+        final int start = pos;
+        while (pos < length && isWhitespace(input.charAt(pos))) {
+            pos++;
+        }
+        if (start != pos && null == compact) {
+            // from now on the input deviates from its compact representation
+            compact = new StringBuilder(length).append(input, 0, start);
+        }
+    }
+
+    private static boolean isWhitespace(final char c) {
+        return ' ' == c || '\t' == c || '\n' == c || '\r' == c;
+    }
+
+    private boolean tryToConsume(final char c) {
+        if (pos < length && input.charAt(pos) == c) {
+            pos++;
+            return true;
+        }
+        return false;
+    }
+
+    private boolean tryToConsumeSeparator() {
+        if (tryToConsume(',')) {
+            // append immediately so that a following whitespace does not lead to a duplicate separator
+            appendCompact(',');
+            return true;
+        }
+        return false;
+    }
+
+    private void expect(final char c) {
+        if (!tryToConsume(c)) {
+            if (pos >= length) {
+                throw unexpectedEndOfInput();
+            }
+            throw unexpectedCharacter("'" + c + "'");
+        }
+    }
+
+    private void expectEndOfInput() {
+        if (pos < length) {
+            throw unexpectedCharacter("end of input");
+        }
+    }
+
+    private int compactLength() {
+        final StringBuilder compactBuilder = compact;
+        return null != compactBuilder ? compactBuilder.length() : pos;
+    }
+
+    private void appendCompact(final char c) {
+        final StringBuilder compactBuilder = compact;
+        if (null != compactBuilder) {
+            compactBuilder.append(c);
+        }
+    }
+
+    private void appendCompact(final String s) {
+        final StringBuilder compactBuilder = compact;
+        if (null != compactBuilder) {
+            compactBuilder.append(s);
+        }
+    }
+
+    private void appendCompact(final CharSequence s, final int start, final int end) {
+        final StringBuilder compactBuilder = compact;
+        if (null != compactBuilder) {
+            compactBuilder.append(s, start, end);
+        }
+    }
+
+    private void appendCompactEscaped(final String javaString, final int openingQuoteIndex) {
+        StringBuilder compactBuilder = compact;
+        if (null == compactBuilder) {
+            // escape sequences make the input deviate from its compact representation
+            compactBuilder = new StringBuilder(length).append(input, 0, openingQuoteIndex);
+            compact = compactBuilder;
+        }
+        compactBuilder.append(JavaStringToEscapedJsonString.getInstance().apply(javaString));
+    }
+
+    private void truncateCompact(final int compactLength) {
+        final StringBuilder compactBuilder = compact;
+        if (null != compactBuilder) {
+            compactBuilder.setLength(compactLength);
+        }
+    }
+
+    private String compactSubstring(final int compactStart) {
+        final StringBuilder compactBuilder = compact;
+        if (null != compactBuilder) {
+            return compactBuilder.substring(compactStart);
+        }
+        return input.substring(compactStart, pos);
+    }
+
+    private JsonParseException unexpectedEndOfInput() {
+        return new JsonParseException(MessageFormat.format("Unexpected end of input at offset <{0}>!", pos));
+    }
+
+    private JsonParseException unexpectedCharacter(final String expected) {
+        if (pos >= length) {
+            return unexpectedEndOfInput();
+        }
+        return new JsonParseException(MessageFormat.format("Unexpected character <{0}> at offset <{1}>, expected {2}!",
+                input.charAt(pos), pos, expected));
+    }
+
+}
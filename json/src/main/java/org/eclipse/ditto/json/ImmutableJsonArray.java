@@ -474,10 +474,19 @@ final class ImmutableJsonArray extends AbstractJsonValue implements JsonArray {
         }
 
         void writeValue(final SerializationContext serializationContext) throws IOException {
-            if (CBOR_FACTORY.isCborAvailable() && cborArrayRepresentation == null) {
-                cborArrayRepresentation = CBOR_FACTORY.createCborRepresentation(this.values(), guessSerializedSize());
+            final byte[] cbor = cborArrayRepresentation;
+            if (null != cbor) {
+                serializationContext.writeCachedElement(cbor);
+            } else {
+                // the string representation is kept for recovering the values, so stream them directly instead of
+                // additionally creating and caching a CBOR representation
+                final List<JsonValue> values = values();
+                serializationContext.writeStartArray(values.size());
+                for (final JsonValue value : values) {
+                    value.writeValue(serializationContext);
+                }
+                serializationContext.writeEndArray();
             }
-            serializationContext.writeCachedElement(cborArrayRepresentation);
         }
 
         private int guessSerializedSize() {
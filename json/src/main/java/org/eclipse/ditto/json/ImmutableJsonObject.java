@@ -15,13 +15,13 @@ package org.eclipse.ditto.json;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
-import java.lang.ref.SoftReference;
 import java.text.MessageFormat;
-import java.util.ArrayDeque;
-import java.util.ArrayList;
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
-import java.util.Deque;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -29,6 +29,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.ServiceLoader;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -37,7 +38,6 @@ import java.util.stream.StreamSupport;
 
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
-import javax.annotation.concurrent.NotThreadSafe;
 
 /**
  * An immutable implementation of a JSON object.
@@ -53,9 +53,11 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
 
     @Nullable private static ImmutableJsonObject emptyInstance = null;
 
-    private final SoftReferencedFieldMap fieldMap;
+    // an undecoded field map is replaced by its decoded form on first access, racy initialization is fine as the
+    // decoded field map is immutable and equal for all racing threads
+    private CompactFieldMap fieldMap;
 
-    ImmutableJsonObject(final SoftReferencedFieldMap theFieldMap) {
+    ImmutableJsonObject(final CompactFieldMap theFieldMap) {
         fieldMap = theFieldMap;
     }
 
@@ -67,7 +69,7 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
     public static ImmutableJsonObject empty() {
         ImmutableJsonObject result = emptyInstance;
         if (null == result) {
-            result = new ImmutableJsonObject(SoftReferencedFieldMap.empty());
+            result = new ImmutableJsonObject(CompactFieldMap.empty());
             emptyInstance = result;
         }
         return result;
@@ -81,7 +83,7 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
      * @throws NullPointerException if {@code fields} is {@code null}.
      */
     public static ImmutableJsonObject of(final Map<String, JsonField> fields) {
-        return new ImmutableJsonObject(SoftReferencedFieldMap.of(fields));
+        return new ImmutableJsonObject(CompactFieldMap.of(fields));
     }
 
     /**
@@ -95,7 +97,7 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
     public static ImmutableJsonObject of(final Map<String, JsonField> fields,
             @Nullable final String stringRepresentation) {
 
-        return new ImmutableJsonObject(SoftReferencedFieldMap.of(fields, stringRepresentation));
+        return new ImmutableJsonObject(CompactFieldMap.of(fields, stringRepresentation));
     }
 
     /**
@@ -110,7 +112,7 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
     public static ImmutableJsonObject of(final Map<String, JsonField> fields,
             @Nullable final byte[] cborRepresentation) {
 
-        return new ImmutableJsonObject(SoftReferencedFieldMap.of(
+        return new ImmutableJsonObject(CompactFieldMap.of(
                 fields,
                 cborRepresentation != null ? cborRepresentation.clone() : null
         ));
@@ -177,6 +179,10 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
 
         final JsonKey rootKey = pointer.getRoot().orElse(ROOT_KEY);
 
+        if (target instanceof ImmutableJsonObject) {
+            return ((ImmutableJsonObject) target).setFieldInChild(rootKey, pointer.nextLevel(), jsonField);
+        }
+
         final JsonObject newTarget = target.getValue(rootKey)
                 .filter(JsonValue::isObject)
                 .filter(jsonValue -> !jsonValue.isNull())
@@ -187,15 +193,47 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
         return target.setValue(rootKey, setFieldInHierarchy(newTarget, pointer.nextLevel(), jsonField));
     }
 
+    /**
+     * Sets the given field at the given pointer within the child object at the given key. Only the objects on the path
+     * are replaced, all siblings are shared with this object.
+     *
+     * @param childKey the key of the child object which is created if it does not exist yet.
+     * @param childPointer the pointer of the field within the child object.
+     * @param jsonField the field to set.
+     * @return the new JSON object or this object if it already contained {@code jsonField}.
+     */
+    private JsonObject setFieldInChild(final JsonKey childKey, final JsonPointer childPointer,
+            final JsonField jsonField) {
+
+        final String childKeyName = childKey.toString();
+        final JsonField existingField = getFieldMap().getOrNull(childKeyName);
+        final JsonObject existingChild = Optional.ofNullable(existingField)
+                .map(JsonField::getValue)
+                .filter(JsonValue::isObject)
+                .filter(jsonValue -> !jsonValue.isNull())
+                .map(JsonValue::asObject)
+                .orElseGet(ImmutableJsonObject::empty);
+
+        final JsonObject newChild = setFieldInHierarchy(existingChild, childPointer, jsonField);
+        if (null != existingField && newChild == existingField.getValue()) {
+            return this;
+        }
+        @SuppressWarnings({"rawtypes", "java:S3740"})
+        final JsonFieldDefinition definition =
+                null != existingField ? existingField.getDefinition().orElse(null) : null;
+        return new ImmutableJsonObject(
+                getFieldMap().put(childKeyName, JsonField.newInstance(childKey, newChild, definition)));
+    }
+
     @Override
     public ImmutableJsonObject set(final JsonField field) {
         requireNonNull(field, "The JSON field to be set must not be null!");
 
         ImmutableJsonObject result = this;
 
-        final JsonField existingField = fieldMap.getOrNull(field.getKeyName());
+        final JsonField existingField = getFieldMap().getOrNull(field.getKeyName());
         if (!field.equals(existingField)) {
-            result = new ImmutableJsonObject(fieldMap.put(field.getKeyName(), field));
+            result = new ImmutableJsonObject(getFieldMap().put(field.getKeyName(), field));
         }
 
         return result;
@@ -210,7 +248,7 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
         if (isEmpty(fields)) {
             result = this;
         } else {
-            result = new ImmutableJsonObject(fieldMap.putAll(fields));
+            result = new ImmutableJsonObject(getFieldMap().putAll(fields));
         }
 
         return result;
@@ -262,7 +300,7 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
     }
 
     private boolean containsKey(final CharSequence key) {
-        return fieldMap.containsKey(key.toString());
+        return getFieldMap().containsKey(key.toString());
     }
 
     @Override
@@ -319,7 +357,7 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
     }
 
     private Optional<JsonValue> getValueForKey(final CharSequence key) {
-        final JsonField jsonField = fieldMap.getOrNull(key.toString());
+        final JsonField jsonField = getFieldMap().getOrNull(key.toString());
         return null != jsonField ? Optional.of(jsonField.getValue()) : Optional.empty();
     }
 
@@ -471,14 +509,22 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
                     .map(jsonObject::contains)
                     .orElse(false);
 
-            result = getValueForKey(rootKey)
+            final String rootKeyName = rootKey.toString();
+            final JsonField existingField = getFieldMap().getOrNull(rootKeyName);
+            result = Optional.ofNullable(existingField)
+                    .map(JsonField::getValue)
                     .filter(JsonValue::isObject)
                     .map(JsonValue::asObject)
                     .filter(containsNextLevelRootKey)
-                    .map(jsonObject -> jsonObject.remove(nextPointerLevel)) // Recursion
-                    .map(withoutValue -> JsonField.newInstance(rootKey, withoutValue,
-                            getDefinitionForKey(rootKey).orElse(null)))
-                    .map(this::set)
+                    .map(jsonObject -> {
+                        final JsonObject withoutValue = jsonObject.remove(nextPointerLevel); // Recursion
+                        if (withoutValue == jsonObject) {
+                            return this;
+                        }
+                        return new ImmutableJsonObject(getFieldMap().put(rootKeyName,
+                                JsonField.newInstance(rootKey, withoutValue,
+                                        existingField.getDefinition().orElse(null))));
+                    })
                     .orElse(this);
         }
 
@@ -489,7 +535,7 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
         JsonObject result = this;
 
         if (containsKey(key)) {
-            result = new ImmutableJsonObject(fieldMap.remove(key.toString()));
+            result = new ImmutableJsonObject(getFieldMap().remove(key.toString()));
         }
 
         return result;
@@ -497,7 +543,7 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
 
     @Override
     public List<JsonKey> getKeys() {
-        final List<JsonKey> keys = fieldMap.getStream()
+        final List<JsonKey> keys = getFieldMap().getStream()
                 .map(JsonField::getKey)
                 .collect(Collectors.toList());
 
@@ -512,7 +558,7 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
 
         Optional<JsonField> result = pointer.getRoot()
                 .map(JsonKey::toString)
-                .map(fieldMap::getOrNull);
+                .map(getFieldMap()::getOrNull);
 
         if (1 < pointer.getLevelCount()) {
             result = result.map(JsonField::getValue)
@@ -541,22 +587,31 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
      */
     @Override
     public Iterator<JsonField> iterator() {
-        return fieldMap.getIterator();
+        return getFieldMap().getIterator();
     }
 
     @Override
     public Stream<JsonField> stream() {
-        return fieldMap.getStream();
+        return getFieldMap().getStream();
     }
 
     @Override
     public boolean isEmpty() {
-        return fieldMap.isEmpty();
+        return getFieldMap().isEmpty();
     }
 
     @Override
     public int getSize() {
-        return fieldMap.getSize();
+        return getFieldMap().getSize();
+    }
+
+    private CompactFieldMap getFieldMap() {
+        CompactFieldMap result = fieldMap;
+        if (!result.isDecoded()) {
+            result = result.decode();
+            fieldMap = result;
+        }
+        return result;
     }
 
     @SuppressWarnings({"checkstyle:com.puppycrawl.tools.checkstyle.checks.metrics.CyclomaticComplexityCheck",
@@ -571,17 +626,17 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
         }
         final ImmutableJsonObject that = (ImmutableJsonObject) o;
 
-        return Objects.equals(fieldMap, that.fieldMap);
+        return Objects.equals(getFieldMap(), that.getFieldMap());
     }
 
     @Override
     public int hashCode() {
-        return fieldMap.hashCode();
+        return getFieldMap().hashCode();
     }
 
     @Override
     public String toString() {
-        return fieldMap.asJsonObjectString();
+        return getFieldMap().asJsonObjectString();
     }
 
     @Override
@@ -594,11 +649,50 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
         return fieldMap.upperBoundForStringSize();
     }
 
+    /**
+     * Compact immutable representation of the fields of a JSON object.
+     * The keys and the fields are kept in two flat arrays in insertion order. For objects with more than
+     * {@value #INDEX_THRESHOLD} fields an additional open-addressed hash index maps the keys to their array positions;
+     * smaller objects are searched linearly which is faster than hashing for only a few keys.
+     * <p>
+     * Modifications return a new instance and share as much as possible: replacing the field of an existing key
+     * shares the key array and the index of this instance, only the (pointer-sized) field array is copied.
+     * Objects with more than {@value #PERSISTENT_THRESHOLD} fields keep their fields in a
+     * {@link PersistentJsonFieldMap} instead of the flat arrays, so that modifying them does not copy all fields but
+     * only O(log n) nodes.
+     * </p>
+     * <p>
+     * The string representation is created lazily and cached. A CBOR representation is only kept if it was already
+     * known on creation, e. g. when the object was read from CBOR, otherwise the fields are streamed directly into
+     * the {@link SerializationContext}. As the fields are held strongly there is no need to ever re-parse them from
+     * one of the representations.
+     * </p>
+     * <p>
+     * An {@link #undecoded(byte[]) undecoded} field map only holds the CBOR representation of a nested object which
+     * was not accessed yet. It has to be {@link #decode() decoded} before any of its fields are accessed; it can be
+     * serialized to CBOR again without being decoded, though.
+     * </p>
+     */
     @Immutable
-    static final class SoftReferencedFieldMap {
+    static final class CompactFieldMap {
+
+        /**
+         * Objects with at most this number of fields are searched linearly instead of using a hash index.
+         */
+        static final int INDEX_THRESHOLD = 8;
+
+        /**
+         * Objects with more than this number of fields are stored in a {@link PersistentJsonFieldMap}.
+         */
+        static final int PERSISTENT_THRESHOLD = 32;
 
         private static final long CBOR_MAX_COMPRESSION_RATIO = 5; // "false" compressed to one byte
+        private static final String[] NO_KEYS = new String[0];
+        private static final JsonField[] NO_FIELDS = new JsonField[0];
+        private static final String[] UNDECODED_KEYS = new String[0];
         private static final CborFactory CBOR_FACTORY;
+        private static final CompactFieldMap EMPTY =
+                new CompactFieldMap(NO_KEYS, NO_FIELDS, null, null, "{}", new byte[]{(byte) 0xA0});
 
         static {
             final ServiceLoader<CborFactory> sl = ServiceLoader.load(CborFactory.class);
@@ -607,151 +701,274 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
                     .orElseGet(NoopCborFactory::new); // when no Service could be found -> CBOR not available
         }
 
-        private String jsonObjectStringRepresentation;
-        private byte[] cborObjectRepresentation;
+        // either the flat arrays (and the optional index) or the persistent fields are used
+        private final String[] keys;
+        private final JsonField[] fields;
+        @Nullable private final int[] index;
+        @Nullable private final PersistentJsonFieldMap persistentFields;
+
+        // lazily computed caches, racy initialization is fine as all of them are derived from the immutable fields
+        @Nullable private String jsonObjectStringRepresentation;
+        @Nullable private final byte[] cborObjectRepresentation;
         private int hashCode;
-        private SoftReference<Map<String, JsonField>> fieldsReference;
 
-        private SoftReferencedFieldMap(final Map<String, JsonField> jsonFieldMap,
+        private CompactFieldMap(final String[] keys, final JsonField[] fields, @Nullable final int[] index,
+                @Nullable final PersistentJsonFieldMap persistentFields,
                 @Nullable final String stringRepresentation, @Nullable final byte[] cborObjectRepresentation) {
 
-            requireNonNull(jsonFieldMap, "The fields of JSON object must not be null!");
-            fieldsReference = new SoftReference<>(Collections.unmodifiableMap(new LinkedHashMap<>(jsonFieldMap)));
+            this.keys = keys;
+            this.fields = fields;
+            this.index = index;
+            this.persistentFields = persistentFields;
             jsonObjectStringRepresentation = stringRepresentation;
             this.cborObjectRepresentation = cborObjectRepresentation;
-            if (jsonObjectStringRepresentation == null && cborObjectRepresentation == null) {
-                if (CBOR_FACTORY.isCborAvailable()) {
-                    try {
-                        this.cborObjectRepresentation = CBOR_FACTORY.createCborRepresentation(jsonFieldMap,
-                                guessSerializedSize());
-                    } catch (final IOException e) {
-                        assert false; // this should not happen, so assertions will throw during testing
-                        jsonObjectStringRepresentation = createStringRepresentation(jsonFieldMap);
-                    }
-                } else {
-                    jsonObjectStringRepresentation = createStringRepresentation(jsonFieldMap);
-                }
-            }
             hashCode = 0;
         }
 
-        static SoftReferencedFieldMap empty() {
-            return of(Collections.emptyMap(), "{}", new byte[]{(byte) 0xA0});
+        private static CompactFieldMap flat(final String[] keys, final JsonField[] fields,
+                @Nullable final String stringRepresentation, @Nullable final byte[] cborObjectRepresentation) {
+
+            if (keys.length > PERSISTENT_THRESHOLD) {
+                return new CompactFieldMap(NO_KEYS, NO_FIELDS, null,
+                        PersistentJsonFieldMap.of(keys, fields, keys.length), stringRepresentation,
+                        cborObjectRepresentation);
+            }
+            return new CompactFieldMap(keys, fields, createIndex(keys), null, stringRepresentation,
+                    cborObjectRepresentation);
+        }
+
+        private static CompactFieldMap persistent(final PersistentJsonFieldMap persistentFields) {
+            if (persistentFields.size() > PERSISTENT_THRESHOLD / 2) {
+                return new CompactFieldMap(NO_KEYS, NO_FIELDS, null, persistentFields, null, null);
+            }
+            // shrunk considerably: flat arrays are smaller and faster again
+            final int size = persistentFields.size();
+            final String[] keys = new String[size];
+            final JsonField[] fields = new JsonField[size];
+            final Iterator<JsonField> iterator = persistentFields.iterator();
+            for (int i = 0; i < size; i++) {
+                fields[i] = iterator.next();
+                keys[i] = fields[i].getKeyName();
+            }
+            return flat(keys, fields, null, null);
+        }
+
+        static CompactFieldMap empty() {
+            return EMPTY;
+        }
+
+        /**
+         * Returns a field map which decodes its fields from the given CBOR representation of a JSON object only when
+         * {@link #decode()} is called.
+         *
+         * @param cborObjectRepresentation the CBOR representation of the JSON object.
+         * @return the undecoded field map.
+         */
+        static CompactFieldMap undecoded(final byte[] cborObjectRepresentation) {
+            requireNonNull(cborObjectRepresentation, "The CBOR representation must not be null!");
+            return new CompactFieldMap(UNDECODED_KEYS, NO_FIELDS, null, null, null, cborObjectRepresentation);
+        }
+
+        boolean isDecoded() {
+            return UNDECODED_KEYS != keys;
         }
 
-        static SoftReferencedFieldMap of(final Map<String, JsonField> fieldMap) {
-            return new SoftReferencedFieldMap(fieldMap, null, null);
+        /**
+         * Decodes the fields of this field map from its CBOR representation.
+         *
+         * @return the decoded field map or this field map if it was already decoded.
+         * @throws JsonParseException if the CBOR representation is not a valid JSON object.
+         */
+        CompactFieldMap decode() {
+            if (isDecoded()) {
+                return this;
+            }
+            final JsonValue decoded = CBOR_FACTORY.readFrom(cborObjectRepresentation);
+            if (!(decoded instanceof ImmutableJsonObject)) {
+                throw JsonParseException.newBuilder()
+                        .message(MessageFormat.format("<{0}> is not a valid CBOR object!", decoded))
+                        .build();
+            }
+            return ((ImmutableJsonObject) decoded).getFieldMap();
         }
 
-        static SoftReferencedFieldMap of(final Map<String, JsonField> jsonFieldMap,
+        static CompactFieldMap of(final Map<String, JsonField> fieldMap) {
+            return of(fieldMap, null, null);
+        }
+
+        static CompactFieldMap of(final Map<String, JsonField> jsonFieldMap,
                 @Nullable final String stringRepresentation) {
-            return new SoftReferencedFieldMap(jsonFieldMap, stringRepresentation, null);
+            return of(jsonFieldMap, stringRepresentation, null);
         }
 
-        static SoftReferencedFieldMap of(final Map<String, JsonField> jsonFieldMap,
+        static CompactFieldMap of(final Map<String, JsonField> jsonFieldMap,
                 @Nullable final byte[] cborObjectRepresentation) {
-            return new SoftReferencedFieldMap(jsonFieldMap, null, cborObjectRepresentation);
+            return of(jsonFieldMap, null, cborObjectRepresentation);
         }
 
-        static SoftReferencedFieldMap of(final Map<String, JsonField> jsonFieldMap,
+        static CompactFieldMap of(final Map<String, JsonField> jsonFieldMap,
                 @Nullable final String stringRepresentation,
                 @Nullable final byte[] cborObjectRepresentation) {
-            return new SoftReferencedFieldMap(jsonFieldMap, stringRepresentation, cborObjectRepresentation);
+
+            requireNonNull(jsonFieldMap, "The fields of JSON object must not be null!");
+            final int size = jsonFieldMap.size();
+            final String[] keys = new String[size];
+            final JsonField[] fields = new JsonField[size];
+            int i = 0;
+            for (final Map.Entry<String, JsonField> entry : jsonFieldMap.entrySet()) {
+                keys[i] = entry.getKey();
+                fields[i] = entry.getValue();
+                i++;
+            }
+            return flat(keys, fields, stringRepresentation, cborObjectRepresentation);
         }
 
-        private String createStringRepresentation(final Map<String, JsonField> jsonFieldMap) {
-            final StringBuilder stringBuilder = new StringBuilder(guessSerializedSize());
-            stringBuilder.append('{');
-            String delimiter = "";
-            for (final JsonField jsonField : jsonFieldMap.values()) {
-                stringBuilder.append(delimiter);
-                stringBuilder.append(jsonField);
-                delimiter = ",";
+        @Nullable
+        private static int[] createIndex(final String[] keys) {
+            if (keys.length <= INDEX_THRESHOLD) {
+                return null;
             }
-            stringBuilder.append('}');
+            final int[] result = new int[indexCapacityFor(keys.length)];
+            for (int i = 0; i < keys.length; i++) {
+                insertIntoIndex(result, keys[i], i);
+            }
+            return result;
+        }
 
-            return stringBuilder.toString();
+        private static int indexCapacityFor(final int size) {
+            // power of two with a load factor of at most 0.5
+            return Integer.highestOneBit(size * 2 - 1) << 1;
+        }
+
+        private static int indexSlot(final String key, final int[] index) {
+            final int h = key.hashCode();
+            return (h ^ (h >>> 16)) & (index.length - 1);
+        }
+
+        private static void insertIntoIndex(final int[] index, final String key, final int position) {
+            int slot = indexSlot(key, index);
+            while (0 != index[slot]) {
+                slot = (slot + 1) & (index.length - 1);
+            }
+            index[slot] = position + 1; // 0 marks an empty slot
+        }
+
+        private int positionOf(final String key) {
+            final int[] theIndex = index;
+            if (null == theIndex) {
+                for (int i = 0; i < keys.length; i++) {
+                    if (keys[i].equals(key)) {
+                        return i;
+                    }
+                }
+                return -1;
+            }
+            int slot = indexSlot(key, theIndex);
+            int entry;
+            while (0 != (entry = theIndex[slot])) {
+                if (keys[entry - 1].equals(key)) {
+                    return entry - 1;
+                }
+                slot = (slot + 1) & (theIndex.length - 1);
+            }
+            return -1;
         }
 
         int getSize() {
-            return fields().size();
+            return null != persistentFields ? persistentFields.size() : fields.length;
         }
 
         boolean isEmpty() {
-            return fields().isEmpty();
+            return 0 == getSize();
         }
 
         boolean containsKey(final String key) {
-            return fields().containsKey(key);
+            if (null != persistentFields) {
+                return persistentFields.containsKey(key);
+            }
+            return 0 <= positionOf(key);
         }
 
         @Nullable
         JsonField getOrNull(final String key) {
-            return fields().get(key);
-        }
-
-        SoftReferencedFieldMap put(final String key, final JsonField value) {
-            final Map<String, JsonField> fieldsCopy = copyFields();
-            fieldsCopy.put(key, value);
-            return of(fieldsCopy);
+            if (null != persistentFields) {
+                return persistentFields.get(key);
+            }
+            final int position = positionOf(key);
+            return 0 <= position ? fields[position] : null;
         }
 
-        private Map<String, JsonField> copyFields() {
-            return new LinkedHashMap<>(fields());
+        CompactFieldMap put(final String key, final JsonField value) {
+            if (null != persistentFields) {
+                return new CompactFieldMap(NO_KEYS, NO_FIELDS, null, persistentFields.put(key, value), null, null);
+            }
+            final int position = positionOf(key);
+            if (0 <= position) {
+                // same keys at the same positions: share keys and index
+                final JsonField[] fieldsCopy = fields.clone();
+                fieldsCopy[position] = value;
+                return new CompactFieldMap(keys, fieldsCopy, index, null, null, null);
+            }
+            final int size = fields.length;
+            final String[] keysCopy = Arrays.copyOf(keys, size + 1);
+            final JsonField[] fieldsCopy = Arrays.copyOf(fields, size + 1);
+            keysCopy[size] = key;
+            fieldsCopy[size] = value;
+            final int[] theIndex = index;
+            if (null != theIndex && theIndex.length == indexCapacityFor(size + 1)) {
+                final int[] newIndex = theIndex.clone();
+                insertIntoIndex(newIndex, key, size);
+                return new CompactFieldMap(keysCopy, fieldsCopy, newIndex, null, null, null);
+            }
+            return flat(keysCopy, fieldsCopy, null, null);
         }
 
-        SoftReferencedFieldMap putAll(final Iterable<JsonField> jsonFields) {
-            final Map<String, JsonField> fieldsCopy = copyFields();
+        CompactFieldMap putAll(final Iterable<JsonField> jsonFields) {
+            final Map<String, JsonField> fieldsCopy = new LinkedHashMap<>(asMap());
             jsonFields.forEach(jsonField -> fieldsCopy.put(jsonField.getKeyName(), jsonField));
             return of(fieldsCopy);
         }
 
-        SoftReferencedFieldMap remove(final String key) {
-            final Map<String, JsonField> fieldsCopy = copyFields();
-            fieldsCopy.remove(key);
-            return of(fieldsCopy);
+        CompactFieldMap remove(final String key) {
+            if (null != persistentFields) {
+                final PersistentJsonFieldMap newPersistentFields = persistentFields.remove(key);
+                return newPersistentFields != persistentFields ? persistent(newPersistentFields) : this;
+            }
+            final int position = positionOf(key);
+            if (0 > position) {
+                return this;
+            }
+            final int newSize = fields.length - 1;
+            final String[] keysCopy = new String[newSize];
+            final JsonField[] fieldsCopy = new JsonField[newSize];
+            System.arraycopy(keys, 0, keysCopy, 0, position);
+            System.arraycopy(keys, position + 1, keysCopy, position, newSize - position);
+            System.arraycopy(fields, 0, fieldsCopy, 0, position);
+            System.arraycopy(fields, position + 1, fieldsCopy, position, newSize - position);
+            return flat(keysCopy, fieldsCopy, null, null);
         }
 
         Stream<JsonField> getStream() {
-            return fields().values().stream();
-        }
-
-        Iterator<JsonField> getIterator() {
-            return fields().values().iterator();
-        }
-
-        private Map<String, JsonField> fields() {
-            Map<String, JsonField> result = fieldsReference.get();
-            if (null == result) {
-                result = recoverFields();
-                fieldsReference = new SoftReference<>(result);
+            if (null != persistentFields) {
+                return persistentFields.stream();
             }
-            return result;
+            return Arrays.stream(fields);
         }
 
-        private Map<String, JsonField> recoverFields() {
-            if (CBOR_FACTORY.isCborAvailable() && cborObjectRepresentation != null) {
-                return parseToMap(cborObjectRepresentation);
-            }
-            if (jsonObjectStringRepresentation != null) {
-                return parseToMap(jsonObjectStringRepresentation);
+        Iterator<JsonField> getIterator() {
+            if (null != persistentFields) {
+                return persistentFields.iterator();
             }
-            throw new IllegalStateException("Fatal cache miss on JsonObject");
-        }
-
-        private static Map<String, JsonField> parseToMap(final String jsonObjectString) {
-            final FieldMapJsonHandler jsonHandler = new FieldMapJsonHandler();
-            JsonValueParser.fromString(jsonHandler).accept(jsonObjectString);
-            return jsonHandler.getValue();
+            return Collections.unmodifiableList(Arrays.asList(fields)).iterator();
         }
 
-        private static Map<String, JsonField> parseToMap(final byte[] cborObjectRepresentation) {
-            final JsonValue jsonObject = CBOR_FACTORY.readFrom(cborObjectRepresentation);
-            final Map<String, JsonField> map = new LinkedHashMap<>();
-            for (final JsonField jsonValue : jsonObject.asObject()) {
-                map.put(jsonValue.getKey().toString(), jsonValue);
-            }
-            return map;
+        /**
+         * Returns an unmodifiable view of the fields as map which keeps the insertion order.
+         *
+         * @return the map view.
+         */
+        Map<String, JsonField> asMap() {
+            return new FieldMapView(this);
         }
 
         @Override
@@ -762,45 +979,102 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
             if (o == null || getClass() != o.getClass()) {
                 return false;
             }
-            final SoftReferencedFieldMap that = (SoftReferencedFieldMap) o;
-
-            if (jsonObjectStringRepresentation != null && that.jsonObjectStringRepresentation != null) {
-                if (jsonObjectStringRepresentation.equals(that.jsonObjectStringRepresentation)) {
-                    return true;
-                } else if (jsonObjectStringRepresentation.length() == that.jsonObjectStringRepresentation.length()) {
-                    return Objects.equals(fields(), that.fields());
-                }
+            final CompactFieldMap that = (CompactFieldMap) o;
+            if (getSize() != that.getSize()) {
                 return false;
             }
+            if (null != persistentFields && null != that.persistentFields &&
+                    persistentFields.isSameStructureAs(that.persistentFields)) {
+                return true;
+            }
+            if (jsonObjectStringRepresentation != null &&
+                    jsonObjectStringRepresentation.equals(that.jsonObjectStringRepresentation)) {
+                return true;
+            }
             if (cborObjectRepresentation != null && that.cborObjectRepresentation != null &&
                     Arrays.equals(cborObjectRepresentation, that.cborObjectRepresentation)) {
                 return true;
             }
-            return Objects.equals(fields(), that.fields());
+            final Iterator<JsonField> iterator = getIterator();
+            while (iterator.hasNext()) {
+                final JsonField jsonField = iterator.next();
+                final JsonField otherField = that.getOrNull(jsonField.getKeyName());
+                if (!jsonField.equals(otherField) && !haveSameJsonRepresentation(jsonField, otherField)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /*
+         * Values of domain types (e. g. Attributes or their null representation) are not necessarily equal to plain
+         * JSON values with the same JSON representation, thus values of different types are compared by their
+         * string representation.
+         */
+        private static boolean haveSameJsonRepresentation(final JsonField jsonField,
+                @Nullable final JsonField otherField) {
+
+            if (null == otherField) {
+                return false;
+            }
+            final JsonValue value = jsonField.getValue();
+            final JsonValue otherValue = otherField.getValue();
+            return value.getClass() != otherValue.getClass() && value.toString().equals(otherValue.toString());
         }
 
         @Override
         public int hashCode() {
             int result = hashCode;
             if (0 == result) {
-                result = fields().hashCode();
+                // same as the hash code of a java.util.Map containing the fields
+                final Iterator<JsonField> iterator = getIterator();
+                while (iterator.hasNext()) {
+                    final JsonField jsonField = iterator.next();
+                    result += jsonField.getKeyName().hashCode() ^ jsonField.hashCode();
+                }
                 hashCode = result;
             }
             return result;
         }
 
         String asJsonObjectString() {
-            if (jsonObjectStringRepresentation == null) {
-                jsonObjectStringRepresentation = createStringRepresentation(this.fields());
+            String result = jsonObjectStringRepresentation;
+            if (result == null) {
+                result = createStringRepresentation();
+                jsonObjectStringRepresentation = result;
+            }
+            return result;
+        }
+
+        private String createStringRepresentation() {
+            final StringBuilder stringBuilder = new StringBuilder(guessSerializedSize());
+            stringBuilder.append('{');
+            String delimiter = "";
+            final Iterator<JsonField> iterator = getIterator();
+            while (iterator.hasNext()) {
+                stringBuilder.append(delimiter);
+                stringBuilder.append(iterator.next());
+                delimiter = ",";
             }
-            return jsonObjectStringRepresentation;
+            stringBuilder.append('}');
+
+            return stringBuilder.toString();
         }
 
         void writeValue(final SerializationContext serializationContext) throws IOException {
-            if (CBOR_FACTORY.isCborAvailable() && cborObjectRepresentation == null) {
-                cborObjectRepresentation = CBOR_FACTORY.createCborRepresentation(this.fields(), guessSerializedSize());
+            final byte[] cbor = cborObjectRepresentation;
+            if (null != cbor) {
+                serializationContext.writeCachedElement(cbor);
+            } else {
+                // stream the fields directly into the target instead of creating (and copying) an own CBOR
+                // representation on each nesting level
+                serializationContext.writeStartObject(getSize());
+                final Iterator<JsonField> iterator = getIterator();
+                while (iterator.hasNext()) {
+                    iterator.next().writeKeyAndValue(serializationContext);
+                }
+                serializationContext.writeEndObject();
             }
-            serializationContext.writeCachedElement(cborObjectRepresentation);
         }
 
         private int guessSerializedSize() {
@@ -814,120 +1088,86 @@ final class ImmutableJsonObject extends AbstractJsonValue implements JsonObject
             return 512;
         }
 
-        public long upperBoundForStringSize() {
+        long upperBoundForStringSize() {
             if (jsonObjectStringRepresentation != null) {
                 return jsonObjectStringRepresentation.length();
             }
             if (cborObjectRepresentation != null) {
                 return cborObjectRepresentation.length * CBOR_MAX_COMPRESSION_RATIO;
             }
-            assert false; // this should never happen
-            return Long.MAX_VALUE;
+            return asJsonObjectString().length();
         }
 
     }
 
     /**
-     * This JsonHandler creates a Map instead of a JsonObject as Map is the internal structure of ImmutableJsonObject.
-     * All method calls which do not affect JSON object creation are delegated to {@link DefaultDittoJsonHandler}.
-     * JSON object creation has to be split because only the base level should be represented as a Map, all nested
-     * JSON objects should be of type {@link JsonObject}.
-     * <p>
-     * <em>This handler is only usable for parsing JSON object strings.</em>
-     * </p>
+     * Unmodifiable insertion ordered {@code Map} view of a {@link CompactFieldMap}, e. g. for copying its fields.
      */
-    @NotThreadSafe
-    static final class FieldMapJsonHandler
-            extends DittoJsonHandler<List<JsonValue>, List<JsonField>, Map<String, JsonField>> {
-
-        private final DefaultDittoJsonHandler defaultHandler;
-        private Map<String, JsonField> value;
-        private final Deque<List<JsonField>> jsonObjectBuilders; // for nested JsonObjects
-        private int level;
-
-        /**
-         * Constructs a new {@code FieldMapJsonHandler} object.
-         */
-        FieldMapJsonHandler() {
-            defaultHandler = DefaultDittoJsonHandler.newInstance();
-            value = null;
-            jsonObjectBuilders = new ArrayDeque<>();
-            level = 0;
-        }
-
-        @Override
-        public List<JsonValue> startArray() {
-            return defaultHandler.startArray();
-        }
+    @Immutable
+    private static final class FieldMapView extends AbstractMap<String, JsonField> {
 
-        @Override
-        public List<JsonField> startObject() {
-            if (0 < level) {
-                jsonObjectBuilders.push(defaultHandler.startObject());
-            }
-            final List<JsonField> result = new ArrayList<>();
-            level++;
-            return result;
-        }
+        private final CompactFieldMap fieldMap;
 
-        @Override
-        public void endNull() {
-            defaultHandler.endNull();
+        private FieldMapView(final CompactFieldMap fieldMap) {
+            this.fieldMap = fieldMap;
         }
 
         @Override
-        public void endBoolean(final boolean value) {
-            defaultHandler.endBoolean(value);
+        public int size() {
+            return fieldMap.getSize();
         }
 
         @Override
-        public void endString(final String string) {
-            defaultHandler.endString(string);
+        public boolean containsKey(final Object key) {
+            return key instanceof String && fieldMap.containsKey((String) key);
         }
 
         @Override
-        public void endNumber(final String string) {
-            defaultHandler.endNumber(string);
+        @Nullable
+        public JsonField get(final Object key) {
+            return key instanceof String ? fieldMap.getOrNull((String) key) : null;
         }
 
         @Override
-        public void endArray(final List<JsonValue> jsonValues) {
-            defaultHandler.endArray(jsonValues);
-        }
+        public Collection<JsonField> values() {
+            return new AbstractCollection<JsonField>() {
+                @Override
+                public Iterator<JsonField> iterator() {
+                    return fieldMap.getIterator();
+                }
 
-        @Override
-        public void endArrayValue(final List<JsonValue> jsonValues) {
-            defaultHandler.endArrayValue(jsonValues);
+                @Override
+                public int size() {
+                    return fieldMap.getSize();
+                }
+            };
         }
 
         @Override
-        public void endObjectValue(final List<JsonField> jsonFields, final String name) {
-            final List<JsonField> jsonObjectBuilder = jsonObjectBuilders.peek();
-            if (null != jsonObjectBuilder) {
-                defaultHandler.endObjectValue(jsonObjectBuilder, name);
-            } else {
-                jsonFields.add(JsonField.newInstance(name, defaultHandler.getValue()));
-            }
-        }
+        public Set<Entry<String, JsonField>> entrySet() {
+            return new AbstractSet<Entry<String, JsonField>>() {
+                @Override
+                public Iterator<Entry<String, JsonField>> iterator() {
+                    final Iterator<JsonField> fieldIterator = fieldMap.getIterator();
+                    return new Iterator<Entry<String, JsonField>>() {
+                        @Override
+                        public boolean hasNext() {
+                            return fieldIterator.hasNext();
+                        }
 
-        @Override
-        public void endObject(final List<JsonField> jsonFields) {
-            final List<JsonField> jsonObjectBuilder = jsonObjectBuilders.poll();
-            if (null != jsonObjectBuilder) {
-                defaultHandler.endObject(jsonObjectBuilder);
-            } else {
-                final Map<String, JsonField> linkedHashMap = new LinkedHashMap<>(jsonFields.size());
-                for (final JsonField jsonField : jsonFields) {
-                    linkedHashMap.put(jsonField.getKeyName(), jsonField);
+                        @Override
+                        public Entry<String, JsonField> next() {
+                            final JsonField jsonField = fieldIterator.next();
+                            return new SimpleImmutableEntry<>(jsonField.getKeyName(), jsonField);
+                        }
+                    };
                 }
-                value = linkedHashMap;
-            }
-            level--;
-        }
 
-        @Override
-        protected Map<String, JsonField> getValue() {
-            return value;
+                @Override
+                public int size() {
+                    return fieldMap.getSize();
+                }
+            };
         }
 
     }
@@ -939,7 +939,25 @@ public final class JsonFactory {
     public static JsonObject createJsonObject(final Map<String, JsonField> jsonFieldMap,
             @Nullable final byte[] cborObjectRepresentation) {
         return new ImmutableJsonObject(
-                ImmutableJsonObject.SoftReferencedFieldMap.of(jsonFieldMap, null, cborObjectRepresentation));
+                ImmutableJsonObject.CompactFieldMap.of(jsonFieldMap, null, cborObjectRepresentation));
+    }
+
+    /**
+     * Creates a {@link JsonObject} from its already serialized CBOR representation which decodes its fields only when
+     * they are accessed for the first time. Serializing the returned object to CBOR again writes the passed bytes
+     * without decoding them at all.
+     * <p>
+     * <b>This is a Ditto internal API is not intended for re-use.</b>
+     * It therefore is not treated as API which is held binary compatible to previous versions.
+     * </p>
+     *
+     * @param cborObjectRepresentation the CBOR serialized representation of the JsonObject.
+     * @return the created JsonObject.
+     * @throws NullPointerException if {@code cborObjectRepresentation} is {@code null}.
+     * @since 3.8.0
+     */
+    public static JsonObject createLazyJsonObject(final byte[] cborObjectRepresentation) {
+        return new ImmutableJsonObject(ImmutableJsonObject.CompactFieldMap.undecoded(cborObjectRepresentation));
     }
 
     /**
@@ -32,6 +32,8 @@ import com.eclipsesource.json.ParseException;
 @Immutable
 public final class JsonValueParser {
 
+    private static final int READ_BUFFER_SIZE = 1024;
+
     @Nullable private static Function<String, JsonValue> fromStringInstance = null;
 
     private JsonValueParser() {
@@ -57,18 +59,38 @@ public final class JsonValueParser {
 
     /**
      * Returns a Function for parsing a String to an instance of {@link JsonValue}.
+     * The string is parsed in a single pass which directly creates the ditto-json values.
      *
      * @return the function.
      */
     public static Function<String, JsonValue> fromString() {
         Function<String, JsonValue> result = fromStringInstance;
         if (null == result) {
-            result = jsonString -> tryToParseJsonValue(jsonString, DefaultDittoJsonHandler.newInstance());
+            result = JsonValueParser::tryToParseJsonValue;
             fromStringInstance = result;
         }
         return result;
     }
 
+    /**
+     * Returns a Function for parsing a String to a {@link JsonObject} which only contains the fields selected by the
+     * given field selector.
+     * The result is equal to parsing the whole string and applying {@link JsonObject#get(JsonFieldSelector)}, but
+     * values which are not selected are only validated and skipped instead of being created.
+     * This is useful for callers which are only interested in a few fields of a large JSON object.
+     *
+     * @param fieldSelector selects the fields of the JSON object to be parsed.
+     * @return the function.
+     * @throws NullPointerException if {@code fieldSelector} is {@code null}.
+     * @throws JsonParseException if the string cannot be parsed or if it does not contain a JSON object.
+     * @since 3.8.0
+     */
+    public static Function<String, JsonObject> fromString(final JsonFieldSelector fieldSelector) {
+        requireNonNull(fieldSelector, "The JSON field selector must not be null!");
+        final JsonFieldSelectorTrie trie = JsonFieldSelectorTrie.of(fieldSelector.getPointers());
+        return jsonString -> tryToParseSelectedFields(jsonString, trie, fieldSelector);
+    }
+
     /**
      * Returns a Function for obtaining an instance of {@link JsonValue} from a {@code Reader}.
      *
@@ -94,6 +116,39 @@ public final class JsonValueParser {
         }
     }
 
+    private static JsonValue tryToParseJsonValue(final String jsonString) {
+        try {
+            return DittoJsonParser.parse(requireNonNull(jsonString, "The JSON string to be parsed must not be null!"));
+        } catch (final JsonParseException | StackOverflowError | IllegalArgumentException | NullPointerException e) {
+            throw JsonParseException.newBuilder()
+                    .message(MessageFormat.format("Failed to parse JSON string ''{0}''!", jsonString))
+                    .cause(e)
+                    .build();
+        }
+    }
+
+    private static JsonObject tryToParseSelectedFields(final String jsonString, final JsonFieldSelectorTrie trie,
+            final JsonFieldSelector fieldSelector) {
+
+        final JsonValue jsonValue;
+        try {
+            requireNonNull(jsonString, "The JSON string to be parsed must not be null!");
+            jsonValue = trie.isEmpty() ? DittoJsonParser.parse(jsonString) :
+                    DittoJsonParser.parseSelected(jsonString, trie);
+        } catch (final JsonParseException | StackOverflowError | IllegalArgumentException | NullPointerException e) {
+            throw JsonParseException.newBuilder()
+                    .message(MessageFormat.format("Failed to parse JSON string ''{0}''!", jsonString))
+                    .cause(e)
+                    .build();
+        }
+        if (!jsonValue.isObject()) {
+            throw JsonParseException.newBuilder()
+                    .message(MessageFormat.format("<{0}> is not a valid JSON object!", jsonString))
+                    .build();
+        }
+        return jsonValue.asObject().get(fieldSelector);
+    }
+
     private static <T> T parseJsonValue(final String jsonString, final DittoJsonHandler<?, ?, T> dittoJsonHandler) {
         requireNonNull(jsonString, "The JSON string to be parsed must not be null!");
         new JsonParser(dittoJsonHandler).parse(jsonString);
@@ -102,11 +157,8 @@ public final class JsonValueParser {
 
     private static JsonValue tryToReadJsonValueFrom(final Reader reader) {
         try {
-            return readJsonValueFrom(reader);
-        } catch (final ParseException | IOException | StackOverflowError | IllegalArgumentException | NullPointerException e) {
-            // "ditto-json" library also throws IllegalArgumentException when for example strings which may not be empty
-            // (e.g. keys) are empty
-            // "ditto-json" library also throws NullPointerException when for example non-nullable objects are null
+            return DittoJsonParser.parse(readFully(reader));
+        } catch (final JsonParseException | IOException | StackOverflowError | IllegalArgumentException | NullPointerException e) {
             throw JsonParseException.newBuilder()
                     .message("Failed to parse JSON value from reader!")
                     .cause(e)
@@ -114,11 +166,15 @@ public final class JsonValueParser {
         }
     }
 
-    private static JsonValue readJsonValueFrom(final Reader reader) throws IOException {
+    private static String readFully(final Reader reader) throws IOException {
         requireNonNull(reader, "The reader must not be null!");
-        final DefaultDittoJsonHandler dittoJsonHandler = DefaultDittoJsonHandler.newInstance();
-        new JsonParser(dittoJsonHandler).parse(reader);
-        return dittoJsonHandler.getValue();
+        final StringBuilder stringBuilder = new StringBuilder(READ_BUFFER_SIZE);
+        final char[] buffer = new char[READ_BUFFER_SIZE];
+        int charsRead;
+        while (-1 != (charsRead = reader.read(buffer))) {
+            stringBuilder.append(buffer, 0, charsRead);
+        }
+        return stringBuilder.toString();
     }
 
 }
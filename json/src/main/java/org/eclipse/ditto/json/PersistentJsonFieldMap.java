@@ -0,0 +1,526 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Package-private persistent, i. e. immutable and structure sharing, insertion ordered map of JSON fields.
+ * It is used by {@link ImmutableJsonObject} for objects with many fields where copying all fields on each
+ * modification would be too expensive.
+ * <p>
+ * The fields are kept in insertion order in the slots of a 32-ary trie. A hash array mapped trie (HAMT) maps each key
+ * to the slot of its field:
+ * <ul>
+ *     <li>replacing the field of an existing key only copies the path to its slot and shares the key trie,</li>
+ *     <li>adding a key appends a slot and copies one path of the key trie,</li>
+ *     <li>removing a key clears its slot and copies one path of the key trie. The cleared slots are compacted away
+ *     as soon as they make up more than half of all slots.</li>
+ * </ul>
+ * Thus each modification costs O(log<sub>32</sub> n) and shares all unaffected nodes with the original map.
+ * </p>
+ */
+@Immutable
+final class PersistentJsonFieldMap {
+
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+
+    /**
+     * The maximum shift for which the key trie still uses bits of the hash; deeper key nodes are collision nodes.
+     */
+    private static final int MAX_HASH_SHIFT = 30;
+
+    private final int size;
+    private final int slotCount;
+    private final int slotShift;
+    private final Object[] slotRoot;
+    private final KeyNode keyRoot;
+
+    private PersistentJsonFieldMap(final int size, final int slotCount, final int slotShift, final Object[] slotRoot,
+            final KeyNode keyRoot) {
+
+        this.size = size;
+        this.slotCount = slotCount;
+        this.slotShift = slotShift;
+        this.slotRoot = slotRoot;
+        this.keyRoot = keyRoot;
+    }
+
+    /**
+     * Returns a new map containing the given fields in the given order.
+     *
+     * @param keys the distinct keys of the fields.
+     * @param fields the fields, the field at index {@code i} belongs to {@code keys[i]}.
+     * @param size the number of fields to take from {@code keys} and {@code fields}.
+     * @return the map.
+     */
+    static PersistentJsonFieldMap of(final String[] keys, final JsonField[] fields, final int size) {
+        final int[] members = new int[size];
+        for (int i = 0; i < size; i++) {
+            members[i] = i;
+        }
+        final KeyNode keyRoot = buildKeyNode(keys, members, size, 0);
+
+        Object[][] nodes = new Object[Math.max(1, (size + MASK) >>> BITS)][];
+        for (int i = 0; i < nodes.length; i++) {
+            final Object[] leaf = new Object[WIDTH];
+            final int from = i << BITS;
+            System.arraycopy(fields, from, leaf, 0, Math.min(WIDTH, size - from));
+            nodes[i] = leaf;
+        }
+        int shift = 0;
+        while (nodes.length > 1) {
+            final Object[][] parents = new Object[(nodes.length + MASK) >>> BITS][];
+            for (int i = 0; i < parents.length; i++) {
+                final Object[] parent = new Object[WIDTH];
+                final int from = i << BITS;
+                System.arraycopy(nodes, from, parent, 0, Math.min(WIDTH, nodes.length - from));
+                parents[i] = parent;
+            }
+            nodes = parents;
+            shift += BITS;
+        }
+        return new PersistentJsonFieldMap(size, size, shift, nodes[0], keyRoot);
+    }
+
+    int size() {
+        return size;
+    }
+
+    @Nullable
+    JsonField get(final String key) {
+        final int slot = findSlot(keyRoot, key, hash(key));
+        return 0 <= slot ? getSlot(slot) : null;
+    }
+
+    boolean containsKey(final String key) {
+        return 0 <= findSlot(keyRoot, key, hash(key));
+    }
+
+    /**
+     * Returns a map which additionally contains the given field. If a field with the same key already exists it is
+     * replaced at its position, otherwise the field is appended.
+     *
+     * @param key the key of the field.
+     * @param field the field.
+     * @return the new map.
+     */
+    PersistentJsonFieldMap put(final String key, final JsonField field) {
+        final int hash = hash(key);
+        final int slot = findSlot(keyRoot, key, hash);
+        if (0 <= slot) {
+            return new PersistentJsonFieldMap(size, slotCount, slotShift,
+                    setSlot(slotRoot, slotShift, slot, field), keyRoot);
+        }
+
+        final KeyNode newKeyRoot = insertKey(keyRoot, key, hash, slotCount, 0);
+        if (slotCount == WIDTH << slotShift) {
+            // root is full: grow the trie by one level
+            final Object[] newSlotRoot = new Object[WIDTH];
+            newSlotRoot[0] = slotRoot;
+            newSlotRoot[1] = newPath(slotShift, field);
+            return new PersistentJsonFieldMap(size + 1, slotCount + 1, slotShift + BITS, newSlotRoot, newKeyRoot);
+        }
+        return new PersistentJsonFieldMap(size + 1, slotCount + 1, slotShift,
+                appendSlot(slotRoot, slotShift, slotCount, field), newKeyRoot);
+    }
+
+    /**
+     * Returns a map without the field with the given key.
+     *
+     * @param key the key of the field to be removed.
+     * @return the new map or this map if it does not contain {@code key}.
+     */
+    PersistentJsonFieldMap remove(final String key) {
+        final int hash = hash(key);
+        final int slot = findSlot(keyRoot, key, hash);
+        if (0 > slot) {
+            return this;
+        }
+        final int newSize = size - 1;
+        if (newSize < (slotCount >>> 1)) {
+            return compact(key);
+        }
+        final KeyNode newKeyRoot = removeKey(keyRoot, key, hash, 0);
+        return new PersistentJsonFieldMap(newSize, slotCount, slotShift, setSlot(slotRoot, slotShift, slot, null),
+                null != newKeyRoot ? newKeyRoot : KeyNode.EMPTY);
+    }
+
+    private PersistentJsonFieldMap compact(final String removedKey) {
+        final String[] keys = new String[size - 1];
+        final JsonField[] fields = new JsonField[size - 1];
+        int i = 0;
+        for (final Iterator<JsonField> iterator = iterator(); iterator.hasNext(); ) {
+            final JsonField field = iterator.next();
+            final String keyName = field.getKeyName();
+            if (!keyName.equals(removedKey)) {
+                keys[i] = keyName;
+                fields[i] = field;
+                i++;
+            }
+        }
+        return of(keys, fields, i);
+    }
+
+    /**
+     * Returns an iterator over all fields in insertion order.
+     *
+     * @return the iterator.
+     */
+    Iterator<JsonField> iterator() {
+        return new FieldIterator();
+    }
+
+    Stream<JsonField> stream() {
+        return StreamSupport.stream(Spliterators.spliterator(iterator(), size,
+                Spliterator.ORDERED | Spliterator.SIZED | Spliterator.NONNULL | Spliterator.IMMUTABLE), false);
+    }
+
+    /**
+     * Indicates whether the given map shares the complete structure of this map, i. e. whether both maps are
+     * equal without having to compare their fields.
+     *
+     * @param other the map to compare with.
+     * @return {@code true} if {@code other} consists of the same nodes as this map.
+     */
+    boolean isSameStructureAs(final PersistentJsonFieldMap other) {
+        return slotRoot == other.slotRoot && keyRoot == other.keyRoot;
+    }
+
+    private JsonField getSlot(final int slot) {
+        return (JsonField) getLeaf(slot)[slot & MASK];
+    }
+
+    private Object[] getLeaf(final int slot) {
+        Object[] node = slotRoot;
+        for (int level = slotShift; level > 0; level -= BITS) {
+            node = (Object[]) node[(slot >>> level) & MASK];
+        }
+        return node;
+    }
+
+    private static Object[] setSlot(final Object[] node, final int level, final int slot,
+            @Nullable final JsonField field) {
+
+        final Object[] result = node.clone();
+        if (0 == level) {
+            result[slot & MASK] = field;
+        } else {
+            final int childIndex = (slot >>> level) & MASK;
+            result[childIndex] = setSlot((Object[]) node[childIndex], level - BITS, slot, field);
+        }
+        return result;
+    }
+
+    private static Object[] appendSlot(final Object[] node, final int level, final int slot, final JsonField field) {
+        final Object[] result = node.clone();
+        if (0 == level) {
+            result[slot & MASK] = field;
+        } else {
+            final int childIndex = (slot >>> level) & MASK;
+            final Object[] child = (Object[]) node[childIndex];
+            result[childIndex] = null == child
+                    ? newPath(level - BITS, field)
+                    : appendSlot(child, level - BITS, slot, field);
+        }
+        return result;
+    }
+
+    private static Object[] newPath(final int level, final JsonField field) {
+        final Object[] result = new Object[WIDTH];
+        result[0] = 0 == level ? field : newPath(level - BITS, field);
+        return result;
+    }
+
+    private static int hash(final String key) {
+        final int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    private static int bitOf(final int hash, final int shift) {
+        return 1 << ((hash >>> shift) & MASK);
+    }
+
+    private static int findSlot(final KeyNode root, final String key, final int hash) {
+        KeyNode node = root;
+        int shift = 0;
+        while (shift <= MAX_HASH_SHIFT) {
+            final int bit = bitOf(hash, shift);
+            if (0 == (node.bitmap & bit)) {
+                return -1;
+            }
+            final int index = Integer.bitCount(node.bitmap & (bit - 1));
+            final Object entry = node.entries[index];
+            if (!(entry instanceof KeyNode)) {
+                return key.equals(entry) ? node.slots[index] : -1;
+            }
+            node = (KeyNode) entry;
+            shift += BITS;
+        }
+        for (int i = 0; i < node.entries.length; i++) {
+            if (key.equals(node.entries[i])) {
+                return node.slots[i];
+            }
+        }
+        return -1;
+    }
+
+    private static KeyNode insertKey(final KeyNode node, final String key, final int hash, final int slot,
+            final int shift) {
+
+        if (shift > MAX_HASH_SHIFT) {
+            return node.withEntryInserted(node.entries.length, 0, key, slot);
+        }
+        final int bit = bitOf(hash, shift);
+        final int index = Integer.bitCount(node.bitmap & (bit - 1));
+        if (0 == (node.bitmap & bit)) {
+            return node.withEntryInserted(index, bit, key, slot);
+        }
+        final Object entry = node.entries[index];
+        final Object newEntry;
+        if (entry instanceof KeyNode) {
+            newEntry = insertKey((KeyNode) entry, key, hash, slot, shift + BITS);
+        } else {
+            final String existingKey = (String) entry;
+            newEntry = createKeyNode(existingKey, hash(existingKey), node.slots[index], key, hash, slot,
+                    shift + BITS);
+        }
+        return node.withEntryReplaced(index, newEntry, 0);
+    }
+
+    private static KeyNode createKeyNode(final String key1, final int hash1, final int slot1,
+            final String key2, final int hash2, final int slot2, final int shift) {
+
+        if (shift > MAX_HASH_SHIFT) {
+            return new KeyNode(0, new Object[]{key1, key2}, new int[]{slot1, slot2});
+        }
+        final int bit1 = bitOf(hash1, shift);
+        final int bit2 = bitOf(hash2, shift);
+        if (bit1 == bit2) {
+            return new KeyNode(bit1,
+                    new Object[]{createKeyNode(key1, hash1, slot1, key2, hash2, slot2, shift + BITS)},
+                    new int[1]);
+        }
+        if (Integer.compareUnsigned(bit1, bit2) < 0) {
+            return new KeyNode(bit1 | bit2, new Object[]{key1, key2}, new int[]{slot1, slot2});
+        }
+        return new KeyNode(bit1 | bit2, new Object[]{key2, key1}, new int[]{slot2, slot1});
+    }
+
+    @Nullable
+    private static KeyNode removeKey(final KeyNode node, final String key, final int hash, final int shift) {
+        if (shift > MAX_HASH_SHIFT) {
+            for (int i = 0; i < node.entries.length; i++) {
+                if (key.equals(node.entries[i])) {
+                    return node.withEntryRemoved(i, 0);
+                }
+            }
+            return node;
+        }
+        final int bit = bitOf(hash, shift);
+        if (0 == (node.bitmap & bit)) {
+            return node;
+        }
+        final int index = Integer.bitCount(node.bitmap & (bit - 1));
+        final Object entry = node.entries[index];
+        if (!(entry instanceof KeyNode)) {
+            return key.equals(entry) ? node.withEntryRemoved(index, bit) : node;
+        }
+        final KeyNode child = (KeyNode) entry;
+        final KeyNode newChild = removeKey(child, key, hash, shift + BITS);
+        if (newChild == child) {
+            return node;
+        }
+        if (null == newChild) {
+            return node.withEntryRemoved(index, bit);
+        }
+        if (1 == newChild.entries.length && !(newChild.entries[0] instanceof KeyNode)) {
+            // a single remaining key can be found at any level, thus pull it up
+            return node.withEntryReplaced(index, newChild.entries[0], newChild.slots[0]);
+        }
+        return node.withEntryReplaced(index, newChild, 0);
+    }
+
+    private static KeyNode buildKeyNode(final String[] keys, final int[] members, final int memberCount,
+            final int shift) {
+
+        if (shift > MAX_HASH_SHIFT) {
+            final Object[] entries = new Object[memberCount];
+            for (int i = 0; i < memberCount; i++) {
+                entries[i] = keys[members[i]];
+            }
+            return new KeyNode(0, entries, Arrays.copyOf(members, memberCount));
+        }
+
+        final int[] chunks = new int[memberCount];
+        final int[] chunkCounts = new int[WIDTH];
+        int bitmap = 0;
+        for (int i = 0; i < memberCount; i++) {
+            final int chunk = (hash(keys[members[i]]) >>> shift) & MASK;
+            chunks[i] = chunk;
+            chunkCounts[chunk]++;
+            bitmap |= 1 << chunk;
+        }
+
+        final int entryCount = Integer.bitCount(bitmap);
+        final Object[] entries = new Object[entryCount];
+        final int[] slots = new int[entryCount];
+        int index = 0;
+        for (int chunk = 0; chunk < WIDTH; chunk++) {
+            final int chunkCount = chunkCounts[chunk];
+            if (1 == chunkCount) {
+                final int member = members[indexOfChunk(chunks, memberCount, chunk, 0)];
+                entries[index] = keys[member];
+                slots[index] = member;
+                index++;
+            } else if (1 < chunkCount) {
+                final int[] chunkMembers = new int[chunkCount];
+                int from = 0;
+                for (int i = 0; i < chunkCount; i++) {
+                    final int memberIndex = indexOfChunk(chunks, memberCount, chunk, from);
+                    chunkMembers[i] = members[memberIndex];
+                    from = memberIndex + 1;
+                }
+                entries[index] = buildKeyNode(keys, chunkMembers, chunkCount, shift + BITS);
+                index++;
+            }
+        }
+        return new KeyNode(bitmap, entries, slots);
+    }
+
+    private static int indexOfChunk(final int[] chunks, final int count, final int chunk, final int from) {
+        for (int i = from; i < count; i++) {
+            if (chunks[i] == chunk) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * A node of the key trie. Each entry is either a key, then the slot of its field is at the same index of
+     * {@code slots}, or a child node. Below {@link #MAX_HASH_SHIFT} the entries are indexed by {@code bitmap}; above
+     * all hash bits are used up and the node is an unordered list of keys with equal hashes.
+     */
+    @Immutable
+    private static final class KeyNode {
+
+        private static final KeyNode EMPTY = new KeyNode(0, new Object[0], new int[0]);
+
+        private final int bitmap;
+        private final Object[] entries;
+        private final int[] slots;
+
+        private KeyNode(final int bitmap, final Object[] entries, final int[] slots) {
+            this.bitmap = bitmap;
+            this.entries = entries;
+            this.slots = slots;
+        }
+
+        private KeyNode withEntryInserted(final int index, final int bit, final String key, final int slot) {
+            final int length = entries.length;
+            final Object[] newEntries = new Object[length + 1];
+            final int[] newSlots = new int[length + 1];
+            System.arraycopy(entries, 0, newEntries, 0, index);
+            System.arraycopy(slots, 0, newSlots, 0, index);
+            newEntries[index] = key;
+            newSlots[index] = slot;
+            System.arraycopy(entries, index, newEntries, index + 1, length - index);
+            System.arraycopy(slots, index, newSlots, index + 1, length - index);
+            return new KeyNode(bitmap | bit, newEntries, newSlots);
+        }
+
+        private KeyNode withEntryReplaced(final int index, final Object entry, final int slot) {
+            final Object[] newEntries = entries.clone();
+            final int[] newSlots = slots.clone();
+            newEntries[index] = entry;
+            newSlots[index] = slot;
+            return new KeyNode(bitmap, newEntries, newSlots);
+        }
+
+        @Nullable
+        private KeyNode withEntryRemoved(final int index, final int bit) {
+            final int newLength = entries.length - 1;
+            if (0 == newLength) {
+                return null;
+            }
+            final Object[] newEntries = new Object[newLength];
+            final int[] newSlots = new int[newLength];
+            System.arraycopy(entries, 0, newEntries, 0, index);
+            System.arraycopy(slots, 0, newSlots, 0, index);
+            System.arraycopy(entries, index + 1, newEntries, index, newLength - index);
+            System.arraycopy(slots, index + 1, newSlots, index, newLength - index);
+            return new KeyNode(bitmap & ~bit, newEntries, newSlots);
+        }
+
+    }
+
+    /**
+     * Iterates the slots leaf by leaf and skips the cleared ones.
+     */
+    private final class FieldIterator implements Iterator<JsonField> {
+
+        private int slot;
+        @Nullable private Object[] leaf;
+        @Nullable private JsonField next;
+
+        private FieldIterator() {
+            slot = 0;
+            leaf = null;
+            next = advance();
+        }
+
+        @Nullable
+        private JsonField advance() {
+            while (slot < slotCount) {
+                if (null == leaf || 0 == (slot & MASK)) {
+                    leaf = getLeaf(slot);
+                }
+                final JsonField field = (JsonField) leaf[slot & MASK];
+                slot++;
+                if (null != field) {
+                    return field;
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return null != next;
+        }
+
+        @Override
+        public JsonField next() {
+            final JsonField result = next;
+            if (null == result) {
+                throw new NoSuchElementException();
+            }
+            next = advance();
+            return result;
+        }
+
+    }
+
+}
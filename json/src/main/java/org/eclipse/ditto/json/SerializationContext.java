@@ -75,4 +75,35 @@ public interface SerializationContext extends Closeable, Flushable {
      * Writes the passed string {@code name} (as field name) to the serialization context.
      */
     void writeFieldName(String name) throws IOException;
+
+    /**
+     * Writes the start of an object with {@code size} fields to the serialization context.
+     * Each field has to be written by {@link #writeFieldName(String)} followed by its value, the object has to be
+     * completed by {@link #writeEndObject()}.
+     *
+     * @since 3.8.0
+     */
+    void writeStartObject(int size) throws IOException;
+
+    /**
+     * Writes the end of the object which was started by {@link #writeStartObject(int)} to the serialization context.
+     *
+     * @since 3.8.0
+     */
+    void writeEndObject() throws IOException;
+
+    /**
+     * Writes the start of an array with {@code size} values to the serialization context.
+     * The array has to be completed by {@link #writeEndArray()} after its values were written.
+     *
+     * @since 3.8.0
+     */
+    void writeStartArray(int size) throws IOException;
+
+    /**
+     * Writes the end of the array which was started by {@link #writeStartArray(int)} to the serialization context.
+     *
+     * @since 3.8.0
+     */
+    void writeEndArray() throws IOException;
 }
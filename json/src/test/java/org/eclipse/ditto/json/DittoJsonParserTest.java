@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.function.Function;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link DittoJsonParser}.
+ * The results are compared to the results of parsing with minimal-json and {@link DefaultDittoJsonHandler}.
+ */
+public final class DittoJsonParserTest {
+
+    private static final String THING_JSON = "{\"thingId\":\"org.eclipse.ditto:thing-1\"," +
+            "\"policyId\":\"org.eclipse.ditto:policy-1\"," +
+            "\"attributes\":{\"manufacturer\":\"ACME\",\"serial\":12345,\"tags\":[\"a\",\"b\",null,true,1.5]}," +
+            "\"features\":{\"temperature\":{\"properties\":{\"value\":23.42,\"unit\":\"\\u00b0C\"," +
+            "\"timestamp\":1700000000000,\"min\":-40,\"valid\":false}}," +
+            "\"lamp\":{\"properties\":{\"on\":true,\"color\":{\"r\":255,\"g\":0,\"b\":0}}}}," +
+            "\"_revision\":42}";
+
+    @Test
+    public void parseCompactThingJson() {
+        assertParsedAsLegacyParser(THING_JSON);
+    }
+
+    @Test
+    public void parseCompactInputReturnsInputAsStringRepresentation() {
+        final String compact = "{\"a\":{\"b\":[1,2,{\"c\":\"d\"}]},\"e\":false}";
+
+        final JsonValue parsed = DittoJsonParser.parse(compact);
+
+        assertThat(parsed.toString()).isSameAs(compact);
+        assertThat(parsed.asObject().getValue("a").map(JsonValue::toString))
+                .contains("{\"b\":[1,2,{\"c\":\"d\"}]}");
+    }
+
+    @Test
+    public void parsePrettyPrintedJson() {
+        assertParsedAsLegacyParser(" {\n  \"a\" : [ 1 , 2 ,\t{ \"b\" : \"c\" } ] ,\r\n  \"d\" : { } ,\"e\":[ ]  }  ");
+    }
+
+    @Test
+    public void parseWhitespaceAfterSeparators() {
+        assertParsedAsLegacyParser("{\"a\":1, \"b\":[1, 2,  3],\"c\":{\"d\":true,  \"e\":null}}");
+    }
+
+    @Test
+    public void parseEscapedStrings() {
+        assertParsedAsLegacyParser("{\"esc\\\"aped\":\"a\\\\b\\/c\\b\\f\\n\\r\\t\\u0001\\u00e4\",\"plain\":\"x\"}");
+        assertParsedAsLegacyParser("[\"\\\"\",\"\\\\\",\"a\\u001fb\"]");
+    }
+
+    @Test
+    public void parseNumbers() {
+        assertParsedAsLegacyParser("[0,-0,1,-1,2147483647,-2147483648,2147483648,-2147483649," +
+                "9223372036854775807,-9223372036854775808,1.0,-1.5e3,2E-2,1e+2,0.5]");
+    }
+
+    @Test
+    public void parseNumbersToPrimitiveSpecializedTypes() {
+        final JsonArray parsed = DittoJsonParser.parse("[1,2147483648,1.5]").asArray();
+
+        assertThat(parsed.get(0)).contains(JsonValue.of(1));
+        assertThat(parsed.get(0).filter(JsonValue::isInt)).isPresent();
+        assertThat(parsed.get(1).filter(JsonValue::isLong)).isPresent();
+        assertThat(parsed.get(2).filter(JsonValue::isDouble)).isPresent();
+    }
+
+    @Test
+    public void parseLiteralsAndStrings() {
+        assertParsedAsLegacyParser("null");
+        assertParsedAsLegacyParser("true");
+        assertParsedAsLegacyParser("false");
+        assertParsedAsLegacyParser("\"foo\"");
+        assertParsedAsLegacyParser("  42  ");
+    }
+
+    @Test
+    public void parseDuplicateKeysLikeLegacyParser() {
+        assertParsedAsLegacyParser("{\"a\":1,\"b\":2,\"a\":3}");
+    }
+
+    @Test
+    public void keysAreShared() {
+        final JsonObject first = DittoJsonParser.parse("{\"sharedKey\":1}").asObject();
+        final JsonObject second = DittoJsonParser.parse("{\"sharedKey\":2}").asObject();
+
+        assertThat(second.getKeys().get(0)).isSameAs(first.getKeys().get(0));
+    }
+
+    @Test
+    public void rejectInvalidJson() {
+        assertRejected("");
+        assertRejected("{");
+        assertRejected("{\"a\"}");
+        assertRejected("{\"a\":1,}");
+        assertRejected("[1,]");
+        assertRejected("[1 2]");
+        assertRejected("01");
+        assertRejected("1.");
+        assertRejected("-");
+        assertRejected("1e");
+        assertRejected("nul");
+        assertRejected("truex");
+        assertRejected("\"unterminated");
+        assertRejected("\"invalid\\escape\"");
+        assertRejected("\"\\u12\"");
+        assertRejected("\"control\u0001char\"");
+        assertRejected("{\"a\":1} {");
+        assertRejected("{'a':1}");
+    }
+
+    @Test
+    public void numberExceedingLongRangeCausesNumberFormatException() {
+        assertThatExceptionOfType(NumberFormatException.class)
+                .isThrownBy(() -> DittoJsonParser.parse("92233720368547758070"));
+    }
+
+    @Test
+    public void emptyKeyCausesIllegalArgumentException() {
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> DittoJsonParser.parse("{\"\":1}"));
+    }
+
+    @Test
+    public void parseSelectedFieldsEqualsGetWithFieldSelector() {
+        assertSelectionEqualsGet(THING_JSON, "thingId");
+        assertSelectionEqualsGet(THING_JSON, "thingId,_revision");
+        assertSelectionEqualsGet(THING_JSON, "features/temperature/properties/value,attributes/tags");
+        assertSelectionEqualsGet(THING_JSON, "features/lamp/properties/color/r,features/temperature");
+        assertSelectionEqualsGet(THING_JSON, "attributes/unknown,_revision");
+        assertSelectionEqualsGet(THING_JSON, "unknown");
+    }
+
+    @Test
+    public void parseSelectedFieldsOfPrettyPrintedJson() {
+        final String json = "{ \"a\" : { \"b\" : 1 , \"c\" : \"\\u00e4\" } ,\n \"d\" : [ { \"b\" : 2 } , 3 ] }";
+
+        assertSelectionEqualsGet(json, "a/c,d/b");
+    }
+
+    @Test
+    public void parseSelectedFieldsValidatesSkippedValues() {
+        final Function<String, JsonObject> underTest =
+                JsonValueParser.fromString(JsonFieldSelector.newInstance("a"));
+
+        assertThatExceptionOfType(JsonParseException.class)
+                .isThrownBy(() -> underTest.apply("{\"a\":1,\"b\":[1,}"));
+    }
+
+    @Test
+    public void parseSelectedFieldsOfNonObjectFails() {
+        final Function<String, JsonObject> underTest =
+                JsonValueParser.fromString(JsonFieldSelector.newInstance("a"));
+
+        assertThatExceptionOfType(JsonParseException.class)
+                .isThrownBy(() -> underTest.apply("[{\"a\":1}]"));
+    }
+
+    private static void assertSelectionEqualsGet(final String json, final String selectorString) {
+        final JsonFieldSelector fieldSelector = JsonFieldSelector.newInstance(selectorString);
+        final JsonObject expected = JsonObject.of(json).get(fieldSelector);
+
+        final JsonObject actual = JsonValueParser.fromString(fieldSelector).apply(json);
+
+        assertThat(actual).isEqualTo(expected);
+        assertThat(actual.toString()).isEqualTo(expected.toString());
+    }
+
+    private static void assertParsedAsLegacyParser(final String json) {
+        final DefaultDittoJsonHandler legacyHandler = DefaultDittoJsonHandler.newInstance();
+        JsonValueParser.fromString(legacyHandler).accept(json);
+        final JsonValue expected = legacyHandler.getValue();
+
+        final JsonValue actual = DittoJsonParser.parse(json);
+
+        assertThat(actual).isEqualTo(expected);
+        assertThat(actual.toString()).isEqualTo(expected.toString());
+        assertThat(JsonFactory.readFrom(actual.toString())).isEqualTo(expected);
+    }
+
+    private static void assertRejected(final String json) {
+        assertThatExceptionOfType(JsonParseException.class)
+                .isThrownBy(() -> DittoJsonParser.parse(json));
+    }
+
+}
@@ -17,7 +17,6 @@ import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.eclipse.ditto.json.assertions.DittoJsonAssertions.assertThat;
 import static org.mockito.Mockito.mock;
 
-import java.lang.ref.SoftReference;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -82,16 +81,16 @@ public final class ImmutableJsonObjectTest {
     public void testHashCodeAndEquals() {
         final Map<String, JsonField> jsonFieldsRed = toMap("foo", JsonValue.of(1));
         final Map<String, JsonField> jsonFieldsBlack = toMap("foo", JsonValue.of(2));
-        final ImmutableJsonObject.SoftReferencedFieldMap
-                redFieldMap = ImmutableJsonObject.SoftReferencedFieldMap.of(jsonFieldsRed);
-        final ImmutableJsonObject.SoftReferencedFieldMap
-                blackFieldMap = ImmutableJsonObject.SoftReferencedFieldMap
+        final ImmutableJsonObject.CompactFieldMap
+                redFieldMap = ImmutableJsonObject.CompactFieldMap.of(jsonFieldsRed);
+        final ImmutableJsonObject.CompactFieldMap
+                blackFieldMap = ImmutableJsonObject.CompactFieldMap
                 .of(jsonFieldsBlack);
         final ImmutableJsonObject redObject = ImmutableJsonObject.of(jsonFieldsRed);
         final ImmutableJsonObject blackObject = ImmutableJsonObject.of(jsonFieldsBlack);
 
         EqualsVerifier.forClass(ImmutableJsonObject.class)
-                .withPrefabValues(ImmutableJsonObject.SoftReferencedFieldMap.class, redFieldMap, blackFieldMap)
+                .withPrefabValues(ImmutableJsonObject.CompactFieldMap.class, redFieldMap, blackFieldMap)
                 .withPrefabValues(ImmutableJsonObject.class, redObject, blackObject)
                 .withNonnullFields("fieldMap")
                 .verify();
@@ -1516,30 +1515,106 @@ public final class ImmutableJsonObjectTest {
     }
 
     @Test
-    public void validateSoftReferenceStrategy() throws IllegalAccessException, NoSuchFieldException {
+    public void stringRepresentationIsCreatedLazily() {
         final ImmutableJsonObject jsonObject = ImmutableJsonObject.of(KNOWN_FIELDS);
+        assertInternalCachesAreAsExpected(jsonObject, false);
+
+        final String jsonString = jsonObject.toString();
+
+        assertThat(jsonString).isEqualTo(KNOWN_JSON_STRING);
         assertInternalCachesAreAsExpected(jsonObject, true);
+    }
+
+    @Test
+    public void replacingValueOfExistingKeySharesKeysAndIndex() throws IllegalAccessException,
+            NoSuchFieldException {
+
+        final ImmutableJsonObject jsonObject =
+                createObjectWithIntFields(ImmutableJsonObject.CompactFieldMap.INDEX_THRESHOLD * 4);
+
+        final ImmutableJsonObject modified = jsonObject.set(JsonField.newInstance("key17", JsonValue.of(-1)));
+
+        assertThat(modified.getValue("key17")).contains(JsonValue.of(-1));
+        assertThat(jsonObject.getValue("key17")).contains(JsonValue.of(17));
+        assertThat(getFieldMapMember(modified, "keys")).isSameAs(getFieldMapMember(jsonObject, "keys"));
+        assertThat(getFieldMapMember(modified, "index"))
+                .isNotNull()
+                .isSameAs(getFieldMapMember(jsonObject, "index"));
+    }
 
-        final Field valueListField = jsonObject.getClass().getDeclaredField("fieldMap");
-        valueListField.setAccessible(true);
-        final ImmutableJsonObject.SoftReferencedFieldMap
-                valueList = (ImmutableJsonObject.SoftReferencedFieldMap) valueListField.get(jsonObject);
+    @Test
+    public void largeObjectKeepsInsertionOrderOnModification() {
+        final int size = ImmutableJsonObject.CompactFieldMap.INDEX_THRESHOLD * 16;
+        final ImmutableJsonObject jsonObject = createObjectWithIntFields(size);
+
+        final JsonObject modified = jsonObject.remove("key3")
+                .setValue("newKey", 42)
+                .setValue("key5", 55);
+
+        assertThat(modified.getSize()).isEqualTo(size);
+        assertThat(modified.getKeys().get(3)).isEqualTo(JsonKey.of("key4"));
+        assertThat(modified.getKeys().get(4)).isEqualTo(JsonKey.of("key5"));
+        assertThat(modified.getKeys().get(size - 1)).isEqualTo(JsonKey.of("newKey"));
+        assertThat(modified.contains("key3")).isFalse();
+        for (int i = 0; i < size; i++) {
+            if (3 != i && 5 != i) {
+                assertThat(modified.getValue("key" + i)).contains(JsonValue.of(i));
+            }
+        }
+        assertThat(modified.getValue("key5")).contains(JsonValue.of(55));
+        assertThat(modified.getValue("newKey")).contains(JsonValue.of(42));
+        assertThat(JsonObject.of(modified.toString())).isEqualTo(modified);
+    }
 
-        final Field softReferenceField = valueList.getClass().getDeclaredField("fieldsReference");
-        softReferenceField.setAccessible(true);
-        SoftReference softReference = (SoftReference) softReferenceField.get(valueList);
+    @Test
+    public void settingAndRemovingNestedValueSharesUnchangedSiblings() {
+        final int size = ImmutableJsonObject.CompactFieldMap.PERSISTENT_THRESHOLD * 4;
+        final JsonObject features = JsonObject.newBuilder()
+                .set("lamp", createObjectWithIntFields(size))
+                .set("sensor", createObjectWithIntFields(size))
+                .build();
+        final JsonObject thing = JsonObject.newBuilder().set("features", features).build();
+
+        final JsonObject modified = thing.setValue("/features/lamp/key42", -42);
+        final JsonObject removed = modified.remove("features/lamp/key43");
+
+        assertThat(modified.getValue("features/lamp/key42")).contains(JsonValue.of(-42));
+        assertThat(thing.getValue("features/lamp/key42")).contains(JsonValue.of(42));
+        assertThat(modified.getValue("features/sensor")).containsSame(features.getValue("sensor").get());
+        assertThat(modified.getValue("features/lamp/key41"))
+                .containsSame(thing.getValue("features/lamp/key41").get());
+        assertThat(removed.getValue("features/lamp").map(JsonValue::asObject).map(JsonObject::getSize))
+                .contains(size - 1);
+        assertThat(removed.getValue("features/sensor")).containsSame(features.getValue("sensor").get());
+        assertThat(removed.remove("features/lamp/unknown")).isSameAs(removed);
+        assertThat(removed.setValue("/features/lamp/key42", -42)).isSameAs(removed);
+    }
+
+    private static ImmutableJsonObject createObjectWithIntFields(final int size) {
+        final Map<String, JsonField> fields = new LinkedHashMap<>();
+        for (int i = 0; i < size; i++) {
+            fields.put("key" + i, toField("key" + i, JsonValue.of(i)));
+        }
+        return ImmutableJsonObject.of(fields);
+    }
 
-        softReference.clear();
+    private static Object getFieldMapMember(final ImmutableJsonObject jsonObject, final String memberName)
+            throws NoSuchFieldException, IllegalAccessException {
 
-        assertThat(jsonObject.getValue(KNOWN_KEY_FOO)).isPresent();
+        final Field fieldMapField = jsonObject.getClass().getDeclaredField("fieldMap");
+        fieldMapField.setAccessible(true);
+        final Object fieldMap = fieldMapField.get(jsonObject);
+        final Field memberField = fieldMap.getClass().getDeclaredField(memberName);
+        memberField.setAccessible(true);
+        return memberField.get(fieldMap);
     }
 
     private void assertInternalCachesAreAsExpected(final JsonObject jsonObject, final boolean jsonExpected) {
         try {
             final Field valueListField = jsonObject.getClass().getDeclaredField("fieldMap");
             valueListField.setAccessible(true);
-            final ImmutableJsonObject.SoftReferencedFieldMap
-                    fieldMap = (ImmutableJsonObject.SoftReferencedFieldMap) valueListField.get(jsonObject);
+            final ImmutableJsonObject.CompactFieldMap
+                    fieldMap = (ImmutableJsonObject.CompactFieldMap) valueListField.get(jsonObject);
 
             final Field jsonStringField = fieldMap.getClass().getDeclaredField("jsonObjectStringRepresentation");
             jsonStringField.setAccessible(true);
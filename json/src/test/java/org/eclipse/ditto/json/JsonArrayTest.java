@@ -21,8 +21,6 @@ import java.util.Collection;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
-import com.eclipsesource.json.ParseException;
-
 /**
  * Unit test for {@link org.eclipse.ditto.json.JsonArray}.
  */
@@ -65,7 +63,7 @@ public final class JsonArrayTest {
         assertThatExceptionOfType(JsonParseException.class)
                 .isThrownBy(() -> JsonArray.of(strings))
                 .withMessage("Failed to parse JSON string '%s'!", strings.toString())
-                .withCauseInstanceOf(ParseException.class);
+                .withCauseInstanceOf(JsonParseException.class);
     }
 
     @Test
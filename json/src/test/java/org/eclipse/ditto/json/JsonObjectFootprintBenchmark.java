@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH Benchmark for the heap footprint and modification costs of {@link ImmutableJsonObject} for a Thing with many
+ * attributes.
+ * Run with {@code -prof gc}: the normalized allocation rate ({@code gc.alloc.rate.norm}) of
+ * {@link #buildThingWithAttributes()} approximates the retained heap size of the Thing, the one of the modifying
+ * benchmarks shows how much of the Thing is copied instead of shared per modification.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JsonObjectFootprintBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+    private static final int WARMUP_TIME = 1000;
+    private static final int MEASUREMENT_TIME = 1000;
+
+    @Param({"1000"})
+    public int attributeCount;
+
+    private JsonObject[] attributeFields;
+    private JsonObject thing;
+    private int counter;
+
+    @Setup
+    public void setUp() {
+        attributeFields = new JsonObject[attributeCount];
+        for (int i = 0; i < attributeCount; i++) {
+            attributeFields[i] = JsonObject.newBuilder().set("attribute-" + i, "value-" + i).build();
+        }
+        thing = buildThingWithAttributes();
+        counter = 0;
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public JsonObject buildThingWithAttributes() {
+        final JsonObjectBuilder attributesBuilder = JsonObject.newBuilder();
+        for (final JsonObject attributeField : attributeFields) {
+            attributesBuilder.setAll(attributeField);
+        }
+        return JsonObject.newBuilder()
+                .set("thingId", "org.eclipse.ditto:footprint")
+                .set("policyId", "org.eclipse.ditto:footprint")
+                .set("attributes", attributesBuilder.build())
+                .build();
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public JsonObject modifyExistingAttribute() {
+        return thing.setValue("/attributes/attribute-" + (counter++ % attributeCount), counter);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public JsonObject addAttribute() {
+        return thing.setValue("/attributes/new-attribute", counter++);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public JsonObject removeAttribute() {
+        return thing.remove("attributes/attribute-" + (counter++ % attributeCount));
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public JsonValue readAttribute() {
+        return thing.getValue("attributes/attribute-" + (counter++ % attributeCount)).orElse(null);
+    }
+
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH Benchmark comparing the single-pass JSON parser of ditto-json with parsing via minimal-json and
+ * {@link DefaultDittoJsonHandler} for typical Thing payloads.
+ * Run with {@code -prof gc} in order to compare the allocation rates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonParserBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+    private static final int WARMUP_TIME = 1000;
+    private static final int MEASUREMENT_TIME = 1000;
+
+    @Param({"1", "10", "100"})
+    public int featureCount;
+
+    private String compactThingJson;
+    private String prettyThingJson;
+    private Function<String, JsonValue> dittoParser;
+    private Function<String, JsonObject> selectingParser;
+
+    @Setup
+    public void setUp() {
+        compactThingJson = createThingJson(featureCount).toString();
+        prettyThingJson = compactThingJson.replace(",", ",\n  ").replace(":", ": ");
+        dittoParser = JsonValueParser.fromString();
+        selectingParser = JsonValueParser.fromString(JsonFieldSelector.newInstance("thingId", "_revision"));
+    }
+
+    private static JsonObject createThingJson(final int featureCount) {
+        final JsonObjectBuilder featuresBuilder = JsonFactory.newObjectBuilder();
+        for (int i = 0; i < featureCount; i++) {
+            featuresBuilder.set("feature-" + i, JsonFactory.newObjectBuilder()
+                    .set("definition", JsonFactory.newArrayBuilder().add("org.eclipse.ditto:sensor:1.0.0").build())
+                    .set("properties", JsonFactory.newObjectBuilder()
+                            .set("value", 23.42 + i)
+                            .set("unit", "°C")
+                            .set("timestamp", 1700000000000L + i)
+                            .set("count", i)
+                            .set("active", i % 2 == 0)
+                            .set("location", JsonFactory.newObjectBuilder()
+                                    .set("lat", 48.7758)
+                                    .set("lon", 9.1829)
+                                    .build())
+                            .build())
+                    .build());
+        }
+        return JsonFactory.newObjectBuilder()
+                .set("thingId", "org.eclipse.ditto:benchmark-thing")
+                .set("policyId", "org.eclipse.ditto:benchmark-policy")
+                .set("attributes", JsonFactory.newObjectBuilder()
+                        .set("manufacturer", "ACME")
+                        .set("serialNumber", "4711-0815")
+                        .set("tags", JsonFactory.newArrayBuilder().add("a", "b", "c").build())
+                        .build())
+                .set("features", featuresBuilder.build())
+                .set("_revision", 42L)
+                .build();
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public JsonValue dittoParserCompact() {
+        return dittoParser.apply(compactThingJson);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public JsonValue minimalJsonParserCompact() {
+        return parseWithMinimalJson(compactThingJson);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public JsonValue dittoParserPrettyPrinted() {
+        return dittoParser.apply(prettyThingJson);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public JsonValue minimalJsonParserPrettyPrinted() {
+        return parseWithMinimalJson(prettyThingJson);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public JsonObject dittoParserSelectedFields() {
+        return selectingParser.apply(compactThingJson);
+    }
+
+    private static JsonValue parseWithMinimalJson(final String jsonString) {
+        final DefaultDittoJsonHandler jsonHandler = DefaultDittoJsonHandler.newInstance();
+        final Consumer<String> parser = JsonValueParser.fromString(jsonHandler);
+        parser.accept(jsonString);
+        return jsonHandler.getValue();
+    }
+
+}
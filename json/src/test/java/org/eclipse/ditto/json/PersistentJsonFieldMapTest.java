@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+/**
+ * Unit test for {@link PersistentJsonFieldMap}.
+ */
+public final class PersistentJsonFieldMapTest {
+
+    @Test
+    public void createdMapContainsAllFieldsInOrder() {
+        final Map<String, JsonField> expected = createFields("key", 1500);
+
+        final PersistentJsonFieldMap underTest = of(expected);
+
+        assertEqualsInOrder(underTest, expected);
+    }
+
+    @Test
+    public void emptyMapCanBeFilled() {
+        final Map<String, JsonField> expected = new LinkedHashMap<>();
+        PersistentJsonFieldMap underTest = of(expected);
+
+        for (int i = 0; i < 1100; i++) {
+            final JsonField field = field("key" + i, i);
+            expected.put(field.getKeyName(), field);
+            underTest = underTest.put(field.getKeyName(), field);
+        }
+
+        assertEqualsInOrder(underTest, expected);
+    }
+
+    @Test
+    public void modificationsDoNotChangeOriginal() {
+        final Map<String, JsonField> fields = createFields("key", 100);
+        final PersistentJsonFieldMap original = of(fields);
+
+        original.put("key5", field("key5", -5));
+        original.put("newKey", field("newKey", 1));
+        original.remove("key7");
+
+        assertEqualsInOrder(original, fields);
+    }
+
+    @Test
+    public void replacingExistingFieldKeepsPosition() {
+        final Map<String, JsonField> expected = createFields("key", 100);
+        final PersistentJsonFieldMap underTest = of(expected).put("key42", field("key42", -42));
+        expected.put("key42", field("key42", -42));
+
+        assertEqualsInOrder(underTest, expected);
+    }
+
+    @Test
+    public void removingUnknownKeyReturnsSameInstance() {
+        final PersistentJsonFieldMap underTest = of(createFields("key", 100));
+
+        assertThat(underTest.remove("unknown")).isSameAs(underTest);
+    }
+
+    @Test
+    public void removeAllFields() {
+        final Map<String, JsonField> expected = createFields("key", 200);
+        PersistentJsonFieldMap underTest = of(expected);
+
+        for (final String key : new ArrayList<>(expected.keySet())) {
+            expected.remove(key);
+            underTest = underTest.remove(key);
+            assertEqualsInOrder(underTest, expected);
+        }
+
+        assertThat(underTest.size()).isZero();
+        assertThat(underTest.put("key", field("key", 1)).get("key")).isEqualTo(field("key", 1));
+    }
+
+    @Test
+    public void keysWithEqualHashCodesAreDistinguished() {
+        // "Aa" and "BB" have the same hash code, thus all combinations of them collide
+        final List<String> collidingKeys = new ArrayList<>();
+        collidingKeys.add("");
+        for (int i = 0; i < 4; i++) {
+            final List<String> longer = new ArrayList<>();
+            for (final String prefix : collidingKeys) {
+                longer.add(prefix + "Aa");
+                longer.add(prefix + "BB");
+            }
+            collidingKeys.clear();
+            collidingKeys.addAll(longer);
+        }
+        final Map<String, JsonField> expected = new LinkedHashMap<>();
+        PersistentJsonFieldMap underTest = of(expected);
+        for (final String key : collidingKeys) {
+            expected.put(key, field(key, key.length()));
+            underTest = underTest.put(key, field(key, key.length()));
+        }
+        assertEqualsInOrder(underTest, expected);
+        assertEqualsInOrder(of(expected), expected);
+
+        for (int i = 0; i < collidingKeys.size(); i += 2) {
+            expected.remove(collidingKeys.get(i));
+            underTest = underTest.remove(collidingKeys.get(i));
+        }
+        assertEqualsInOrder(underTest, expected);
+    }
+
+    @Test
+    public void randomModificationsBehaveLikeLinkedHashMap() {
+        final Random random = new Random(42);
+        final Map<String, JsonField> expected = createFields("key", 50);
+        PersistentJsonFieldMap underTest = of(expected);
+
+        for (int i = 0; i < 20_000; i++) {
+            final String key = "key" + random.nextInt(300);
+            if (random.nextInt(3) == 0) {
+                expected.remove(key);
+                underTest = underTest.remove(key);
+            } else {
+                final JsonField field = field(key, i);
+                expected.put(key, field);
+                underTest = underTest.put(key, field);
+            }
+        }
+
+        assertEqualsInOrder(underTest, expected);
+    }
+
+    @Test
+    public void replacingFieldSharesStructure() {
+        final PersistentJsonFieldMap underTest = of(createFields("key", 100));
+
+        assertThat(underTest.isSameStructureAs(underTest)).isTrue();
+        assertThat(underTest.put("key1", field("key1", 1)).isSameStructureAs(underTest)).isFalse();
+    }
+
+    private static PersistentJsonFieldMap of(final Map<String, JsonField> fields) {
+        return PersistentJsonFieldMap.of(fields.keySet().toArray(new String[0]),
+                fields.values().toArray(new JsonField[0]), fields.size());
+    }
+
+    private static Map<String, JsonField> createFields(final String keyPrefix, final int count) {
+        final Map<String, JsonField> result = new LinkedHashMap<>();
+        for (int i = 0; i < count; i++) {
+            final String key = keyPrefix + i;
+            result.put(key, field(key, i));
+        }
+        return result;
+    }
+
+    private static JsonField field(final String key, final int value) {
+        return JsonField.newInstance(key, JsonValue.of(value));
+    }
+
+    private static void assertEqualsInOrder(final PersistentJsonFieldMap actual, final Map<String, JsonField> expected) {
+        assertThat(actual.size()).isEqualTo(expected.size());
+        assertThat(actual.stream().collect(Collectors.toList())).containsExactlyElementsOf(expected.values());
+        expected.forEach((key, field) -> {
+            assertThat(actual.containsKey(key)).isTrue();
+            assertThat(actual.get(key)).isEqualTo(field);
+        });
+        assertThat(actual.get("unknown")).isNull();
+    }
+
+}
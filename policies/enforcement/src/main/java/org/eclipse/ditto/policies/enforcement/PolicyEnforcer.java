@@ -32,10 +32,13 @@ import org.eclipse.ditto.policies.model.enforcers.PolicyEnforcers;
 public final class PolicyEnforcer {
 
     @Nullable private final Policy policy;
+    @Nullable private final Policy policyWithUnresolvedImports;
     private final Enforcer enforcer;
 
-    private PolicyEnforcer(@Nullable final Policy policy, final Enforcer enforcer) {
+    private PolicyEnforcer(@Nullable final Policy policy, @Nullable final Policy policyWithUnresolvedImports,
+            final Enforcer enforcer) {
         this.policy = policy;
+        this.policyWithUnresolvedImports = policyWithUnresolvedImports;
         this.enforcer = enforcer;
     }
 
@@ -50,7 +53,7 @@ public final class PolicyEnforcer {
         return policy.withResolvedImports(policyResolver)
                 .thenApply(resolvedPolicy -> {
                     final var enforcer = PolicyEnforcers.defaultEvaluator(resolvedPolicy);
-                    return new PolicyEnforcer(resolvedPolicy, enforcer);
+                    return new PolicyEnforcer(resolvedPolicy, policy, enforcer);
                 });
     }
 
@@ -61,7 +64,7 @@ public final class PolicyEnforcer {
      * @return the pair
      */
     public static PolicyEnforcer of(final Policy policy) {
-        return new PolicyEnforcer(policy, PolicyEnforcers.defaultEvaluator(policy));
+        return new PolicyEnforcer(policy, null, PolicyEnforcers.defaultEvaluator(policy));
     }
 
     /**
@@ -86,7 +89,7 @@ public final class PolicyEnforcer {
      */
     public static Entry<PolicyEnforcer> embed(final Entry<Enforcer> enforcerEntry) {
         if (enforcerEntry.exists()) {
-            return Entry.of(enforcerEntry.getRevision(), new PolicyEnforcer(null, enforcerEntry.getValueOrThrow()));
+            return Entry.of(enforcerEntry.getRevision(), new PolicyEnforcer(null, null, enforcerEntry.getValueOrThrow()));
         } else {
             return Entry.nonexistent();
         }
@@ -101,6 +104,17 @@ public final class PolicyEnforcer {
         return Optional.ofNullable(policy);
     }
 
+    /**
+     * Retrieve the policy as it was before its imports were resolved, if the policy enforcer was created by
+     * {@link #withResolvedImports(Policy, Function)}. Used to rebuild the policy enforcer when an imported policy
+     * changed without loading the policy again.
+     *
+     * @return the policy with unresolved imports.
+     */
+    Optional<Policy> getPolicyWithUnresolvedImports() {
+        return Optional.ofNullable(policyWithUnresolvedImports);
+    }
+
     /**
      * Retrieve the enforcer.
      *
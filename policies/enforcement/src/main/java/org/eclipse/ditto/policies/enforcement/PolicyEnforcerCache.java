@@ -12,12 +12,12 @@
  */
 package org.eclipse.ditto.policies.enforcement;
 
-import java.util.Collection;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.function.Function;
@@ -27,6 +27,9 @@ import org.eclipse.ditto.internal.utils.cache.Cache;
 import org.eclipse.ditto.internal.utils.cache.CacheFactory;
 import org.eclipse.ditto.internal.utils.cache.config.CacheConfig;
 import org.eclipse.ditto.internal.utils.cache.entry.Entry;
+import org.eclipse.ditto.internal.utils.metrics.DittoMetrics;
+import org.eclipse.ditto.internal.utils.metrics.instruments.counter.Counter;
+import org.eclipse.ditto.internal.utils.metrics.instruments.histogram.Histogram;
 import org.eclipse.ditto.policies.model.Policy;
 import org.eclipse.ditto.policies.model.PolicyId;
 import org.eclipse.ditto.policies.model.PolicyImport;
@@ -35,15 +38,39 @@ import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
 
 import scala.concurrent.ExecutionContextExecutor;
 
+/**
+ * Cache of policy enforcers which is aware of policy imports.
+ * <p>
+ * Imported policies are kept in a separate cache. When an imported policy changes, the enforcers of the importing
+ * policies are not invalidated but marked for rebuild: on their next access, they are rebuilt from their cached
+ * policy and the imported policies of the separate cache, so that each changed imported policy is loaded only once
+ * instead of once per importing policy and importing policies nobody accesses are not rebuilt at all.
+ * </p>
+ */
 final class PolicyEnforcerCache implements Cache<PolicyId, Entry<PolicyEnforcer>> {
 
+    private static final String IMPORT_CASCADE_SIZE = "policy_import_invalidation_cascade_size";
+    private static final String IMPORT_REBUILDS = "policy_import_enforcer_rebuilds";
+
     private final Cache<PolicyId, Entry<PolicyEnforcer>> delegate;
+    private final Cache<PolicyId, Entry<Policy>> importedPolicyCache;
     private final Map<PolicyId, Set<PolicyId>> policyIdToImportingMap;
+    private final Set<PolicyId> policyIdsToRebuild;
+    private final Map<PolicyId, CompletableFuture<Optional<Entry<PolicyEnforcer>>>> pendingRebuilds;
+    private final ExecutionContextExecutor cacheDispatcher;
+    private final Histogram importCascadeSize;
+    private final Counter importRebuilds;
 
     PolicyEnforcerCache(final AsyncCacheLoader<PolicyId, Entry<PolicyEnforcer>> policyEnforcerCacheLoader,
+            final AsyncCacheLoader<PolicyId, Entry<Policy>> importedPolicyCacheLoader,
             final ExecutionContextExecutor cacheDispatcher,
             final CacheConfig cacheConfig) {
         policyIdToImportingMap = new ConcurrentHashMap<>();
+        policyIdsToRebuild = ConcurrentHashMap.newKeySet();
+        pendingRebuilds = new ConcurrentHashMap<>();
+        this.cacheDispatcher = cacheDispatcher;
+        importCascadeSize = DittoMetrics.histogram(IMPORT_CASCADE_SIZE);
+        importRebuilds = DittoMetrics.counter(IMPORT_REBUILDS);
         this.delegate = CacheFactory.createCache(
                 (policyId, executor) -> policyEnforcerCacheLoader.asyncLoad(policyId, executor)
                         .whenCompleteAsync(((policyEnforcerEntry, throwable) -> policyEnforcerEntry.get()
@@ -67,41 +94,44 @@ final class PolicyEnforcerCache implements Cache<PolicyId, Entry<PolicyEnforcer>
                 "policy_enforcer_cache",
                 cacheDispatcher
         );
+        importedPolicyCache = CacheFactory.createCache(importedPolicyCacheLoader, cacheConfig,
+                "policy_import_cache", cacheDispatcher);
     }
 
     @Override
     public CompletableFuture<Optional<Entry<PolicyEnforcer>>> get(final PolicyId key) {
-        return delegate.get(key);
+        return getRebuildingImports(key, delegate::get);
     }
 
     @Override
     public CompletableFuture<Optional<Entry<PolicyEnforcer>>> get(final PolicyId key,
             final Function<Throwable, Optional<Entry<PolicyEnforcer>>> errorHandler) {
-        return delegate.get(key, errorHandler);
+        return getRebuildingImports(key, policyId -> delegate.get(policyId, errorHandler))
+                .exceptionally(errorHandler);
     }
 
     @Override
     public CompletableFuture<Optional<Entry<PolicyEnforcer>>> getIfPresent(final PolicyId key) {
-        return delegate.getIfPresent(key);
+        return getRebuildingImports(key, delegate::getIfPresent);
     }
 
     @Override
     public Optional<Entry<PolicyEnforcer>> getBlocking(final PolicyId key) {
+        if (isPendingOrMarkedForRebuild(key)) {
+            return getRebuildingImports(key, delegate::get).join();
+        }
         return delegate.getBlocking(key);
     }
 
     @Override
     public boolean invalidate(final PolicyId policyId) {
         // Invalidate the changed policy
+        forgetRebuild(policyId);
+        importedPolicyCache.invalidate(policyId);
         final boolean directlyCached = delegate.invalidate(policyId);
 
-        // Invalidate all policies that import the changed policy
-        final boolean indirectlyCachedViaImport = Optional.ofNullable(policyIdToImportingMap.remove(policyId))
-                .stream()
-                .flatMap(Collection::stream)
-                .map(delegate::invalidate)
-                .reduce((previous, next) -> previous || next)
-                .orElse(false);
+        // Mark all policies that import the changed policy for rebuild
+        final boolean indirectlyCachedViaImport = markImportingPoliciesForRebuild(policyId);
 
         return directlyCached || indirectlyCachedViaImport;
     }
@@ -111,18 +141,109 @@ final class PolicyEnforcerCache implements Cache<PolicyId, Entry<PolicyEnforcer>
             final Predicate<Entry<PolicyEnforcer>> valueCondition) {
         // Invalidate the changed policy
         final boolean directlyCached = delegate.invalidateConditionally(policyId, valueCondition);
+        if (directlyCached) {
+            forgetRebuild(policyId);
+        }
+        // a policy which is only imported has no cached enforcer, but the importing policies must not be rebuilt from
+        // its outdated version
+        importedPolicyCache.invalidate(policyId);
 
-        // Invalidate all policies that import the changed policy
-        final boolean indirectlyCachedViaImport = Optional.ofNullable(policyIdToImportingMap.remove(policyId))
-                .stream()
-                .flatMap(Collection::stream)
-                .map(p -> delegate.invalidateConditionally(p, valueCondition))
-                .reduce((previous, next) -> previous || next)
-                .orElse(false);
+        // Mark all policies that import the changed policy for rebuild
+        final boolean indirectlyCachedViaImport = markImportingPoliciesForRebuild(policyId);
 
         return directlyCached || indirectlyCachedViaImport;
     }
 
+    private void forgetRebuild(final PolicyId policyId) {
+        policyIdsToRebuild.remove(policyId);
+        pendingRebuilds.remove(policyId);
+    }
+
+    private boolean markImportingPoliciesForRebuild(final PolicyId importedPolicyId) {
+        final Set<PolicyId> cachedImportingPolicyIds = new HashSet<>();
+        policyIdToImportingMap.computeIfPresent(importedPolicyId, (id, importingPolicyIds) -> {
+            // forget importing policies which were evicted meanwhile, they are registered again when loaded
+            importingPolicyIds.removeIf(importingPolicyId -> !delegate.asMap().containsKey(importingPolicyId));
+            cachedImportingPolicyIds.addAll(importingPolicyIds);
+            return importingPolicyIds.isEmpty() ? null : importingPolicyIds;
+        });
+        if (cachedImportingPolicyIds.isEmpty()) {
+            return false;
+        }
+        policyIdsToRebuild.addAll(cachedImportingPolicyIds);
+        importCascadeSize.record((long) cachedImportingPolicyIds.size());
+        return true;
+    }
+
+    private boolean isPendingOrMarkedForRebuild(final PolicyId policyId) {
+        return pendingRebuilds.containsKey(policyId) || policyIdsToRebuild.contains(policyId);
+    }
+
+    private CompletableFuture<Optional<Entry<PolicyEnforcer>>> getRebuildingImports(final PolicyId policyId,
+            final Function<PolicyId, CompletableFuture<Optional<Entry<PolicyEnforcer>>>> lookup) {
+
+        final CompletableFuture<Optional<Entry<PolicyEnforcer>>> pendingRebuild = pendingRebuilds.get(policyId);
+        if (null != pendingRebuild) {
+            return pendingRebuild;
+        } else if (!policyIdsToRebuild.contains(policyId)) {
+            return lookup.apply(policyId);
+        }
+
+        final CompletableFuture<Optional<Entry<PolicyEnforcer>>> rebuild = new CompletableFuture<>();
+        final CompletableFuture<Optional<Entry<PolicyEnforcer>>> concurrentRebuild =
+                pendingRebuilds.putIfAbsent(policyId, rebuild);
+        if (null != concurrentRebuild) {
+            return concurrentRebuild;
+        }
+        // an imported policy changing again during the rebuild marks the policy for another rebuild
+        policyIdsToRebuild.remove(policyId);
+        delegate.getIfPresent(policyId)
+                .thenComposeAsync(cachedEntry -> cachedEntry.map(entry -> rebuildImports(policyId, entry))
+                        .orElseGet(() -> lookup.apply(policyId)), cacheDispatcher)
+                .whenComplete((result, error) -> {
+                    pendingRebuilds.remove(policyId, rebuild);
+                    if (null != error) {
+                        rebuild.completeExceptionally(error);
+                    } else {
+                        rebuild.complete(result);
+                    }
+                });
+        return rebuild;
+    }
+
+    /**
+     * Rebuilds the enforcer of the cached entry from its policy with unresolved imports and the cached imported
+     * policies. Falls back to loading the policy enforcer if the entry cannot be rebuilt.
+     */
+    private CompletionStage<Optional<Entry<PolicyEnforcer>>> rebuildImports(final PolicyId policyId,
+            final Entry<PolicyEnforcer> cachedEntry) {
+
+        final Optional<Policy> policyWithUnresolvedImports = cachedEntry.get()
+                .flatMap(PolicyEnforcer::getPolicyWithUnresolvedImports);
+        if (policyWithUnresolvedImports.isEmpty()) {
+            delegate.invalidate(policyId);
+            return delegate.get(policyId);
+        }
+        importRebuilds.increment();
+        return PolicyEnforcer.withResolvedImports(policyWithUnresolvedImports.get(), this::getImportedPolicy)
+                .thenCompose(policyEnforcer -> {
+                    final Entry<PolicyEnforcer> rebuiltEntry = Entry.of(cachedEntry.getRevision(), policyEnforcer);
+                    // only replace the entry the rebuild is based on, the policy itself might have changed meanwhile
+                    if (delegate.asMap().replace(policyId, cachedEntry, rebuiltEntry)) {
+                        return CompletableFuture.completedFuture(Optional.of(rebuiltEntry));
+                    }
+                    return delegate.get(policyId);
+                })
+                .exceptionallyCompose(error -> {
+                    delegate.invalidate(policyId);
+                    return delegate.get(policyId);
+                });
+    }
+
+    private CompletionStage<Optional<Policy>> getImportedPolicy(final PolicyId importedPolicyId) {
+        return importedPolicyCache.get(importedPolicyId).thenApply(entry -> entry.flatMap(Entry::get));
+    }
+
     @Override
     public void put(final PolicyId key, final Entry<PolicyEnforcer> value) {
         delegate.put(key, value);
@@ -22,13 +22,20 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 
+import org.eclipse.ditto.base.model.auth.AuthorizationContext;
+import org.eclipse.ditto.base.model.auth.AuthorizationSubject;
+import org.eclipse.ditto.base.model.auth.DittoAuthorizationContextType;
 import org.eclipse.ditto.internal.utils.cache.config.DefaultCacheConfig;
 import org.eclipse.ditto.internal.utils.cache.entry.Entry;
+import org.eclipse.ditto.policies.model.Permissions;
 import org.eclipse.ditto.policies.model.PoliciesModelFactory;
+import org.eclipse.ditto.policies.model.PoliciesResourceType;
 import org.eclipse.ditto.policies.model.Policy;
 import org.eclipse.ditto.policies.model.PolicyId;
+import org.eclipse.ditto.policies.model.SubjectType;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -61,9 +68,11 @@ public final class PolicyEnforcerCacheTest {
     public void getPolicyEnforcerFromCacheLoader() throws Exception {
 
         final AsyncCacheLoader<PolicyId, Entry<PolicyEnforcer>> cacheLoader = mock(AsyncCacheLoader.class);
+        final AsyncCacheLoader<PolicyId, Entry<Policy>> importedPolicyCacheLoader = mock(AsyncCacheLoader.class);
         final ExecutionContextExecutor executor = actorSystem.dispatcher();
         final var underTest = new PolicyEnforcerCache(
                 cacheLoader,
+                importedPolicyCacheLoader,
                 executor,
                 DefaultCacheConfig.of(actorSystem.settings().config(), "ditto.policies-enforcer-cache")
         );
@@ -78,9 +87,11 @@ public final class PolicyEnforcerCacheTest {
     @Test
     public void policyTagInvalidatesCacheOfPolicyAndPoliciesWhichImportedThePolicy() throws Exception {
         final AsyncCacheLoader<PolicyId, Entry<PolicyEnforcer>> cacheLoader = mock(AsyncCacheLoader.class);
+        final AsyncCacheLoader<PolicyId, Entry<Policy>> importedPolicyCacheLoader = mock(AsyncCacheLoader.class);
         final ExecutionContextExecutor executor = actorSystem.dispatcher();
         final var underTest = new PolicyEnforcerCache(
                 cacheLoader,
+                importedPolicyCacheLoader,
                 executor,
                 DefaultCacheConfig.of(actorSystem.settings().config(), "ditto.policies-enforcer-cache")
         );
@@ -125,6 +136,133 @@ public final class PolicyEnforcerCacheTest {
 
     }
 
+    @Test
+    public void policyTagRebuildsEnforcersOfImportingPoliciesWithImportedPolicyLoadedOnce() throws Exception {
+        final AsyncCacheLoader<PolicyId, Entry<PolicyEnforcer>> cacheLoader = mock(AsyncCacheLoader.class);
+        final AsyncCacheLoader<PolicyId, Entry<Policy>> importedPolicyCacheLoader = mock(AsyncCacheLoader.class);
+        final ExecutionContextExecutor executor = actorSystem.dispatcher();
+        final var underTest = new PolicyEnforcerCache(
+                cacheLoader,
+                importedPolicyCacheLoader,
+                executor,
+                DefaultCacheConfig.of(actorSystem.settings().config(), "ditto.policies-enforcer-cache")
+        );
+
+        final var importedPolicyId = PolicyId.generateRandom();
+        final var importingPolicyId = PolicyId.generateRandom();
+        final var otherImportingPolicyId = PolicyId.generateRandom();
+        final Policy importedPolicy = templatePolicy(importedPolicyId, "READ");
+        final Policy changedImportedPolicy = templatePolicy(importedPolicyId, "WRITE");
+        final Policy importingPolicy = Policy.newBuilder(importingPolicyId)
+                .setPolicyImport(PoliciesModelFactory.newPolicyImport(importedPolicyId))
+                .build();
+        final Policy otherImportingPolicy = Policy.newBuilder(otherImportingPolicyId)
+                .setPolicyImport(PoliciesModelFactory.newPolicyImport(importedPolicyId))
+                .build();
+
+        new TestKit(actorSystem) {{
+            verifyLoadedFromCacheLoader(importingPolicy, importedPolicy, underTest, cacheLoader);
+            verifyLoadedFromCacheLoader(otherImportingPolicy, importedPolicy, underTest, cacheLoader);
+            reset(cacheLoader);
+            provideImportedPolicy(importedPolicyCacheLoader, changedImportedPolicy, 2L);
+
+            assertThat(underTest.invalidate(importedPolicyId)).isTrue();
+
+            assertThat(hasPermissionOnThing(underTest, importingPolicyId, "WRITE")).isTrue();
+            assertThat(hasPermissionOnThing(underTest, importingPolicyId, "READ")).isFalse();
+            assertThat(hasPermissionOnThing(underTest, otherImportingPolicyId, "WRITE")).isTrue();
+            verify(cacheLoader, never()).asyncLoad(any(), any());
+            verify(importedPolicyCacheLoader).asyncLoad(eq(importedPolicyId), any());
+        }};
+    }
+
+    @Test
+    public void conditionalInvalidationOfOnlyImportedPolicyRebuildsImportingPoliciesWithChangedImportedPolicy()
+            throws Exception {
+        final AsyncCacheLoader<PolicyId, Entry<PolicyEnforcer>> cacheLoader = mock(AsyncCacheLoader.class);
+        final AsyncCacheLoader<PolicyId, Entry<Policy>> importedPolicyCacheLoader = mock(AsyncCacheLoader.class);
+        final ExecutionContextExecutor executor = actorSystem.dispatcher();
+        final var underTest = new PolicyEnforcerCache(
+                cacheLoader,
+                importedPolicyCacheLoader,
+                executor,
+                DefaultCacheConfig.of(actorSystem.settings().config(), "ditto.policies-enforcer-cache")
+        );
+
+        final var importedPolicyId = PolicyId.generateRandom();
+        final var importingPolicyId = PolicyId.generateRandom();
+        final Policy importedPolicy = templatePolicy(importedPolicyId, "READ");
+        final Policy changedImportedPolicy = templatePolicy(importedPolicyId, "WRITE");
+        final Policy importingPolicy = Policy.newBuilder(importingPolicyId)
+                .setPolicyImport(PoliciesModelFactory.newPolicyImport(importedPolicyId))
+                .build();
+
+        new TestKit(actorSystem) {{
+            // the imported policy is never accessed directly, i.e. only cached as imported policy by a rebuild
+            verifyLoadedFromCacheLoader(importingPolicy, importedPolicy, underTest, cacheLoader);
+            provideImportedPolicy(importedPolicyCacheLoader, importedPolicy, 1L);
+            assertThat(underTest.invalidateConditionally(importedPolicyId, entry -> true)).isTrue();
+            assertThat(hasPermissionOnThing(underTest, importingPolicyId, "READ")).isTrue();
+            reset(cacheLoader);
+
+            provideImportedPolicy(importedPolicyCacheLoader, changedImportedPolicy, 2L);
+            assertThat(underTest.invalidateConditionally(importedPolicyId,
+                    entry -> !entry.exists() || entry.getRevision() < 2L)).isTrue();
+
+            assertThat(hasPermissionOnThing(underTest, importingPolicyId, "WRITE")).isTrue();
+            assertThat(hasPermissionOnThing(underTest, importingPolicyId, "READ")).isFalse();
+            verify(cacheLoader, never()).asyncLoad(any(), any());
+        }};
+    }
+
+    private static Policy templatePolicy(final PolicyId policyId, final String permission) {
+        return Policy.newBuilder(policyId)
+                .forLabel("DEFAULT")
+                .setSubject("test:user", SubjectType.GENERATED)
+                .setGrantedPermissions(PoliciesResourceType.thingResource("/"), permission)
+                .build();
+    }
+
+    private static void provideImportedPolicy(
+            final AsyncCacheLoader<PolicyId, Entry<Policy>> importedPolicyCacheLoader,
+            final Policy importedPolicy,
+            final long revision) throws Exception {
+
+        final CompletableFuture importedPolicyResponse =
+                CompletableFuture.completedFuture(Entry.of(revision, importedPolicy));
+        when(importedPolicyCacheLoader.asyncLoad(eq(importedPolicy.getEntityId().orElseThrow()), any()))
+                .thenReturn(importedPolicyResponse);
+    }
+
+    private static boolean hasPermissionOnThing(final PolicyEnforcerCache cache, final PolicyId policyId,
+            final String permission) {
+
+        final PolicyEnforcer policyEnforcer = cache.get(policyId).join().flatMap(Entry::get).orElseThrow();
+        return policyEnforcer.getEnforcer()
+                .hasUnrestrictedPermissions(PoliciesResourceType.thingResource("/"),
+                        AuthorizationContext.newInstance(DittoAuthorizationContextType.UNSPECIFIED,
+                                AuthorizationSubject.newInstance("test:user")),
+                        Permissions.newInstance(permission));
+    }
+
+    private void verifyLoadedFromCacheLoader(final Policy policy,
+            final Policy importedPolicy,
+            final PolicyEnforcerCache cache,
+            final AsyncCacheLoader<PolicyId, Entry<PolicyEnforcer>> cacheLoader) throws Exception {
+        final PolicyEnforcer enforcer = PolicyEnforcer.withResolvedImports(policy,
+                        importedPolicyId -> CompletableFuture.completedFuture(Optional.of(importedPolicy)))
+                .toCompletableFuture()
+                .join();
+        final PolicyId policyId = policy.getEntityId().orElseThrow();
+
+        final CompletableFuture enforcerResponseFromCache =
+                CompletableFuture.completedFuture(Entry.of(1L, enforcer));
+        when(cacheLoader.asyncLoad(eq(policyId), any())).thenReturn(enforcerResponseFromCache);
+
+        assertThat(cache.get(policyId).join().flatMap(Entry::get)).contains(enforcer);
+        verify(cacheLoader).asyncLoad(eq(policyId), any());
+    }
+
     private void verifyLoadedFromCacheLoader(final Policy policy,
             final PolicyEnforcerCache cache,
             final AsyncCacheLoader<PolicyId, Entry<PolicyEnforcer>> cacheLoader) throws Exception {
@@ -16,6 +16,7 @@ import javax.annotation.concurrent.Immutable;
 
 import org.eclipse.ditto.policies.model.PolicyEntry;
 import org.eclipse.ditto.policies.model.enforcers.tree.TreeBasedPolicyEnforcer;
+import org.eclipse.ditto.policies.model.enforcers.trie.PrecompiledPolicyEnforcer;
 import org.eclipse.ditto.policies.model.enforcers.trie.TrieBasedPolicyEnforcer;
 
 /**
@@ -37,7 +38,7 @@ public final class PolicyEnforcers {
      * @throws NullPointerException if {@code policyEntries} is {@code null}.
      */
     public static Enforcer defaultEvaluator(final Iterable<PolicyEntry> policyEntries) {
-        return throughputOptimizedEvaluator(policyEntries);
+        return precompiledEvaluator(policyEntries);
     }
 
     /**
@@ -55,6 +56,23 @@ public final class PolicyEnforcers {
         return TrieBasedPolicyEnforcer.newInstance(policyEntries);
     }
 
+    /**
+     * Returns an Enforcer with the same decisions as {@link #throughputOptimizedEvaluator(Iterable)} which compiles
+     * the Policy into flat arrays indexed by subject and permission once, so that the cost of permission checks and of
+     * building JsonViews does not grow with the number of subjects and entries of the Policy.
+     * <p>
+     * Building the Enforcer takes longer than building the other Enforcers, it is suited for large Policies which are
+     * evaluated often.
+     *
+     * @param policyEntries the Policy entries to initialize the evaluator with.
+     * @return the initialized precompiled Enforcer.
+     * @throws NullPointerException if {@code policyEntries} is {@code null}.
+     * @since 3.8.0
+     */
+    public static Enforcer precompiledEvaluator(final Iterable<PolicyEntry> policyEntries) {
+        return PrecompiledPolicyEnforcer.newInstance(policyEntries);
+    }
+
     /**
      * Returns an Enforcer which requires little memory and delivers good performance for most of the Policies.
      *
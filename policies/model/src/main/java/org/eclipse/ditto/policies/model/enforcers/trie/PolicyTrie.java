@@ -218,6 +218,15 @@ final class PolicyTrie {
         return new PolicyTrie(newGrantRevokeMap, newChildren);
     }
 
+    /**
+     * Returns the children of this node by the keys of their edges.
+     *
+     * @return the unmodifiable map of children.
+     */
+    Map<JsonKey, PolicyTrie> getChildren() {
+        return Collections.unmodifiableMap(children);
+    }
+
     /**
      * Returns whether a child exists for the given key.
      *
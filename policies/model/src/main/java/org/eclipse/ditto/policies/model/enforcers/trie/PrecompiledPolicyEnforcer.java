@@ -0,0 +1,669 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.policies.model.enforcers.trie;
+
+import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.base.model.auth.AuthorizationContext;
+import org.eclipse.ditto.base.model.auth.AuthorizationSubject;
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonArrayBuilder;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonKey;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.json.JsonValueContainer;
+import org.eclipse.ditto.policies.model.Permissions;
+import org.eclipse.ditto.policies.model.PolicyEntry;
+import org.eclipse.ditto.policies.model.ResourceKey;
+import org.eclipse.ditto.policies.model.enforcers.DefaultEffectedSubjects;
+import org.eclipse.ditto.policies.model.enforcers.EffectedSubjects;
+import org.eclipse.ditto.policies.model.enforcers.Enforcer;
+
+/**
+ * Enforcer with the semantics of {@link TrieBasedPolicyEnforcer} which compiles the inherited, bottom-up grant and
+ * bottom-up revoke tries of a policy into one immutable trie of flat arrays.
+ * <p>
+ * Subject IDs and permissions of the policy are interned to dense indexes. Each trie node stores, for each of the 3
+ * tries, the indexes of the subjects relevant at the node in ascending order and their grant and revoke weights in
+ * arrays of {@code subjects x permissions}; the permissions with a grant entry at the node are kept as bitmask.
+ * A permission check therefore costs a binary search per authorization subject and checked permission, no matter how
+ * many entries and subjects the policy has.
+ * </p>
+ * <p>
+ * For building JSON views, the decisions of all trie nodes are precomputed once per set of policy subjects of the
+ * authorization context and set of permissions and kept in a bounded cache of the enforcer. As an enforcer is
+ * built for one revision of a policy, the cache lives exactly as long as the policy revision is cached. With the
+ * precomputed decisions, subtrees of the JSON which are entirely readable are taken over as they are and subtrees
+ * which are entirely unreadable are skipped without being traversed.
+ * </p>
+ *
+ * @since 3.8.0
+ */
+@ThreadSafe
+public final class PrecompiledPolicyEnforcer implements Enforcer {
+
+    private static final int NO_WEIGHT = Integer.MIN_VALUE;
+    private static final int MAX_CACHED_VIEW_DECISIONS = 64;
+
+    private final Map<String, Integer> subjectIndexes;
+    private final AuthorizationSubject[] authorizationSubjects;
+    private final Map<String, Integer> permissionIndexes;
+    private final int permissionCount;
+    private final Node root;
+    private final int nodeCount;
+    private final Map<ViewDecisionsKey, ViewDecisions> viewDecisionsCache;
+
+    private PrecompiledPolicyEnforcer(final Iterable<PolicyEntry> policyEntries) {
+        final PolicyTrie inheritedTrie = PolicyTrie.fromPolicy(policyEntries).getTransitiveClosure();
+        final Compiler compiler = new Compiler(inheritedTrie);
+        root = compiler.compile(inheritedTrie, inheritedTrie.getBottomUpGrantTrie(),
+                inheritedTrie.getBottomUpRevokeTrie());
+        subjectIndexes = compiler.subjectIndexes;
+        authorizationSubjects = compiler.authorizationSubjects;
+        permissionIndexes = compiler.permissionIndexes;
+        permissionCount = compiler.permissionIndexes.size();
+        nodeCount = compiler.nodeCount;
+        viewDecisionsCache = new LinkedHashMap<ViewDecisionsKey, ViewDecisions>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<ViewDecisionsKey, ViewDecisions> eldest) {
+                return size() > MAX_CACHED_VIEW_DECISIONS;
+            }
+        };
+    }
+
+    /**
+     * Compiles the given policy entries into a precompiled policy enforcer.
+     *
+     * @param policyEntries the policy entries to interpret.
+     * @return the policy enforcer.
+     * @throws NullPointerException if {@code policyEntries} is {@code null}.
+     */
+    public static PrecompiledPolicyEnforcer newInstance(final Iterable<PolicyEntry> policyEntries) {
+        return new PrecompiledPolicyEnforcer(checkNotNull(policyEntries, "policy entries to interpret"));
+    }
+
+    @Override
+    public boolean hasUnrestrictedPermissions(final ResourceKey resourceKey,
+            final AuthorizationContext authorizationContext, final Permissions permissions) {
+
+        checkResourceKey(resourceKey);
+        checkPermissions(permissions);
+        return hasPermissions(seekWithFallback(resourceKey, false), getSubjectIndexes(authorizationContext),
+                getPermissionIndexes(permissions));
+    }
+
+    @Override
+    public boolean hasPartialPermissions(final ResourceKey resourceKey, final AuthorizationContext authorizationContext,
+            final Permissions permissions) {
+
+        checkResourceKey(resourceKey);
+        checkPermissions(permissions);
+        return hasPermissions(seekWithFallback(resourceKey, true), getSubjectIndexes(authorizationContext),
+                getPermissionIndexes(permissions));
+    }
+
+    @Override
+    public EffectedSubjects getSubjectsWithPermission(final ResourceKey resourceKey, final Permissions permissions) {
+        checkResourceKey(resourceKey);
+        checkPermissions(permissions);
+        final CompiledIndex index = seekToLeastAncestor(resourceKey).inherited;
+        final int[] permissionIdx = getPermissionIndexes(permissions);
+        return DefaultEffectedSubjects.of(getGrantedSubjects(index, permissionIdx),
+                getRevokedSubjects(index, permissionIdx));
+    }
+
+    @Override
+    public Set<AuthorizationSubject> getSubjectsWithPartialPermission(final ResourceKey resourceKey,
+            final Permissions permissions) {
+
+        checkResourceKey(resourceKey);
+        checkPermissions(permissions);
+        return getGrantedSubjects(seekWithFallback(resourceKey, true), getPermissionIndexes(permissions));
+    }
+
+    @Override
+    public Set<AuthorizationSubject> getSubjectsWithUnrestrictedPermission(final ResourceKey resourceKey,
+            final Permissions permissions) {
+
+        checkResourceKey(resourceKey);
+        checkPermissions(permissions);
+        final CompiledIndex index = seekWithFallback(resourceKey, false);
+        final int[] permissionIdx = getPermissionIndexes(permissions);
+        final Set<AuthorizationSubject> grantedSubjects = getGrantedSubjects(index, permissionIdx);
+        grantedSubjects.removeAll(getRevokedSubjects(index, permissionIdx));
+        return grantedSubjects;
+    }
+
+    @Override
+    public JsonObject buildJsonView(final ResourceKey resourceKey,
+            final Iterable<JsonField> jsonFields,
+            final AuthorizationContext authorizationContext,
+            final Permissions permissions) {
+
+        checkResourceKey(resourceKey);
+        checkNotNull(jsonFields, "JSON fields");
+        checkPermissions(permissions);
+
+        if (root.getChild(JsonKey.of(resourceKey.getResourceType())) != null) {
+            final ViewDecisions viewDecisions = getViewDecisions(getSubjectIndexes(authorizationContext),
+                    getPermissionIndexes(permissions));
+            return viewDecisions.buildRootView(jsonFields, seekToLeastAncestor(resourceKey));
+        } else {
+            return JsonFactory.newObject();
+        }
+    }
+
+    /**
+     * Returns the cached decisions of all trie nodes for the given subjects and permissions or computes them.
+     * Subjects and permissions are normalized so that all authorization contexts with the same policy subjects share
+     * the decisions.
+     */
+    private ViewDecisions getViewDecisions(final int[] subjectIdx, final int[] permissionIdx) {
+        final ViewDecisionsKey key = new ViewDecisionsKey(normalize(subjectIdx), normalize(permissionIdx));
+        ViewDecisions result;
+        synchronized (viewDecisionsCache) {
+            result = viewDecisionsCache.get(key);
+        }
+        if (null == result) {
+            // computed outside the lock; concurrent computations of the same key yield equal decisions
+            result = new ViewDecisions(key.subjectIdx, key.permissionIdx);
+            synchronized (viewDecisionsCache) {
+                viewDecisionsCache.put(key, result);
+            }
+        }
+        return result;
+    }
+
+    private static int[] normalize(final int[] indexes) {
+        return Arrays.stream(indexes).sorted().distinct().toArray();
+    }
+
+    private static void checkResourceKey(final ResourceKey resourceKey) {
+        checkNotNull(resourceKey, "resource key");
+    }
+
+    private static void checkPermissions(final Permissions permissions) {
+        checkNotNull(permissions, "permissions to check");
+    }
+
+    private int[] getSubjectIndexes(final AuthorizationContext authorizationContext) {
+        final List<String> subjectIds = authorizationContext.getAuthorizationSubjectIds();
+        final int[] result = new int[subjectIds.size()];
+        int size = 0;
+        for (final String subjectId : subjectIds) {
+            final Integer subjectIndex = subjectIndexes.get(subjectId);
+            if (null != subjectIndex) {
+                result[size++] = subjectIndex;
+            }
+        }
+        return size == result.length ? result : Arrays.copyOf(result, size);
+    }
+
+    private int[] getPermissionIndexes(final Permissions permissions) {
+        final int[] result = new int[permissions.size()];
+        int i = 0;
+        for (final String permission : permissions) {
+            // permissions unknown to the policy are neither granted nor revoked anywhere
+            result[i++] = permissionIndexes.getOrDefault(permission, -1);
+        }
+        return result;
+    }
+
+    private Node seekToLeastAncestor(final ResourceKey resourceKey) {
+        final Iterator<JsonKey> path = PolicyTrie.getJsonKeyIterator(resourceKey);
+        Node node = root;
+        while (path.hasNext()) {
+            final Node child = node.getChild(path.next());
+            if (null == child) {
+                return node;
+            }
+            node = child;
+        }
+        return node;
+    }
+
+    /**
+     * Returns the bottom-up grant or revoke index of the node matching the resource key exactly if it exists,
+     * otherwise the inherited index of the node matching the resource key the best.
+     */
+    private CompiledIndex seekWithFallback(final ResourceKey resourceKey, final boolean bottomUpGrant) {
+        final Iterator<JsonKey> path = PolicyTrie.getJsonKeyIterator(resourceKey);
+        Node node = root;
+        while (path.hasNext()) {
+            final Node child = node.getChild(path.next());
+            if (null == child) {
+                return node.inherited;
+            }
+            node = child;
+        }
+        return bottomUpGrant ? node.bottomUpGrant : node.bottomUpRevoke;
+    }
+
+    /**
+     * Checks whether each of the given permissions is granted to some of the given subjects such that none of the
+     * permissions is revoked from any of the subjects with the same or a greater weight.
+     */
+    private boolean hasPermissions(final CompiledIndex index, final int[] subjectIdx, final int[] permissionIdx) {
+        if (0 == permissionIdx.length) {
+            return false;
+        }
+        int grantWeight = NO_WEIGHT;
+        int revokeWeight = NO_WEIGHT;
+        for (final int permission : permissionIdx) {
+            if (permission < 0) {
+                return false;
+            }
+            int permissionGrantWeight = NO_WEIGHT;
+            for (final int subject : subjectIdx) {
+                final int row = Arrays.binarySearch(index.subjects, subject);
+                if (row >= 0) {
+                    final int cell = row * permissionCount + permission;
+                    permissionGrantWeight = Math.max(permissionGrantWeight, index.grantWeights[cell]);
+                    revokeWeight = Math.max(revokeWeight, index.revokeWeights[cell]);
+                }
+            }
+            if (NO_WEIGHT == permissionGrantWeight) {
+                return false;
+            }
+            grantWeight = Math.max(grantWeight, permissionGrantWeight);
+        }
+        return NO_WEIGHT == revokeWeight || revokeWeight < grantWeight;
+    }
+
+    /**
+     * Returns the subjects to which all given permissions are granted; given permissions without any grant entry at
+     * the node are disregarded.
+     */
+    private Set<AuthorizationSubject> getGrantedSubjects(final CompiledIndex index, final int[] permissionIdx) {
+        final long[] relevantPermissions = new long[index.grantedPermissions.length];
+        boolean anyRelevantPermission = false;
+        for (final int permission : permissionIdx) {
+            if (permission >= 0 && index.hasGrantEntry(permission)) {
+                relevantPermissions[permission >>> 6] |= 1L << permission;
+                anyRelevantPermission = true;
+            }
+        }
+        final Set<AuthorizationSubject> result = new HashSet<>();
+        if (anyRelevantPermission) {
+            for (int row = 0; row < index.subjects.length; row++) {
+                if (isGrantedAll(index, row, relevantPermissions)) {
+                    result.add(authorizationSubjects[index.subjects[row]]);
+                }
+            }
+        }
+        return result;
+    }
+
+    private boolean isGrantedAll(final CompiledIndex index, final int row, final long[] relevantPermissions) {
+        for (int permission = 0; permission < permissionCount; permission++) {
+            if ((relevantPermissions[permission >>> 6] & (1L << permission)) != 0 &&
+                    NO_WEIGHT == index.grantWeights[row * permissionCount + permission]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the subjects from which any of the given permissions is revoked.
+     */
+    private Set<AuthorizationSubject> getRevokedSubjects(final CompiledIndex index, final int[] permissionIdx) {
+        final Set<AuthorizationSubject> result = new HashSet<>();
+        for (int row = 0; row < index.subjects.length; row++) {
+            for (final int permission : permissionIdx) {
+                if (permission >= 0 && NO_WEIGHT != index.revokeWeights[row * permissionCount + permission]) {
+                    result.add(authorizationSubjects[index.subjects[row]]);
+                    break;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Key of the view decisions: the sorted and distinct indexes of policy subjects and permissions.
+     */
+    @Immutable
+    private static final class ViewDecisionsKey {
+
+        private final int[] subjectIdx;
+        private final int[] permissionIdx;
+        private final int hashCode;
+
+        private ViewDecisionsKey(final int[] subjectIdx, final int[] permissionIdx) {
+            this.subjectIdx = subjectIdx;
+            this.permissionIdx = permissionIdx;
+            hashCode = 31 * Arrays.hashCode(subjectIdx) + Arrays.hashCode(permissionIdx);
+        }
+
+        @Override
+        public boolean equals(@Nullable final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final ViewDecisionsKey that = (ViewDecisionsKey) o;
+            return Arrays.equals(subjectIdx, that.subjectIdx) && Arrays.equals(permissionIdx, that.permissionIdx);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+    }
+
+    /**
+     * The precomputed decisions of all trie nodes for one set of subjects and permissions: whether the permissions
+     * are granted at the node and whether they are granted respectively not granted at the node and all of its
+     * descendants. Builds JSON views as projection of the decisions.
+     */
+    @Immutable
+    private final class ViewDecisions {
+
+        private static final byte GRANTED = 1;
+        private static final byte SUBTREE_GRANTED = 2;
+        private static final byte SUBTREE_NOT_GRANTED = 4;
+
+        private final byte[] decisions;
+
+        private ViewDecisions(final int[] subjectIdx, final int[] permissionIdx) {
+            decisions = new byte[nodeCount];
+            decide(root, subjectIdx, permissionIdx);
+        }
+
+        private byte decide(final Node node, final int[] subjectIdx, final int[] permissionIdx) {
+            final boolean granted = hasPermissions(node.inherited, subjectIdx, permissionIdx);
+            boolean subtreeGranted = granted;
+            boolean subtreeNotGranted = !granted;
+            for (final Node child : node.children.values()) {
+                final byte childDecision = decide(child, subjectIdx, permissionIdx);
+                subtreeGranted &= (childDecision & SUBTREE_GRANTED) != 0;
+                subtreeNotGranted &= (childDecision & SUBTREE_NOT_GRANTED) != 0;
+            }
+            final byte decision = (byte) ((granted ? GRANTED : 0) |
+                    (subtreeGranted ? SUBTREE_GRANTED : 0) |
+                    (subtreeNotGranted ? SUBTREE_NOT_GRANTED : 0));
+            decisions[node.id] = decision;
+            return decision;
+        }
+
+        private JsonObject buildRootView(final Iterable<JsonField> jsonFields, final Node node) {
+            if (jsonFields instanceof JsonObject && ((JsonObject) jsonFields).isNull()) {
+                return (JsonObject) jsonFields;
+            } else if (isSubtreeGranted(node)) {
+                return jsonFields instanceof JsonObject ? (JsonObject) jsonFields : JsonFactory.newObject(jsonFields);
+            } else if (isSubtreeNotGranted(node)) {
+                return JsonFactory.newObject();
+            }
+            return buildJsonView(jsonFields, node);
+        }
+
+        private JsonObject buildJsonView(final Iterable<JsonField> jsonFields, final Node node) {
+            if (jsonFields instanceof JsonObject && ((JsonObject) jsonFields).isNull()) {
+                return (JsonObject) jsonFields;
+            }
+
+            final JsonObjectBuilder outputObjectBuilder = JsonFactory.newObjectBuilder();
+            for (final JsonField field : jsonFields) {
+                @Nullable final Node child = node.getChild(field.getKey());
+                // without child node, the decision of the node applies to the whole value
+                final JsonValue jsonView = null != child
+                        ? getViewForChildOrNull(field.getValue(), child)
+                        : isGranted(node) ? field.getValue() : null;
+                if (null != jsonView) {
+                    outputObjectBuilder.set(field.getKey(), jsonView);
+                }
+            }
+            return outputObjectBuilder.build();
+        }
+
+        @Nullable
+        private JsonValue getViewForChildOrNull(final JsonValue jsonValue, final Node child) {
+            if (isSubtreeGranted(child)) {
+                return jsonValue;
+            } else if (isSubtreeNotGranted(child)) {
+                return null;
+            }
+            return getViewForJsonValueOrNull(jsonValue, child);
+        }
+
+        @Nullable
+        private JsonValue getViewForJsonValueOrNull(final JsonValue jsonValue, final Node node) {
+            final JsonValue result;
+            if (jsonValue.isObject()) {
+                result = filterCandidate(buildJsonView(jsonValue.asObject(), node), node);
+            } else if (jsonValue.isArray()) {
+                final JsonArrayBuilder arrayBuilder = JsonFactory.newArrayBuilder();
+                for (final JsonValue value : jsonValue.asArray()) {
+                    final JsonValue valueView = getViewForJsonValueOrNull(value, node);
+                    if (null != valueView) {
+                        arrayBuilder.add(valueView);
+                    }
+                }
+                final JsonArray candidate = arrayBuilder.build();
+                result = filterCandidate(candidate, node);
+            } else if (isGranted(node)) {
+                result = jsonValue;
+            } else {
+                result = null;
+            }
+            return result;
+        }
+
+        @Nullable
+        private <T extends JsonValue & JsonValueContainer<?>> T filterCandidate(final T candidate, final Node node) {
+            if (!candidate.isEmpty() || isGranted(node)) {
+                return candidate;
+            }
+            return null;
+        }
+
+        private boolean isGranted(final Node node) {
+            return (decisions[node.id] & GRANTED) != 0;
+        }
+
+        private boolean isSubtreeGranted(final Node node) {
+            return (decisions[node.id] & SUBTREE_GRANTED) != 0;
+        }
+
+        private boolean isSubtreeNotGranted(final Node node) {
+            return (decisions[node.id] & SUBTREE_NOT_GRANTED) != 0;
+        }
+
+    }
+
+    /**
+     * Node of the compiled trie holding the compiled grant-revoke-indexes of all 3 tries at the node's resource.
+     */
+    @Immutable
+    private static final class Node {
+
+        private final int id;
+        private final Map<JsonKey, Node> children;
+        private final CompiledIndex inherited;
+        private final CompiledIndex bottomUpGrant;
+        private final CompiledIndex bottomUpRevoke;
+
+        private Node(final int id, final Map<JsonKey, Node> children, final CompiledIndex inherited,
+                final CompiledIndex bottomUpGrant, final CompiledIndex bottomUpRevoke) {
+            this.id = id;
+            this.children = children;
+            this.inherited = inherited;
+            this.bottomUpGrant = bottomUpGrant;
+            this.bottomUpRevoke = bottomUpRevoke;
+        }
+
+        @Nullable
+        private Node getChild(final JsonKey key) {
+            return children.get(key);
+        }
+
+    }
+
+    /**
+     * Compiled {@link GrantRevokeIndex}: the relevant subject indexes in ascending order, their grant and revoke
+     * weights per permission and the bitmask of permissions which have a grant entry.
+     */
+    @Immutable
+    private static final class CompiledIndex {
+
+        private final int[] subjects;
+        private final int[] grantWeights;
+        private final int[] revokeWeights;
+        private final long[] grantedPermissions;
+
+        private CompiledIndex(final int[] subjects, final int[] grantWeights, final int[] revokeWeights,
+                final long[] grantedPermissions) {
+            this.subjects = subjects;
+            this.grantWeights = grantWeights;
+            this.revokeWeights = revokeWeights;
+            this.grantedPermissions = grantedPermissions;
+        }
+
+        private boolean hasGrantEntry(final int permission) {
+            return (grantedPermissions[permission >>> 6] & (1L << permission)) != 0;
+        }
+
+    }
+
+    /**
+     * Interns subject IDs and permissions of a policy trie and compiles its nodes.
+     */
+    private static final class Compiler {
+
+        private final Map<String, Integer> subjectIndexes;
+        private final AuthorizationSubject[] authorizationSubjects;
+        private final Map<String, Integer> permissionIndexes;
+        private int nodeCount;
+
+        private Compiler(final PolicyTrie inheritedTrie) {
+            final Set<String> subjectIds = new TreeSet<>();
+            final Set<String> permissions = new TreeSet<>();
+            collectSubjectIdsAndPermissions(inheritedTrie, subjectIds, permissions);
+            subjectIndexes = intern(subjectIds);
+            authorizationSubjects = subjectIds.stream()
+                    .map(AuthorizationSubject::newInstance)
+                    .toArray(AuthorizationSubject[]::new);
+            permissionIndexes = intern(permissions);
+            nodeCount = 0;
+        }
+
+        private static void collectSubjectIdsAndPermissions(final PolicyTrie policyTrie, final Set<String> subjectIds,
+                final Set<String> permissions) {
+
+            final GrantRevokeIndex grantRevokeIndex = policyTrie.getGrantRevokeIndex();
+            collectSubjectIdsAndPermissions(grantRevokeIndex.getGranted(), subjectIds, permissions);
+            collectSubjectIdsAndPermissions(grantRevokeIndex.getRevoked(), subjectIds, permissions);
+            policyTrie.getChildren()
+                    .values()
+                    .forEach(child -> collectSubjectIdsAndPermissions(child, subjectIds, permissions));
+        }
+
+        private static void collectSubjectIdsAndPermissions(final PermissionSubjectsMap permissionSubjectsMap,
+                final Set<String> subjectIds, final Set<String> permissions) {
+
+            permissionSubjectsMap.forEach((permission, subjectWeights) -> {
+                permissions.add(permission);
+                subjectIds.addAll(subjectWeights.keySet());
+            });
+        }
+
+        private static Map<String, Integer> intern(final Set<String> values) {
+            final Map<String, Integer> result = new HashMap<>();
+            for (final String value : values) {
+                result.put(value, result.size());
+            }
+            return Collections.unmodifiableMap(result);
+        }
+
+        private Node compile(final PolicyTrie inherited, final PolicyTrie bottomUpGrant,
+                final PolicyTrie bottomUpRevoke) {
+
+            final int id = nodeCount++;
+            final Map<JsonKey, PolicyTrie> bottomUpGrantChildren = bottomUpGrant.getChildren();
+            final Map<JsonKey, PolicyTrie> bottomUpRevokeChildren = bottomUpRevoke.getChildren();
+            final Map<JsonKey, Node> children = new HashMap<>();
+            inherited.getChildren().forEach((key, child) -> children.put(key,
+                    compile(child, bottomUpGrantChildren.get(key), bottomUpRevokeChildren.get(key))));
+
+            return new Node(id, children.isEmpty() ? Collections.emptyMap() : children,
+                    compile(inherited.getGrantRevokeIndex()),
+                    compile(bottomUpGrant.getGrantRevokeIndex()),
+                    compile(bottomUpRevoke.getGrantRevokeIndex()));
+        }
+
+        private CompiledIndex compile(final GrantRevokeIndex grantRevokeIndex) {
+            final PermissionSubjectsMap granted = grantRevokeIndex.getGranted();
+            final PermissionSubjectsMap revoked = grantRevokeIndex.getRevoked();
+
+            final Set<Integer> relevantSubjects = new TreeSet<>();
+            granted.values().forEach(subjectWeights -> subjectWeights.keySet()
+                    .forEach(subjectId -> relevantSubjects.add(subjectIndexes.get(subjectId))));
+            revoked.values().forEach(subjectWeights -> subjectWeights.keySet()
+                    .forEach(subjectId -> relevantSubjects.add(subjectIndexes.get(subjectId))));
+            final int[] subjects = relevantSubjects.stream().mapToInt(Integer::intValue).toArray();
+
+            final int permissionCount = permissionIndexes.size();
+            final int[] grantWeights = newWeights(subjects.length * permissionCount);
+            final int[] revokeWeights = newWeights(subjects.length * permissionCount);
+            final long[] grantedPermissions = new long[(permissionCount + 63) >>> 6];
+            granted.forEach((permission, subjectWeights) -> {
+                final int permissionIndex = permissionIndexes.get(permission);
+                grantedPermissions[permissionIndex >>> 6] |= 1L << permissionIndex;
+                putWeights(subjectWeights, subjects, permissionIndex, permissionCount, grantWeights);
+            });
+            revoked.forEach((permission, subjectWeights) -> putWeights(subjectWeights, subjects,
+                    permissionIndexes.get(permission), permissionCount, revokeWeights));
+
+            return new CompiledIndex(subjects, grantWeights, revokeWeights, grantedPermissions);
+        }
+
+        private static int[] newWeights(final int size) {
+            final int[] weights = new int[size];
+            Arrays.fill(weights, NO_WEIGHT);
+            return weights;
+        }
+
+        private void putWeights(final Map<String, Integer> subjectWeights, final int[] subjects,
+                final int permissionIndex, final int permissionCount, final int[] weights) {
+
+            subjectWeights.forEach((subjectId, weight) -> {
+                final int row = Arrays.binarySearch(subjects, subjectIndexes.get(subjectId));
+                weights[row * permissionCount + permissionIndex] = weight;
+            });
+        }
+
+    }
+
+}
@@ -0,0 +1,261 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.policies.model.enforcers.trie;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.assertj.core.api.SoftAssertions;
+import org.eclipse.ditto.base.model.auth.AuthorizationContext;
+import org.eclipse.ditto.base.model.auth.AuthorizationSubject;
+import org.eclipse.ditto.base.model.auth.DittoAuthorizationContextType;
+import org.eclipse.ditto.json.JsonArrayBuilder;
+import org.eclipse.ditto.json.JsonFactory;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonObjectBuilder;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.policies.model.Permissions;
+import org.eclipse.ditto.policies.model.PoliciesResourceType;
+import org.eclipse.ditto.policies.model.Policy;
+import org.eclipse.ditto.policies.model.PolicyBuilder;
+import org.eclipse.ditto.policies.model.PolicyId;
+import org.eclipse.ditto.policies.model.ResourceKey;
+import org.eclipse.ditto.policies.model.SubjectType;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link PrecompiledPolicyEnforcer} verifying that it decides the same as
+ * {@link TrieBasedPolicyEnforcer} for randomly generated policies.
+ */
+public final class PrecompiledPolicyEnforcerTest {
+
+    private static final List<String> RESOURCE_TYPES = Arrays.asList("thing", "policy", "message");
+    private static final List<String> KEYS = Arrays.asList("attributes", "features", "properties", "a", "b", "c");
+    private static final List<String> PERMISSIONS = Arrays.asList("READ", "WRITE", "EXECUTE");
+    private static final int SUBJECT_COUNT = 12;
+    private static final int POLICIES = 200;
+    private static final int CHECKS_PER_POLICY = 50;
+
+    @Test
+    public void buildJsonViewOfNullObjectReturnsNullObject() {
+        final Policy policy = Policy.newBuilder(PolicyId.of("namespace", "id"))
+                .forLabel("DEFAULT")
+                .setSubject("test:itsMe", SubjectType.GENERATED)
+                .setGrantedPermissions(PoliciesResourceType.thingResource("/"), "READ")
+                .build();
+        final PrecompiledPolicyEnforcer underTest = PrecompiledPolicyEnforcer.newInstance(policy);
+
+        final JsonObject createdJsonView = underTest.buildJsonView(ResourceKey.newInstance("thing", "/"),
+                JsonFactory.nullObject(), authorizationContext("test:itsMe"), Permissions.newInstance("READ"));
+
+        assertThat(createdJsonView).isEqualTo(JsonFactory.nullObject());
+    }
+
+    @Test
+    public void buildJsonViewOfUnknownResourceTypeIsEmpty() {
+        final Policy policy = Policy.newBuilder(PolicyId.of("namespace", "id"))
+                .forLabel("DEFAULT")
+                .setSubject("test:itsMe", SubjectType.GENERATED)
+                .setGrantedPermissions(PoliciesResourceType.thingResource("/"), "READ")
+                .build();
+        final PrecompiledPolicyEnforcer underTest = PrecompiledPolicyEnforcer.newInstance(policy);
+
+        final JsonObject createdJsonView = underTest.buildJsonView(ResourceKey.newInstance("foo", "/"),
+                JsonFactory.newObject("{\"a\":1}"), authorizationContext("test:itsMe"), Permissions.newInstance("READ"));
+
+        assertThat(createdJsonView).isEqualTo(JsonFactory.newObject());
+    }
+
+    @Test
+    public void buildJsonViewIsSameForAuthorizationContextsWithSamePolicySubjects() {
+        final Policy policy = Policy.newBuilder(PolicyId.of("namespace", "id"))
+                .forLabel("DEFAULT")
+                .setSubject("test:itsMe", SubjectType.GENERATED)
+                .setGrantedPermissions(PoliciesResourceType.thingResource("/"), "READ")
+                .setRevokedPermissions(PoliciesResourceType.thingResource("/attributes/secret"), "READ")
+                .build();
+        final PrecompiledPolicyEnforcer underTest = PrecompiledPolicyEnforcer.newInstance(policy);
+        final JsonObject thing = JsonFactory.newObject(
+                "{\"thingId\":\"namespace:id\",\"attributes\":{\"secret\":42,\"public\":{\"a\":1}}}");
+        final JsonObject expected = JsonFactory.newObject(
+                "{\"thingId\":\"namespace:id\",\"attributes\":{\"public\":{\"a\":1}}}");
+        final ResourceKey resourceKey = ResourceKey.newInstance("thing", "/");
+        final Permissions permissions = Permissions.newInstance("READ");
+
+        final JsonObject firstView = underTest.buildJsonView(resourceKey, thing,
+                authorizationContext("test:itsMe"), permissions);
+        final JsonObject secondView = underTest.buildJsonView(resourceKey, thing,
+                AuthorizationContext.newInstance(DittoAuthorizationContextType.UNSPECIFIED,
+                        AuthorizationSubject.newInstance("test:unknown"),
+                        AuthorizationSubject.newInstance("test:itsMe"),
+                        AuthorizationSubject.newInstance("test:itsMe")),
+                permissions);
+
+        assertThat(firstView).isEqualTo(expected);
+        assertThat(secondView).isEqualTo(expected);
+    }
+
+    @Test
+    public void decidesSameAsTrieBasedPolicyEnforcer() {
+        final Random random = new Random(4711L);
+        final SoftAssertions softly = new SoftAssertions();
+        for (int i = 0; i < POLICIES; i++) {
+            final Policy policy = randomPolicy(random);
+            final TrieBasedPolicyEnforcer expected = TrieBasedPolicyEnforcer.newInstance(policy);
+            final PrecompiledPolicyEnforcer actual = PrecompiledPolicyEnforcer.newInstance(policy);
+            for (int j = 0; j < CHECKS_PER_POLICY; j++) {
+                assertSameDecisions(softly, policy, expected, actual, random);
+            }
+        }
+        softly.assertAll();
+    }
+
+    private static void assertSameDecisions(final SoftAssertions softly, final Policy policy,
+            final TrieBasedPolicyEnforcer expected, final PrecompiledPolicyEnforcer actual, final Random random) {
+
+        final ResourceKey resourceKey = ResourceKey.newInstance(pick(RESOURCE_TYPES, random), randomPath(random));
+        final AuthorizationContext authorizationContext = randomAuthorizationContext(random);
+        final Permissions permissions = randomPermissions(random);
+        final String description = policy.toJsonString() + " " + resourceKey + " " +
+                authorizationContext.getAuthorizationSubjectIds() + " " + permissions;
+
+        softly.assertThat(actual.hasUnrestrictedPermissions(resourceKey, authorizationContext, permissions))
+                .describedAs("hasUnrestrictedPermissions %s", description)
+                .isEqualTo(expected.hasUnrestrictedPermissions(resourceKey, authorizationContext, permissions));
+        softly.assertThat(actual.hasPartialPermissions(resourceKey, authorizationContext, permissions))
+                .describedAs("hasPartialPermissions %s", description)
+                .isEqualTo(expected.hasPartialPermissions(resourceKey, authorizationContext, permissions));
+        softly.assertThat(actual.getSubjectsWithPermission(resourceKey, permissions))
+                .describedAs("getSubjectsWithPermission %s", description)
+                .isEqualTo(expected.getSubjectsWithPermission(resourceKey, permissions));
+        softly.assertThat(actual.getSubjectsWithPartialPermission(resourceKey, permissions))
+                .describedAs("getSubjectsWithPartialPermission %s", description)
+                .isEqualTo(expected.getSubjectsWithPartialPermission(resourceKey, permissions));
+        softly.assertThat(actual.getSubjectsWithUnrestrictedPermission(resourceKey, permissions))
+                .describedAs("getSubjectsWithUnrestrictedPermission %s", description)
+                .isEqualTo(expected.getSubjectsWithUnrestrictedPermission(resourceKey, permissions));
+
+        final JsonObject jsonObject = randomJsonObject(random, 3);
+        softly.assertThat(actual.buildJsonView(resourceKey, jsonObject, authorizationContext, permissions))
+                .describedAs("buildJsonView %s %s", description, jsonObject)
+                .isEqualTo(expected.buildJsonView(resourceKey, jsonObject, authorizationContext, permissions));
+    }
+
+    private static Policy randomPolicy(final Random random) {
+        PolicyBuilder policyBuilder = Policy.newBuilder(PolicyId.of("namespace", "id"));
+        final int entries = 1 + random.nextInt(6);
+        for (int i = 0; i < entries; i++) {
+            final PolicyBuilder.LabelScoped labelScoped = policyBuilder.forLabel("label" + i);
+            final int subjects = 1 + random.nextInt(3);
+            for (int j = 0; j < subjects; j++) {
+                labelScoped.setSubject(randomSubjectId(random), SubjectType.GENERATED);
+            }
+            final int resources = 1 + random.nextInt(4);
+            for (int j = 0; j < resources; j++) {
+                final String resourceType = pick(RESOURCE_TYPES, random);
+                final JsonPointer resourcePath = randomPath(random);
+                if (random.nextInt(3) == 0) {
+                    labelScoped.setRevokedPermissions(resourceType, resourcePath, randomPermissions(random));
+                } else {
+                    labelScoped.setGrantedPermissions(resourceType, resourcePath, randomPermissions(random));
+                }
+            }
+            policyBuilder = labelScoped;
+        }
+        return policyBuilder.build();
+    }
+
+    private static JsonPointer randomPath(final Random random) {
+        JsonPointer pointer = JsonPointer.empty();
+        final int depth = random.nextInt(4);
+        for (int i = 0; i < depth; i++) {
+            pointer = pointer.addLeaf(JsonFactory.newKey(pick(KEYS, random)));
+        }
+        return pointer;
+    }
+
+    private static Permissions randomPermissions(final Random random) {
+        final List<String> permissions = new ArrayList<>();
+        for (final String permission : PERMISSIONS) {
+            if (random.nextBoolean()) {
+                permissions.add(permission);
+            }
+        }
+        if (random.nextInt(10) == 0) {
+            permissions.add("UNKNOWN");
+        }
+        if (permissions.isEmpty()) {
+            permissions.add(pick(PERMISSIONS, random));
+        }
+        return Permissions.newInstance(permissions.get(0),
+                permissions.subList(1, permissions.size()).toArray(new String[0]));
+    }
+
+    private static AuthorizationContext randomAuthorizationContext(final Random random) {
+        final List<AuthorizationSubject> subjects = new ArrayList<>();
+        final int size = random.nextInt(4);
+        for (int i = 0; i < size; i++) {
+            subjects.add(AuthorizationSubject.newInstance(randomSubjectId(random)));
+        }
+        return AuthorizationContext.newInstance(DittoAuthorizationContextType.UNSPECIFIED, subjects);
+    }
+
+    private static String randomSubjectId(final Random random) {
+        return "test:subject" + random.nextInt(SUBJECT_COUNT);
+    }
+
+    private static JsonObject randomJsonObject(final Random random, final int depth) {
+        final JsonObjectBuilder builder = JsonFactory.newObjectBuilder();
+        final int fields = random.nextInt(4);
+        for (int i = 0; i < fields; i++) {
+            builder.set(pick(KEYS, random), randomJsonValue(random, depth - 1));
+        }
+        return builder.build();
+    }
+
+    private static JsonValue randomJsonValue(final Random random, final int depth) {
+        final int kind = depth <= 0 ? random.nextInt(3) : random.nextInt(6);
+        switch (kind) {
+            case 0:
+                return JsonValue.of(random.nextInt(100));
+            case 1:
+                return JsonValue.of("value" + random.nextInt(10));
+            case 2:
+                return JsonFactory.nullLiteral();
+            case 3:
+                final JsonArrayBuilder arrayBuilder = JsonFactory.newArrayBuilder();
+                final int size = random.nextInt(3);
+                for (int i = 0; i < size; i++) {
+                    arrayBuilder.add(randomJsonValue(random, depth - 1));
+                }
+                return arrayBuilder.build();
+            default:
+                return randomJsonObject(random, depth);
+        }
+    }
+
+    private static AuthorizationContext authorizationContext(final String subjectId) {
+        return AuthorizationContext.newInstance(DittoAuthorizationContextType.UNSPECIFIED,
+                AuthorizationSubject.newInstance(subjectId));
+    }
+
+    private static <T> T pick(final List<T> values, final Random random) {
+        return values.get(random.nextInt(values.size()));
+    }
+
+}
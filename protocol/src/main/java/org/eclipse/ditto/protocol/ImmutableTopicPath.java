@@ -16,7 +16,6 @@ import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
 
 import java.text.MessageFormat;
 import java.util.ArrayList;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Objects;
@@ -24,7 +23,6 @@ import java.util.Optional;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
-import java.util.stream.StreamSupport;
 
 import javax.annotation.Nullable;
 import javax.annotation.concurrent.Immutable;
@@ -554,46 +552,60 @@ final class ImmutableTopicPath implements TopicPath {
 
     }
 
+    /**
+     * Parses a topic path by scanning its parts in place.
+     * Parts are delimited like the keys of {@link #newTopicOrPathPointer(String)}, i.e. a double slash ends the
+     * splitting and the rest of the topic path is the last part.
+     * Group, channel, criterion and actions are resolved to their enum constants by comparing the names of the
+     * constants with the regions of the topic path, so that only namespace, entity name and subject are copied.
+     */
     @NotThreadSafe
     private static final class TopicPathParser implements Supplier<ImmutableTopicPath> {
 
+        private static final char PATH_DELIMITER = '/';
+
+        private static final Group[] GROUPS = Group.values();
+        private static final Channel[] CHANNELS = Channel.values();
+        private static final Criterion[] CRITERIA = Criterion.values();
+        private static final Action[] ACTIONS = Action.values();
+        private static final SearchAction[] SEARCH_ACTIONS = SearchAction.values();
+        private static final StreamingAction[] STREAMING_ACTIONS = StreamingAction.values();
+
         private final String topicPathString;
-        private final LinkedList<String> topicPathParts;
+        private final int length;
+        private boolean leadingEmptyPart;
+        private int nextPartStart;
+        private int partStart;
+        private int partEnd;
 
         private TopicPathParser(final String topicPathString) {
             this.topicPathString = topicPathString;
-            topicPathParts = splitByPathDelimiter(topicPathString);
-        }
-
-        private static LinkedList<String> splitByPathDelimiter(final String topicPathString) {
-            final LinkedList<String> result =
-                    StreamSupport.stream(newTopicOrPathPointer(topicPathString).spliterator(), false)
-                            .map(JsonKey::toString)
-                            .collect(Collectors.toCollection(LinkedList::new));
-
-            if (topicPathString.startsWith(TopicPath.PATH_DELIMITER)) {
-                // topic path starts with an empty segment
-                result.addFirst("");
+            length = topicPathString.length();
+            leadingEmptyPart = topicPathString.startsWith(TopicPath.PATH_DELIMITER);
+            if (TopicPath.PATH_DELIMITER.equals(topicPathString)) {
+                // topic path consists of the empty segment only
+                nextPartStart = length;
+            } else {
+                nextPartStart = leadingEmptyPart ? 1 : 0;
             }
-            return result;
         }
 
         @Override
         public ImmutableTopicPath get() {
             final Builder topicPathBuilder = new Builder(tryToGetNamespace(), tryToGetEntityName());
-            topicPathBuilder.group = tryToGetGroup(tryToGetGroupName());
+            topicPathBuilder.group = tryToGetGroup();
             topicPathBuilder.channel = tryToGetChannelForGroup(topicPathBuilder.group);
-            topicPathBuilder.criterion = tryToGetCriterion(tryToGetCriterionName());
+            topicPathBuilder.criterion = tryToGetCriterion();
             switch (topicPathBuilder.criterion) {
                 case COMMANDS:
                 case EVENTS:
-                    topicPathBuilder.action = tryToGetActionForName(tryToGetActionName());
+                    topicPathBuilder.action = tryToGetAction();
                     break;
                 case SEARCH:
-                    topicPathBuilder.searchAction = tryToGetSearchActionForName(tryToGetSearchActionName());
+                    topicPathBuilder.searchAction = tryToGetSearchAction();
                     break;
                 case STREAMING:
-                    topicPathBuilder.streamingAction = tryToGetStreamingActionForName(tryToGetSearchActionName());
+                    topicPathBuilder.streamingAction = tryToGetStreamingAction();
                     break;
                 case ERRORS:
                     break;
@@ -611,43 +623,72 @@ final class ImmutableTopicPath implements TopicPath {
             return topicPathBuilder.build();
         }
 
-        private String tryToGetNamespace() {
-            try {
-                return topicPathParts.pop(); // parts[0]
-            } catch (final NoSuchElementException e) {
-                throw UnknownTopicPathException.newBuilder(topicPathString)
-                        .description("The topic path has no namespace part.")
-                        .cause(e)
-                        .build();
+        /**
+         * Advances to the next part of the topic path and sets its bounds.
+         *
+         * @return whether the topic path has a next part.
+         */
+        private boolean nextPart() {
+            if (leadingEmptyPart) {
+                leadingEmptyPart = false;
+                partStart = 0;
+                partEnd = 0;
+                return true;
+            }
+            if (nextPartStart >= length) {
+                return false;
             }
+            partStart = nextPartStart;
+            final int delimiterIndex = topicPathString.indexOf(PATH_DELIMITER, partStart);
+            if (delimiterIndex < 0 || delimiterIndex == partStart) {
+                // last part or double slash: the rest of the topic path is the last part
+                partEnd = length;
+                nextPartStart = length;
+            } else {
+                partEnd = delimiterIndex;
+                nextPartStart = delimiterIndex + 1;
+            }
+            return true;
         }
 
-        private String tryToGetEntityName() {
-            try {
-                return topicPathParts.pop(); // parts[1]
-            } catch (final NoSuchElementException e) {
+        private void tryToAdvance(final String missingPartDescription) {
+            if (!nextPart()) {
                 throw UnknownTopicPathException.newBuilder(topicPathString)
-                        .description("The topic path has no entity name part.")
-                        .cause(e)
+                        .description(missingPartDescription)
+                        .cause(new NoSuchElementException())
                         .build();
             }
         }
 
-        private String tryToGetGroupName() {
-            try {
-                return topicPathParts.pop(); // parts[2]
-            } catch (final NoSuchElementException e) {
-                throw UnknownTopicPathException.newBuilder(topicPathString)
-                        .description("The topic path has no group part.")
-                        .cause(e)
-                        .build();
-            }
+        private String getPart() {
+            return topicPathString.substring(partStart, partEnd);
+        }
+
+        private boolean partEquals(final String name) {
+            final int partLength = partEnd - partStart;
+            return name.length() == partLength && topicPathString.regionMatches(partStart, name, 0, partLength);
         }
 
-        private Group tryToGetGroup(final String groupName) {
-            return Group.forName(groupName).orElseThrow(() -> UnknownTopicPathException.newBuilder(topicPathString)
-                    .description(MessageFormat.format("Group name <{0}> is unknown.", groupName))
-                    .build());
+        private String tryToGetNamespace() {
+            tryToAdvance("The topic path has no namespace part."); // parts[0]
+            return getPart();
+        }
+
+        private String tryToGetEntityName() {
+            tryToAdvance("The topic path has no entity name part."); // parts[1]
+            return getPart();
+        }
+
+        private Group tryToGetGroup() {
+            tryToAdvance("The topic path has no group part."); // parts[2]
+            for (final Group group : GROUPS) {
+                if (partEquals(group.getName())) {
+                    return group;
+                }
+            }
+            throw UnknownTopicPathException.newBuilder(topicPathString)
+                    .description(MessageFormat.format("Group name <{0}> is unknown.", getPart()))
+                    .build();
         }
 
         private Channel tryToGetChannelForGroup(final Group group) {
@@ -655,98 +696,83 @@ final class ImmutableTopicPath implements TopicPath {
             if (Group.POLICIES == group || Group.CONNECTIONS == group) {
                 result = Channel.NONE;
             } else {
-                result = tryToGetChannelForName(tryToGetChannelName());
+                result = tryToGetChannel();
             }
             return result;
         }
 
-        private String tryToGetChannelName() {
-            try {
-                return topicPathParts.pop(); // parts[3]
-            } catch (final NoSuchElementException e) {
-                throw UnknownTopicPathException.newBuilder(topicPathString)
-                        .description("The topic path has no channel part.")
-                        .cause(e)
-                        .build();
+        private Channel tryToGetChannel() {
+            tryToAdvance("The topic path has no channel part."); // parts[3]
+            for (final Channel channel : CHANNELS) {
+                if (partEquals(channel.getName())) {
+                    return channel;
+                }
             }
+            throw UnknownTopicPathException.newBuilder(topicPathString)
+                    .description(MessageFormat.format("Channel name <{0}> is unknown.", getPart()))
+                    .build();
         }
 
-        private Channel tryToGetChannelForName(final String channelName) {
-            return Channel.forName(channelName).orElseThrow(() -> UnknownTopicPathException.newBuilder(topicPathString)
-                    .description(MessageFormat.format("Channel name <{0}> is unknown.", channelName))
-                    .build());
-        }
-
-        private String tryToGetCriterionName() {
-            try {
-                return topicPathParts.pop(); // parts[4]
-            } catch (final NoSuchElementException e) {
-                throw UnknownTopicPathException.newBuilder(topicPathString)
-                        .description("The topic path has no criterion part.")
-                        .cause(e)
-                        .build();
+        private Criterion tryToGetCriterion() {
+            tryToAdvance("The topic path has no criterion part."); // parts[4]
+            for (final Criterion criterion : CRITERIA) {
+                if (partEquals(criterion.getName())) {
+                    return criterion;
+                }
             }
+            throw UnknownTopicPathException.newBuilder(topicPathString)
+                    .description(MessageFormat.format("Criterion name <{0}> is unknown.", getPart()))
+                    .build();
         }
 
-        private Criterion tryToGetCriterion(final String criterionName) {
-            return Criterion.forName(criterionName)
-                    .orElseThrow(() -> UnknownTopicPathException.newBuilder(topicPathString)
-                            .description(MessageFormat.format("Criterion name <{0}> is unknown.", criterionName))
-                            .build());
-        }
-
-        private String tryToGetActionName() {
-            try {
-                return topicPathParts.pop(); // parts[5]
-            } catch (final NoSuchElementException e) {
-                throw UnknownTopicPathException.newBuilder(topicPathString)
-                        .description("The topic path has no action part.")
-                        .cause(e)
-                        .build();
+        private Action tryToGetAction() {
+            tryToAdvance("The topic path has no action part."); // parts[5]
+            for (final Action action : ACTIONS) {
+                if (partEquals(action.getName())) {
+                    return action;
+                }
             }
+            throw UnknownTopicPathException.newBuilder(topicPathString)
+                    .description(MessageFormat.format("Action name <{0}> is unknown.", getPart()))
+                    .build();
         }
 
-        private Action tryToGetActionForName(final String actionName) {
-            return Action.forName(actionName).orElseThrow(() -> UnknownTopicPathException.newBuilder(topicPathString)
-                    .description(MessageFormat.format("Action name <{0}> is unknown.", actionName))
-                    .build());
-        }
-
-        private String tryToGetSearchActionName() {
-            try {
-                return topicPathParts.pop(); // parts[5]
-            } catch (final NoSuchElementException e) {
-                throw UnknownTopicPathException.newBuilder(topicPathString)
-                        .description("The topic path has no search action part.")
-                        .cause(e)
-                        .build();
+        private SearchAction tryToGetSearchAction() {
+            tryToAdvance("The topic path has no search action part."); // parts[5]
+            for (final SearchAction searchAction : SEARCH_ACTIONS) {
+                if (partEquals(searchAction.getName())) {
+                    return searchAction;
+                }
             }
+            throw UnknownTopicPathException.newBuilder(topicPathString)
+                    .description(MessageFormat.format("Search action name <{0}> is unknown.", getPart()))
+                    .build();
         }
 
-        private SearchAction tryToGetSearchActionForName(final String searchActionName) {
-            return SearchAction.forName(searchActionName)
-                    .orElseThrow(() -> UnknownTopicPathException.newBuilder(topicPathString)
-                            .description(MessageFormat.format("Search action name <{0}> is unknown.", searchActionName))
-                            .build());
-        }
-
-        private StreamingAction tryToGetStreamingActionForName(final String streamingActionName) {
-            return StreamingAction.forName(streamingActionName)
-                    .orElseThrow(() -> UnknownTopicPathException.newBuilder(topicPathString)
-                            .description(MessageFormat.format("Streaming action name <{0}> is unknown.", streamingActionName))
-                            .build());
+        private StreamingAction tryToGetStreamingAction() {
+            tryToAdvance("The topic path has no search action part."); // parts[5]
+            for (final StreamingAction streamingAction : STREAMING_ACTIONS) {
+                if (partEquals(streamingAction.getName())) {
+                    return streamingAction;
+                }
+            }
+            throw UnknownTopicPathException.newBuilder(topicPathString)
+                    .description(MessageFormat.format("Streaming action name <{0}> is unknown.", getPart()))
+                    .build();
         }
 
         @Nullable
         private String getSubjectOrNull() {
-            final String subject = String.join(TopicPath.PATH_DELIMITER, topicPathParts);
-            final String result;
-            if (subject.isEmpty()) {
-                result = null;
-            } else {
-                result = subject;
+            // the remaining parts are delimited by single slashes, hence joining them is a substring
+            if (!nextPart()) {
+                return null;
             }
-            return result;
+            final int subjectStart = partStart;
+            int subjectEnd = partEnd;
+            while (nextPart()) {
+                subjectEnd = partEnd;
+            }
+            return topicPathString.substring(subjectStart, subjectEnd);
         }
 
     }
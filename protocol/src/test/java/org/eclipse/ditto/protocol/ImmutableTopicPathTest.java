@@ -446,4 +446,37 @@ public final class ImmutableTopicPathTest {
                 .withNoCause();
     }
 
+    @Test
+    public void parseStringWithSubjectContainingSlashes() {
+        final TopicPath topicPath =
+                ProtocolFactory.newTopicPath(NAMESPACE + "/" + ENTITY_NAME + "/things/live/messages/a/b/c/");
+
+        assertThat(topicPath.getCriterion()).isEqualTo(TopicPath.Criterion.MESSAGES);
+        assertThat(topicPath.getSubject()).hasValue("a/b/c");
+    }
+
+    @Test
+    public void parseStringWithSubjectContainingDoubleSlash() {
+        final TopicPath topicPath =
+                ProtocolFactory.newTopicPath(NAMESPACE + "/" + ENTITY_NAME + "/things/live/messages/a//b/");
+
+        assertThat(topicPath.getSubject()).hasValue("a//b/");
+    }
+
+    @Test
+    public void parseStringWithEmptyNamespace() {
+        final TopicPath topicPath = ProtocolFactory.newTopicPath("/" + ENTITY_NAME + "/things/twin/commands/modify");
+
+        assertThat(topicPath.getNamespace()).isEmpty();
+        assertThat(topicPath.getEntityName()).isEqualTo(ENTITY_NAME);
+        assertThat(topicPath.getAction()).contains(TopicPath.Action.MODIFY);
+    }
+
+    @Test
+    public void parseStringWithMissingSubject() {
+        final TopicPath topicPath = ProtocolFactory.newTopicPath(NAMESPACE + "/" + ENTITY_NAME + "/things/live/messages");
+
+        assertThat(topicPath.getSubject()).isEmpty();
+    }
+
 }
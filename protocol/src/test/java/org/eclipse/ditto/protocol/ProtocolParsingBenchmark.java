@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.protocol;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.base.model.signals.Signal;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.protocol.adapter.DittoProtocolAdapter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * JMH Benchmark for parsing the topic paths of Ditto Protocol messages and for mapping the messages to signals.
+ * Each benchmark processes the whole corpus of typical messages sent through WebSocket and connections, i.e. the
+ * reported time is the time for all messages of the corpus.
+ * Run with {@code -prof gc} to compare the allocations per message.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ProtocolParsingBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+    private static final int WARMUP_TIME = 1000;
+    private static final int MEASUREMENT_TIME = 1000;
+
+    private static final String[] CORPUS = {
+            "{\"topic\":\"org.eclipse.ditto/smart-coffee-1/things/twin/commands/modify\"," +
+                    "\"headers\":{\"correlation-id\":\"c-1\",\"response-required\":false}," +
+                    "\"path\":\"/features/water-tank/properties/configuration/smartMode\",\"value\":true}",
+            "{\"topic\":\"org.eclipse.ditto/smart-coffee-1/things/twin/commands/retrieve\"," +
+                    "\"headers\":{\"correlation-id\":\"c-2\"},\"path\":\"/attributes/location\"}",
+            "{\"topic\":\"org.eclipse.ditto/smart-coffee-1/things/twin/commands/modify\"," +
+                    "\"headers\":{\"correlation-id\":\"c-3\"},\"path\":\"/attributes/location\",\"status\":204}",
+            "{\"topic\":\"org.eclipse.ditto/smart-coffee-1/things/twin/events/modified\"," +
+                    "\"headers\":{\"correlation-id\":\"c-4\"},\"path\":\"/features/water-tank/properties/level\"," +
+                    "\"value\":42,\"revision\":23,\"timestamp\":\"2026-01-01T00:00:00Z\"}",
+            "{\"topic\":\"org.eclipse.ditto/smart-coffee-1/things/twin/commands/merge\"," +
+                    "\"headers\":{\"correlation-id\":\"c-5\",\"content-type\":\"application/merge-patch+json\"}," +
+                    "\"path\":\"/features\",\"value\":{\"water-tank\":{\"properties\":{\"level\":41}}}}",
+            "{\"topic\":\"org.eclipse.ditto/smart-coffee-1/things/live/messages/ask/brew/coffee\"," +
+                    "\"headers\":{\"correlation-id\":\"c-6\",\"content-type\":\"application/json\"}," +
+                    "\"path\":\"/inbox/messages/ask/brew/coffee\",\"value\":{\"size\":2}}",
+            "{\"topic\":\"org.eclipse.ditto/smart-coffee-1/things/twin/acks/my-ack\"," +
+                    "\"headers\":{\"correlation-id\":\"c-7\"},\"path\":\"/\",\"status\":200}",
+            "{\"topic\":\"org.eclipse.ditto/smart-coffee-policy/policies/commands/retrieve\"," +
+                    "\"headers\":{\"correlation-id\":\"c-8\"},\"path\":\"/entries/owner\"}",
+            "{\"topic\":\"_/_/things/twin/search/subscribe\",\"headers\":{\"correlation-id\":\"c-9\"}," +
+                    "\"path\":\"/\",\"value\":{\"filter\":\"eq(attributes/location,\\\"kitchen\\\")\"}}",
+            "{\"topic\":\"org.eclipse.ditto/smart-coffee-1/things/twin/errors\"," +
+                    "\"headers\":{\"correlation-id\":\"c-10\"},\"path\":\"/\",\"status\":404," +
+                    "\"value\":{\"status\":404,\"error\":\"things:thing.notfound\"," +
+                    "\"message\":\"The Thing with ID 'org.eclipse.ditto:smart-coffee-1' could not be found.\"}}"
+    };
+
+    private String[] topicPaths;
+    private JsonObject[] messages;
+    private Adaptable[] adaptables;
+    private DittoProtocolAdapter protocolAdapter;
+
+    @Setup
+    public void setUp() {
+        messages = Arrays.stream(CORPUS).map(JsonObject::of).toArray(JsonObject[]::new);
+        topicPaths = Arrays.stream(messages)
+                .map(message -> message.getValueOrThrow(JsonifiableAdaptable.JsonFields.TOPIC))
+                .toArray(String[]::new);
+        adaptables = Arrays.stream(messages)
+                .map(ProtocolFactory::jsonifiableAdaptableFromJson)
+                .toArray(Adaptable[]::new);
+        protocolAdapter = DittoProtocolAdapter.newInstance();
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public void parseTopicPaths(final Blackhole blackhole) {
+        for (final String topicPath : topicPaths) {
+            blackhole.consume(ProtocolFactory.newTopicPath(topicPath));
+        }
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public void parseAdaptables(final Blackhole blackhole) {
+        for (final JsonObject message : messages) {
+            blackhole.consume(ProtocolFactory.jsonifiableAdaptableFromJson(message));
+        }
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public void mapAdaptablesToSignals(final Blackhole blackhole) {
+        for (final Adaptable adaptable : adaptables) {
+            final Signal<?> signal = protocolAdapter.fromAdaptable(adaptable);
+            blackhole.consume(signal);
+        }
+    }
+
+}
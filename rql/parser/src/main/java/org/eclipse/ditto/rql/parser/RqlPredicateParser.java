@@ -14,7 +14,7 @@ package org.eclipse.ditto.rql.parser;
 
 import org.eclipse.ditto.rql.model.predicates.PredicateParser;
 import org.eclipse.ditto.rql.model.predicates.ast.RootNode;
-import org.eclipse.ditto.rql.parser.internal.RqlPredicateParser$;
+import org.eclipse.ditto.rql.parser.internal.RqlPredicateParserImpl;
 
 /**
  * RQL Parser parsing predicates in the RQL "standard" according to https://github.com/persvr/rql.
@@ -22,7 +22,6 @@ import org.eclipse.ditto.rql.parser.internal.RqlPredicateParser$;
 public class RqlPredicateParser implements PredicateParser {
 
     private static final RqlPredicateParser INSTANCE = new RqlPredicateParser();
-    private static final PredicateParser PARSER = RqlPredicateParser$.MODULE$;
 
     private RqlPredicateParser() {
         // private
@@ -39,6 +38,6 @@ public class RqlPredicateParser implements PredicateParser {
 
     @Override
     public RootNode parse(final String input) {
-        return PARSER.parse(input);
+        return RqlPredicateParserImpl.parse(input);
     }
 }
@@ -0,0 +1,427 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.rql.parser.internal;
+
+import static java.util.Objects.requireNonNull;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.NotThreadSafe;
+
+import org.eclipse.ditto.rql.model.ParsedPlaceholder;
+import org.eclipse.ditto.rql.model.ParserException;
+
+/**
+ * Base of the recursive descent RQL parsers containing the rules for literals, properties and whitespace which are
+ * shared by the predicate and the option grammar:
+ * <pre>
+ * Literal                    = ( DoubleLiteral | LongLiteral | StringLiteral | StringSingleQuoteLiteral |
+ *                                PlaceholderLiteral | "true" | "false" | "null" ), WhiteSpace
+ * DoubleLiteral              = Integer, '.', Digit, { Digit }, WhiteSpace
+ * LongLiteral                = Integer (but not starting with "-0"), WhiteSpace
+ * Integer                    = [ '+' | '-' ], ( Digit19, Digit, { Digit } | Digit )
+ * StringLiteral              = '"', { CharInQuotes | '\', EscapedChar }, '"', WhiteSpace
+ * StringSingleQuoteLiteral   = "'", { CharInSingleQuotes | '\', SingleQuoteEscapedChar }, "'", WhiteSpace
+ * PlaceholderLiteral         = "time:", Characters, WhiteSpace
+ * PropertyLiteral            = Characters
+ * Characters                 = { NormalChar | '\', EscapedChar }
+ * </pre>
+ * A parser instance parses a single input and must not be reused.
+ */
+@NotThreadSafe
+public abstract class RqlParserBase {
+
+    private static final String PLACEHOLDER_PREFIX = "time:";
+    private static final String WHITESPACE_CHARS = " \n\r\t\f";
+
+    /**
+     * The parsed input.
+     */
+    protected final String input;
+
+    /**
+     * The index of the next character of the input to parse.
+     */
+    protected int cursor;
+
+    private final StringBuilder sb;
+
+    /**
+     * Constructs a new parser of the given input.
+     *
+     * @param input the input to parse.
+     * @throws NullPointerException if {@code input} is {@code null}.
+     */
+    protected RqlParserBase(final String input) {
+        this.input = requireNonNull(input, "The input must not be null!");
+        cursor = 0;
+        sb = new StringBuilder();
+    }
+
+    /**
+     * Parses a literal value.
+     *
+     * @return the value which is a {@code Double}, {@code Long}, {@code String}, {@link ParsedPlaceholder},
+     * {@code Boolean} or {@code null}.
+     * @throws ParserException if the input at the cursor is no literal.
+     */
+    @Nullable
+    protected final Object literal() {
+        final Object result;
+        final Number number = numberLiteral();
+        if (null != number) {
+            result = number;
+        } else if (isNext('"')) {
+            result = quotedString('"');
+        } else if (isNext('\'')) {
+            result = quotedString('\'');
+        } else if (input.startsWith(PLACEHOLDER_PREFIX, cursor)) {
+            result = placeholderLiteral();
+        } else if (consume("true")) {
+            result = Boolean.TRUE;
+        } else if (consume("false")) {
+            result = Boolean.FALSE;
+        } else if (consume("null")) {
+            result = null;
+        } else {
+            throw invalidInput("a literal");
+        }
+        whiteSpace();
+        return result;
+    }
+
+    /**
+     * Parses a long literal.
+     *
+     * @return the value.
+     * @throws ParserException if the input at the cursor is no long literal.
+     */
+    protected final long longLiteral() {
+        final int start = cursor;
+        if (input.startsWith("-0", start) || !integer()) {
+            cursor = start;
+            throw invalidInput("an integer");
+        }
+        final long result = parseLong(start);
+        whiteSpace();
+        return result;
+    }
+
+    /**
+     * Parses a sequence of one or more digits.
+     *
+     * @return the digits.
+     * @throws ParserException if the input at the cursor is no digit.
+     */
+    protected final String digits() {
+        final int start = cursor;
+        skipDigits();
+        if (start == cursor) {
+            throw invalidInput("a digit");
+        }
+        return input.substring(start, cursor);
+    }
+
+    /**
+     * Parses a property, i.e. all characters up to the next unescaped {@code ,}, {@code )} or {@code "}.
+     *
+     * @return the unescaped property which may be empty.
+     */
+    protected final String propertyLiteral() {
+        sb.setLength(0);
+        characters();
+        return sb.toString();
+    }
+
+    /**
+     * Skips all whitespace at the cursor.
+     */
+    protected final void whiteSpace() {
+        while (cursor < input.length() && WHITESPACE_CHARS.indexOf(input.charAt(cursor)) >= 0) {
+            cursor++;
+        }
+    }
+
+    /**
+     * Consumes the given character.
+     *
+     * @param c the expected character.
+     * @throws ParserException if the input at the cursor is another character.
+     */
+    protected final void expect(final char c) {
+        if (!isNext(c)) {
+            throw invalidInput("'" + c + "'");
+        }
+        cursor++;
+    }
+
+    /**
+     * Indicates whether the character at the cursor is the given one.
+     *
+     * @param c the character.
+     * @return whether the next character is {@code c}.
+     */
+    protected final boolean isNext(final char c) {
+        return cursor < input.length() && input.charAt(cursor) == c;
+    }
+
+    /**
+     * Consumes the given string if the input at the cursor starts with it.
+     *
+     * @param s the string.
+     * @return whether the string was consumed.
+     */
+    protected final boolean consume(final String s) {
+        if (input.startsWith(s, cursor)) {
+            cursor += s.length();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Parses the name of an operation, i.e. the letters up to the opening parenthesis.
+     *
+     * @return the name which may be empty.
+     */
+    protected final String name() {
+        final int start = cursor;
+        while (cursor < input.length() && isLetter(input.charAt(cursor))) {
+            cursor++;
+        }
+        return input.substring(start, cursor);
+    }
+
+    /**
+     * Ensures that the whole input was parsed.
+     *
+     * @throws ParserException if input is left.
+     */
+    protected final void endOfInput() {
+        if (cursor < input.length()) {
+            throw invalidInput("end of input");
+        }
+    }
+
+    /**
+     * Creates an exception for invalid input at the cursor.
+     *
+     * @param expected a description of what was expected at the cursor.
+     * @return the exception.
+     */
+    protected final ParserException invalidInput(final String expected) {
+        return invalidInput(cursor, expected);
+    }
+
+    /**
+     * Creates an exception for invalid input at the given index.
+     *
+     * @param index the index of the invalid input.
+     * @param expected a description of what was expected at the index.
+     * @return the exception.
+     */
+    protected final ParserException invalidInput(final int index, final String expected) {
+        final String problem;
+        if (index < input.length()) {
+            problem = "Invalid input '" + input.charAt(index) + "', expected " + expected;
+        } else {
+            problem = "Unexpected end of input, expected " + expected;
+        }
+        return new ParserException(problem + describePosition(index));
+    }
+
+    private String describePosition(final int index) {
+        int line = 1;
+        int lineStart = 0;
+        for (int i = 0; i < index && i < input.length(); i++) {
+            if (input.charAt(i) == '\n') {
+                line++;
+                lineStart = i + 1;
+            }
+        }
+        int lineEnd = input.indexOf('\n', lineStart);
+        if (lineEnd < 0) {
+            lineEnd = input.length();
+        }
+        final int column = index - lineStart + 1;
+        final StringBuilder result = new StringBuilder()
+                .append(" (line ").append(line).append(", column ").append(column).append("):\n")
+                .append(input, lineStart, lineEnd).append('\n');
+        for (int i = 1; i < column; i++) {
+            result.append(' ');
+        }
+        return result.append('^').toString();
+    }
+
+    @Nullable
+    private Number numberLiteral() {
+        final int start = cursor;
+        if (!integer()) {
+            cursor = start;
+            return null;
+        }
+        final int integerEnd = cursor;
+        if (isNext('.') && cursor + 1 < input.length() && isDigit(input.charAt(cursor + 1))) {
+            cursor++;
+            skipDigits();
+            final Double result = Double.valueOf(input.substring(start, cursor));
+            whiteSpace();
+            return result;
+        }
+        if (input.startsWith("-0", start)) {
+            cursor = start;
+            return null;
+        }
+        cursor = integerEnd;
+        final Long result = parseLong(start);
+        whiteSpace();
+        return result;
+    }
+
+    private boolean integer() {
+        if (isNext('+') || isNext('-')) {
+            cursor++;
+        }
+        if (cursor >= input.length() || !isDigit(input.charAt(cursor))) {
+            return false;
+        }
+        final char first = input.charAt(cursor++);
+        if (first != '0') {
+            skipDigits();
+        }
+        return true;
+    }
+
+    private long parseLong(final int start) {
+        final String digits = input.substring(start, cursor);
+        try {
+            return Long.parseLong(digits);
+        } catch (final NumberFormatException e) {
+            throw new ParserException("Invalid integer <" + digits + ">: " + e.getMessage() +
+                    describePosition(start), e);
+        }
+    }
+
+    private void skipDigits() {
+        while (cursor < input.length() && isDigit(input.charAt(cursor))) {
+            cursor++;
+        }
+    }
+
+    private String quotedString(final char quote) {
+        cursor++;
+        sb.setLength(0);
+        while (true) {
+            if (cursor >= input.length()) {
+                throw invalidInput("'" + quote + "'");
+            }
+            final char c = input.charAt(cursor);
+            if (c == quote) {
+                cursor++;
+                return sb.toString();
+            } else if (c == '\\') {
+                cursor++;
+                if (!escapedChar(quote)) {
+                    throw invalidInput("an escape sequence");
+                }
+            } else {
+                sb.append(c);
+                cursor++;
+            }
+        }
+    }
+
+    private ParsedPlaceholder placeholderLiteral() {
+        final int start = cursor;
+        sb.setLength(0);
+        characters();
+        try {
+            return ParsedPlaceholder.of(input.substring(start, cursor));
+        } catch (final IllegalArgumentException e) {
+            throw new ParserException(e.getMessage() + describePosition(start), e);
+        }
+    }
+
+    private void characters() {
+        while (cursor < input.length()) {
+            final char c = input.charAt(cursor);
+            if (c == ',' || c == ')' || c == '"') {
+                return;
+            } else if (c == '\\') {
+                final int backslash = cursor;
+                cursor++;
+                if (!escapedChar('"')) {
+                    // like an unparsable character, the invalid escape sequence ends the characters
+                    cursor = backslash;
+                    return;
+                }
+            } else {
+                sb.append(c);
+                cursor++;
+            }
+        }
+    }
+
+    /**
+     * Appends the escaped character at the cursor, i.e. after a backslash, to the string builder.
+     *
+     * @param quote the quote character which may be escaped.
+     * @return whether the escape sequence was valid.
+     */
+    private boolean escapedChar(final char quote) {
+        if (cursor >= input.length()) {
+            return false;
+        }
+        final char c = input.charAt(cursor);
+        final char unescaped;
+        if (c == quote || c == '\\' || c == '/') {
+            unescaped = c;
+        } else if (c == 'b') {
+            unescaped = '\b';
+        } else if (c == 'f') {
+            unescaped = '\f';
+        } else if (c == 'n') {
+            unescaped = '\n';
+        } else if (c == 'r') {
+            unescaped = '\r';
+        } else if (c == 't') {
+            unescaped = '\t';
+        } else if (c == 'u' && cursor + 4 < input.length() && isHexDigits(cursor + 1, cursor + 5)) {
+            unescaped = (char) Integer.parseInt(input.substring(cursor + 1, cursor + 5), 16);
+            cursor += 4;
+        } else {
+            return false;
+        }
+        sb.append(unescaped);
+        cursor++;
+        return true;
+    }
+
+    private boolean isHexDigits(final int start, final int end) {
+        for (int i = start; i < end; i++) {
+            final char c = input.charAt(i);
+            if (!isDigit(c) && (c < 'a' || c > 'f') && (c < 'A' || c > 'F')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isDigit(final char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isLetter(final char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.rql.parser.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+import org.eclipse.ditto.rql.model.ParserException;
+import org.eclipse.ditto.rql.model.predicates.ast.ExistsNode;
+import org.eclipse.ditto.rql.model.predicates.ast.LogicalNode;
+import org.eclipse.ditto.rql.model.predicates.ast.MultiComparisonNode;
+import org.eclipse.ditto.rql.model.predicates.ast.Node;
+import org.eclipse.ditto.rql.model.predicates.ast.RootNode;
+import org.eclipse.ditto.rql.model.predicates.ast.SingleComparisonNode;
+
+/**
+ * Recursive descent RQL Parser. Parses predicates in the RQL "standard" according to
+ * https://github.com/persvr/rql with the following EBNF:
+ * <pre>
+ * Query                      = SingleComparisonOp | MultiComparisonOp | MultiLogicalOp | SingleLogicalOp | ExistsOp
+ * SingleComparisonOp         = SingleComparisonName, '(', ComparisonProperty, ',', ComparisonValue, ')'
+ * SingleComparisonName       = "eq" | "ne" | "gt" | "ge" | "lt" | "le" | "like" | "ilike"
+ * MultiComparisonOp          = MultiComparisonName, '(', ComparisonProperty, ',', ComparisonValue, { ',', ComparisonValue }, ')'
+ * MultiComparisonName        = "in"
+ * MultiLogicalOp             = MultiLogicalName, '(', Query, { ',', Query }, ')'
+ * MultiLogicalName           = "and" | "or"
+ * SingleLogicalOp            = SingleLogicalName, '(', Query, ')'
+ * SingleLogicalName          = "not"
+ * ExistsOp                   = "exists" '(', ComparisonProperty, ')'
+ *
+ * ComparisonProperty         = PropertyLiteral
+ * ComparisonValue            = Literal
+ * </pre>
+ */
+@NotThreadSafe
+public final class RqlPredicateParserImpl extends RqlParserBase {
+
+    private static final String EXPECTED_QUERY = "one of 'eq', 'ne', 'gt', 'ge', 'lt', 'le', 'like', 'ilike', " +
+            "'in', 'and', 'or', 'not' or 'exists'";
+
+    private RqlPredicateParserImpl(final String input) {
+        super(input);
+    }
+
+    /**
+     * Parse the specified input.
+     *
+     * @param input the input that should be parsed.
+     * @return the AST RootNode representing the root of the AST.
+     * @throws NullPointerException if input is null.
+     * @throws ParserException if input could not be parsed.
+     */
+    public static RootNode parse(final String input) {
+        final RqlPredicateParserImpl parser = new RqlPredicateParserImpl(input);
+        parser.whiteSpace();
+        final Node query = parser.query();
+        parser.endOfInput();
+
+        final RootNode rootNode = new RootNode();
+        rootNode.getChildren().add(query);
+        return rootNode;
+    }
+
+    private Node query() {
+        final int start = cursor;
+        final String name = name();
+        switch (name) {
+            case "eq":
+                return singleComparisonOp(SingleComparisonNode.Type.EQ);
+            case "ne":
+                return singleComparisonOp(SingleComparisonNode.Type.NE);
+            case "gt":
+                return singleComparisonOp(SingleComparisonNode.Type.GT);
+            case "ge":
+                return singleComparisonOp(SingleComparisonNode.Type.GE);
+            case "lt":
+                return singleComparisonOp(SingleComparisonNode.Type.LT);
+            case "le":
+                return singleComparisonOp(SingleComparisonNode.Type.LE);
+            case "like":
+                return singleComparisonOp(SingleComparisonNode.Type.LIKE);
+            case "ilike":
+                return singleComparisonOp(SingleComparisonNode.Type.ILIKE);
+            case "in":
+                return multiComparisonOp(MultiComparisonNode.Type.IN);
+            case "and":
+                return multiLogicalOp(LogicalNode.Type.AND);
+            case "or":
+                return multiLogicalOp(LogicalNode.Type.OR);
+            case "not":
+                return singleLogicalOp(LogicalNode.Type.NOT);
+            case "exists":
+                return existsOp();
+            default:
+                throw invalidInput(start, EXPECTED_QUERY);
+        }
+    }
+
+    private Node singleComparisonOp(final SingleComparisonNode.Type type) {
+        expect('(');
+        final String property = propertyLiteral();
+        expect(',');
+        final Object value = literal();
+        expect(')');
+        return new SingleComparisonNode(type, property, value);
+    }
+
+    private Node multiComparisonOp(final MultiComparisonNode.Type type) {
+        expect('(');
+        final String property = propertyLiteral();
+        final List<Object> values = new ArrayList<>();
+        do {
+            expect(',');
+            values.add(literal());
+        } while (isNext(','));
+        expect(')');
+        return new MultiComparisonNode(type, property, values);
+    }
+
+    private Node multiLogicalOp(final LogicalNode.Type type) {
+        expect('(');
+        final List<Node> subQueries = new ArrayList<>();
+        subQueries.add(query());
+        while (isNext(',')) {
+            cursor++;
+            whiteSpace();
+            subQueries.add(query());
+        }
+        expect(')');
+        return new LogicalNode(type, subQueries);
+    }
+
+    private Node singleLogicalOp(final LogicalNode.Type type) {
+        expect('(');
+        final Node subQuery = query();
+        expect(')');
+        return new LogicalNode(type, subQuery);
+    }
+
+    private Node existsOp() {
+        expect('(');
+        final String property = propertyLiteral();
+        expect(')');
+        return new ExistsNode(property);
+    }
+
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.rql.parser;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.ditto.rql.model.predicates.PredicateParser;
+import org.eclipse.ditto.rql.model.predicates.ast.RootNode;
+import org.eclipse.ditto.rql.parser.parboiled.ParboiledRqlPredicateParser$;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH Benchmark comparing the recursive descent {@link RqlPredicateParser} with the former parboiled based parser for
+ * typical filters of search requests and WebSocket/SSE sessions.
+ * Run with {@code -prof gc} in order to compare the allocation rates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RqlPredicateParserBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASUREMENT_ITERATIONS = 10;
+    private static final int WARMUP_TIME = 1000;
+    private static final int MEASUREMENT_TIME = 1000;
+
+    @Param({
+            "eq(attributes/location,\"kitchen\")",
+            "and(eq(attributes/manufacturer,\"ACME\"),gt(features/temperature/properties/value,23.5)," +
+                    "in(attributes/type,\"sensor\",\"actor\"),not(exists(features/maintenance)))",
+            "or(like(thingId,\"org.eclipse.ditto:*\"),lt(_modified,time:now),ilike(attributes/name,'Room ?'))"
+    })
+    public String filter;
+
+    private PredicateParser recursiveDescentParser;
+    private PredicateParser parboiledParser;
+
+    @Setup
+    public void setUp() {
+        recursiveDescentParser = RqlPredicateParser.getInstance();
+        parboiledParser = ParboiledRqlPredicateParser$.MODULE$;
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public RootNode recursiveDescent() {
+        return recursiveDescentParser.parse(filter);
+    }
+
+    @Benchmark
+    @Warmup(iterations = WARMUP_ITERATIONS, time = WARMUP_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    @Measurement(iterations = MEASUREMENT_ITERATIONS, time = MEASUREMENT_TIME, timeUnit = TimeUnit.MILLISECONDS)
+    public RootNode parboiled() {
+        return parboiledParser.parse(filter);
+    }
+
+}
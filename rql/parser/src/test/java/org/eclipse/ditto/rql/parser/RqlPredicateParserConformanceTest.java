@@ -0,0 +1,265 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.rql.parser;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import javax.annotation.Nullable;
+
+import org.assertj.core.api.SoftAssertions;
+import org.eclipse.ditto.rql.model.ParserException;
+import org.eclipse.ditto.rql.model.predicates.PredicateParser;
+import org.eclipse.ditto.rql.model.predicates.ast.MultiComparisonNode;
+import org.eclipse.ditto.rql.model.predicates.ast.Node;
+import org.eclipse.ditto.rql.model.predicates.ast.RootNode;
+import org.eclipse.ditto.rql.model.predicates.ast.SingleComparisonNode;
+import org.eclipse.ditto.rql.model.predicates.ast.SuperNode;
+import org.eclipse.ditto.rql.parser.parboiled.ParboiledRqlPredicateParser$;
+import org.junit.Test;
+
+/**
+ * Verifies that {@link RqlPredicateParser} parses the same inputs to the same AST and rejects the same inputs as the
+ * former parboiled based parser.
+ */
+public final class RqlPredicateParserConformanceTest {
+
+    private static final PredicateParser REFERENCE_PARSER = ParboiledRqlPredicateParser$.MODULE$;
+    private static final PredicateParser UNDER_TEST = RqlPredicateParser.getInstance();
+
+    private static final List<String> INPUTS = Arrays.asList(
+            "eq(username,123)",
+            "eq(username,+123)",
+            "eq(username,-123)",
+            "eq(username,0)",
+            "eq(username,+0)",
+            "eq(username,-0)",
+            "eq(username,0123)",
+            "eq(username,-0123)",
+            "eq(username,9223372036854775807)",
+            "eq(username,9223372036854775808)",
+            "eq(username,-9223372036854775808)",
+            "eq(username,123.7)",
+            "eq(username,-123.7)",
+            "eq(username,+0.7)",
+            "eq(username,-0.7)",
+            "eq(username,-0.0)",
+            "eq(username,012.7)",
+            "eq(username,-.7)",
+            "eq(username,.7)",
+            "eq(username,127.)",
+            "eq(username,12.7.8)",
+            "eq(username,1e5)",
+            "eq(username,1.5e5)",
+            "eq(username,123 )",
+            "eq(username,123\t\n)",
+            "eq(username, 123)",
+            "eq(username ,123)",
+            "eq( username,123)",
+            "eq (username,123)",
+            " eq(username,123)",
+            "\n\teq(username,123)",
+            "eq(username,123) ",
+            "eq(username,\"abc\")",
+            "eq(username,\"abc\" )",
+            "eq(username,\"\")",
+            "eq(username,'')",
+            "eq(username,\"te\\\"st\")",
+            "eq(username,'te\\'st')",
+            "eq(username,\"te\\'st\")",
+            "eq(username,'te\\\"st')",
+            "eq(username,'te\"st')",
+            "eq(username,\"te'st\")",
+            "eq(username,\"a\\\\b\\/c\\bd\\fe\\nf\\rg\\th\")",
+            "eq(username,\"\\u00e4\\u00C4\\u20ac\")",
+            "eq(username,\"\\u00g4\")",
+            "eq(username,\"\\u00e\")",
+            "eq(username,\"\\x\")",
+            "eq(username,\"abc\"\")",
+            "eq(username,\"abc)",
+            "eq(username,\"!#$%&'()*+,/:;=?@[\\\\]{|} äaZ0\")",
+            "eq(username,true)",
+            "eq(username,false)",
+            "eq(username,null)",
+            "eq(username,true )",
+            "eq(username,truex)",
+            "eq(username,\"true\")",
+            "eq(username,test)",
+            "eq(username,TRUE)",
+            "lt(_modified,time:now)",
+            "lt(_modified,time:now )",
+            "lt(_modified,time:now-1h)",
+            "lt(_modified,time:)",
+            "lt(_modified,time:a\\/b)",
+            "lt(_modified,time:a\\x)",
+            "eq(thingId,foo:bar)",
+            "in(_modified,time:now,time:now_sh)",
+            "eq(attributes/a\\,b,1)",
+            "eq(attributes/a\\)b,1)",
+            "eq(attributes/a\\u0041b,1)",
+            "eq(attributes/a\\\"b,1)",
+            "eq(attributes/a\\'b,1)",
+            "eq(attributes/a\"b,1)",
+            "eq(attributes/a(b,1)",
+            "eq(attributes/ä ö,1)",
+            "eq(,1)",
+            "eq(username)",
+            "eq(username,1,2)",
+            "ne(username,123)",
+            "gt(width,123)",
+            "ge(width,123)",
+            "lt(width,123)",
+            "le(width,123)",
+            "gte(width,123)",
+            "like(width,\"test*\")",
+            "like(width,'test*')",
+            "like(width,123*)",
+            "ilike(width,\"TEST*\")",
+            "EQ(username,123)",
+            "eaq(username,123)",
+            "eq/(username,\"te\\\"st\")",
+            "eq(username;\"te\\\"st\")",
+            "in(attributes,\"test\",1,true)",
+            "in(attributes,null,\"test\",null)",
+            "in(attributes,1, 2)",
+            "in(attributes,1 ,2)",
+            "in(attributes)",
+            "in(attributes,)",
+            "and(eq(username,123),eq(coolness,\"super\"),or(eq(username,854)))",
+            "and(eq(username,123), eq(coolness,\"super\"))",
+            "and(eq(username,123) ,eq(coolness,\"super\"))",
+            "and( eq(username,123),eq(coolness,\"super\"))",
+            "and(eq(username,123),eq(coolness,\"super\") )",
+            "and(eq(username,123),\n\teq(coolness,\"super\"))",
+            "and(eq(username, 123), )",
+            "and(   ,eq(username, 123))",
+            "and(eq(username, 123)xx,eq(coolness,\"super\"))",
+            "and()",
+            "or(eq(username,123))",
+            "or(ASDF(username,123))",
+            "not(eq(username,123))",
+            "not(eq(username,123),eq(coolness,\"super\"))",
+            "not(not(not(exists(a))))",
+            "not()",
+            "exists(features/scanner)",
+            "exists(topic:action)",
+            "exists()",
+            "exists( features/scanner )",
+            "exists(\"features/scanner\")",
+            "exists(features/scanner,\"test\")",
+            "exists(features/scanner",
+            "eq(coolness,\"super\"))",
+            "eq(username, 123())",
+            "eq(username, 123.0())",
+            "eq(username, 123",
+            "(username, 123)",
+            "",
+            " ",
+            "eq",
+            "eq(",
+            "and(or(and(or(eq(a,1),ne(b,2.5)),like(c,\"x*\")),in(d,1,2,3)),not(exists(e)),ilike(f,'Y?'))"
+    );
+
+    private static final String MUTATION_CHARACTERS = "(),\"'\\/ \t-+.019eqandotimu:*";
+    private static final int MUTATIONS_PER_INPUT = 100;
+
+    @Test
+    public void parsesSameAsReferenceParser() {
+        final SoftAssertions softly = new SoftAssertions();
+        INPUTS.forEach(input -> assertConformance(softly, input));
+        softly.assertAll();
+    }
+
+    @Test
+    public void parsesMutatedInputsSameAsReferenceParser() {
+        final Random random = new Random(4711L);
+        final SoftAssertions softly = new SoftAssertions();
+        for (final String input : INPUTS) {
+            for (int i = 0; i < MUTATIONS_PER_INPUT; i++) {
+                assertConformance(softly, mutate(input, random));
+            }
+        }
+        softly.assertAll();
+    }
+
+    private static void assertConformance(final SoftAssertions softly, final String input) {
+        final Object expected = parse(REFERENCE_PARSER, input);
+        final Object actual = parse(UNDER_TEST, input);
+        softly.assertThat(actual)
+                .describedAs("result for input <%s>", input)
+                .isEqualTo(expected);
+        if (expected instanceof RootNode && actual instanceof RootNode) {
+            // equal values of different types like 1 and 1.0 are not distinguished by equals of the nodes
+            softly.assertThat(describeTypes((RootNode) actual))
+                    .describedAs("value types for input <%s>", input)
+                    .isEqualTo(describeTypes((RootNode) expected));
+        }
+    }
+
+    private static Object parse(final PredicateParser parser, final String input) {
+        try {
+            return parser.parse(input);
+        } catch (final ParserException e) {
+            return ParserException.class;
+        }
+    }
+
+    private static String describeTypes(final Node node) {
+        if (node instanceof SuperNode) {
+            return ((SuperNode) node).getChildren()
+                    .stream()
+                    .map(RqlPredicateParserConformanceTest::describeTypes)
+                    .collect(Collectors.joining(",", "(", ")"));
+        } else if (node instanceof MultiComparisonNode) {
+            return ((MultiComparisonNode) node).getComparisonValue()
+                    .stream()
+                    .map(RqlPredicateParserConformanceTest::describeType)
+                    .collect(Collectors.joining(",", "[", "]"));
+        } else if (node instanceof SingleComparisonNode) {
+            return describeType(((SingleComparisonNode) node).getComparisonValue());
+        } else {
+            return "";
+        }
+    }
+
+    private static String describeType(@Nullable final Object value) {
+        return null == value ? "null" : value.getClass().getSimpleName();
+    }
+
+    private static String mutate(final String input, final Random random) {
+        final StringBuilder sb = new StringBuilder(input);
+        final int mutations = 1 + random.nextInt(3);
+        for (int i = 0; i < mutations; i++) {
+            final int index = sb.length() == 0 ? 0 : random.nextInt(sb.length());
+            final char c = MUTATION_CHARACTERS.charAt(random.nextInt(MUTATION_CHARACTERS.length()));
+            switch (random.nextInt(3)) {
+                case 0:
+                    sb.insert(index, c);
+                    break;
+                case 1:
+                    if (sb.length() > 0) {
+                        sb.deleteCharAt(index);
+                    }
+                    break;
+                default:
+                    if (sb.length() > 0) {
+                        sb.setCharAt(index, c);
+                    }
+            }
+        }
+        return sb.toString();
+    }
+
+}
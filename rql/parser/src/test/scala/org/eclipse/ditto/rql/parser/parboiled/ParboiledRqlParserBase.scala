@@ -10,7 +10,7 @@
  *
  * SPDX-License-Identifier: EPL-2.0
  */
-package org.eclipse.ditto.rql.parser.internal
+package org.eclipse.ditto.rql.parser.parboiled
 
 import org.parboiled2._
 import org.parboiled2.support.hlist._
@@ -18,7 +18,7 @@ import org.parboiled2.support.hlist._
 import scala.{:: => _}
 
 /**
- * RQL Parser base containing commonly used types for both Predicate and Options parsing in EBNF:
+ * Former parboiled based RQL Parser base, kept as reference for the conformance tests, containing commonly used types for both Predicate and Options parsing in EBNF:
  * <pre>
  * Literal                    = FloatLiteral | IntegerLiteral | StringLiteral | "true" | "false" | "null"
  * DoubleLiteral              = [ '+' | '-' ], "0.", Digit, { Digit } | [ '+' | '-' ], DigitWithoutZero, { Digit }, '.', Digit, { Digit }
@@ -29,7 +29,7 @@ import scala.{:: => _}
  * PropertyLiteral            = ? printable characters ?
  * </pre>
  */
-class RqlParserBase(val input: ParserInput) extends Parser {
+class ParboiledRqlParserBase(val input: ParserInput) extends Parser {
   protected val sb = new java.lang.StringBuilder
 
   private def Digit = rule {
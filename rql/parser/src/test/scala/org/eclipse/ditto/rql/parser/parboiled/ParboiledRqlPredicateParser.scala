@@ -10,7 +10,7 @@
  *
  * SPDX-License-Identifier: EPL-2.0
  */
-package org.eclipse.ditto.rql.parser.internal
+package org.eclipse.ditto.rql.parser.parboiled
 
 import org.parboiled2._
 import org.eclipse.ditto.rql.model.ParserException
@@ -23,7 +23,8 @@ import scala.jdk.javaapi.CollectionConverters
 import scala.util.{Failure, Success}
 
 /**
-  * RQL Parser. Parses predicates in the RQL "standard" according to https://github.com/persvr/rql with the following
+  * Former parboiled based RQL Parser, kept as reference for the conformance tests of
+  * [[org.eclipse.ditto.rql.parser.internal.RqlPredicateParserImpl]]. Parses predicates in the RQL "standard" according to https://github.com/persvr/rql with the following
   * EBNF:
   * <pre>
   * Query                      = SingleComparisonOp | MultiComparisonOp | MultiLogicalOp | SingleLogicalOp | ExistsOp
@@ -41,7 +42,7 @@ import scala.util.{Failure, Success}
   * ComparisonValue            = Literal
   * </pre>
   */
-private class RqlPredicateParser(override val input: ParserInput) extends RqlParserBase(input) {
+private class ParboiledRqlPredicateParser(override val input: ParserInput) extends ParboiledRqlParserBase(input) {
 
   /**
     * @return the root for parsing an RQL Predicate.
@@ -200,7 +201,7 @@ private class RqlPredicateParser(override val input: ParserInput) extends RqlPar
 /**
   * Companion singleton Object.
   */
-object RqlPredicateParser extends PredicateParser {
+object ParboiledRqlPredicateParser extends PredicateParser {
 
   /**
     * Parse the specified input.
@@ -224,5 +225,5 @@ object RqlPredicateParser extends PredicateParser {
     }
   }
 
-  private def predicateParser(string: String): RqlPredicateParser = new RqlPredicateParser(ParserInput.apply(string))
+  private def predicateParser(string: String): ParboiledRqlPredicateParser = new ParboiledRqlPredicateParser(ParserInput.apply(string))
 }
@@ -27,9 +27,11 @@ import java.util.function.Supplier;
 final class ThingsFieldExpressionFactoryImpl implements ThingsFieldExpressionFactory {
 
     private final Map<String, String> simpleFieldMappings;
+    private final int hashCode;
 
     ThingsFieldExpressionFactoryImpl(final Map<String, String> simpleFieldMappings) {
         this.simpleFieldMappings = Collections.unmodifiableMap(new HashMap<>(simpleFieldMappings));
+        hashCode = this.simpleFieldMappings.hashCode();
     }
 
     @Override
@@ -157,4 +159,28 @@ final class ThingsFieldExpressionFactoryImpl implements ThingsFieldExpressionFac
         throw new IllegalArgumentException("Unknown property name: " + propertyName);
     }
 
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final ThingsFieldExpressionFactoryImpl that = (ThingsFieldExpressionFactoryImpl) o;
+        return hashCode == that.hashCode && simpleFieldMappings.equals(that.simpleFieldMappings);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "simpleFieldMappings=" + simpleFieldMappings +
+                "]";
+    }
+
 }
@@ -0,0 +1,227 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.rql.query.filter;
+
+import static org.eclipse.ditto.base.model.common.ConditionChecker.checkArgument;
+import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+import javax.annotation.concurrent.Immutable;
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.eclipse.ditto.rql.model.predicates.PredicateParser;
+import org.eclipse.ditto.rql.query.criteria.Criteria;
+import org.eclipse.ditto.rql.query.expression.ThingsFieldExpressionFactory;
+
+/**
+ * Bounded cache of parsed RQL filters.
+ * <p>
+ * The cached {@link Criteria} are keyed by the filter string together with the {@link PredicateParser} and the
+ * {@link ThingsFieldExpressionFactory} which parsed it, so that one cache may be shared by
+ * {@link QueryFilterCriteriaFactory}s with different accepted fields. The least recently used filters are evicted
+ * when the maximum size is exceeded. Filters which could not be parsed are not cached.
+ * </p>
+ *
+ * @since 3.8.0
+ */
+@ThreadSafe
+public final class ParsedCriteriaCache {
+
+    private final int maximumSize;
+    private final StatisticsListener statisticsListener;
+    private final Map<Key, Criteria> cache;
+
+    private ParsedCriteriaCache(final int maximumSize, final StatisticsListener statisticsListener) {
+        this.maximumSize = maximumSize;
+        this.statisticsListener = statisticsListener;
+        cache = new LinkedHashMap<Key, Criteria>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Key, Criteria> eldest) {
+                final boolean evict = size() > ParsedCriteriaCache.this.maximumSize;
+                if (evict) {
+                    statisticsListener.onEviction();
+                }
+                return evict;
+            }
+        };
+    }
+
+    /**
+     * Returns a new {@code ParsedCriteriaCache} holding up to {@code maximumSize} parsed filters.
+     *
+     * @param maximumSize the maximum number of cached filters.
+     * @return the instance.
+     * @throws IllegalArgumentException if {@code maximumSize} is negative.
+     */
+    public static ParsedCriteriaCache newInstance(final int maximumSize) {
+        return newInstance(maximumSize, new StatisticsListener() {});
+    }
+
+    /**
+     * Returns a new {@code ParsedCriteriaCache} holding up to {@code maximumSize} parsed filters which reports its
+     * hits, misses and evictions to the passed listener.
+     *
+     * @param maximumSize the maximum number of cached filters.
+     * @param statisticsListener the listener to notify, e.g. to record metrics.
+     * @return the instance.
+     * @throws IllegalArgumentException if {@code maximumSize} is negative.
+     * @throws NullPointerException if {@code statisticsListener} is {@code null}.
+     */
+    public static ParsedCriteriaCache newInstance(final int maximumSize,
+            final StatisticsListener statisticsListener) {
+
+        checkArgument(maximumSize, size -> size >= 0,
+                () -> "The maximum size must not be negative but it was <" + maximumSize + ">!");
+        return new ParsedCriteriaCache(maximumSize, checkNotNull(statisticsListener, "statisticsListener"));
+    }
+
+    /**
+     * Returns the cached criteria of the passed filter or parses it with the passed {@code parser} if it is not
+     * cached. Exceptions of the parser are propagated and nothing is cached for the filter.
+     *
+     * @param predicateParser the parser of the filter string.
+     * @param fieldExpressionFactory the factory of the field expressions of the criteria.
+     * @param filter the RQL filter string.
+     * @param parser parses the filter string with {@code predicateParser} and {@code fieldExpressionFactory}.
+     * @return the criteria.
+     */
+    Criteria get(final PredicateParser predicateParser, final ThingsFieldExpressionFactory fieldExpressionFactory,
+            final String filter, final Supplier<Criteria> parser) {
+
+        final Key key = new Key(predicateParser, fieldExpressionFactory, filter);
+        synchronized (cache) {
+            final Criteria cached = cache.get(key);
+            if (null != cached) {
+                statisticsListener.onHit();
+                return cached;
+            }
+        }
+        statisticsListener.onMiss();
+        // parse outside the lock; concurrent misses of the same filter parse equal criteria
+        final long parseStart = System.nanoTime();
+        final Criteria parsed;
+        try {
+            parsed = parser.get();
+        } catch (final RuntimeException e) {
+            statisticsListener.onParseFailure(System.nanoTime() - parseStart);
+            throw e;
+        }
+        synchronized (cache) {
+            cache.put(key, parsed);
+        }
+        statisticsListener.onParseSuccess(System.nanoTime() - parseStart);
+        return parsed;
+    }
+
+    /**
+     * Returns the number of currently cached filters.
+     *
+     * @return the number of cached filters.
+     */
+    public int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    /**
+     * Returns the maximum number of cached filters.
+     *
+     * @return the maximum size.
+     */
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * Is notified about the lookups and evictions of a {@code ParsedCriteriaCache}.
+     * Implementations must be thread-safe and should return quickly.
+     */
+    public interface StatisticsListener {
+
+        /**
+         * Called when a filter was found in the cache.
+         */
+        default void onHit() {}
+
+        /**
+         * Called when a filter was not found in the cache and is going to be parsed.
+         */
+        default void onMiss() {}
+
+        /**
+         * Called when a filter which was not found in the cache was parsed and added to the cache.
+         *
+         * @param parseTimeNanos the time it took to parse the filter in nanoseconds.
+         */
+        default void onParseSuccess(final long parseTimeNanos) {}
+
+        /**
+         * Called when a filter which was not found in the cache could not be parsed.
+         *
+         * @param parseTimeNanos the time until parsing the filter failed in nanoseconds.
+         */
+        default void onParseFailure(final long parseTimeNanos) {}
+
+        /**
+         * Called when the least recently used filter was evicted because the maximum size was exceeded.
+         */
+        default void onEviction() {}
+
+    }
+
+    @Immutable
+    private static final class Key {
+
+        private final PredicateParser predicateParser;
+        private final ThingsFieldExpressionFactory fieldExpressionFactory;
+        private final String filter;
+        private final int hashCode;
+
+        private Key(final PredicateParser predicateParser,
+                final ThingsFieldExpressionFactory fieldExpressionFactory,
+                final String filter) {
+
+            this.predicateParser = predicateParser;
+            this.fieldExpressionFactory = fieldExpressionFactory;
+            this.filter = filter;
+            hashCode = Objects.hash(predicateParser, fieldExpressionFactory, filter);
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            final Key that = (Key) o;
+            return hashCode == that.hashCode &&
+                    filter.equals(that.filter) &&
+                    predicateParser.equals(that.predicateParser) &&
+                    fieldExpressionFactory.equals(that.fieldExpressionFactory);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+    }
+
+}
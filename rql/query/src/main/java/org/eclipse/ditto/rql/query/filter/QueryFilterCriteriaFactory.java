@@ -16,6 +16,8 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Set;
 
+import javax.annotation.Nullable;
+
 import org.eclipse.ditto.base.model.common.ConditionChecker;
 import org.eclipse.ditto.base.model.exceptions.InvalidRqlExpressionException;
 import org.eclipse.ditto.base.model.headers.DittoHeaders;
@@ -36,14 +38,17 @@ public final class QueryFilterCriteriaFactory {
     private final CriteriaFactory criteriaFactory;
     private final ThingsFieldExpressionFactory fieldExpressionFactory;
     private final PredicateParser predicateParser;
+    @Nullable private final ParsedCriteriaCache parsedCriteriaCache;
 
     private QueryFilterCriteriaFactory(final CriteriaFactory criteriaFactory,
             final ThingsFieldExpressionFactory fieldExpressionFactory,
-            final PredicateParser predicateParser) {
+            final PredicateParser predicateParser,
+            @Nullable final ParsedCriteriaCache parsedCriteriaCache) {
 
         this.criteriaFactory = criteriaFactory;
         this.fieldExpressionFactory = fieldExpressionFactory;
         this.predicateParser = predicateParser;
+        this.parsedCriteriaCache = parsedCriteriaCache;
     }
 
     /**
@@ -55,7 +60,8 @@ public final class QueryFilterCriteriaFactory {
      */
     public static QueryFilterCriteriaFactory of(final ThingsFieldExpressionFactory fieldExpressionFactory,
             final PredicateParser predicateParser) {
-        return new QueryFilterCriteriaFactory(CriteriaFactory.getInstance(), fieldExpressionFactory, predicateParser);
+        return new QueryFilterCriteriaFactory(CriteriaFactory.getInstance(), fieldExpressionFactory, predicateParser,
+                null);
     }
 
     /**
@@ -81,6 +87,20 @@ public final class QueryFilterCriteriaFactory {
         return of(ModelBasedThingsFieldExpressionFactory.createInstance(placeholders), predicateParser);
     }
 
+    /**
+     * Returns a copy of this factory which looks up parsed filters in the passed cache before parsing them.
+     *
+     * @param parsedCriteriaCache the cache of parsed filters, may be shared by several factories.
+     * @return the query filter criteria factory using the cache.
+     * @throws NullPointerException if {@code parsedCriteriaCache} is {@code null}.
+     * @since 3.8.0
+     */
+    public QueryFilterCriteriaFactory withCache(final ParsedCriteriaCache parsedCriteriaCache) {
+        ConditionChecker.checkNotNull(parsedCriteriaCache, "parsedCriteriaCache");
+        return new QueryFilterCriteriaFactory(criteriaFactory, fieldExpressionFactory, predicateParser,
+                parsedCriteriaCache);
+    }
+
     /**
      * Creates a filter criterion based on a filter string which includes only items in the given namespaces
      *
@@ -128,21 +148,11 @@ public final class QueryFilterCriteriaFactory {
 
     private Criteria mapCriteria(final String filter, final DittoHeaders dittoHeaders) {
         try {
-            final ParameterPredicateVisitor visitor =
-                    new ParameterPredicateVisitor(criteriaFactory, fieldExpressionFactory);
-
-            final RootNode rootNode = predicateParser.parse(filter);
-            visitor.visit(rootNode);
-
-            final Criteria criteria;
-            if (visitor.getCriteria().size() > 1) {
-                criteria = criteriaFactory.and(visitor.getCriteria());
-            } else if (visitor.getCriteria().size() == 1) {
-                criteria = visitor.getCriteria().get(0);
-            } else {
-                criteria = criteriaFactory.any();
+            if (null != parsedCriteriaCache) {
+                return parsedCriteriaCache.get(predicateParser, fieldExpressionFactory, filter,
+                        () -> parseCriteria(filter));
             }
-            return criteria;
+            return parseCriteria(filter);
         } catch (final ParserException | IllegalArgumentException e) {
             throw InvalidRqlExpressionException.newBuilder()
                     .message(e.getMessage())
@@ -152,4 +162,22 @@ public final class QueryFilterCriteriaFactory {
         }
     }
 
+    private Criteria parseCriteria(final String filter) {
+        final ParameterPredicateVisitor visitor =
+                new ParameterPredicateVisitor(criteriaFactory, fieldExpressionFactory);
+
+        final RootNode rootNode = predicateParser.parse(filter);
+        visitor.visit(rootNode);
+
+        final Criteria criteria;
+        if (visitor.getCriteria().size() > 1) {
+            criteria = criteriaFactory.and(visitor.getCriteria());
+        } else if (visitor.getCriteria().size() == 1) {
+            criteria = visitor.getCriteria().get(0);
+        } else {
+            criteria = criteriaFactory.any();
+        }
+        return criteria;
+    }
+
 }
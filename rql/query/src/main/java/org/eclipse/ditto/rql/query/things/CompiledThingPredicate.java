@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.rql.query.things;
+
+import static org.eclipse.ditto.base.model.common.ConditionChecker.checkNotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.placeholders.PlaceholderResolver;
+import org.eclipse.ditto.rql.query.criteria.Criteria;
+import org.eclipse.ditto.things.model.Thing;
+
+/**
+ * RQL {@link Criteria} compiled for repeatedly evaluating whether {@link Thing}s match.
+ * <p>
+ * Evaluates to the same results as {@link ThingPredicateVisitor}, but the criteria is only visited once during
+ * compilation. Instances are immutable and may be shared, e.g. by all sessions using the same filter; the
+ * placeholder resolvers, which usually depend on the evaluated signal, are provided on each evaluation.
+ * </p>
+ *
+ * @since 3.8.0
+ */
+@Immutable
+public final class CompiledThingPredicate {
+
+    private final ThingPredicateCompilingVisitor.Node root;
+
+    private CompiledThingPredicate(final ThingPredicateCompilingVisitor.Node root) {
+        this.root = root;
+    }
+
+    /**
+     * Compiles the passed {@code criteria}.
+     *
+     * @param criteria the RQL criteria to compile.
+     * @return the compiled predicate.
+     * @throws NullPointerException if {@code criteria} is {@code null}.
+     */
+    public static CompiledThingPredicate of(final Criteria criteria) {
+        checkNotNull(criteria, "criteria");
+        return new CompiledThingPredicate(ThingPredicateCompilingVisitor.compile(criteria));
+    }
+
+    /**
+     * Tests whether the passed Thing matches.
+     *
+     * @param thing the Thing to test.
+     * @param placeholderResolvers the {@code PlaceholderResolver}s to use for resolving placeholders in the criteria.
+     * @return whether the Thing matches.
+     */
+    public boolean test(final Thing thing, final List<PlaceholderResolver<?>> placeholderResolvers) {
+        return root.test(ThingPredicateCompilingVisitor.EvaluationContext.of(thing, placeholderResolvers));
+    }
+
+    /**
+     * Tests whether the passed Thing in JSON format matches.
+     * As the JSON is evaluated as it is, "exists" on simple fields like {@code _revision} matches if the JSON
+     * contains the field, in contrast to {@link #test(Thing, List)} which ignores hidden fields of the Thing for it.
+     *
+     * @param thingJson the JSON of the Thing to test.
+     * @param placeholderResolvers the {@code PlaceholderResolver}s to use for resolving placeholders in the criteria.
+     * @return whether the Thing matches.
+     */
+    public boolean test(final JsonObject thingJson, final List<PlaceholderResolver<?>> placeholderResolvers) {
+        return root.test(ThingPredicateCompilingVisitor.EvaluationContext.of(thingJson, placeholderResolvers));
+    }
+
+    /**
+     * Returns a Java {@link Predicate} of Things which uses the passed placeholder resolvers.
+     *
+     * @param placeholderResolvers the {@code PlaceholderResolver}s to use for resolving placeholders in the criteria.
+     * @return the Predicate of a thing to test.
+     */
+    public Predicate<Thing> toPredicate(final Collection<PlaceholderResolver<?>> placeholderResolvers) {
+        final List<PlaceholderResolver<?>> resolvers =
+                Collections.unmodifiableList(new ArrayList<>(placeholderResolvers));
+        return thing -> test(thing, resolvers);
+    }
+
+    /**
+     * Returns a Java {@link Predicate} of Things which uses the passed placeholder resolvers.
+     *
+     * @param placeholderResolvers the {@code PlaceholderResolver}s to use for resolving placeholders in the criteria.
+     * @return the Predicate of a thing to test.
+     */
+    public Predicate<Thing> toPredicate(final PlaceholderResolver<?>... placeholderResolvers) {
+        return toPredicate(Arrays.asList(placeholderResolvers));
+    }
+
+    /**
+     * Returns a Java {@link Predicate} of Things in JSON format which uses the passed placeholder resolvers.
+     *
+     * @param placeholderResolvers the {@code PlaceholderResolver}s to use for resolving placeholders in the criteria.
+     * @return the Predicate of a thing JSON to test.
+     * @see #test(JsonObject, List)
+     */
+    public Predicate<JsonObject> toJsonPredicate(final PlaceholderResolver<?>... placeholderResolvers) {
+        final List<PlaceholderResolver<?>> resolvers =
+                Collections.unmodifiableList(Arrays.asList(placeholderResolvers));
+        return thingJson -> test(thingJson, resolvers);
+    }
+
+}
@@ -103,6 +103,30 @@ public final class ModelBasedThingsFieldExpressionFactory implements ThingsField
         return delegate.sortBy(propertyName);
     }
 
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final ModelBasedThingsFieldExpressionFactory that = (ModelBasedThingsFieldExpressionFactory) o;
+        return delegate.equals(that.delegate);
+    }
+
+    @Override
+    public int hashCode() {
+        return delegate.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "delegate=" + delegate +
+                "]";
+    }
+
     private static void addMapping(final Map<String, String> fieldMappings, final JsonFieldDefinition<?> definition) {
         final JsonPointer pointer = definition.getPointer();
         final String key = pointer.getRoot().map(JsonKey::toString).orElse("");
@@ -0,0 +1,778 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.rql.query.things;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import javax.annotation.Nullable;
+
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonKey;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonPointerInvalidException;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.placeholders.Expression;
+import org.eclipse.ditto.placeholders.PlaceholderResolver;
+import org.eclipse.ditto.rql.model.ParsedPlaceholder;
+import org.eclipse.ditto.rql.query.criteria.Criteria;
+import org.eclipse.ditto.rql.query.criteria.visitors.CriteriaVisitor;
+import org.eclipse.ditto.rql.query.criteria.visitors.PredicateVisitor;
+import org.eclipse.ditto.rql.query.expression.ExistsFieldExpression;
+import org.eclipse.ditto.rql.query.expression.FilterFieldExpression;
+import org.eclipse.ditto.rql.query.expression.visitors.ExistsFieldExpressionVisitor;
+import org.eclipse.ditto.rql.query.expression.visitors.FilterFieldExpressionVisitor;
+import org.eclipse.ditto.things.model.Thing;
+
+/**
+ * Compiles {@link Criteria} into a tree of {@link Node}s which are evaluated without visiting the criteria again.
+ * <p>
+ * Compared to {@link ThingPredicateVisitor}, JSON pointers, placeholder names, comparison constants and regular
+ * expressions are resolved once during compilation, the Thing is converted to JSON once per evaluation instead of
+ * once per field and the operands of logical operators are evaluated in the order of their estimated cost.
+ * The results are the same as the ones of {@link ThingPredicateVisitor}.
+ * </p>
+ */
+final class ThingPredicateCompilingVisitor implements CriteriaVisitor<ThingPredicateCompilingVisitor.Node> {
+
+    private static final ThingPredicateCompilingVisitor INSTANCE = new ThingPredicateCompilingVisitor();
+
+    private static final Object NULL_LITERAL = new Object();
+
+    private static final int COST_ANY = 0;
+    private static final int COST_EXISTS = 1;
+    private static final int COST_COMPARISON = 2;
+    private static final int COST_PLACEHOLDER = 2;
+    private static final int COST_REGEX = 8;
+
+    private ThingPredicateCompilingVisitor() {
+        super();
+    }
+
+    /**
+     * Compiles the passed criteria.
+     *
+     * @param criteria the criteria to compile.
+     * @return the root node of the compiled criteria.
+     */
+    static Node compile(final Criteria criteria) {
+        return criteria.accept(INSTANCE);
+    }
+
+    @Override
+    public Node visitAnd(final List<Node> conjuncts) {
+        final Node[] nodes = sortByCost(conjuncts);
+        return new LogicalNode(nodes, context -> {
+            for (final Node node : nodes) {
+                if (!node.test(context)) {
+                    return false;
+                }
+            }
+            return true;
+        });
+    }
+
+    @Override
+    public Node visitAny() {
+        return new LogicalNode(new Node[0], context -> true);
+    }
+
+    @Override
+    public Node visitExists(final ExistsFieldExpression fieldExpression) {
+        return fieldExpression.acceptExistsVisitor(ExistsNodeVisitor.INSTANCE);
+    }
+
+    @Override
+    public Node visitField(final FilterFieldExpression fieldExpression,
+            final org.eclipse.ditto.rql.query.criteria.Predicate predicate) {
+
+        final FieldAccessor field = new FieldAccessor(fieldExpression.acceptFilterVisitor(FieldNameVisitor.INSTANCE));
+        return predicate.accept(ComparisonNodeVisitor.INSTANCE).apply(field);
+    }
+
+    @Override
+    public Node visitNor(final List<Node> negativeDisjoints) {
+        final Node[] nodes = sortByCost(negativeDisjoints);
+        return new LogicalNode(nodes, context -> !anyMatches(nodes, context));
+    }
+
+    @Override
+    public Node visitOr(final List<Node> disjoints) {
+        final Node[] nodes = sortByCost(disjoints);
+        return new LogicalNode(nodes, context -> anyMatches(nodes, context));
+    }
+
+    private static boolean anyMatches(final Node[] nodes, final EvaluationContext context) {
+        for (final Node node : nodes) {
+            if (node.test(context)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Node[] sortByCost(final List<Node> nodes) {
+        // predicates do not have side effects, so evaluating cheap ones first does not change the result
+        return nodes.stream()
+                .sorted(Comparator.comparingInt(Node::getCost))
+                .toArray(Node[]::new);
+    }
+
+    @Nullable
+    private static String resolvePlaceholder(final String prefix, final String name,
+            final EvaluationContext context) {
+
+        for (final PlaceholderResolver<?> resolver : context.getPlaceholderResolvers()) {
+            if (prefix.equals(resolver.getPrefix()) && resolver.supports(name)) {
+                final List<String> values = resolver.resolveValues(name);
+                if (!values.isEmpty()) {
+                    return values.get(0);
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * A compiled criteria node.
+     */
+    interface Node {
+
+        /**
+         * Evaluates this node.
+         *
+         * @param context the Thing and placeholder resolvers to evaluate this node for.
+         * @return whether the evaluated Thing matches.
+         */
+        boolean test(EvaluationContext context);
+
+        /**
+         * Returns the estimated cost of evaluating this node, used for ordering the operands of logical operators.
+         *
+         * @return the estimated cost.
+         */
+        int getCost();
+
+    }
+
+    /**
+     * Holds the Thing in JSON format and the placeholder resolvers of a single evaluation.
+     * The JSON representations of a {@link Thing} are created once and only if required.
+     */
+    static final class EvaluationContext {
+
+        @Nullable private final Thing thing;
+        @Nullable private JsonObject thingJson;
+        @Nullable private JsonObject regularThingJson;
+        private final List<PlaceholderResolver<?>> placeholderResolvers;
+
+        private EvaluationContext(@Nullable final Thing thing, @Nullable final JsonObject thingJson,
+                final List<PlaceholderResolver<?>> placeholderResolvers) {
+
+            this.thing = thing;
+            this.thingJson = thingJson;
+            regularThingJson = thingJson;
+            this.placeholderResolvers = placeholderResolvers;
+        }
+
+        static EvaluationContext of(final Thing thing, final List<PlaceholderResolver<?>> placeholderResolvers) {
+            return new EvaluationContext(thing, null, placeholderResolvers);
+        }
+
+        static EvaluationContext of(final JsonObject thingJson,
+                final List<PlaceholderResolver<?>> placeholderResolvers) {
+
+            return new EvaluationContext(null, thingJson, placeholderResolvers);
+        }
+
+        /**
+         * @return the Thing in JSON format including all special and hidden fields.
+         */
+        JsonObject getThingJson() {
+            if (null == thingJson && null != thing) {
+                thingJson = thing.toJson(field -> true);
+            }
+            return thingJson;
+        }
+
+        /**
+         * @return the Thing in JSON format without hidden fields.
+         */
+        JsonObject getRegularThingJson() {
+            if (null == regularThingJson && null != thing) {
+                regularThingJson = thing.toJson();
+            }
+            return regularThingJson;
+        }
+
+        List<PlaceholderResolver<?>> getPlaceholderResolvers() {
+            return placeholderResolvers;
+        }
+
+    }
+
+    private static final class LogicalNode implements Node {
+
+        private final Node[] operands;
+        private final Predicate<EvaluationContext> predicate;
+
+        private LogicalNode(final Node[] operands, final Predicate<EvaluationContext> predicate) {
+            this.operands = operands;
+            this.predicate = predicate;
+        }
+
+        @Override
+        public boolean test(final EvaluationContext context) {
+            return predicate.test(context);
+        }
+
+        @Override
+        public int getCost() {
+            int cost = COST_ANY;
+            for (final Node operand : operands) {
+                cost += operand.getCost();
+            }
+            return cost;
+        }
+
+    }
+
+    private static final class ExistsNode implements Node {
+
+        private final Predicate<EvaluationContext> predicate;
+        private final int cost;
+
+        private ExistsNode(final Predicate<EvaluationContext> predicate, final int cost) {
+            this.predicate = predicate;
+            this.cost = cost;
+        }
+
+        @Override
+        public boolean test(final EvaluationContext context) {
+            return predicate.test(context);
+        }
+
+        @Override
+        public int getCost() {
+            return cost;
+        }
+
+    }
+
+    /**
+     * Determines the field name used by {@link ThingPredicatePredicateVisitor} for a filter field expression.
+     */
+    private static final class FieldNameVisitor implements FilterFieldExpressionVisitor<String> {
+
+        private static final FieldNameVisitor INSTANCE = new FieldNameVisitor();
+
+        @Override
+        public String visitAttribute(final String key) {
+            return "/attributes/" + key;
+        }
+
+        @Override
+        public String visitFeatureDefinition(final String featureId) {
+            return "/features/" + featureId + "/definition";
+        }
+
+        @Override
+        public String visitFeatureIdProperty(final String featureId, final String property) {
+            return "/features/" + featureId + "/properties/" + property;
+        }
+
+        @Override
+        public String visitFeatureIdDesiredProperty(final CharSequence featureId,
+                final CharSequence desiredProperty) {
+
+            return "/features/" + featureId + "/desiredProperties/" + desiredProperty;
+        }
+
+        @Override
+        public String visitSimple(final String fieldName) {
+            return fieldName;
+        }
+
+        @Override
+        public String visitMetadata(final String key) {
+            return "_metadata/" + key;
+        }
+
+    }
+
+    /**
+     * Resolves the value of a field either from the Thing or, if the Thing does not contain it, from the placeholder
+     * resolvers.
+     */
+    private static final class FieldAccessor {
+
+        private final CharSequence pointer;
+        @Nullable private final String placeholderPrefix;
+        @Nullable private final String placeholderName;
+
+        private FieldAccessor(final String fieldName) {
+            pointer = parsePointer(fieldName);
+            final String[] fieldNameSplit = fieldName.split(Expression.SEPARATOR, 2);
+            if (fieldNameSplit.length > 1) {
+                placeholderPrefix = fieldNameSplit[0];
+                placeholderName = fieldNameSplit[1];
+            } else {
+                placeholderPrefix = null;
+                placeholderName = null;
+            }
+        }
+
+        private static CharSequence parsePointer(final String fieldName) {
+            try {
+                return JsonPointer.of(fieldName);
+            } catch (final JsonPointerInvalidException e) {
+                // keep the field name in order to fail on evaluation like ThingPredicatePredicateVisitor does
+                return fieldName;
+            }
+        }
+
+        @Nullable
+        private JsonValue getValue(final EvaluationContext context) {
+            final Optional<JsonValue> thingValue = context.getThingJson().getValueFlatteningArrays(pointer);
+            if (thingValue.isPresent()) {
+                return thingValue.get();
+            } else if (null != placeholderPrefix) {
+                final String resolved = resolvePlaceholder(placeholderPrefix, placeholderName, context);
+                return null != resolved ? JsonValue.of(resolved) : null;
+            } else {
+                return null;
+            }
+        }
+
+        private int getCost() {
+            return null != placeholderPrefix ? COST_COMPARISON + COST_PLACEHOLDER : COST_COMPARISON;
+        }
+
+        /**
+         * Tests whether any of the plain Java values of the field matches the predicate.
+         */
+        private boolean anyValueMatches(final EvaluationContext context,
+                final Predicate<Object> valuePredicate) {
+
+            final JsonValue value = getValue(context);
+            return null != value && anyValueMatches(value, valuePredicate);
+        }
+
+        private static boolean anyValueMatches(final JsonValue jsonValue,
+                final Predicate<Object> valuePredicate) {
+
+            if (jsonValue.isNull()) {
+                return valuePredicate.test(NULL_LITERAL);
+            } else if (jsonValue.isArray()) {
+                final JsonArray jsonArray = jsonValue.asArray();
+                for (final JsonValue element : jsonArray) {
+                    if (anyValueMatches(element, valuePredicate)) {
+                        return true;
+                    }
+                }
+                return false;
+            } else if (jsonValue.isObject()) {
+                // filtering objects is not supported
+                return false;
+            } else {
+                return valuePredicate.test(toJava(jsonValue));
+            }
+        }
+
+        @Nullable
+        private static Object toJava(final JsonValue jsonValue) {
+            if (jsonValue.isString()) {
+                return jsonValue.asString();
+            } else if (jsonValue.isBoolean()) {
+                return jsonValue.asBoolean();
+            } else if (jsonValue.isInt()) {
+                return jsonValue.asInt();
+            } else if (jsonValue.isLong()) {
+                return jsonValue.asLong();
+            } else if (jsonValue.isNumber()) {
+                return jsonValue.asDouble();
+            } else {
+                return null;
+            }
+        }
+
+    }
+
+    /**
+     * A comparison constant of a predicate with pre-computed representations.
+     */
+    @SuppressWarnings({"rawtypes", "unchecked", "java:S3740"})
+    private static final class Constant {
+
+        private static final Constant NULL = new Constant(null);
+
+        private final boolean isNull;
+        @Nullable private final Comparable value;
+        @Nullable private final String valueString;
+        @Nullable private final BigDecimal valueAsDecimal;
+
+        private Constant(@Nullable final Object value) {
+            isNull = null == value;
+            if (value instanceof Number) {
+                this.value = new BigDecimal(value.toString());
+            } else if (value instanceof Comparable) {
+                this.value = (Comparable) value;
+            } else {
+                this.value = null;
+            }
+            valueString = null != this.value ? this.value.toString() : null;
+            valueAsDecimal = this.value instanceof String ? parseDecimal((String) this.value) : null;
+        }
+
+        private static Constant of(@Nullable final Object value) {
+            return null == value ? NULL : new Constant(value);
+        }
+
+        @Nullable
+        private static BigDecimal parseDecimal(final String string) {
+            try {
+                return new BigDecimal(string);
+            } catch (final NumberFormatException e) {
+                return null;
+            }
+        }
+
+        private boolean isNull() {
+            return isNull;
+        }
+
+        private boolean isComparable() {
+            return null != value;
+        }
+
+        /**
+         * Compares the passed plain Java value of a field to this constant the same way
+         * {@link ThingPredicatePredicateVisitor} does.
+         */
+        private int compareTo(final Comparable<?> javaFieldValue) {
+            final Comparable fieldValue = asNumber(javaFieldValue);
+            if (null != valueAsDecimal && fieldValue instanceof BigDecimal) {
+                return fieldValue.compareTo(valueAsDecimal);
+            } else if (value instanceof BigDecimal && fieldValue instanceof String) {
+                try {
+                    return new BigDecimal((String) fieldValue).compareTo((BigDecimal) value);
+                } catch (final NumberFormatException e) {
+                    // continue trying
+                }
+            }
+
+            if (value.getClass().equals(fieldValue.getClass())) {
+                return fieldValue.compareTo(value);
+            } else {
+                return fieldValue.toString().compareTo(valueString);
+            }
+        }
+
+        private static Comparable asNumber(final Comparable<?> comparable) {
+            if (comparable instanceof Integer || comparable instanceof Long) {
+                return BigDecimal.valueOf(((Number) comparable).longValue());
+            } else if (comparable instanceof Number) {
+                return new BigDecimal(comparable.toString());
+            }
+            return comparable;
+        }
+
+    }
+
+    /**
+     * Supplies the comparison constant of a predicate, either the pre-computed one or the one resolved from a
+     * placeholder during evaluation.
+     */
+    private interface ConstantSupplier extends Function<EvaluationContext, Constant> {
+
+        static ConstantSupplier of(@Nullable final Object value) {
+            if (value instanceof ParsedPlaceholder) {
+                final ParsedPlaceholder placeholder = (ParsedPlaceholder) value;
+                final String prefix = placeholder.getPrefix();
+                final String name = placeholder.getName();
+                return context -> Constant.of(resolvePlaceholder(prefix, name, context));
+            } else {
+                final Constant constant = Constant.of(value);
+                return context -> constant;
+            }
+        }
+
+        static int getCost(@Nullable final Object value) {
+            return value instanceof ParsedPlaceholder ? COST_PLACEHOLDER : 0;
+        }
+
+    }
+
+    private static final class ComparisonNode implements Node {
+
+        private final FieldAccessor field;
+        private final Predicate<EvaluationContext> predicate;
+        private final int additionalCost;
+
+        private ComparisonNode(final FieldAccessor field, final Predicate<EvaluationContext> predicate,
+                final int additionalCost) {
+
+            this.field = field;
+            this.predicate = predicate;
+            this.additionalCost = additionalCost;
+        }
+
+        @Override
+        public boolean test(final EvaluationContext context) {
+            return predicate.test(context);
+        }
+
+        @Override
+        public int getCost() {
+            return field.getCost() + additionalCost;
+        }
+
+    }
+
+    /**
+     * Compiles the predicates of filter fields.
+     */
+    @SuppressWarnings({"rawtypes", "java:S3740"})
+    private static final class ComparisonNodeVisitor implements PredicateVisitor<Function<FieldAccessor, Node>> {
+
+        private static final ComparisonNodeVisitor INSTANCE = new ComparisonNodeVisitor();
+
+        @Override
+        public Function<FieldAccessor, Node> visitEq(@Nullable final Object value) {
+            final ConstantSupplier constantSupplier = ConstantSupplier.of(value);
+            return field -> new ComparisonNode(field, context -> isEqual(field, constantSupplier.apply(context),
+                    context), ConstantSupplier.getCost(value));
+        }
+
+        @Override
+        public Function<FieldAccessor, Node> visitNe(@Nullable final Object value) {
+            final ConstantSupplier constantSupplier = ConstantSupplier.of(value);
+            return field -> new ComparisonNode(field, context -> !isEqual(field, constantSupplier.apply(context),
+                    context), ConstantSupplier.getCost(value));
+        }
+
+        private static boolean isEqual(final FieldAccessor field, final Constant constant,
+                final EvaluationContext context) {
+
+            return field.anyValueMatches(context, obj -> {
+                // special NULL handling
+                if (NULL_LITERAL == obj && constant.isNull()) {
+                    return true;
+                } else if (obj instanceof Comparable && constant.isComparable()) {
+                    return constant.compareTo((Comparable<?>) obj) == 0;
+                }
+                return false;
+            });
+        }
+
+        @Override
+        public Function<FieldAccessor, Node> visitGe(@Nullable final Object value) {
+            return compareTo(value, comparison -> comparison >= 0);
+        }
+
+        @Override
+        public Function<FieldAccessor, Node> visitGt(@Nullable final Object value) {
+            return compareTo(value, comparison -> comparison > 0);
+        }
+
+        @Override
+        public Function<FieldAccessor, Node> visitLe(@Nullable final Object value) {
+            return compareTo(value, comparison -> comparison <= 0);
+        }
+
+        @Override
+        public Function<FieldAccessor, Node> visitLt(@Nullable final Object value) {
+            return compareTo(value, comparison -> comparison < 0);
+        }
+
+        private static Function<FieldAccessor, Node> compareTo(@Nullable final Object value,
+                final IntPredicate comparisonPredicate) {
+
+            final ConstantSupplier constantSupplier = ConstantSupplier.of(value);
+            return field -> new ComparisonNode(field, context -> {
+                final Constant constant = constantSupplier.apply(context);
+                return constant.isComparable() && field.anyValueMatches(context, obj ->
+                        obj instanceof Comparable &&
+                                comparisonPredicate.test(constant.compareTo((Comparable<?>) obj)));
+            }, ConstantSupplier.getCost(value));
+        }
+
+        @Override
+        public Function<FieldAccessor, Node> visitIn(final List<?> values) {
+            final List<ConstantSupplier> constantSuppliers = new ArrayList<>(values.size());
+            int cost = values.size();
+            for (final Object value : values) {
+                constantSuppliers.add(ConstantSupplier.of(value));
+                cost += ConstantSupplier.getCost(value);
+            }
+            final int additionalCost = cost;
+            return field -> new ComparisonNode(field, context -> field.anyValueMatches(context, obj -> {
+                if (obj instanceof Comparable) {
+                    for (final ConstantSupplier constantSupplier : constantSuppliers) {
+                        final Constant constant = constantSupplier.apply(context);
+                        if (constant.isComparable() && constant.compareTo((Comparable<?>) obj) == 0) {
+                            return true;
+                        }
+                    }
+                }
+                return false;
+            }), additionalCost);
+        }
+
+        @Override
+        public Function<FieldAccessor, Node> visitLike(@Nullable final String value) {
+            return matches(value, 0);
+        }
+
+        @Override
+        public Function<FieldAccessor, Node> visitILike(@Nullable final String value) {
+            return matches(value, Pattern.CASE_INSENSITIVE);
+        }
+
+        private static Function<FieldAccessor, Node> matches(@Nullable final String value, final int flags) {
+            if (null == value) {
+                return field -> new ComparisonNode(field, context -> false, 0);
+            }
+            final Function<EvaluationContext, Pattern> patternSupplier = compilePattern(value, flags);
+            return field -> new ComparisonNode(field, context -> {
+                final Pattern pattern = patternSupplier.apply(context);
+                return field.anyValueMatches(context, obj -> pattern.matcher(String.valueOf(obj)).matches());
+            }, COST_REGEX);
+        }
+
+        private static Function<EvaluationContext, Pattern> compilePattern(final String value, final int flags) {
+            try {
+                final Pattern pattern = Pattern.compile(value, flags);
+                return context -> pattern;
+            } catch (final PatternSyntaxException e) {
+                // fail on evaluation like ThingPredicatePredicateVisitor does
+                return context -> Pattern.compile(value, flags);
+            }
+        }
+
+    }
+
+    /**
+     * Compiles "exists" expressions the same way {@link ExistsThingPredicateVisitor} evaluates them.
+     */
+    private static final class ExistsNodeVisitor implements ExistsFieldExpressionVisitor<Node> {
+
+        private static final ExistsNodeVisitor INSTANCE = new ExistsNodeVisitor();
+
+        private static final JsonPointer ATTRIBUTES = Thing.JsonFields.ATTRIBUTES.getPointer();
+        private static final JsonPointer FEATURES = Thing.JsonFields.FEATURES.getPointer();
+        private static final JsonPointer METADATA = Thing.JsonFields.METADATA.getPointer();
+
+        @Override
+        public Node visitAttribute(final String key) {
+            return new ExistsNode(context -> getObject(context, ATTRIBUTES)
+                    .flatMap(attributes -> attributes.getValueFlatteningArrays(key))
+                    .isPresent(), COST_EXISTS);
+        }
+
+        @Override
+        public Node visitFeature(final String featureId) {
+            return existsInThing(FEATURES.addLeaf(JsonKey.of(featureId)));
+        }
+
+        @Override
+        public Node visitFeatureDefinition(final String featureId) {
+            return existsInThing(FEATURES.addLeaf(JsonKey.of(featureId))
+                    .append(JsonPointer.of("definition")));
+        }
+
+        @Override
+        public Node visitFeatureProperties(final CharSequence featureId) {
+            return existsInThing(FEATURES.addLeaf(JsonKey.of(featureId))
+                    .append(JsonPointer.of("properties")));
+        }
+
+        @Override
+        public Node visitFeatureDesiredProperties(final CharSequence featureId) {
+            return existsInThing(FEATURES.addLeaf(JsonKey.of(featureId))
+                    .append(JsonPointer.of("desiredProperties")));
+        }
+
+        @Override
+        public Node visitFeatureIdProperty(final String featureId, final String property) {
+            return existsInFeatureObject(featureId, "properties", property);
+        }
+
+        @Override
+        public Node visitFeatureIdDesiredProperty(final CharSequence featureId, final CharSequence property) {
+            return existsInFeatureObject(featureId, "desiredProperties", property);
+        }
+
+        @Override
+        public Node visitSimple(final String fieldName) {
+            final String[] fieldNameSplit = fieldName.split(Expression.SEPARATOR, 2);
+            final boolean isPlaceholder = fieldNameSplit.length > 1;
+            return new ExistsNode(context -> {
+                if (context.getRegularThingJson().getValue(fieldName).isPresent()) {
+                    return true;
+                }
+                return isPlaceholder && existsInPlaceholderResolvers(fieldNameSplit[0], fieldNameSplit[1], context);
+            }, isPlaceholder ? COST_EXISTS + COST_PLACEHOLDER : COST_EXISTS);
+        }
+
+        @Override
+        public Node visitMetadata(final String key) {
+            return new ExistsNode(context -> getObject(context, METADATA)
+                    .filter(metadata -> metadata.contains(key))
+                    .isPresent(), COST_EXISTS);
+        }
+
+        private static Node existsInThing(final JsonPointer pointer) {
+            return new ExistsNode(context -> context.getThingJson().getValue(pointer).isPresent(), COST_EXISTS);
+        }
+
+        private static Node existsInFeatureObject(final CharSequence featureId, final String objectName,
+                final CharSequence key) {
+
+            final JsonPointer objectPointer = FEATURES.addLeaf(JsonKey.of(featureId))
+                    .append(JsonPointer.of(objectName));
+            return new ExistsNode(context -> getObject(context, objectPointer)
+                    .flatMap(object -> object.getValueFlatteningArrays(key))
+                    .isPresent(), COST_EXISTS);
+        }
+
+        private static Optional<JsonObject> getObject(final EvaluationContext context, final JsonPointer pointer) {
+            return context.getThingJson().getValue(pointer)
+                    .filter(JsonValue::isObject)
+                    .map(JsonValue::asObject);
+        }
+
+        private static boolean existsInPlaceholderResolvers(final String prefix, final String name,
+                final EvaluationContext context) {
+
+            for (final PlaceholderResolver<?> resolver : context.getPlaceholderResolvers()) {
+                if (prefix.equals(resolver.getPrefix()) && resolver.supports(name) &&
+                        !resolver.resolveValues(name).isEmpty()) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+    }
+
+}
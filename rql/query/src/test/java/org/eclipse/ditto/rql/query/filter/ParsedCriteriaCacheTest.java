@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.rql.query.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.ditto.base.model.exceptions.InvalidRqlExpressionException;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.placeholders.Placeholder;
+import org.eclipse.ditto.placeholders.PlaceholderFactory;
+import org.eclipse.ditto.rql.parser.RqlPredicateParser;
+import org.eclipse.ditto.rql.query.criteria.Criteria;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link ParsedCriteriaCache} used by {@link QueryFilterCriteriaFactory}.
+ */
+public final class ParsedCriteriaCacheTest {
+
+    private final CountingListener listener = new CountingListener();
+
+    @Test
+    public void sameFilterIsParsedOnceAcrossFactories() {
+        final ParsedCriteriaCache underTest = ParsedCriteriaCache.newInstance(10, listener);
+        final QueryFilterCriteriaFactory first =
+                QueryFilterCriteriaFactory.modelBased(RqlPredicateParser.getInstance()).withCache(underTest);
+        final QueryFilterCriteriaFactory second =
+                QueryFilterCriteriaFactory.modelBased(RqlPredicateParser.getInstance()).withCache(underTest);
+
+        final Criteria parsed = first.filterCriteria("eq(attributes/a,1)", DittoHeaders.empty());
+        final Criteria cached = second.filterCriteria("eq(attributes/a,1)", DittoHeaders.empty());
+
+        assertThat(cached).isSameAs(parsed);
+        assertThat(listener.misses).hasValue(1);
+        assertThat(listener.hits).hasValue(1);
+        assertThat(listener.parseSuccesses).hasValue(1);
+    }
+
+    @Test
+    public void factoriesWithEqualPlaceholdersShareCachedFilters() {
+        final ParsedCriteriaCache underTest = ParsedCriteriaCache.newInstance(10, listener);
+        final QueryFilterCriteriaFactory first = QueryFilterCriteriaFactory.modelBased(
+                RqlPredicateParser.getInstance(), new TestPlaceholder()).withCache(underTest);
+        final QueryFilterCriteriaFactory second = QueryFilterCriteriaFactory.modelBased(
+                RqlPredicateParser.getInstance(), new TestPlaceholder()).withCache(underTest);
+
+        final Criteria parsed = first.filterCriteria("eq(test:name,\"a\")", DittoHeaders.empty());
+        final Criteria cached = second.filterCriteria("eq(test:name,\"a\")", DittoHeaders.empty());
+
+        assertThat(cached).isSameAs(parsed);
+    }
+
+    @Test
+    public void filtersOfFactoriesWithDifferentFieldsAreCachedSeparately() {
+        final ParsedCriteriaCache underTest = ParsedCriteriaCache.newInstance(10, listener);
+        final QueryFilterCriteriaFactory withoutPlaceholders =
+                QueryFilterCriteriaFactory.modelBased(RqlPredicateParser.getInstance()).withCache(underTest);
+        final QueryFilterCriteriaFactory withPlaceholders = QueryFilterCriteriaFactory.modelBased(
+                RqlPredicateParser.getInstance(),
+                PlaceholderFactory.newPlaceholderResolver(new TestPlaceholder(), "a"))
+                .withCache(underTest);
+
+        withPlaceholders.filterCriteria("exists(test:name)", DittoHeaders.empty());
+
+        assertThatExceptionOfType(InvalidRqlExpressionException.class)
+                .isThrownBy(() -> withoutPlaceholders.filterCriteria("exists(test:name)", DittoHeaders.empty()));
+        assertThat(underTest.size()).isEqualTo(1);
+    }
+
+    @Test
+    public void leastRecentlyUsedFilterIsEvicted() {
+        final ParsedCriteriaCache underTest = ParsedCriteriaCache.newInstance(2, listener);
+        final QueryFilterCriteriaFactory factory =
+                QueryFilterCriteriaFactory.modelBased(RqlPredicateParser.getInstance()).withCache(underTest);
+
+        factory.filterCriteria("eq(attributes/a,1)", DittoHeaders.empty());
+        factory.filterCriteria("eq(attributes/a,2)", DittoHeaders.empty());
+        factory.filterCriteria("eq(attributes/a,1)", DittoHeaders.empty());
+        factory.filterCriteria("eq(attributes/a,3)", DittoHeaders.empty());
+        factory.filterCriteria("eq(attributes/a,1)", DittoHeaders.empty());
+        factory.filterCriteria("eq(attributes/a,2)", DittoHeaders.empty());
+
+        assertThat(underTest.size()).isEqualTo(2);
+        assertThat(listener.misses).hasValue(4);
+        assertThat(listener.hits).hasValue(2);
+        assertThat(listener.evictions).hasValue(2);
+    }
+
+    @Test
+    public void invalidFilterIsNotCached() {
+        final ParsedCriteriaCache underTest = ParsedCriteriaCache.newInstance(10, listener);
+        final QueryFilterCriteriaFactory factory =
+                QueryFilterCriteriaFactory.modelBased(RqlPredicateParser.getInstance()).withCache(underTest);
+        final DittoHeaders dittoHeaders = DittoHeaders.newBuilder().correlationId("invalid").build();
+
+        assertThatExceptionOfType(InvalidRqlExpressionException.class)
+                .isThrownBy(() -> factory.filterCriteria("eq(attributes/a", dittoHeaders))
+                .satisfies(e -> assertThat(e.getDittoHeaders()).isEqualTo(dittoHeaders));
+        assertThat(underTest.size()).isZero();
+        assertThat(listener.parseFailures).hasValue(1);
+    }
+
+    private static final class CountingListener implements ParsedCriteriaCache.StatisticsListener {
+
+        private final AtomicInteger hits = new AtomicInteger();
+        private final AtomicInteger misses = new AtomicInteger();
+        private final AtomicInteger evictions = new AtomicInteger();
+        private final AtomicInteger parseSuccesses = new AtomicInteger();
+        private final AtomicInteger parseFailures = new AtomicInteger();
+
+        @Override
+        public void onHit() {
+            hits.incrementAndGet();
+        }
+
+        @Override
+        public void onMiss() {
+            misses.incrementAndGet();
+        }
+
+        @Override
+        public void onEviction() {
+            evictions.incrementAndGet();
+        }
+
+        @Override
+        public void onParseSuccess(final long parseTimeNanos) {
+            parseSuccesses.incrementAndGet();
+        }
+
+        @Override
+        public void onParseFailure(final long parseTimeNanos) {
+            parseFailures.incrementAndGet();
+        }
+
+    }
+
+    private static final class TestPlaceholder implements Placeholder<String> {
+
+        @Override
+        public String getPrefix() {
+            return "test";
+        }
+
+        @Override
+        public List<String> getSupportedNames() {
+            return Collections.singletonList("name");
+        }
+
+        @Override
+        public boolean supports(final String name) {
+            return "name".equals(name);
+        }
+
+        @Override
+        public List<String> resolveValues(final String placeholderSource, final String name) {
+            return Collections.singletonList(placeholderSource);
+        }
+
+    }
+
+}
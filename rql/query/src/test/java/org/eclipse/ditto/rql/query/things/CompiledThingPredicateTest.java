@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.rql.query.things;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.assertj.core.api.SoftAssertions;
+import org.eclipse.ditto.base.model.entity.metadata.Metadata;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.json.JsonArray;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.placeholders.PlaceholderFactory;
+import org.eclipse.ditto.placeholders.PlaceholderResolver;
+import org.eclipse.ditto.rql.parser.RqlPredicateParser;
+import org.eclipse.ditto.rql.query.criteria.Criteria;
+import org.eclipse.ditto.rql.query.filter.QueryFilterCriteriaFactory;
+import org.eclipse.ditto.things.model.FeatureProperties;
+import org.eclipse.ditto.things.model.Thing;
+import org.eclipse.ditto.things.model.ThingId;
+import org.junit.Test;
+
+/**
+ * Unit test for {@link CompiledThingPredicate}, verifying that it evaluates to the same results as
+ * {@link ThingPredicateVisitor}.
+ */
+public final class CompiledThingPredicateTest {
+
+    private static final PlaceholderResolver<String> PLACEHOLDER_RESOLVER =
+            PlaceholderFactory.newPlaceholderResolver(new ThingPredicateTestPlaceholder(), "LoreM");
+
+    private static final QueryFilterCriteriaFactory CRITERIA_FACTORY =
+            QueryFilterCriteriaFactory.modelBased(RqlPredicateParser.getInstance(), PLACEHOLDER_RESOLVER);
+
+    private static final Thing THING = Thing.newBuilder()
+            .setId(ThingId.of("org.eclipse.ditto", "compiled"))
+            .setRevision(42L)
+            .setModified(Instant.parse("2026-01-02T03:04:05Z"))
+            .setAttribute(JsonPointer.of("anInteger"), JsonValue.of(42))
+            .setAttribute(JsonPointer.of("aLong"), JsonValue.of(42456489489489L))
+            .setAttribute(JsonPointer.of("aDouble"), JsonValue.of(22.26))
+            .setAttribute(JsonPointer.of("aBoolean"), JsonValue.of(true))
+            .setAttribute(JsonPointer.of("aString"), JsonValue.of("ccc_string"))
+            .setAttribute(JsonPointer.of("aNumericString"), JsonValue.of("42"))
+            .setAttribute(JsonPointer.of("aNull"), JsonValue.nullLiteral())
+            .setAttribute(JsonPointer.of("anArray"), JsonArray.of(1, "two", 3.5, true))
+            .setAttribute(JsonPointer.of("anArrayOfObjects"), JsonArray.of(
+                    JsonObject.newBuilder().set("anInteger", 1).set("aBoolean", false).build(),
+                    JsonObject.newBuilder().set("anInteger", 2).build()))
+            .setFeature("foo", FeatureProperties.newBuilder()
+                    .set("anInteger", 42)
+                    .set("aString", "foo_string")
+                    .build())
+            .setMetadata(Metadata.newBuilder().set("/attributes/aString", "meta").build())
+            .build();
+
+    private static final Thing EMPTY_THING = Thing.newBuilder()
+            .setId(ThingId.of("org.eclipse.ditto", "empty"))
+            .build();
+
+    private static final List<String> FILTERS = Arrays.asList(
+            "eq(attributes/anInteger,42)",
+            "eq(attributes/anInteger,42.0)",
+            "eq(attributes/anInteger,\"42\")",
+            "eq(attributes/aNumericString,42)",
+            "eq(attributes/aLong,42456489489489)",
+            "eq(attributes/aDouble,22.26)",
+            "eq(attributes/aBoolean,true)",
+            "eq(attributes/aBoolean,\"true\")",
+            "eq(attributes/aString,\"ccc_string\")",
+            "eq(attributes/aNull,null)",
+            "eq(attributes/missing,null)",
+            "ne(attributes/aNull,null)",
+            "ne(attributes/anInteger,41)",
+            "ne(attributes/missing,41)",
+            "gt(attributes/anInteger,41)",
+            "gt(attributes/anInteger,\"41\")",
+            "gt(attributes/aString,\"bbb\")",
+            "ge(attributes/aDouble,22.26)",
+            "lt(attributes/aLong,42456489489490)",
+            "le(attributes/aString,\"ccc_string\")",
+            "lt(attributes/aBoolean,42)",
+            "gt(attributes/aNull,1)",
+            "eq(attributes/anArray,\"two\")",
+            "eq(attributes/anArray,3.5)",
+            "gt(attributes/anArray,3)",
+            "eq(attributes/anArrayOfObjects/anInteger,2)",
+            "eq(attributes/anArrayOfObjects/aBoolean,false)",
+            "in(attributes/anInteger,1,2,42)",
+            "in(attributes/aString,\"a\",\"ccc_string\")",
+            "in(attributes/anArray,\"x\",true)",
+            "in(attributes/anInteger,1,2)",
+            "like(attributes/aString,\"ccc*\")",
+            "like(attributes/aString,\"c?c_*\")",
+            "like(attributes/anInteger,\"4*\")",
+            "like(attributes/aDouble,\"22.2*\")",
+            "ilike(attributes/aString,\"CCC*\")",
+            "like(attributes/aString,\"CCC*\")",
+            "eq(features/foo/properties/anInteger,42)",
+            "like(features/foo/properties/aString,\"foo*\")",
+            "eq(thingId,\"org.eclipse.ditto:compiled\")",
+            "eq(_revision,42)",
+            "gt(_modified,\"2026-01-01T00:00:00Z\")",
+            "eq(_metadata/attributes/aString,\"meta\")",
+            "eq(test:lower,\"lorem\")",
+            "eq(test:upper,\"lorem\")",
+            "exists(attributes/aBoolean)",
+            "exists(attributes/missing)",
+            "exists(attributes/anArrayOfObjects/aBoolean)",
+            "exists(features/foo)",
+            "exists(features/bar)",
+            "exists(features/foo/properties)",
+            "exists(features/foo/desiredProperties)",
+            "exists(features/foo/properties/aString)",
+            "exists(features/foo/properties/missing)",
+            "exists(features/foo/definition)",
+            "exists(thingId)",
+            "exists(_revision)",
+            "exists(_metadata/attributes)",
+            "exists(_metadata/features)",
+            "exists(test:lower)",
+            "and(exists(attributes/aBoolean),eq(attributes/anInteger,42))",
+            "and(like(attributes/aString,\"c*\"),exists(attributes/missing))",
+            "or(exists(attributes/missing),eq(attributes/anInteger,42))",
+            "or(like(attributes/aString,\"x*\"),eq(attributes/anInteger,41))",
+            "not(eq(attributes/anInteger,42))",
+            "not(or(eq(attributes/anInteger,41),exists(attributes/missing)))",
+            "and(or(eq(attributes/anInteger,41),in(attributes/aString,\"ccc_string\")),not(exists(features/bar)))"
+    );
+
+    @Test
+    public void evaluatesToSameResultsAsThingPredicateVisitor() {
+        final SoftAssertions softly = new SoftAssertions();
+        for (final String filter : FILTERS) {
+            final Criteria criteria = CRITERIA_FACTORY.filterCriteria(filter, DittoHeaders.empty());
+            final CompiledThingPredicate compiled = CompiledThingPredicate.of(criteria);
+            for (final Thing thing : Arrays.asList(THING, EMPTY_THING)) {
+                final boolean expected = ThingPredicateVisitor.apply(criteria, PLACEHOLDER_RESOLVER).test(thing);
+                softly.assertThat(compiled.test(thing, Arrays.asList(PLACEHOLDER_RESOLVER)))
+                        .describedAs("%s on %s", filter, thing.getEntityId().get())
+                        .isEqualTo(expected);
+                softly.assertThat(compiled.toPredicate(PLACEHOLDER_RESOLVER).test(thing))
+                        .describedAs("%s on %s", filter, thing.getEntityId().get())
+                        .isEqualTo(expected);
+            }
+        }
+        softly.assertAll();
+    }
+
+    @Test
+    public void evaluatesThingJson() {
+        final Criteria criteria = CRITERIA_FACTORY.filterCriteria(
+                "and(eq(attributes/anInteger,42),exists(features/foo),eq(_revision,42))", DittoHeaders.empty());
+
+        final CompiledThingPredicate underTest = CompiledThingPredicate.of(criteria);
+
+        assertThat(underTest.toJsonPredicate().test(THING.toJson(field -> true))).isTrue();
+        assertThat(underTest.toJsonPredicate().test(EMPTY_THING.toJson(field -> true))).isFalse();
+    }
+
+    @Test
+    public void usesPlaceholderResolversOfEachEvaluation() {
+        final Criteria criteria =
+                CRITERIA_FACTORY.filterCriteria("eq(test:lower,\"lorem\")", DittoHeaders.empty());
+        final CompiledThingPredicate underTest = CompiledThingPredicate.of(criteria);
+
+        assertThat(underTest.test(THING, Arrays.asList(PLACEHOLDER_RESOLVER))).isTrue();
+        assertThat(underTest.test(THING, Collections.singletonList(
+                PlaceholderFactory.newPlaceholderResolver(new ThingPredicateTestPlaceholder(), "ipsum")))).isFalse();
+        assertThat(underTest.test(THING, Collections.emptyList())).isFalse();
+    }
+
+}
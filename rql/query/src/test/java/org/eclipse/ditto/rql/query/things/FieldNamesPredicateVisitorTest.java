@@ -15,7 +15,7 @@ package org.eclipse.ditto.rql.query.things;
 import java.util.Set;
 
 import org.assertj.core.api.JUnitSoftAssertions;
-import org.eclipse.ditto.rql.parser.internal.RqlPredicateParser;
+import org.eclipse.ditto.rql.parser.RqlPredicateParser;
 import org.junit.Rule;
 import org.junit.Test;
 
@@ -43,7 +43,7 @@ public final class FieldNamesPredicateVisitorTest {
 
     private static Set<String> extractFieldsFromRql(final String filter) {
         final FieldNamesPredicateVisitor fieldNameVisitor = FieldNamesPredicateVisitor.getNewInstance();
-        fieldNameVisitor.visit(RqlPredicateParser.parse(filter));
+        fieldNameVisitor.visit(RqlPredicateParser.getInstance().parse(filter));
         return fieldNameVisitor.getFieldNames();
     }
 
@@ -15,7 +15,7 @@ package org.eclipse.ditto.rql.parser.thingsearch;
 import java.util.List;
 import java.util.stream.Collectors;
 
-import org.eclipse.ditto.rql.parser.thingsearch.internal.RqlOptionParser$;
+import org.eclipse.ditto.rql.parser.thingsearch.internal.RqlOptionParserImpl;
 import org.eclipse.ditto.thingsearch.model.Option;
 
 /**
@@ -28,8 +28,6 @@ public final class RqlOptionParser implements OptionParser {
      */
     private static final String DELIMITER = ",";
 
-    private static final OptionParser PARSER = RqlOptionParser$.MODULE$;
-
     @Override
     public List<Option> parse(final String input) {
         return parseOptions(input);
@@ -42,7 +40,7 @@ public final class RqlOptionParser implements OptionParser {
      * @return the list of options.
      */
     public static List<Option> parseOptions(final String input) {
-        return PARSER.parse(input);
+        return RqlOptionParserImpl.parse(input);
     }
 
     /**
@@ -53,7 +51,7 @@ public final class RqlOptionParser implements OptionParser {
      */
     public static String unparse(final List<Option> options) {
         // join the option as delimited string.
-        // RQL option grammar's inverse logic exists in Option.toString and is not generated from the parboiled grammar.
+        // RQL option grammar's inverse logic exists in Option.toString and is not generated from the grammar.
         return options.stream()
                 .map(Option::toString)
                 .collect(Collectors.joining(DELIMITER));
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.rql.parser.thingsearch.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import javax.annotation.concurrent.NotThreadSafe;
+
+import org.eclipse.ditto.rql.model.ParserException;
+import org.eclipse.ditto.rql.parser.internal.RqlParserBase;
+import org.eclipse.ditto.thingsearch.model.Option;
+import org.eclipse.ditto.thingsearch.model.SearchModelFactory;
+import org.eclipse.ditto.thingsearch.model.SortOptionEntry;
+
+/**
+ * Recursive descent RQL Parser. Parses options in the RQL "standard" according to https://github.com/persvr/rql with
+ * the following EBNF:
+ * <pre>
+ * Options                    = Option, { ',', Option }
+ * Option                     = Sort | Limit | Cursor | Size
+ * Sort                       = "sort", '(', SortProperty, { ',', SortProperty }, ')'
+ * SortProperty               = SortOrder, PropertyLiteral
+ * SortOrder                  = '+' | '-'
+ * Limit                      = "limit", '(', LongLiteral, ',', LongLiteral, ')'
+ * Cursor                     = "cursor", '(', PropertyLiteral, ')'
+ * Size                       = "size", '(', Digit, { Digit }, ')'
+ * </pre>
+ */
+@NotThreadSafe
+public final class RqlOptionParserImpl extends RqlParserBase {
+
+    private static final String EXPECTED_OPTION = "one of 'sort', 'limit', 'cursor' or 'size'";
+
+    private RqlOptionParserImpl(final String input) {
+        super(input);
+    }
+
+    /**
+     * Parse the specified input.
+     *
+     * @param input the input that should be parsed.
+     * @return the parsed options.
+     * @throws NullPointerException if input is null.
+     * @throws ParserException if input could not be parsed.
+     */
+    public static List<Option> parse(final String input) {
+        final RqlOptionParserImpl parser = new RqlOptionParserImpl(input);
+        parser.whiteSpace();
+        final List<Option> options = new ArrayList<>();
+        options.add(parser.option());
+        while (parser.isNext(',')) {
+            parser.cursor++;
+            options.add(parser.option());
+        }
+        parser.endOfInput();
+        return options;
+    }
+
+    private Option option() {
+        final int start = cursor;
+        final String name = name();
+        switch (name) {
+            case "sort":
+                return sort();
+            case "limit":
+                return limit();
+            case "cursor":
+                return cursorOption();
+            case "size":
+                return size();
+            default:
+                throw invalidInput(start, EXPECTED_OPTION);
+        }
+    }
+
+    private Option sort() {
+        expect('(');
+        final List<SortOptionEntry> entries = new ArrayList<>();
+        entries.add(sortProperty());
+        while (isNext(',')) {
+            cursor++;
+            entries.add(sortProperty());
+        }
+        expect(')');
+        return create(() -> SearchModelFactory.newSortOption(entries));
+    }
+
+    private SortOptionEntry sortProperty() {
+        final SortOptionEntry.SortOrder order;
+        if (isNext('+')) {
+            order = SortOptionEntry.SortOrder.ASC;
+        } else if (isNext('-')) {
+            order = SortOptionEntry.SortOrder.DESC;
+        } else {
+            throw invalidInput("'+' or '-'");
+        }
+        cursor++;
+        final String property = propertyLiteral();
+        return create(() -> SearchModelFactory.newSortOptionEntry(property, order));
+    }
+
+    private Option limit() {
+        expect('(');
+        final long offset = longLiteral();
+        expect(',');
+        final long count = longLiteral();
+        expect(')');
+        return create(() -> SearchModelFactory.newLimitOption((int) offset, (int) count));
+    }
+
+    private Option cursorOption() {
+        expect('(');
+        final String cursorString = propertyLiteral();
+        expect(')');
+        return create(() -> SearchModelFactory.newCursorOption(cursorString));
+    }
+
+    private Option size() {
+        expect('(');
+        final String digits = digits();
+        expect(')');
+        return create(() -> SearchModelFactory.newSizeOption(Integer.parseInt(digits)));
+    }
+
+    private static <T> T create(final Supplier<T> optionSupplier) {
+        try {
+            return optionSupplier.get();
+        } catch (final RuntimeException e) {
+            throw new ParserException("Unknown error during parsing options: " + e.getMessage(), e);
+        }
+    }
+
+}
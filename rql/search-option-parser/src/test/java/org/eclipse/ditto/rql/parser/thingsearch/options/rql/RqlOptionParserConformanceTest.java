@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.rql.parser.thingsearch.options.rql;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.assertj.core.api.SoftAssertions;
+import org.eclipse.ditto.rql.model.ParserException;
+import org.eclipse.ditto.rql.parser.thingsearch.OptionParser;
+import org.eclipse.ditto.rql.parser.thingsearch.RqlOptionParser;
+import org.eclipse.ditto.rql.parser.thingsearch.parboiled.ParboiledRqlOptionParser$;
+import org.junit.Test;
+
+/**
+ * Verifies that {@link RqlOptionParser} parses the same inputs to the same options and rejects the same inputs as the
+ * former parboiled based parser.
+ */
+public final class RqlOptionParserConformanceTest {
+
+    private static final OptionParser REFERENCE_PARSER = ParboiledRqlOptionParser$.MODULE$;
+    private static final OptionParser UNDER_TEST = new RqlOptionParser();
+
+    private static final List<String> INPUTS = Arrays.asList(
+            "sort(+username)",
+            "sort(-attributes/username)",
+            "sort(+thingId,-_modified,+features/a/properties/b)",
+            "sort(+a,)",
+            "sort(+a, -b)",
+            "sort(a)",
+            "sort()",
+            "sort(+)",
+            "sort(+a\\,b)",
+            "sort(+a\\x)",
+            "sort(+a b)",
+            " sort(+a)",
+            "sort(+a) ",
+            "sort (+a)",
+            "limit(0,10)",
+            "limit(5,25)",
+            "limit(+5,25)",
+            "limit(-5,25)",
+            "limit(-0,25)",
+            "limit(05,25)",
+            "limit(5, 25)",
+            "limit(5 ,25)",
+            "limit( 5,25)",
+            "limit(5,25 )",
+            "limit(1.5,25)",
+            "limit(5)",
+            "limit(5,25,3)",
+            "limit(3000000000,25)",
+            "limit(99999999999999999999,25)",
+            "cursor(LOREMIPSUM)",
+            "cursor()",
+            "cursor(\"quoted\")",
+            "cursor(a\\/b)",
+            "size(10)",
+            "size(0)",
+            "size(010)",
+            "size(+10)",
+            "size( 10)",
+            "size(10 )",
+            "size()",
+            "size(99999999999)",
+            "sort(+a),limit(0,10)",
+            "sort(+a), limit(0,10)",
+            "sort(+a) ,limit(0,10)",
+            "size(10),cursor(abc),sort(-b)",
+            "sort(+a),",
+            ",sort(+a)",
+            "unknown(1)",
+            "SORT(+a)",
+            "",
+            " "
+    );
+
+    private static final String MUTATION_CHARACTERS = "(),\"\\/ +-.019sortlimcuzea";
+    private static final int MUTATIONS_PER_INPUT = 100;
+
+    @Test
+    public void parsesSameAsReferenceParser() {
+        final SoftAssertions softly = new SoftAssertions();
+        INPUTS.forEach(input -> assertConformance(softly, input));
+        softly.assertAll();
+    }
+
+    @Test
+    public void parsesMutatedInputsSameAsReferenceParser() {
+        final Random random = new Random(4711L);
+        final SoftAssertions softly = new SoftAssertions();
+        for (final String input : INPUTS) {
+            for (int i = 0; i < MUTATIONS_PER_INPUT; i++) {
+                assertConformance(softly, mutate(input, random));
+            }
+        }
+        softly.assertAll();
+    }
+
+    private static void assertConformance(final SoftAssertions softly, final String input) {
+        final Object expected = parse(REFERENCE_PARSER, input);
+        final Object actual = parse(UNDER_TEST, input);
+        softly.assertThat(actual)
+                .describedAs("result for input <%s>", input)
+                .isEqualTo(expected);
+    }
+
+    private static Object parse(final OptionParser parser, final String input) {
+        try {
+            return parser.parse(input).toString();
+        } catch (final ParserException e) {
+            return ParserException.class;
+        }
+    }
+
+    private static String mutate(final String input, final Random random) {
+        final StringBuilder sb = new StringBuilder(input);
+        final int mutations = 1 + random.nextInt(3);
+        for (int i = 0; i < mutations; i++) {
+            final int index = sb.length() == 0 ? 0 : random.nextInt(sb.length());
+            final char c = MUTATION_CHARACTERS.charAt(random.nextInt(MUTATION_CHARACTERS.length()));
+            switch (random.nextInt(3)) {
+                case 0:
+                    sb.insert(index, c);
+                    break;
+                case 1:
+                    if (sb.length() > 0) {
+                        sb.deleteCharAt(index);
+                    }
+                    break;
+                default:
+                    if (sb.length() > 0) {
+                        sb.setCharAt(index, c);
+                    }
+            }
+        }
+        return sb.toString();
+    }
+
+}
@@ -10,11 +10,11 @@
  *
  * SPDX-License-Identifier: EPL-2.0
  */
-package org.eclipse.ditto.rql.parser.thingsearch.internal
+package org.eclipse.ditto.rql.parser.thingsearch.parboiled
 
 import org.parboiled2._
 import org.eclipse.ditto.rql.model.ParserException
-import org.eclipse.ditto.rql.parser.internal.RqlParserBase
+import org.eclipse.ditto.rql.parser.parboiled.ParboiledRqlParserBase
 import org.eclipse.ditto.rql.parser.thingsearch.OptionParser
 import org.eclipse.ditto.thingsearch.model
 import org.eclipse.ditto.thingsearch.model.{LimitOption, SearchModelFactory, SortOption, SortOptionEntry}
@@ -24,7 +24,8 @@ import scala.collection.JavaConverters
 import scala.util.{Failure, Success}
 
 /**
-  * RQL Parser. Parses options in the RQL "standard" according to https://github.com/persvr/rql with the following EBNF:
+  * Former parboiled based RQL Parser, kept as reference for the conformance tests of
+  * [[org.eclipse.ditto.rql.parser.thingsearch.internal.RqlOptionParserImpl]]. Parses options in the RQL "standard" according to https://github.com/persvr/rql with the following EBNF:
   * <pre>
   * Options                    = Option, { ',', Option }
   * Option                     = Sort | Limit
@@ -34,7 +35,7 @@ import scala.util.{Failure, Success}
   * Limit                      = "limit", '(', IntegerLiteral, ',', IntegerLiteral, ')'
   * </pre>
   */
-private class RqlOptionParser(override val input: ParserInput) extends RqlParserBase(input) {
+private class ParboiledRqlOptionParser(override val input: ParserInput) extends ParboiledRqlParserBase(input) {
 
   /**
     * @return the root for parsing RQL Options.
@@ -119,7 +120,7 @@ private class RqlOptionParser(override val input: ParserInput) extends RqlParser
 /**
   * Companion singleton Object.
   */
-object RqlOptionParser extends OptionParser {
+object ParboiledRqlOptionParser extends OptionParser {
 
   /**
     * Parse the specified input.
@@ -140,5 +141,5 @@ object RqlOptionParser extends OptionParser {
     }
   }
 
-  private def rqlOptionsParser(string: String): RqlOptionParser = new RqlOptionParser(ParserInput.apply(string))
+  private def rqlOptionsParser(string: String): ParboiledRqlOptionParser = new ParboiledRqlOptionParser(ParserInput.apply(string))
 }
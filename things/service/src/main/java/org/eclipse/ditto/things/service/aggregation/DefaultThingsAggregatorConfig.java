@@ -32,11 +32,16 @@ public final class DefaultThingsAggregatorConfig implements ThingsAggregatorConf
 
     private final Duration singleRetrieveThingTimeout;
     private final int maxParallelism;
+    private final boolean batchingEnabled;
+    private final Duration shardLocationsRefreshInterval;
 
     private DefaultThingsAggregatorConfig(final ScopedConfig config) {
         singleRetrieveThingTimeout =
                 config.getNonNegativeAndNonZeroDurationOrThrow(ThingsAggregatorConfigValue.SINGLE_RETRIEVE_THING_TIMEOUT);
         maxParallelism = config.getPositiveIntOrThrow(ThingsAggregatorConfigValue.MAX_PARALLELISM);
+        batchingEnabled = config.getBoolean(ThingsAggregatorConfigValue.BATCHING_ENABLED.getConfigPath());
+        shardLocationsRefreshInterval = config.getNonNegativeAndNonZeroDurationOrThrow(
+                ThingsAggregatorConfigValue.SHARD_LOCATIONS_REFRESH_INTERVAL);
     }
 
     /**
@@ -61,6 +66,16 @@ public final class DefaultThingsAggregatorConfig implements ThingsAggregatorConf
         return maxParallelism;
     }
 
+    @Override
+    public boolean isBatchingEnabled() {
+        return batchingEnabled;
+    }
+
+    @Override
+    public Duration getShardLocationsRefreshInterval() {
+        return shardLocationsRefreshInterval;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (this == o) {
@@ -71,12 +86,15 @@ public final class DefaultThingsAggregatorConfig implements ThingsAggregatorConf
         }
         final DefaultThingsAggregatorConfig that = (DefaultThingsAggregatorConfig) o;
         return maxParallelism == that.maxParallelism &&
-                Objects.equals(singleRetrieveThingTimeout, that.singleRetrieveThingTimeout);
+                batchingEnabled == that.batchingEnabled &&
+                Objects.equals(singleRetrieveThingTimeout, that.singleRetrieveThingTimeout) &&
+                Objects.equals(shardLocationsRefreshInterval, that.shardLocationsRefreshInterval);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(singleRetrieveThingTimeout, maxParallelism);
+        return Objects.hash(singleRetrieveThingTimeout, maxParallelism, batchingEnabled,
+                shardLocationsRefreshInterval);
     }
 
     @Override
@@ -84,6 +102,8 @@ public final class DefaultThingsAggregatorConfig implements ThingsAggregatorConf
         return getClass().getSimpleName() + " [" +
                 "singleRetrieveThingTimeout=" + singleRetrieveThingTimeout +
                 ", maxParallelism=" + maxParallelism +
+                ", batchingEnabled=" + batchingEnabled +
+                ", shardLocationsRefreshInterval=" + shardLocationsRefreshInterval +
                 "]";
     }
 
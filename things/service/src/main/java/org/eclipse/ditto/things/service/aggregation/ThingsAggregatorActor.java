@@ -14,10 +14,16 @@ package org.eclipse.ditto.things.service.aggregation;
 
 import static org.eclipse.ditto.things.api.ThingsMessagingConstants.THINGS_AGGREGATOR_ACTOR_NAME;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
 
 import javax.annotation.Nullable;
@@ -30,6 +36,7 @@ import org.eclipse.ditto.internal.utils.pekko.actors.AbstractActorWithShutdownBe
 import org.eclipse.ditto.internal.utils.pekko.logging.DittoLoggerFactory;
 import org.eclipse.ditto.internal.utils.pekko.logging.ThreadSafeDittoLoggingAdapter;
 import org.eclipse.ditto.internal.utils.cluster.DistPubSubAccess;
+import org.eclipse.ditto.internal.utils.cluster.ShardRegionExtractor;
 import org.eclipse.ditto.json.JsonFieldSelector;
 import org.eclipse.ditto.things.api.commands.sudo.SudoRetrieveThing;
 import org.eclipse.ditto.things.api.commands.sudo.SudoRetrieveThings;
@@ -38,10 +45,17 @@ import org.eclipse.ditto.things.model.signals.commands.query.RetrieveThing;
 import org.eclipse.ditto.things.model.signals.commands.query.RetrieveThings;
 
 import org.apache.pekko.Done;
+import org.apache.pekko.NotUsed;
 import org.apache.pekko.actor.ActorRef;
+import org.apache.pekko.actor.Address;
+import org.apache.pekko.actor.Cancellable;
 import org.apache.pekko.actor.CoordinatedShutdown;
 import org.apache.pekko.actor.Props;
+import org.apache.pekko.cluster.Cluster;
 import org.apache.pekko.cluster.pubsub.DistributedPubSub;
+import org.apache.pekko.cluster.sharding.ShardRegion;
+import org.apache.pekko.japi.Pair;
+import org.apache.pekko.japi.function.Function;
 import org.apache.pekko.japi.pf.ReceiveBuilder;
 import org.apache.pekko.pattern.Patterns;
 import org.apache.pekko.stream.SourceRef;
@@ -50,8 +64,17 @@ import org.apache.pekko.stream.javadsl.Source;
 import org.apache.pekko.stream.javadsl.StreamRefs;
 import org.apache.pekko.util.Timeout;
 
+import scala.concurrent.duration.FiniteDuration;
+
 /**
  * Actor to aggregate the retrieved Things from persistence.
+ * <p>
+ * If batching is enabled, the requested things are split by the cluster node which hosts their shard.
+ * The things of each remote node are retrieved by the aggregator of that node with one batch message, which asks its
+ * local shards only.
+ * Things of shards which are not allocated (yet) are retrieved via the local shard region.
+ * The responses of all nodes are emitted in the order of the requested thing IDs.
+ * </p>
  */
 public final class ThingsAggregatorActor extends AbstractActorWithShutdownBehavior {
 
@@ -60,30 +83,53 @@ public final class ThingsAggregatorActor extends AbstractActorWithShutdownBehavi
      */
     public static final String ACTOR_NAME = THINGS_AGGREGATOR_ACTOR_NAME;
 
+    /**
+     * Header marking a batch which was forwarded by the aggregator of another cluster node and which must therefore be
+     * retrieved locally.
+     */
+    private static final String NODE_BATCH_HEADER = "ditto-things-aggregator-node-batch";
+
     private final ThreadSafeDittoLoggingAdapter log = DittoLoggerFactory.getThreadSafeDittoLoggingAdapter(this);
     private final ActorRef targetActor;
     private final java.time.Duration retrieveSingleThingTimeout;
     private final int maxParallelism;
     private final ActorRef pubSubMediator;
+    private final ShardRegionExtractor shardRegionExtractor;
+    private final boolean batchingEnabled;
+    private final java.time.Duration shardLocationsRefreshInterval;
+    private final Address selfAddress;
+
+    private Map<String, Address> shardLocations;
+    @Nullable private Cancellable shardLocationsRefresh;
 
     @SuppressWarnings("unused")
     private ThingsAggregatorActor(final ActorRef targetActor, final ThingsAggregatorConfig aggregatorConfig,
-            final ActorRef pubSubMediator) {
+            final ActorRef pubSubMediator, final ShardRegionExtractor shardRegionExtractor) {
         this.targetActor = targetActor;
         this.pubSubMediator = pubSubMediator;
+        this.shardRegionExtractor = shardRegionExtractor;
         retrieveSingleThingTimeout = aggregatorConfig.getSingleRetrieveThingTimeout();
         maxParallelism = aggregatorConfig.getMaxParallelism();
+        batchingEnabled = aggregatorConfig.isBatchingEnabled();
+        shardLocationsRefreshInterval = aggregatorConfig.getShardLocationsRefreshInterval();
+        selfAddress = Cluster.get(getContext().getSystem()).selfAddress();
+        shardLocations = Map.of();
     }
 
     /**
      * Creates Pekko configuration object Props for this ThingsAggregatorActor.
      *
      * @param targetActor the Actor selection to delegate "asks" for the aggregation to.
+     * @param aggregatorConfig the config of the things aggregation.
+     * @param pubSubMediator the pub/sub mediator.
+     * @param shardRegionExtractor the extractor determining the shard of a thing in the shard region of
+     * {@code targetActor}.
      * @return the Pekko configuration Props object
      */
     public static Props props(final ActorRef targetActor, final ThingsAggregatorConfig aggregatorConfig,
-            final ActorRef pubSubMediator) {
-        return Props.create(ThingsAggregatorActor.class, targetActor, aggregatorConfig, pubSubMediator);
+            final ActorRef pubSubMediator, final ShardRegionExtractor shardRegionExtractor) {
+        return Props.create(ThingsAggregatorActor.class, targetActor, aggregatorConfig, pubSubMediator,
+                shardRegionExtractor);
     }
 
     @Override
@@ -101,6 +147,20 @@ public final class ThingsAggregatorActor extends AbstractActorWithShutdownBehavi
                 () -> Patterns.ask(self, Control.SERVICE_UNBIND, SHUTDOWN_ASK_TIMEOUT)
                         .thenApply(reply -> Done.done())
         );
+
+        if (batchingEnabled) {
+            shardLocationsRefresh = getContext().getSystem().scheduler()
+                    .scheduleAtFixedRate(java.time.Duration.ZERO, shardLocationsRefreshInterval, self,
+                            InternalMessages.REFRESH_SHARD_LOCATIONS, getContext().dispatcher(), ActorRef.noSender());
+        }
+    }
+
+    @Override
+    public void postStop() throws Exception {
+        if (null != shardLocationsRefresh) {
+            shardLocationsRefresh.cancel();
+        }
+        super.postStop();
     }
 
     @Override
@@ -124,6 +184,10 @@ public final class ThingsAggregatorActor extends AbstractActorWithShutdownBehavi
                     retrieveThings(rt, getSender());
                 })
 
+                // # keep track of the cluster nodes hosting the shards
+                .matchEquals(InternalMessages.REFRESH_SHARD_LOCATIONS, refresh -> refreshShardLocations())
+                .match(ShardRegion.ClusterShardingStats.class, this::updateShardLocations)
+
                 // # handle unknown message
                 .matchAny(m -> {
                     log.warning("Got unknown message: {}", m);
@@ -160,6 +224,19 @@ public final class ThingsAggregatorActor extends AbstractActorWithShutdownBehavi
         // nothing to do
     }
 
+    private void refreshShardLocations() {
+        targetActor.tell(new ShardRegion.GetClusterShardingStats(
+                FiniteDuration.apply(shardLocationsRefreshInterval.toMillis(), TimeUnit.MILLISECONDS)), getSelf());
+    }
+
+    private void updateShardLocations(final ShardRegion.ClusterShardingStats clusterShardingStats) {
+        final Map<String, Address> newShardLocations = new HashMap<>();
+        clusterShardingStats.getRegions().forEach((address, shardRegionStats) ->
+                shardRegionStats.getStats().keySet().forEach(shardId -> newShardLocations.put(shardId, address)));
+        shardLocations = newShardLocations;
+        log.debug("Updated locations of <{}> shards", newShardLocations.size());
+    }
+
     private void retrieveThings(final RetrieveThings retrieveThings, final ActorRef resultReceiver) {
         final JsonFieldSelector selectedFields = retrieveThings.getSelectedFields().orElse(null);
         retrieveThingsAndSendResult(retrieveThings.getEntityIds(), selectedFields, retrieveThings, resultReceiver);
@@ -176,9 +253,111 @@ public final class ThingsAggregatorActor extends AbstractActorWithShutdownBehavi
             final Command<?> command, final ActorRef resultReceiver) {
 
         final DittoHeaders dittoHeaders = command.getDittoHeaders();
+        final List<ThingId> requestedThingIds = thingIds.stream().filter(Objects::nonNull).toList();
+
+        final Source<Jsonifiable, NotUsed> responses;
+        if (dittoHeaders.containsKey(NODE_BATCH_HEADER)) {
+            final DittoHeaders headersWithoutMarker = dittoHeaders.toBuilder().removeHeader(NODE_BATCH_HEADER).build();
+            responses = retrieveFromShardRegion(requestedThingIds, selectedFields, command, headersWithoutMarker);
+        } else {
+            final Map<Address, List<Integer>> indexesByNode = groupByNode(requestedThingIds);
+            if (indexesByNode.keySet().stream().allMatch(selfAddress::equals)) {
+                responses = retrieveFromShardRegion(requestedThingIds, selectedFields, command, dittoHeaders);
+            } else {
+                responses = retrieveInNodeBatches(requestedThingIds, indexesByNode, selectedFields, command);
+            }
+        }
+
+        final SourceRef<Jsonifiable> commandResponseSource = responses
+                .log("command-response", log)
+                .runWith(StreamRefs.sourceRef(), SystemMaterializer.get(getContext().getSystem()).materializer());
+
+        resultReceiver.tell(commandResponseSource, getSelf());
+    }
+
+    private Map<Address, List<Integer>> groupByNode(final List<ThingId> thingIds) {
+        final Map<Address, List<Integer>> result = new LinkedHashMap<>();
+        if (batchingEnabled && !shardLocations.isEmpty()) {
+            for (int i = 0; i < thingIds.size(); i++) {
+                final String shardId =
+                        shardRegionExtractor.shardId(new ShardRegion.StartEntity(thingIds.get(i).toString()));
+                final Address address = shardLocations.getOrDefault(shardId, selfAddress);
+                result.computeIfAbsent(address, a -> new ArrayList<>()).add(i);
+            }
+        }
+        return result;
+    }
+
+    private Source<Jsonifiable, NotUsed> retrieveInNodeBatches(final List<ThingId> thingIds,
+            final Map<Address, List<Integer>> indexesByNode,
+            @Nullable final JsonFieldSelector selectedFields,
+            final Command<?> command) {
+
+        final DittoHeaders dittoHeaders = command.getDittoHeaders();
+        log.withCorrelationId(dittoHeaders)
+                .info("Retrieving <{}> things in batches from <{}> cluster nodes", thingIds.size(),
+                        indexesByNode.size());
+
+        final List<Source<Pair<Integer, Jsonifiable>, NotUsed>> nodeBatches = new ArrayList<>();
+        indexesByNode.forEach((address, indexes) -> {
+            final List<ThingId> batchThingIds = indexes.stream().map(thingIds::get).toList();
+            final Source<Jsonifiable, NotUsed> batchResponses;
+            if (selfAddress.equals(address)) {
+                batchResponses = retrieveFromShardRegion(batchThingIds, selectedFields, command, dittoHeaders);
+            } else {
+                batchResponses = retrieveFromNode(address, batchThingIds, selectedFields, command);
+            }
+            // each batch emits exactly one response per thing ID in the order of its thing IDs
+            nodeBatches.add(Source.from(indexes).zip(batchResponses));
+        });
+
+        return Source.from(nodeBatches)
+                .flatMapMerge(nodeBatches.size(), nodeBatch -> nodeBatch)
+                .statefulMapConcat(RequestedOrder::new);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Source<Jsonifiable, NotUsed> retrieveFromNode(final Address address,
+            final List<ThingId> batchThingIds,
+            @Nullable final JsonFieldSelector selectedFields,
+            final Command<?> command) {
+
+        final DittoHeaders dittoHeaders = command.getDittoHeaders();
+        final DittoHeaders batchHeaders = dittoHeaders.toBuilder().putHeader(NODE_BATCH_HEADER, "true").build();
+        final Command<?> nodeBatch;
+        if (command instanceof RetrieveThings retrieveThings) {
+            nodeBatch = RetrieveThings.getBuilder(batchThingIds)
+                    .dittoHeaders(batchHeaders)
+                    .selectedFields(selectedFields)
+                    .namespace(retrieveThings.getNamespace().orElse(null))
+                    .build();
+        } else {
+            nodeBatch = SudoRetrieveThings.of(batchThingIds, selectedFields, batchHeaders);
+        }
+        final var remoteAggregator = getContext().actorSelection(getSelf().path().toStringWithAddress(address));
+
+        final CompletionStage<Source<Jsonifiable, NotUsed>> batchResponses =
+                Patterns.ask(remoteAggregator, nodeBatch, retrieveSingleThingTimeout)
+                        .handle((response, error) -> {
+                            if (response instanceof SourceRef<?> sourceRef) {
+                                return ((SourceRef<Jsonifiable>) sourceRef).getSource();
+                            }
+                            log.withCorrelationId(dittoHeaders)
+                                    .warning("Aggregator at <{}> did not retrieve batch of <{}> things: <{}>. " +
+                                            "Retrieving them via shard region.", address, batchThingIds.size(),
+                                            null != error ? error : response);
+                            return retrieveFromShardRegion(batchThingIds, selectedFields, command, dittoHeaders);
+                        });
+
+        return Source.completionStageSource(batchResponses).mapMaterializedValue(future -> NotUsed.getInstance());
+    }
+
+    private Source<Jsonifiable, NotUsed> retrieveFromShardRegion(final List<ThingId> thingIds,
+            @Nullable final JsonFieldSelector selectedFields,
+            final Command<?> command,
+            final DittoHeaders dittoHeaders) {
 
-        final SourceRef<Jsonifiable> commandResponseSource = Source.from(thingIds)
-                .filter(Objects::nonNull)
+        return Source.from(thingIds)
                 .map(thingId -> {
                     final SignalWithEntityId<?> retrieveThing;
                     if (command instanceof RetrieveThings) {
@@ -197,11 +376,7 @@ public final class ThingsAggregatorActor extends AbstractActorWithShutdownBehavi
                     return retrieveThing;
                 })
                 .ask(calculateParallelism(thingIds), targetActor, Jsonifiable.class,
-                        Timeout.apply(retrieveSingleThingTimeout.toMillis(), TimeUnit.MILLISECONDS))
-                .log("command-response", log)
-                .runWith(StreamRefs.sourceRef(), SystemMaterializer.get(getContext().getSystem()).materializer());
-
-        resultReceiver.tell(commandResponseSource, getSelf());
+                        Timeout.apply(retrieveSingleThingTimeout.toMillis(), TimeUnit.MILLISECONDS));
     }
 
     private int calculateParallelism(final Collection<ThingId> thingIds) {
@@ -215,4 +390,31 @@ public final class ThingsAggregatorActor extends AbstractActorWithShutdownBehavi
         }
     }
 
+    private enum InternalMessages {
+        REFRESH_SHARD_LOCATIONS
+    }
+
+    /**
+     * Buffers responses which arrive before the responses of thing IDs requested earlier and emits all responses in
+     * the requested order.
+     */
+    private static final class RequestedOrder implements Function<Pair<Integer, Jsonifiable>, Iterable<Jsonifiable>> {
+
+        private final Map<Integer, Jsonifiable> pendingResponses = new HashMap<>();
+        private int nextIndex = 0;
+
+        @Override
+        public Iterable<Jsonifiable> apply(final Pair<Integer, Jsonifiable> indexedResponse) {
+            pendingResponses.put(indexedResponse.first(), indexedResponse.second());
+            final List<Jsonifiable> responsesInOrder = new ArrayList<>();
+            Jsonifiable next;
+            while (null != (next = pendingResponses.remove(nextIndex))) {
+                responsesInOrder.add(next);
+                nextIndex++;
+            }
+            return responsesInOrder;
+        }
+
+    }
+
 }
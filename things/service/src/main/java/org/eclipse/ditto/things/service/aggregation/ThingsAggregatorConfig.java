@@ -39,6 +39,23 @@ public interface ThingsAggregatorConfig {
      */
     int getMaxParallelism();
 
+    /**
+     * Indicates whether the {@code ThingsAggregatorActor} splits the requested things by the cluster node which hosts
+     * their shard and lets the aggregator of that node retrieve them from its local shards.
+     *
+     * @return {@code true} if retrieving things in batches per cluster node is enabled, {@code false} else.
+     * @since 3.8.0
+     */
+    boolean isBatchingEnabled();
+
+    /**
+     * Returns the interval in which the locations of the things shards are queried from the shard region.
+     *
+     * @return the interval.
+     * @since 3.8.0
+     */
+    Duration getShardLocationsRefreshInterval();
+
     /**
      * An enumeration of the known config path expressions and their associated default values for
      * {@code ThingsAggregatorConfig}.
@@ -53,7 +70,21 @@ public interface ThingsAggregatorConfig {
         /**
          * The maximum parallelism.
          */
-        MAX_PARALLELISM("max-parallelism", 20);
+        MAX_PARALLELISM("max-parallelism", 20),
+
+        /**
+         * Whether retrieving things in batches per cluster node is enabled.
+         *
+         * @since 3.8.0
+         */
+        BATCHING_ENABLED("batching-enabled", false),
+
+        /**
+         * The interval in which the locations of the things shards are queried.
+         *
+         * @since 3.8.0
+         */
+        SHARD_LOCATIONS_REFRESH_INTERVAL("shard-locations-refresh-interval", Duration.ofSeconds(10L));
 
         private final String path;
         private final Object defaultValue;
@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.things.service.common.config;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.base.model.common.LikeHelper;
+import org.eclipse.ditto.internal.utils.config.ConfigWithFallback;
+import org.eclipse.ditto.internal.utils.config.ScopedConfig;
+
+import com.typesafe.config.Config;
+
+/**
+ * This class is the default implementation of {@link ThingEventCoalescingConfig}.
+ *
+ * @since 3.8.0
+ */
+@Immutable
+public final class DefaultThingEventCoalescingConfig implements ThingEventCoalescingConfig {
+
+    private static final String CONFIG_PATH = "coalescing";
+
+    private final boolean enabled;
+    private final List<Pattern> namespaces;
+    private final List<Pattern> featureDefinitions;
+    private final Duration maxDelay;
+    private final int maxEvents;
+
+    private DefaultThingEventCoalescingConfig(final ScopedConfig config) {
+        enabled = config.getBoolean(ConfigValue.ENABLED.getConfigPath());
+        namespaces = compile(config.getStringList(ConfigValue.NAMESPACES.getConfigPath()));
+        featureDefinitions = compile(config.getStringList(ConfigValue.FEATURE_DEFINITIONS.getConfigPath()));
+        maxDelay = config.getNonNegativeAndNonZeroDurationOrThrow(ConfigValue.MAX_DELAY);
+        maxEvents = config.getPositiveIntOrThrow(ConfigValue.MAX_EVENTS);
+    }
+
+    /**
+     * Returns an instance of the default event coalescing config based on the settings of the specified Config.
+     *
+     * @param config is supposed to provide the settings of the event coalescing config at {@value #CONFIG_PATH}.
+     * @return the instance.
+     * @throws org.eclipse.ditto.internal.utils.config.DittoConfigError if {@code config} is invalid.
+     */
+    public static DefaultThingEventCoalescingConfig of(final Config config) {
+        return new DefaultThingEventCoalescingConfig(
+                ConfigWithFallback.newInstance(config, CONFIG_PATH, ConfigValue.values()));
+    }
+
+    private static List<Pattern> compile(final List<String> patterns) {
+        return patterns.stream()
+                .map(LikeHelper::convertToRegexSyntax)
+                .filter(Objects::nonNull)
+                .map(Pattern::compile)
+                .toList();
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public List<Pattern> getNamespaces() {
+        return namespaces;
+    }
+
+    @Override
+    public List<Pattern> getFeatureDefinitions() {
+        return featureDefinitions;
+    }
+
+    @Override
+    public Duration getMaxDelay() {
+        return maxDelay;
+    }
+
+    @Override
+    public int getMaxEvents() {
+        return maxEvents;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (!(o instanceof final DefaultThingEventCoalescingConfig that)) {
+            return false;
+        }
+        return enabled == that.enabled &&
+                maxEvents == that.maxEvents &&
+                Objects.equals(namespaces.toString(), that.namespaces.toString()) &&
+                Objects.equals(featureDefinitions.toString(), that.featureDefinitions.toString()) &&
+                Objects.equals(maxDelay, that.maxDelay);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(enabled, namespaces.toString(), featureDefinitions.toString(), maxDelay, maxEvents);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " [" +
+                "enabled=" + enabled +
+                ", namespaces=" + namespaces +
+                ", featureDefinitions=" + featureDefinitions +
+                ", maxDelay=" + maxDelay +
+                ", maxEvents=" + maxEvents +
+                "]";
+    }
+
+}
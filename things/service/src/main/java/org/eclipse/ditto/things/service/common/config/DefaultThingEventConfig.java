@@ -30,6 +30,7 @@ public final class DefaultThingEventConfig implements ThingEventConfig {
 
     private final DefaultEventConfig defaultEventConfigDelegated;
     private final List<PreDefinedExtraFieldsConfig> preDefinedExtraFieldsConfigs;
+    private final ThingEventCoalescingConfig coalescingConfig;
 
     private DefaultThingEventConfig(final DefaultEventConfig delegate, final ScopedConfig config) {
         this.defaultEventConfigDelegated = delegate;
@@ -39,6 +40,7 @@ public final class DefaultThingEventConfig implements ThingEventConfig {
                         .map(configObj -> DefaultPreDefinedExtraFieldsConfig.of(configObj.toConfig()))
                         .map(PreDefinedExtraFieldsConfig.class::cast)
                         .toList();
+        coalescingConfig = DefaultThingEventCoalescingConfig.of(config);
     }
 
     /**
@@ -63,18 +65,24 @@ public final class DefaultThingEventConfig implements ThingEventConfig {
         return preDefinedExtraFieldsConfigs;
     }
 
+    @Override
+    public ThingEventCoalescingConfig getCoalescingConfig() {
+        return coalescingConfig;
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (!(o instanceof final DefaultThingEventConfig that)) {
             return false;
         }
         return Objects.equals(defaultEventConfigDelegated, that.defaultEventConfigDelegated) &&
-                Objects.equals(preDefinedExtraFieldsConfigs, that.preDefinedExtraFieldsConfigs);
+                Objects.equals(preDefinedExtraFieldsConfigs, that.preDefinedExtraFieldsConfigs) &&
+                Objects.equals(coalescingConfig, that.coalescingConfig);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(defaultEventConfigDelegated, preDefinedExtraFieldsConfigs);
+        return Objects.hash(defaultEventConfigDelegated, preDefinedExtraFieldsConfigs, coalescingConfig);
     }
 
     @Override
@@ -82,6 +90,7 @@ public final class DefaultThingEventConfig implements ThingEventConfig {
         return getClass().getSimpleName() + "[" +
                 "defaultEventConfigDelegated=" + defaultEventConfigDelegated +
                 ", preDefinedExtraFieldsConfigs=" + preDefinedExtraFieldsConfigs +
+                ", coalescingConfig=" + coalescingConfig +
                 "]";
     }
 }
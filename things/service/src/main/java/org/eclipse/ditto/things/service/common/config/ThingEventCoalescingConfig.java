@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.things.service.common.config;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.internal.utils.config.KnownConfigValue;
+
+/**
+ * Provides configuration settings for coalescing ("last write wins") thing events of telemetry features: modifications
+ * of feature properties of matching things or features are applied and published immediately, but persisted
+ * together after a delay or a number of modifications.
+ *
+ * @since 3.8.0
+ */
+@Immutable
+public interface ThingEventCoalescingConfig {
+
+    /**
+     * Indicates whether events are coalesced at all.
+     *
+     * @return {@code true} if events of matching things or features are coalesced.
+     */
+    boolean isEnabled();
+
+    /**
+     * The namespace {@link Pattern}s of things whose feature property events are coalesced.
+     * The pattern must match the full string.
+     *
+     * @return the namespace patterns.
+     */
+    List<Pattern> getNamespaces();
+
+    /**
+     * The feature definition identifier {@link Pattern}s of features whose property events are coalesced, in
+     * addition to the features of things matching {@link #getNamespaces()}. The pattern must match the full string.
+     *
+     * @return the feature definition patterns.
+     */
+    List<Pattern> getFeatureDefinitions();
+
+    /**
+     * Returns the maximum time coalesced events are kept in memory before they are persisted.
+     *
+     * @return the maximum delay.
+     */
+    Duration getMaxDelay();
+
+    /**
+     * Returns the maximum number of coalesced events kept in memory before they are persisted.
+     *
+     * @return the maximum number of events.
+     */
+    int getMaxEvents();
+
+    /**
+     * An enumeration of the known config path expressions and their associated default values for
+     * {@code ThingEventCoalescingConfig}.
+     */
+    enum ConfigValue implements KnownConfigValue {
+
+        /**
+         * Whether events are coalesced at all.
+         */
+        ENABLED("enabled", false),
+
+        /**
+         * Matching namespaces, supports wildcards.
+         */
+        NAMESPACES("namespaces", List.of()),
+
+        /**
+         * Matching feature definition identifiers, supports wildcards.
+         */
+        FEATURE_DEFINITIONS("feature-definitions", List.of()),
+
+        /**
+         * The maximum time coalesced events are kept in memory.
+         */
+        MAX_DELAY("max-delay", Duration.ofSeconds(10)),
+
+        /**
+         * The maximum number of coalesced events kept in memory.
+         */
+        MAX_EVENTS("max-events", 100);
+
+        private final String path;
+        private final Object defaultValue;
+
+        ConfigValue(final String thePath, final Object theDefaultValue) {
+            path = thePath;
+            defaultValue = theDefaultValue;
+        }
+
+        @Override
+        public Object getDefaultValue() {
+            return defaultValue;
+        }
+
+        @Override
+        public String getConfigPath() {
+            return path;
+        }
+
+    }
+
+}
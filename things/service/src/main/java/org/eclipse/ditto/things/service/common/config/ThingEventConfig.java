@@ -29,6 +29,14 @@ public interface ThingEventConfig extends EventConfig {
      */
     List<PreDefinedExtraFieldsConfig> getPredefinedExtraFieldsConfigs();
 
+    /**
+     * Returns the config of coalescing thing events of telemetry features.
+     *
+     * @return the event coalescing config.
+     * @since 3.8.0
+     */
+    ThingEventCoalescingConfig getCoalescingConfig();
+
     /**
      * An enumeration of the known config path expressions and their associated default values for
      * {@code ThingEventConfig}.
@@ -40,6 +40,7 @@ import org.eclipse.ditto.internal.utils.persistence.mongo.streaming.MongoReadJou
 import org.eclipse.ditto.internal.utils.persistentactors.AbstractPersistenceActor;
 import org.eclipse.ditto.internal.utils.persistentactors.commands.CommandStrategy;
 import org.eclipse.ditto.internal.utils.persistentactors.commands.DefaultContext;
+import org.eclipse.ditto.internal.utils.persistentactors.events.EventCoalescingStrategy;
 import org.eclipse.ditto.internal.utils.persistentactors.events.EventStrategy;
 import org.eclipse.ditto.internal.utils.pubsub.DistributedPub;
 import org.eclipse.ditto.internal.utils.pubsub.extractors.AckExtractor;
@@ -66,6 +67,7 @@ import org.eclipse.ditto.things.service.persistence.actors.enrichment.EnrichSign
 import org.eclipse.ditto.things.service.persistence.actors.enrichment.EnrichSignalWithPreDefinedExtraFieldsResponse;
 import org.eclipse.ditto.things.service.persistence.actors.enrichment.PreDefinedExtraFieldsEnricher;
 import org.eclipse.ditto.things.service.persistence.actors.strategies.commands.ThingCommandStrategies;
+import org.eclipse.ditto.things.service.persistence.actors.strategies.events.ThingEventCoalescingStrategy;
 import org.eclipse.ditto.things.service.persistence.actors.strategies.events.ThingEventStrategies;
 
 /**
@@ -97,6 +99,7 @@ public final class ThingPersistenceActor
     @Nullable private final ActorRef searchShardRegionProxy;
     private final PreDefinedExtraFieldsEnricher eventPreDefinedExtraFieldsEnricher;
     private final PreDefinedExtraFieldsEnricher messagePreDefinedExtraFieldsEnricher;
+    private final ThingEventCoalescingStrategy eventCoalescingStrategy;
 
     @SuppressWarnings("unused")
     private ThingPersistenceActor(final ThingId thingId,
@@ -120,6 +123,8 @@ public final class ThingPersistenceActor
                 thingConfig.getMessageConfig().getPredefinedExtraFieldsConfigs(),
                 policyEnforcerProvider
         );
+        eventCoalescingStrategy =
+                new ThingEventCoalescingStrategy(thingConfig.getEventConfig().getCoalescingConfig());
     }
 
     /**
@@ -224,6 +229,11 @@ public final class ThingPersistenceActor
         return ThingEventStrategies.getInstance();
     }
 
+    @Override
+    protected EventCoalescingStrategy<ThingEvent<?>, Thing> getEventCoalescingStrategy() {
+        return eventCoalescingStrategy;
+    }
+
     @Override
     protected ActivityCheckConfig getActivityCheckConfig() {
         return thingConfig.getActivityCheckConfig();
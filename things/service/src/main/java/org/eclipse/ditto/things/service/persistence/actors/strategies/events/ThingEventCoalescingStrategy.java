@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.things.service.persistence.actors.strategies.events;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.StreamSupport;
+
+import javax.annotation.Nullable;
+import javax.annotation.concurrent.Immutable;
+
+import org.eclipse.ditto.base.model.acks.DittoAcknowledgementLabel;
+import org.eclipse.ditto.base.model.signals.WithFeatureId;
+import org.eclipse.ditto.internal.utils.persistentactors.events.EventCoalescingStrategy;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.things.model.Feature;
+import org.eclipse.ditto.things.model.Thing;
+import org.eclipse.ditto.things.model.signals.events.FeatureDesiredPropertiesCreated;
+import org.eclipse.ditto.things.model.signals.events.FeatureDesiredPropertiesModified;
+import org.eclipse.ditto.things.model.signals.events.FeatureDesiredPropertyCreated;
+import org.eclipse.ditto.things.model.signals.events.FeatureDesiredPropertyModified;
+import org.eclipse.ditto.things.model.signals.events.FeaturePropertiesCreated;
+import org.eclipse.ditto.things.model.signals.events.FeaturePropertiesModified;
+import org.eclipse.ditto.things.model.signals.events.FeaturePropertyCreated;
+import org.eclipse.ditto.things.model.signals.events.FeaturePropertyModified;
+import org.eclipse.ditto.things.model.signals.events.ThingEvent;
+import org.eclipse.ditto.things.service.common.config.ThingEventCoalescingConfig;
+
+/**
+ * Coalesces the events setting (desired) feature properties of things whose namespace or feature definition is
+ * configured in the {@link ThingEventCoalescingConfig}. Events requesting the {@code twin-persisted} acknowledgement
+ * are never coalesced as they must be answered only after they were persisted.
+ *
+ * @since 3.8.0
+ */
+@Immutable
+public final class ThingEventCoalescingStrategy implements EventCoalescingStrategy<ThingEvent<?>, Thing> {
+
+    private static final Set<Class<?>> COALESCABLE_EVENT_TYPES = Set.of(
+            FeaturePropertyCreated.class,
+            FeaturePropertyModified.class,
+            FeaturePropertiesCreated.class,
+            FeaturePropertiesModified.class,
+            FeatureDesiredPropertyCreated.class,
+            FeatureDesiredPropertyModified.class,
+            FeatureDesiredPropertiesCreated.class,
+            FeatureDesiredPropertiesModified.class
+    );
+
+    private final ThingEventCoalescingConfig coalescingConfig;
+
+    /**
+     * Constructs a new {@code ThingEventCoalescingStrategy}.
+     *
+     * @param coalescingConfig the config determining which events are coalesced.
+     */
+    public ThingEventCoalescingStrategy(final ThingEventCoalescingConfig coalescingConfig) {
+        this.coalescingConfig = coalescingConfig;
+    }
+
+    @Override
+    public boolean isCoalescable(final ThingEvent<?> event, @Nullable final Thing thing) {
+        return coalescingConfig.isEnabled() &&
+                null != thing &&
+                COALESCABLE_EVENT_TYPES.contains(event.getClass()) &&
+                !isTwinPersistedAcknowledgementRequested(event) &&
+                (matchesAny(coalescingConfig.getNamespaces(), event.getEntityId().getNamespace()) ||
+                        hasMatchingFeatureDefinition(thing, ((WithFeatureId) event).getFeatureId()));
+    }
+
+    @Override
+    public boolean isSupersededBy(final ThingEvent<?> event, final ThingEvent<?> laterEvent) {
+        // all coalescable events set the value at their resource path, so a later event at the same or a parent path
+        // overwrites the value; metadata of the earlier event would however be lost
+        return event.getMetadata().isEmpty() && isPrefixOf(laterEvent.getResourcePath(), event.getResourcePath());
+    }
+
+    @Override
+    public Duration getMaxDelay() {
+        return coalescingConfig.getMaxDelay();
+    }
+
+    @Override
+    public int getMaxEvents() {
+        return coalescingConfig.getMaxEvents();
+    }
+
+    private static boolean isTwinPersistedAcknowledgementRequested(final ThingEvent<?> event) {
+        return event.getDittoHeaders()
+                .getAcknowledgementRequests()
+                .stream()
+                .anyMatch(ar -> DittoAcknowledgementLabel.TWIN_PERSISTED.equals(ar.getLabel()));
+    }
+
+    private boolean hasMatchingFeatureDefinition(final Thing thing, final String featureId) {
+        final List<Pattern> featureDefinitions = coalescingConfig.getFeatureDefinitions();
+        return !featureDefinitions.isEmpty() && thing.getFeatures()
+                .flatMap(features -> features.getFeature(featureId))
+                .flatMap(Feature::getDefinition)
+                .filter(definition -> StreamSupport.stream(definition.spliterator(), false)
+                        .anyMatch(identifier -> matchesAny(featureDefinitions, identifier.toString())))
+                .isPresent();
+    }
+
+    private static boolean matchesAny(final List<Pattern> patterns, final String value) {
+        return patterns.stream().anyMatch(pattern -> pattern.matcher(value).matches());
+    }
+
+    private static boolean isPrefixOf(final JsonPointer prefix, final JsonPointer pointer) {
+        if (prefix.getLevelCount() > pointer.getLevelCount()) {
+            return false;
+        }
+        for (int level = 0; level < prefix.getLevelCount(); level++) {
+            if (!prefix.get(level).equals(pointer.get(level))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
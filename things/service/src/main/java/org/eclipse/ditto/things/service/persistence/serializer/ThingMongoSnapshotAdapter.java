@@ -14,6 +14,7 @@ package org.eclipse.ditto.things.service.persistence.serializer;
 
 import java.time.Instant;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import javax.annotation.concurrent.ThreadSafe;
 
@@ -25,6 +26,7 @@ import org.eclipse.ditto.base.api.persistence.SnapshotTaken;
 import org.eclipse.ditto.base.model.entity.Revision;
 import org.eclipse.ditto.internal.utils.cluster.DistPubSubAccess;
 import org.eclipse.ditto.internal.utils.persistence.mongo.AbstractMongoSnapshotAdapter;
+import org.eclipse.ditto.internal.utils.persistence.mongo.CompactSnapshotFormat;
 import org.eclipse.ditto.json.JsonField;
 import org.eclipse.ditto.json.JsonObject;
 import org.eclipse.ditto.json.JsonValue;
@@ -50,6 +52,21 @@ public final class ThingMongoSnapshotAdapter extends AbstractMongoSnapshotAdapte
     static final String THING_SNAPSHOT_TAKEN_EVENT_PUBLISHING_ENABLED =
             "thing-snapshot-taken-event-publishing-enabled";
 
+    static final String COMPACT_SNAPSHOT_FORMAT_ENABLED = "compact-snapshot-format-enabled";
+
+    /**
+     * Fields kept plain in compact snapshots as they are queried from the snapshot collection, e.g. by the
+     * background sync of the search index and the cleanup of deleted things.
+     */
+    private static final CompactSnapshotFormat COMPACT_SNAPSHOT_FORMAT = CompactSnapshotFormat.of(Stream.of(
+                    Thing.JsonFields.ID,
+                    Thing.JsonFields.POLICY_ID,
+                    Thing.JsonFields.REVISION,
+                    Thing.JsonFields.MODIFIED,
+                    Thing.JsonFields.LIFECYCLE)
+            .map(field -> field.getPointer().getRoot().orElseThrow().toString())
+            .toList());
+
     private final ActorRef pubSubMediator;
     private final boolean snapshotTakenEventPublishingEnabled;
 
@@ -69,11 +86,15 @@ public final class ThingMongoSnapshotAdapter extends AbstractMongoSnapshotAdapte
      * @param pubSubMediator Pekko pubsub mediator with which to publish snapshot events.
      */
     public ThingMongoSnapshotAdapter(final ActorRef pubSubMediator, final Config config) {
-        super(LOGGER);
+        super(LOGGER, isCompactSnapshotFormatEnabled(config) ? COMPACT_SNAPSHOT_FORMAT : null);
         this.pubSubMediator = pubSubMediator;
         snapshotTakenEventPublishingEnabled = config.getBoolean(THING_SNAPSHOT_TAKEN_EVENT_PUBLISHING_ENABLED);
     }
 
+    private static boolean isCompactSnapshotFormatEnabled(final Config config) {
+        return config.hasPath(COMPACT_SNAPSHOT_FORMAT_ENABLED) && config.getBoolean(COMPACT_SNAPSHOT_FORMAT_ENABLED);
+    }
+
     @Override
     protected Thing createJsonifiableFrom(final JsonObject jsonObject) {
         return ThingsModelFactory.newThing(jsonObject);
@@ -60,7 +60,7 @@ public final class WotValidationConfigMongoEventAdapter extends AbstractMongoEve
             final JsonObject jsonObject = performToJournalMigration(wotEvent,
                     wotEvent.toJson(schemaVersion, FieldType.regularOrSpecial())
             ).build();
-            final BsonDocument bson = DittoBsonJson.getInstance().parse(jsonObject);
+            final BsonDocument bson = DittoBsonJson.getInstance().encode(jsonObject);
             return new Tagged(bson, determineJournalTags(wotEvent));
         } else {
             throw new IllegalArgumentException("Unable to toJournal a non-'WotValidationConfigEvent' object! Was: " + 
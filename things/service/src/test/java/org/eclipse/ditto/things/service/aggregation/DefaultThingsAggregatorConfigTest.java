@@ -57,6 +57,15 @@ public final class DefaultThingsAggregatorConfigTest {
         softly.assertThat(underTest.getMaxParallelism())
                 .as(ThingsAggregatorConfig.ThingsAggregatorConfigValue.MAX_PARALLELISM.getConfigPath())
                 .isEqualTo(ThingsAggregatorConfig.ThingsAggregatorConfigValue.MAX_PARALLELISM.getDefaultValue());
+
+        softly.assertThat(underTest.isBatchingEnabled())
+                .as(ThingsAggregatorConfig.ThingsAggregatorConfigValue.BATCHING_ENABLED.getConfigPath())
+                .isEqualTo(ThingsAggregatorConfig.ThingsAggregatorConfigValue.BATCHING_ENABLED.getDefaultValue());
+
+        softly.assertThat(underTest.getShardLocationsRefreshInterval())
+                .as(ThingsAggregatorConfig.ThingsAggregatorConfigValue.SHARD_LOCATIONS_REFRESH_INTERVAL.getConfigPath())
+                .isEqualTo(ThingsAggregatorConfig.ThingsAggregatorConfigValue.SHARD_LOCATIONS_REFRESH_INTERVAL
+                        .getDefaultValue());
     }
 
     @Test
@@ -70,6 +79,14 @@ public final class DefaultThingsAggregatorConfigTest {
         softly.assertThat(underTest.getMaxParallelism())
                 .as(ThingsAggregatorConfig.ThingsAggregatorConfigValue.MAX_PARALLELISM.getConfigPath())
                 .isEqualTo(10);
+
+        softly.assertThat(underTest.isBatchingEnabled())
+                .as(ThingsAggregatorConfig.ThingsAggregatorConfigValue.BATCHING_ENABLED.getConfigPath())
+                .isTrue();
+
+        softly.assertThat(underTest.getShardLocationsRefreshInterval())
+                .as(ThingsAggregatorConfig.ThingsAggregatorConfigValue.SHARD_LOCATIONS_REFRESH_INTERVAL.getConfigPath())
+                .isEqualTo(Duration.ofSeconds(30L));
     }
 
 }
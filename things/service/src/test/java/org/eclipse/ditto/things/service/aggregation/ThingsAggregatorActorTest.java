@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.things.service.aggregation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.base.model.json.Jsonifiable;
+import org.eclipse.ditto.internal.utils.cluster.ShardRegionExtractor;
+import org.eclipse.ditto.internal.utils.pekko.ActorSystemResource;
+import org.eclipse.ditto.things.model.Thing;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.things.model.signals.commands.query.RetrieveThing;
+import org.eclipse.ditto.things.model.signals.commands.query.RetrieveThingResponse;
+import org.eclipse.ditto.things.model.signals.commands.query.RetrieveThings;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.typesafe.config.Config;
+import com.typesafe.config.ConfigFactory;
+
+import org.apache.pekko.actor.ActorRef;
+import org.apache.pekko.actor.Address;
+import org.apache.pekko.cluster.Cluster;
+import org.apache.pekko.cluster.sharding.ShardRegion;
+import org.apache.pekko.stream.SourceRef;
+import org.apache.pekko.stream.javadsl.Sink;
+import org.apache.pekko.testkit.TestActor;
+import org.apache.pekko.testkit.TestProbe;
+import org.apache.pekko.testkit.javadsl.TestKit;
+
+import scala.jdk.javaapi.CollectionConverters;
+
+/**
+ * Tests {@link ThingsAggregatorActor}.
+ */
+public final class ThingsAggregatorActorTest {
+
+    private static final Config CONFIG = ConfigFactory.parseMap(Map.of(
+                    "pekko.actor.provider", "cluster",
+                    "pekko.remote.artery.canonical.port", 0))
+            .withFallback(ConfigFactory.load("test"));
+
+    private static final String LOCAL_SHARD = "0";
+    private static final String REMOTE_SHARD = "1";
+
+    /**
+     * Address of a cluster node which does not exist, i.e. node batches sent to it are never answered.
+     */
+    private static final Address UNREACHABLE_NODE = new Address("pekko", "unreachable", "127.0.0.1", 1);
+
+    @Rule
+    public final ActorSystemResource actorSystemResource = ActorSystemResource.newInstance(CONFIG);
+
+    private final List<RetrieveThing> retrievedFromShardRegion = new CopyOnWriteArrayList<>();
+
+    private ShardRegionExtractor shardRegionExtractor;
+    private TestProbe shardRegion;
+
+    @Before
+    public void setUp() {
+        shardRegionExtractor = ShardRegionExtractor.of(2, actorSystemResource.getActorSystem());
+        shardRegion = actorSystemResource.newTestProbe();
+    }
+
+    @Test
+    public void retrievesThingsViaShardRegionInRequestedOrderIfBatchingIsDisabled() {
+        final ActorRef underTest = newAggregator(false);
+        final List<ThingId> thingIds = List.of(thingIdOfShard(REMOTE_SHARD, 0), thingIdOfShard(LOCAL_SHARD, 0),
+                thingIdOfShard(REMOTE_SHARD, 1));
+        answerRetrieveThingCommands();
+
+        final List<ThingId> retrievedThingIds = retrieveThings(underTest, thingIds, DittoHeaders.empty());
+
+        assertThat(retrievedThingIds).containsExactlyElementsOf(thingIds);
+        assertThat(retrievedFromShardRegion).extracting(RetrieveThing::getEntityId)
+                .containsExactlyInAnyOrderElementsOf(thingIds);
+    }
+
+    @Test
+    public void retrievesBatchOfUnreachableNodeViaShardRegionAndEmitsResponsesInRequestedOrder() {
+        final ActorRef underTest = newAggregator(true);
+        answerClusterShardingStats(Map.of(
+                LOCAL_SHARD, Cluster.get(actorSystemResource.getActorSystem()).selfAddress(),
+                REMOTE_SHARD, UNREACHABLE_NODE));
+        final List<ThingId> remoteThingIds = List.of(thingIdOfShard(REMOTE_SHARD, 0), thingIdOfShard(REMOTE_SHARD, 1));
+        final List<ThingId> localThingIds = List.of(thingIdOfShard(LOCAL_SHARD, 0), thingIdOfShard(LOCAL_SHARD, 1));
+        final List<ThingId> thingIds =
+                List.of(remoteThingIds.get(0), localThingIds.get(0), remoteThingIds.get(1), localThingIds.get(1));
+        answerRetrieveThingCommands();
+
+        final List<ThingId> retrievedThingIds = retrieveThings(underTest, thingIds, DittoHeaders.empty());
+
+        // the things of the local node are retrieved first, the ones of the remote node after its batch timed out
+        assertThat(retrievedFromShardRegion).extracting(RetrieveThing::getEntityId)
+                .containsExactly(localThingIds.get(0), localThingIds.get(1), remoteThingIds.get(0),
+                        remoteThingIds.get(1));
+        assertThat(retrievedThingIds).containsExactlyElementsOf(thingIds);
+    }
+
+    @Test
+    public void retrievesBatchOfOtherNodeFromLocalShardRegionWithoutForwardingIt() {
+        final ActorRef underTest = newAggregator(true);
+        answerClusterShardingStats(Map.of(LOCAL_SHARD, UNREACHABLE_NODE, REMOTE_SHARD, UNREACHABLE_NODE));
+        final List<ThingId> thingIds = List.of(thingIdOfShard(LOCAL_SHARD, 0), thingIdOfShard(REMOTE_SHARD, 0));
+        answerRetrieveThingCommands();
+
+        final List<ThingId> retrievedThingIds = retrieveThings(underTest, thingIds, DittoHeaders.newBuilder()
+                .putHeader("ditto-things-aggregator-node-batch", "true")
+                .build());
+
+        assertThat(retrievedThingIds).containsExactlyElementsOf(thingIds);
+        assertThat(retrievedFromShardRegion).allSatisfy(retrieveThing ->
+                assertThat(retrieveThing.getDittoHeaders()).doesNotContainKey("ditto-things-aggregator-node-batch"));
+    }
+
+    private ActorRef newAggregator(final boolean batchingEnabled) {
+        final ThingsAggregatorConfig config = DefaultThingsAggregatorConfig.of(ConfigFactory.parseMap(Map.of(
+                "things-aggregator.single-retrieve-thing-timeout", "1s",
+                "things-aggregator.batching-enabled", batchingEnabled,
+                "things-aggregator.shard-locations-refresh-interval", "1h")));
+        return actorSystemResource.newActor(ThingsAggregatorActor.props(shardRegion.ref(), config,
+                actorSystemResource.newTestProbe().ref(), shardRegionExtractor));
+    }
+
+    private void answerClusterShardingStats(final Map<String, Address> shardLocations) {
+        final Map<Address, Map<String, Object>> shardsByNode = new HashMap<>();
+        shardLocations.forEach((shardId, address) ->
+                shardsByNode.computeIfAbsent(address, a -> new HashMap<>()).put(shardId, 1));
+        final Map<Address, ShardRegion.ShardRegionStats> regions = new HashMap<>();
+        shardsByNode.forEach((address, shards) -> regions.put(address, new ShardRegion.ShardRegionStats(
+                scala.collection.immutable.Map$.MODULE$.from(CollectionConverters.asScala(shards)),
+                scala.collection.immutable.Set$.MODULE$.empty())));
+
+        shardRegion.expectMsgClass(ShardRegion.GetClusterShardingStats.class);
+        shardRegion.reply(new ShardRegion.ClusterShardingStats(
+                scala.collection.immutable.Map$.MODULE$.from(CollectionConverters.asScala(regions))));
+    }
+
+    private void answerRetrieveThingCommands() {
+        shardRegion.setAutoPilot(new TestActor.AutoPilot() {
+            @Override
+            public TestActor.AutoPilot run(final ActorRef sender, final Object msg) {
+                if (msg instanceof RetrieveThing retrieveThing) {
+                    retrievedFromShardRegion.add(retrieveThing);
+                    final ThingId thingId = retrieveThing.getEntityId();
+                    sender.tell(RetrieveThingResponse.of(thingId,
+                            Thing.newBuilder().setId(thingId).build().toJsonString(),
+                            retrieveThing.getDittoHeaders()), ActorRef.noSender());
+                }
+                return keepRunning();
+            }
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<ThingId> retrieveThings(final ActorRef underTest, final List<ThingId> thingIds,
+            final DittoHeaders dittoHeaders) {
+
+        final TestKit testKit = actorSystemResource.newTestKit();
+        underTest.tell(RetrieveThings.getBuilder(thingIds).dittoHeaders(dittoHeaders).build(), testKit.getRef());
+        final SourceRef<Jsonifiable<?>> responses = testKit.expectMsgClass(SourceRef.class);
+        try {
+            return responses.getSource()
+                    .map(response -> ((RetrieveThingResponse) response).getEntityId())
+                    .runWith(Sink.seq(), actorSystemResource.getMaterializer())
+                    .toCompletableFuture()
+                    .get(10, TimeUnit.SECONDS);
+        } catch (final Exception e) {
+            throw new AssertionError("Did not retrieve things", e);
+        }
+    }
+
+    private ThingId thingIdOfShard(final String shardId, final int index) {
+        return IntStream.iterate(0, i -> i + 1)
+                .mapToObj(i -> ThingId.of("org.eclipse.ditto", "thing-" + i))
+                .filter(thingId -> shardId.equals(
+                        shardRegionExtractor.shardId(new ShardRegion.StartEntity(thingId.toString()))))
+                .skip(index)
+                .findFirst()
+                .orElseThrow();
+    }
+
+}
@@ -0,0 +1,294 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.things.service.persistence.actors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.apache.pekko.actor.ActorRef;
+import org.apache.pekko.actor.PoisonPill;
+import org.apache.pekko.testkit.javadsl.TestKit;
+import org.eclipse.ditto.base.model.headers.DittoHeaderDefinition;
+import org.eclipse.ditto.base.model.signals.events.Event;
+import org.eclipse.ditto.internal.utils.persistence.mongo.DittoBsonJson;
+import org.eclipse.ditto.internal.utils.persistentactors.AbstractPersistenceActor;
+import org.eclipse.ditto.internal.utils.persistentactors.EmptyEvent;
+import org.eclipse.ditto.internal.utils.test.Retry;
+import org.eclipse.ditto.internal.utils.tracing.DittoTracingInitResource;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.things.model.Thing;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.things.model.signals.commands.exceptions.ThingHistoryNotAccessibleException;
+import org.eclipse.ditto.things.model.signals.commands.modify.CreateThing;
+import org.eclipse.ditto.things.model.signals.commands.modify.CreateThingResponse;
+import org.eclipse.ditto.things.model.signals.commands.modify.ModifyAttribute;
+import org.eclipse.ditto.things.model.signals.commands.modify.ModifyAttributeResponse;
+import org.eclipse.ditto.things.model.signals.commands.modify.ModifyFeatureProperty;
+import org.eclipse.ditto.things.model.signals.commands.modify.ModifyFeaturePropertyResponse;
+import org.eclipse.ditto.things.model.signals.commands.query.RetrieveThing;
+import org.eclipse.ditto.things.model.signals.commands.query.RetrieveThingResponse;
+import org.eclipse.ditto.things.model.signals.events.AttributeModified;
+import org.eclipse.ditto.things.model.signals.events.FeaturePropertyModified;
+import org.eclipse.ditto.things.model.signals.events.ThingCreated;
+import org.eclipse.ditto.things.service.persistence.testhelper.Assertions;
+import org.eclipse.ditto.things.service.persistence.testhelper.ThingsJournalTestHelper;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+/**
+ * Tests the event coalescing of the {@link AbstractPersistenceActor} and historical retrieves of coalesced revisions by
+ * the example of the {@link ThingPersistenceActor}.
+ */
+public final class ThingPersistenceActorEventCoalescingTest extends PersistenceActorTestBase {
+
+    @ClassRule
+    public static final DittoTracingInitResource DITTO_TRACING_INIT_RESOURCE =
+            DittoTracingInitResource.disableDittoTracing();
+
+    private static final JsonPointer PROPERTY = JsonPointer.of(FEATURE_PROPERTY_KEY);
+    private static final String NEVER = "1h";
+
+    private ThingsJournalTestHelper<String> journalTestHelper;
+
+    @Test
+    public void countsCoalescedEventsAsRevisionsBeforeTheyArePersisted() {
+        setupWithCoalescing(100, NEVER);
+
+        new TestKit(actorSystem) {{
+            final Thing thing = createThingV2WithRandomId();
+            final ThingId thingId = thing.getEntityId().orElseThrow();
+            final ActorRef underTest = createPersistenceActorFor(thingId);
+            createThing(this, underTest, thing);
+
+            // the first event is persisted together with the reservation of the revisions of the coalesced events
+            modifyFeatureProperty(this, underTest, thingId, JsonValue.of(1));
+            modifyFeatureProperty(this, underTest, thingId, JsonValue.of(2));
+
+            final Thing retrievedThing = retrieveThing(this, underTest, thingId);
+            assertThat(retrievedThing.getRevision()).hasValueSatisfying(revision ->
+                    assertThat(revision.toLong()).isEqualTo(4L));
+            assertThat(getFeatureProperty(retrievedThing)).contains(JsonValue.of(2));
+            assertJournal(thingId, List.of(ThingCreated.TYPE, FeaturePropertyModified.TYPE, EmptyEvent.TYPE));
+        }};
+    }
+
+    @Test
+    public void persistsCoalescedEventsAfterMaxDelay() {
+        setupWithCoalescing(100, "100ms");
+
+        new TestKit(actorSystem) {{
+            final Thing thing = createThingV2WithRandomId();
+            final ThingId thingId = thing.getEntityId().orElseThrow();
+            final ActorRef underTest = createPersistenceActorFor(thingId);
+            createThing(this, underTest, thing);
+
+            modifyFeatureProperty(this, underTest, thingId, JsonValue.of(1));
+            modifyFeatureProperty(this, underTest, thingId, JsonValue.of(2));
+
+            assertJournal(thingId, List.of(ThingCreated.TYPE, FeaturePropertyModified.TYPE, EmptyEvent.TYPE,
+                    FeaturePropertyModified.TYPE));
+        }};
+    }
+
+    @Test
+    public void persistsCoalescedEventsBeforeEventWhichIsNotCoalesced() {
+        setupWithCoalescing(100, NEVER);
+
+        new TestKit(actorSystem) {{
+            final Thing thing = createThingV2WithRandomId();
+            final ThingId thingId = thing.getEntityId().orElseThrow();
+            final ActorRef underTest = createPersistenceActorFor(thingId);
+            createThing(this, underTest, thing);
+
+            modifyFeatureProperty(this, underTest, thingId, JsonValue.of(1));
+            modifyFeatureProperty(this, underTest, thingId, JsonValue.of(2));
+            underTest.tell(ModifyAttribute.of(thingId, JsonPointer.of(ATTRIBUTE_KEY), JsonValue.of("changed"),
+                    dittoHeadersV2), getRef());
+            expectMsgClass(ModifyAttributeResponse.class);
+
+            assertJournal(thingId, List.of(ThingCreated.TYPE, FeaturePropertyModified.TYPE, EmptyEvent.TYPE,
+                    FeaturePropertyModified.TYPE, AttributeModified.TYPE));
+        }};
+    }
+
+    @Test
+    public void persistsSupersededCoalescedEventsAsPlaceholdersKeepingRevisionsEqualToSequenceNumbers() {
+        setupWithCoalescing(2, NEVER);
+
+        new TestKit(actorSystem) {{
+            final Thing thing = createThingV2WithRandomId();
+            final ThingId thingId = thing.getEntityId().orElseThrow();
+            ActorRef underTest = createPersistenceActorFor(thingId);
+            createThing(this, underTest, thing);
+
+            // the first event reserves 2 revisions, the third event reaches max-events and overwrites the value of
+            // the second one
+            modifyFeatureProperty(this, underTest, thingId, JsonValue.of(1));
+            modifyFeatureProperty(this, underTest, thingId, JsonValue.of(2));
+            modifyFeatureProperty(this, underTest, thingId, JsonValue.of(3));
+
+            assertJournal(thingId, List.of(ThingCreated.TYPE, FeaturePropertyModified.TYPE, EmptyEvent.TYPE,
+                    EmptyEvent.TYPE, FeaturePropertyModified.TYPE));
+
+            // the recovered actor continues with the revision following the placeholder and the coalesced event
+            watch(underTest);
+            underTest.tell(PoisonPill.getInstance(), getRef());
+            expectTerminated(underTest);
+            underTest = Retry.untilSuccess(() -> createPersistenceActorFor(thingId));
+
+            final Thing recoveredThing = retrieveThing(this, underTest, thingId);
+            assertThat(recoveredThing.getRevision()).hasValueSatisfying(revision ->
+                    assertThat(revision.toLong()).isEqualTo(5L));
+            assertThat(getFeatureProperty(recoveredThing)).contains(JsonValue.of(3));
+
+            underTest.tell(ModifyAttribute.of(thingId, JsonPointer.of(ATTRIBUTE_KEY), JsonValue.of("changed"),
+                    dittoHeadersV2), getRef());
+            expectMsgClass(ModifyAttributeResponse.class);
+            assertThat(retrieveThing(this, underTest, thingId).getRevision()).hasValueSatisfying(revision ->
+                    assertThat(revision.toLong()).isEqualTo(6L));
+        }};
+    }
+
+    @Test
+    public void skipsReservedRevisionsOfLostCoalescedEventsOnRecovery() {
+        setupWithCoalescing(5, NEVER);
+
+        new TestKit(actorSystem) {{
+            final Thing thing = createThingV2WithRandomId();
+            final ThingId thingId = thing.getEntityId().orElseThrow();
+            ActorRef underTest = createPersistenceActorFor(thingId);
+            createThing(this, underTest, thing);
+
+            // the first event reserves the revisions 4 to 8, the second event with revision 4 is lost
+            modifyFeatureProperty(this, underTest, thingId, JsonValue.of(1));
+            modifyFeatureProperty(this, underTest, thingId, JsonValue.of(2));
+            assertJournal(thingId, List.of(ThingCreated.TYPE, FeaturePropertyModified.TYPE, EmptyEvent.TYPE));
+
+            watch(underTest);
+            underTest.tell(PoisonPill.getInstance(), getRef());
+            expectTerminated(underTest);
+            underTest = Retry.untilSuccess(() -> createPersistenceActorFor(thingId));
+
+            final Thing recoveredThing = retrieveThing(this, underTest, thingId);
+            assertThat(getFeatureProperty(recoveredThing)).contains(JsonValue.of(1));
+
+            // the published revision 4 of the lost event is not reused
+            underTest.tell(ModifyAttribute.of(thingId, JsonPointer.of(ATTRIBUTE_KEY), JsonValue.of("changed"),
+                    dittoHeadersV2), getRef());
+            expectMsgClass(ModifyAttributeResponse.class);
+            assertThat(retrieveThing(this, underTest, thingId).getRevision()).hasValueSatisfying(revision ->
+                    assertThat(revision.toLong()).isEqualTo(9L));
+            assertJournal(thingId, List.of(ThingCreated.TYPE, FeaturePropertyModified.TYPE, EmptyEvent.TYPE,
+                    EmptyEvent.TYPE, EmptyEvent.TYPE, EmptyEvent.TYPE, EmptyEvent.TYPE, EmptyEvent.TYPE,
+                    AttributeModified.TYPE));
+        }};
+    }
+
+    @Test
+    public void retrievesCurrentRevisionOfCoalescedEventsAsHistoricalRevisionFromMemory() {
+        setupWithCoalescing(100, NEVER);
+
+        new TestKit(actorSystem) {{
+            final Thing thing = createThingV2WithRandomId();
+            final ThingId thingId = thing.getEntityId().orElseThrow();
+            final ActorRef underTest = createPersistenceActorFor(thingId);
+            createThing(this, underTest, thing);
+            modifyFeatureProperty(this, underTest, thingId, JsonValue.of(1));
+            modifyFeatureProperty(this, underTest, thingId, JsonValue.of(2));
+
+            underTest.tell(retrieveThingAtHistoricalRevision(thingId, 4L), getRef());
+
+            final Thing historicalThing = expectMsgClass(RetrieveThingResponse.class).getThing();
+            assertThat(getFeatureProperty(historicalThing)).contains(JsonValue.of(2));
+            assertThat(journalTestHelper.getAllEvents(thingId))
+                    .containsExactly(ThingCreated.TYPE, FeaturePropertyModified.TYPE, EmptyEvent.TYPE);
+        }};
+    }
+
+    @Test
+    public void rejectsHistoricalRetrieveOfRevisionAboveCurrentRevision() {
+        setupWithCoalescing(100, NEVER);
+
+        new TestKit(actorSystem) {{
+            final Thing thing = createThingV2WithRandomId();
+            final ThingId thingId = thing.getEntityId().orElseThrow();
+            final ActorRef underTest = createPersistenceActorFor(thingId);
+            createThing(this, underTest, thing);
+            modifyFeatureProperty(this, underTest, thingId, JsonValue.of(1));
+            modifyFeatureProperty(this, underTest, thingId, JsonValue.of(2));
+
+            underTest.tell(retrieveThingAtHistoricalRevision(thingId, 5L), getRef());
+
+            expectMsgClass(ThingHistoryNotAccessibleException.class);
+        }};
+    }
+
+    private void setupWithCoalescing(final int maxEvents, final String maxDelay) {
+        setup(ConfigFactory.parseMap(Map.of(
+                "ditto.things.thing.event.coalescing.enabled", true,
+                "ditto.things.thing.event.coalescing.namespaces", List.of(THING_ID.getNamespace()),
+                "ditto.things.thing.event.coalescing.max-events", maxEvents,
+                "ditto.things.thing.event.coalescing.max-delay", maxDelay)));
+        journalTestHelper = new ThingsJournalTestHelper<>(actorSystem,
+                (journalEntry, sequenceNumber) -> DittoBsonJson.getInstance()
+                        .serialize(journalEntry)
+                        .getValueOrThrow(Event.JsonFields.TYPE),
+                thingId -> ThingPersistenceActor.PERSISTENCE_ID_PREFIX + thingId);
+    }
+
+    private void createThing(final TestKit testKit, final ActorRef underTest, final Thing thing) {
+        underTest.tell(CreateThing.of(thing, null, dittoHeadersV2), testKit.getRef());
+        testKit.expectMsgClass(CreateThingResponse.class);
+    }
+
+    private void modifyFeatureProperty(final TestKit testKit, final ActorRef underTest, final ThingId thingId,
+            final JsonValue value) {
+
+        underTest.tell(ModifyFeatureProperty.of(thingId, FEATURE_ID, PROPERTY, value, dittoHeadersV2),
+                testKit.getRef());
+        testKit.expectMsgClass(ModifyFeaturePropertyResponse.class);
+    }
+
+    private Thing retrieveThing(final TestKit testKit, final ActorRef underTest, final ThingId thingId) {
+        underTest.tell(RetrieveThing.getBuilder(thingId, dittoHeadersV2)
+                .withSelectedFields(ALL_FIELDS_SELECTOR)
+                .build(), testKit.getRef());
+        return testKit.expectMsgClass(RetrieveThingResponse.class).getThing();
+    }
+
+    private RetrieveThing retrieveThingAtHistoricalRevision(final ThingId thingId, final long revision) {
+        return RetrieveThing.getBuilder(thingId, dittoHeadersV2.toBuilder()
+                        .putHeader(DittoHeaderDefinition.AT_HISTORICAL_REVISION.getKey(), String.valueOf(revision))
+                        .build())
+                .withSelectedFields(ALL_FIELDS_SELECTOR)
+                .build();
+    }
+
+    private void assertJournal(final ThingId thingId, final List<String> expectedEventTypes) {
+        Assertions.retryOnAssertionError(() ->
+                assertThat(journalTestHelper.getAllEvents(thingId)).isEqualTo(expectedEventTypes), 5000, 500);
+    }
+
+    private static Optional<JsonValue> getFeatureProperty(final Thing thing) {
+        return thing.getFeatures()
+                .flatMap(features -> features.getFeature(FEATURE_ID))
+                .flatMap(feature -> feature.getProperty(PROPERTY));
+    }
+
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.things.service.persistence.actors.strategies.events;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.eclipse.ditto.base.model.acks.AcknowledgementRequest;
+import org.eclipse.ditto.base.model.acks.DittoAcknowledgementLabel;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.things.model.Thing;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.things.model.signals.events.AttributeModified;
+import org.eclipse.ditto.things.model.signals.events.FeaturePropertiesModified;
+import org.eclipse.ditto.things.model.signals.events.FeaturePropertyModified;
+import org.eclipse.ditto.things.service.common.config.DefaultThingEventCoalescingConfig;
+import org.junit.Test;
+
+import com.typesafe.config.ConfigFactory;
+
+/**
+ * Unit test for {@link ThingEventCoalescingStrategy}.
+ */
+public final class ThingEventCoalescingStrategyTest extends AbstractStrategyTest {
+
+    private static final ThingId THING_ID_OF_OTHER_NAMESPACE = ThingId.of("com.example", "myThing");
+
+    private static final Thing THING_WITH_FEATURE = THING.toBuilder()
+            .setFeature(FEATURE.setDefinition(FEATURE_DEFINITION))
+            .build();
+
+    @Test
+    public void coalescesFeaturePropertyEventsOfMatchingNamespace() {
+        final ThingEventCoalescingStrategy underTest = strategy("enabled = true, namespaces = [\"org.ex*\"]");
+
+        assertThat(underTest.isCoalescable(featurePropertyModified(DittoHeaders.empty()), THING)).isTrue();
+        assertThat(underTest.isCoalescable(featurePropertyModified(THING_ID_OF_OTHER_NAMESPACE), THING)).isFalse();
+    }
+
+    @Test
+    public void coalescesFeaturePropertyEventsOfMatchingFeatureDefinition() {
+        final ThingEventCoalescingStrategy underTest =
+                strategy("enabled = true, feature-definitions = [\"org.example:capacitor:*\"]");
+
+        assertThat(underTest.isCoalescable(featurePropertyModified(DittoHeaders.empty()), THING_WITH_FEATURE))
+                .isTrue();
+        assertThat(underTest.isCoalescable(featurePropertyModified(DittoHeaders.empty()), THING)).isFalse();
+    }
+
+    @Test
+    public void doesNotCoalesceIfDisabled() {
+        final ThingEventCoalescingStrategy underTest = strategy("enabled = false, namespaces = [\"*\"]");
+
+        assertThat(underTest.isCoalescable(featurePropertyModified(DittoHeaders.empty()), THING)).isFalse();
+    }
+
+    @Test
+    public void doesNotCoalesceOtherEvents() {
+        final ThingEventCoalescingStrategy underTest = strategy("enabled = true, namespaces = [\"*\"]");
+        final AttributeModified event = AttributeModified.of(THING_ID, ATTRIBUTE_POINTER, ATTRIBUTE_VALUE, REVISION,
+                TIMESTAMP, DittoHeaders.empty(), null);
+
+        assertThat(underTest.isCoalescable(event, THING)).isFalse();
+    }
+
+    @Test
+    public void doesNotCoalesceEventsRequestingTwinPersistedAcknowledgement() {
+        final ThingEventCoalescingStrategy underTest = strategy("enabled = true, namespaces = [\"*\"]");
+        final DittoHeaders dittoHeaders = DittoHeaders.newBuilder()
+                .acknowledgementRequest(AcknowledgementRequest.of(DittoAcknowledgementLabel.TWIN_PERSISTED))
+                .build();
+
+        assertThat(underTest.isCoalescable(featurePropertyModified(dittoHeaders), THING)).isFalse();
+    }
+
+    @Test
+    public void laterEventOnSameOrParentPathSupersedesEvent() {
+        final ThingEventCoalescingStrategy underTest = strategy("enabled = true, namespaces = [\"*\"]");
+        final FeaturePropertyModified event = featurePropertyModified(DittoHeaders.empty());
+        final FeaturePropertiesModified propertiesModified = FeaturePropertiesModified.of(THING_ID, FEATURE_ID,
+                FEATURE_PROPERTIES, REVISION, TIMESTAMP, DittoHeaders.empty(), null);
+
+        assertThat(underTest.isSupersededBy(event, featurePropertyModified(DittoHeaders.empty()))).isTrue();
+        assertThat(underTest.isSupersededBy(event, propertiesModified)).isTrue();
+        assertThat(underTest.isSupersededBy(propertiesModified, event)).isFalse();
+    }
+
+    @Test
+    public void eventWithMetadataIsNotSuperseded() {
+        final ThingEventCoalescingStrategy underTest = strategy("enabled = true, namespaces = [\"*\"]");
+        final FeaturePropertyModified eventWithMetadata = FeaturePropertyModified.of(THING_ID, FEATURE_ID,
+                FEATURE_PROPERTY_POINTER, FEATURE_PROPERTY_VALUE, REVISION, TIMESTAMP, DittoHeaders.empty(),
+                METADATA);
+
+        assertThat(underTest.isSupersededBy(eventWithMetadata, featurePropertyModified(DittoHeaders.empty())))
+                .isFalse();
+    }
+
+    private static FeaturePropertyModified featurePropertyModified(final DittoHeaders dittoHeaders) {
+        return FeaturePropertyModified.of(THING_ID, FEATURE_ID, FEATURE_PROPERTY_POINTER, FEATURE_PROPERTY_VALUE,
+                REVISION, TIMESTAMP, dittoHeaders, null);
+    }
+
+    private static FeaturePropertyModified featurePropertyModified(final ThingId thingId) {
+        return FeaturePropertyModified.of(thingId, FEATURE_ID, FEATURE_PROPERTY_POINTER, FEATURE_PROPERTY_VALUE,
+                REVISION, TIMESTAMP, DittoHeaders.empty(), null);
+    }
+
+    private static ThingEventCoalescingStrategy strategy(final String coalescingConfig) {
+        return new ThingEventCoalescingStrategy(DefaultThingEventCoalescingConfig.of(
+                ConfigFactory.parseString("coalescing { " + coalescingConfig + " }")));
+    }
+
+}
@@ -29,6 +29,7 @@ import org.bson.BsonDocument;
 import org.eclipse.ditto.base.api.persistence.PersistenceLifecycle;
 import org.eclipse.ditto.base.model.json.FieldType;
 import org.eclipse.ditto.internal.utils.cluster.DistPubSubAccess;
+import org.eclipse.ditto.internal.utils.persistence.mongo.CompactSnapshotFormat;
 import org.eclipse.ditto.things.api.ThingSnapshotTaken;
 import org.eclipse.ditto.things.model.TestConstants;
 import org.eclipse.ditto.things.model.Thing;
@@ -77,6 +78,22 @@ public final class ThingMongoSnapshotAdapterTest {
         expectSnapshotPublished(thingV2);
     }
 
+    @Test
+    public void toSnapshotStoreFromSnapshotStoreRoundTripInCompactFormatReturnsExpected() {
+        underTest = new ThingMongoSnapshotAdapter(pubSubProbe.ref(), ConfigFactory.parseMap(
+                Map.of(ThingMongoSnapshotAdapter.THING_SNAPSHOT_TAKEN_EVENT_PUBLISHING_ENABLED, false,
+                        ThingMongoSnapshotAdapter.COMPACT_SNAPSHOT_FORMAT_ENABLED, true)
+        ));
+        final var thingV2 = TestConstants.Thing.THING_V2;
+
+        final BsonDocument rawSnapshotEntity = (BsonDocument) underTest.toSnapshotStore(thingV2);
+
+        softly.assertThat(CompactSnapshotFormat.isCompact(rawSnapshotEntity)).as("compact format").isTrue();
+        softly.assertThat(rawSnapshotEntity.getString(Thing.JsonFields.ID.getPointer().toString().substring(1))
+                .getValue()).as("plain thing ID").isEqualTo(thingV2.getEntityId().orElseThrow().toString());
+        toSnapshotStoreFromSnapshotStoreRoundTripReturnsExpected(thingV2);
+    }
+
     private void toSnapshotStoreFromSnapshotStoreRoundTripReturnsExpected(final Thing thing) {
         final Object rawSnapshotEntity = underTest.toSnapshotStore(thing);
 
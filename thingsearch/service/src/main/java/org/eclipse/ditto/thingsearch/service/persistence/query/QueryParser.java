@@ -17,6 +17,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 
 import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.internal.utils.search.ParsedCriteriaCaches;
 import org.eclipse.ditto.rql.model.ParserException;
 import org.eclipse.ditto.rql.model.predicates.PredicateParser;
 import org.eclipse.ditto.rql.parser.RqlPredicateParser;
@@ -41,6 +42,8 @@ import org.eclipse.ditto.thingsearch.service.persistence.query.validation.QueryC
  */
 public final class QueryParser {
 
+    private static final String PARSED_CRITERIA_CACHE_NAME = "search_parsed_criteria";
+
     private final QueryFilterCriteriaFactory queryFilterCriteriaFactory;
     private final ThingsFieldExpressionFactory fieldExpressionFactory;
     private final QueryBuilderFactory queryBuilderFactory;
@@ -52,7 +55,8 @@ public final class QueryParser {
             final QueryBuilderFactory queryBuilderFactory,
             final QueryCriteriaValidator queryCriteriaValidator) {
 
-        this.queryFilterCriteriaFactory = QueryFilterCriteriaFactory.of(fieldExpressionFactory, predicateParser);
+        this.queryFilterCriteriaFactory = QueryFilterCriteriaFactory.of(fieldExpressionFactory, predicateParser)
+                .withCache(ParsedCriteriaCaches.get(PARSED_CRITERIA_CACHE_NAME));
         this.fieldExpressionFactory = fieldExpressionFactory;
         this.queryBuilderFactory = queryBuilderFactory;
         this.queryCriteriaValidator = queryCriteriaValidator;
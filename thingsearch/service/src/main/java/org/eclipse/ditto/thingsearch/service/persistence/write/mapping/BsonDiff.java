@@ -99,15 +99,24 @@ public final class BsonDiff {
         final var minuendFeatures = minuend.getArray(FIELD_F_ARRAY);
         final var subtrahendFeatures = subtrahend.getArray(FIELD_F_ARRAY);
         final var diffFeatures = BsonArrayDiff.diffFeaturesArray(minuendFeatures, subtrahendFeatures, maxWireVersion);
-        // compute the rest of the diff without the internal array
-        final var minuendWithoutInternal = minuend.clone();
-        final var subtrahendWithoutInternal = subtrahend.clone();
-        minuendWithoutInternal.remove(FIELD_F_ARRAY);
-        subtrahendWithoutInternal.remove(FIELD_F_ARRAY);
+        // compute the rest of the diff without the internal array; the diff does not modify the documents, thus
+        // shallow copies suffice and keep unchanged shared subdocuments identical for fast equality checks
+        final var minuendWithoutInternal = withoutInternalArray(minuend);
+        final var subtrahendWithoutInternal = withoutInternalArray(subtrahend);
         final var diffWithoutInternal = minus(minuendWithoutInternal, subtrahendWithoutInternal, true, maxWireVersion);
         return diffWithoutInternal.concat(diffFeatures);
     }
 
+    private static BsonDocument withoutInternalArray(final BsonDocument thingDocument) {
+        final var result = new BsonDocument();
+        thingDocument.forEach((key, value) -> {
+            if (!FIELD_F_ARRAY.equals(key)) {
+                result.append(key, value);
+            }
+        });
+        return result;
+    }
+
     /**
      * Concatenate 2 diffs.
      *
@@ -47,6 +47,7 @@ import org.eclipse.ditto.things.model.Thing;
 import org.eclipse.ditto.things.model.ThingId;
 import org.eclipse.ditto.thingsearch.api.UpdateReason;
 import org.eclipse.ditto.thingsearch.service.persistence.PersistenceConstants;
+import org.eclipse.ditto.thingsearch.service.persistence.write.model.AbstractWriteModel;
 import org.eclipse.ditto.thingsearch.service.persistence.write.model.Metadata;
 import org.eclipse.ditto.thingsearch.service.persistence.write.model.ThingWriteModel;
 
@@ -77,6 +78,33 @@ public final class EnforcedThingMapper {
             final long policyRevision,
             @Nullable final Metadata oldMetadata, final int maxArraySize) {
 
+        return toWriteModel(thing, policy, referencedPolicies, policyRevision, oldMetadata, maxArraySize, null);
+    }
+
+    /**
+     * Map a Thing JSON into a search index write model.
+     * If the Thing was only changed by events which replace existing values and the policy did not change since
+     * {@code lastWriteModel} was written, only the changed parts of the Thing are mapped into the document of
+     * {@code lastWriteModel}.
+     *
+     * @param thing the Thing in JSON format.
+     * @param policy the policy-enforcer of the Thing.
+     * @param policyRevision revision of the policy for a policy enforcer.
+     * @param referencedPolicies all policies referenced by the policy.
+     * @param oldMetadata the metadata that triggered the search update, possibly containing sender information.
+     * @param maxArraySize only arrays smaller than this are indexed.
+     * @param lastWriteModel the write model last written into the search index or {@code null} if unknown.
+     * @return BSON document to write into the search index.
+     * @throws org.eclipse.ditto.json.JsonMissingFieldException if Thing ID or revision is missing.
+     */
+    public static ThingWriteModel toWriteModel(final JsonObject thing,
+            final Policy policy,
+            final Set<PolicyTag> referencedPolicies,
+            final long policyRevision,
+            @Nullable final Metadata oldMetadata,
+            final int maxArraySize,
+            @Nullable final AbstractWriteModel lastWriteModel) {
+
         final String extractedThing = thing.getValueOrThrow(Thing.JsonFields.ID);
         final var thingId = ThingId.of(extractedThing);
         final long thingRevision = thing.getValueOrThrow(Thing.JsonFields.REVISION);
@@ -108,7 +136,29 @@ public final class EnforcedThingMapper {
                                 .orElse(List.of(UpdateReason.UNKNOWN))
                 );
 
-        return ThingWriteModel.of(metadata, toBsonDocument(thing, policy, metadata, maxArraySize));
+        final boolean shouldInvalidateThing = null != oldMetadata && oldMetadata.shouldInvalidateThing();
+        final BsonDocument thingDocument = tryToUpdateDocument(shouldInvalidateThing ? null : lastWriteModel, thing,
+                metadata, maxArraySize)
+                .orElseGet(() -> toBsonDocument(thing, policy, metadata, maxArraySize));
+        return ThingWriteModel.of(metadata, thingDocument);
+    }
+
+    private static Optional<BsonDocument> tryToUpdateDocument(@Nullable final AbstractWriteModel lastWriteModel,
+            final JsonObject thing,
+            final Metadata metadata,
+            final int maxArraySize) {
+
+        if (lastWriteModel instanceof ThingWriteModel lastThingWriteModel) {
+            final Metadata lastMetadata = lastThingWriteModel.getMetadata();
+            final boolean isPolicyUnchanged = lastMetadata.getThingPolicyTag().equals(metadata.getThingPolicyTag()) &&
+                    lastMetadata.getAllReferencedPolicyTags().equals(metadata.getAllReferencedPolicyTags());
+            if (isPolicyUnchanged) {
+                return IncrementalThingMapper.updateDocument(lastThingWriteModel.getThingDocument(),
+                        lastMetadata.getThingRevision(), thing, metadata.getThingRevision(), metadata.getEvents(),
+                        maxArraySize);
+            }
+        }
+        return Optional.empty();
     }
 
     static BsonDocument toBsonDocument(final JsonObject thing, final Policy policy, final Metadata metadata) {
@@ -0,0 +1,259 @@
+/*
+ * Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.ditto.thingsearch.service.persistence.write.mapping;
+
+import static org.eclipse.ditto.thingsearch.service.persistence.PersistenceConstants.FIELD_ATTRIBUTES;
+import static org.eclipse.ditto.thingsearch.service.persistence.PersistenceConstants.FIELD_FEATURES;
+import static org.eclipse.ditto.thingsearch.service.persistence.PersistenceConstants.FIELD_FEATURE_ID;
+import static org.eclipse.ditto.thingsearch.service.persistence.PersistenceConstants.FIELD_F_ARRAY;
+import static org.eclipse.ditto.thingsearch.service.persistence.PersistenceConstants.FIELD_REVISION;
+import static org.eclipse.ditto.thingsearch.service.persistence.PersistenceConstants.FIELD_THING;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonInt64;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.eclipse.ditto.internal.utils.persistence.mongo.DittoBsonJson;
+import org.eclipse.ditto.internal.utils.persistence.mongo.KeyNameReviser;
+import org.eclipse.ditto.json.JsonField;
+import org.eclipse.ditto.json.JsonKey;
+import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
+import org.eclipse.ditto.things.model.Thing;
+import org.eclipse.ditto.things.model.signals.events.AttributeModified;
+import org.eclipse.ditto.things.model.signals.events.FeatureDesiredPropertyModified;
+import org.eclipse.ditto.things.model.signals.events.FeaturePropertyModified;
+import org.eclipse.ditto.things.model.signals.events.ThingEvent;
+
+/**
+ * Computes the search index document of a Thing by updating the previously written document only at the JSON pointers
+ * changed by the Thing events received since then.
+ * <p>
+ * Only events which replace an existing non-object value are applied incrementally, as those neither change the
+ * structure of the Thing (which the evaluated policy depends on) nor remove any paths. Unchanged subdocuments are
+ * shared with the previous document, which makes the subsequent {@link BsonDiff} of both documents cheap.
+ * For all other cases, e.g. on a policy change or if events are missing, no document is computed and the caller has
+ * to map the whole Thing.
+ * </p>
+ */
+final class IncrementalThingMapper {
+
+    private static final KeyNameReviser KEY_NAME_REVISER = KeyNameReviser.escapeProblematicPlainChars();
+    private static final JsonKey ATTRIBUTES_KEY = JsonKey.of(FIELD_ATTRIBUTES);
+    private static final JsonKey FEATURES_KEY = JsonKey.of(FIELD_FEATURES);
+
+    private IncrementalThingMapper() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Updates the previous search index document of a Thing by the changes of the specified events.
+     *
+     * @param previousDocument the search index document written for {@code previousRevision}.
+     * @param previousRevision the revision of the Thing the previous document was written for.
+     * @param thing the current Thing in JSON format.
+     * @param thingRevision the revision of {@code thing}.
+     * @param events the events which lead from {@code previousRevision} to {@code thingRevision}.
+     * @param maxArraySize only arrays smaller than this are indexed.
+     * @return the updated document or an empty optional if the document cannot be updated incrementally.
+     */
+    static Optional<BsonDocument> updateDocument(final BsonDocument previousDocument,
+            final long previousRevision,
+            final JsonObject thing,
+            final long thingRevision,
+            final List<ThingEvent<?>> events,
+            final int maxArraySize) {
+
+        final Optional<Set<JsonPointer>> changedPointers = getChangedPointers(events, previousRevision, thingRevision);
+        if (changedPointers.isEmpty() ||
+                !(previousDocument.get(FIELD_THING) instanceof BsonDocument previousThing) ||
+                !(previousDocument.get(FIELD_F_ARRAY) instanceof BsonArray previousFeatures) ||
+                !hasSameTopLevelKeys(previousThing, thing)) {
+
+            return Optional.empty();
+        }
+
+        final String thingId = thing.getValueOrThrow(Thing.JsonFields.ID);
+        final BsonDocument nextThing = mapTopLevelFields(previousThing, thing, thingId, maxArraySize);
+        final List<BsonValue> nextFeatures = new ArrayList<>(previousFeatures.getValues());
+        for (final JsonPointer changedPointer : changedPointers.get()) {
+            final Optional<JsonValue> changedValue = thing.getValue(changedPointer);
+            if (changedValue.isEmpty() || changedValue.get().isObject() ||
+                    !setInThing(nextThing, changedPointer, changedValue.get(), thingId, maxArraySize) ||
+                    !setInFeatures(nextFeatures, changedPointer, changedValue.get())) {
+
+                return Optional.empty();
+            }
+        }
+
+        final BsonDocument result = new BsonDocument();
+        previousDocument.forEach(result::append);
+        result.put(FIELD_REVISION, new BsonInt64(thingRevision));
+        result.put(FIELD_THING, nextThing);
+        result.put(FIELD_F_ARRAY, new BsonArray(nextFeatures));
+        return Optional.of(result);
+    }
+
+    /*
+     * Returns the pointers changed by the events if all events are known and may be applied incrementally.
+     */
+    private static Optional<Set<JsonPointer>> getChangedPointers(final List<ThingEvent<?>> events,
+            final long previousRevision,
+            final long thingRevision) {
+
+        final Set<JsonPointer> result = new LinkedHashSet<>();
+        long expectedRevision = previousRevision + 1;
+        for (final ThingEvent<?> event : events) {
+            if (event.getRevision() <= previousRevision) {
+                // already contained in the previous document
+                continue;
+            }
+            if (event.getRevision() != expectedRevision || !isIncrementallyApplicable(event)) {
+                return Optional.empty();
+            }
+            result.add(event.getResourcePath());
+            expectedRevision++;
+        }
+        if (result.isEmpty() || expectedRevision - 1 != thingRevision) {
+            return Optional.empty();
+        }
+        return Optional.of(result);
+    }
+
+    private static boolean isIncrementallyApplicable(final ThingEvent<?> event) {
+        return event instanceof AttributeModified ||
+                event instanceof FeaturePropertyModified ||
+                event instanceof FeatureDesiredPropertyModified;
+    }
+
+    private static boolean hasSameTopLevelKeys(final BsonDocument previousThing, final JsonObject thing) {
+        if (previousThing.size() != thing.getSize()) {
+            return false;
+        }
+        for (final JsonKey key : thing.getKeys()) {
+            if (!previousThing.containsKey(toBsonKey(key))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /*
+     * Maps all top level fields except attributes and features, which are updated incrementally. The top level
+     * fields are small and contain the changed revision and modified timestamp.
+     */
+    private static BsonDocument mapTopLevelFields(final BsonDocument previousThing, final JsonObject thing,
+            final String thingId, final int maxArraySize) {
+
+        final BsonDocument result = new BsonDocument();
+        for (final JsonField field : thing) {
+            final JsonKey key = field.getKey();
+            final String bsonKey = toBsonKey(key);
+            if (ATTRIBUTES_KEY.equals(key) || FEATURES_KEY.equals(key)) {
+                result.append(bsonKey, previousThing.get(bsonKey));
+            } else {
+                IndexLengthRestrictionEnforcerVisitor.enforce(thingId, JsonPointer.empty().addLeaf(key),
+                                field.getValue(), maxArraySize)
+                        .map(DittoBsonJson.getInstance()::parseValue)
+                        .ifPresent(value -> result.append(bsonKey, value));
+            }
+        }
+        return result;
+    }
+
+    private static boolean setInThing(final BsonDocument nextThing, final JsonPointer pointer,
+            final JsonValue value, final String thingId, final int maxArraySize) {
+
+        final Optional<BsonValue> enforcedValue =
+                IndexLengthRestrictionEnforcerVisitor.enforce(thingId, pointer, value, maxArraySize)
+                        .map(DittoBsonJson.getInstance()::parseValue);
+        return setAtPointer(nextThing, pointer, enforcedValue.orElse(null));
+    }
+
+    private static boolean setInFeatures(final List<BsonValue> nextFeatures, final JsonPointer pointer,
+            final JsonValue value) {
+
+        if (!pointer.getRoot().filter(FEATURES_KEY::equals).isPresent()) {
+            return true;
+        }
+        final Optional<BsonString> featureId = pointer.get(1).map(JsonKey::toString).map(BsonString::new);
+        final Optional<JsonPointer> featurePointer = pointer.getSubPointer(2);
+        if (featureId.isEmpty() || featurePointer.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < nextFeatures.size(); i++) {
+            if (nextFeatures.get(i) instanceof BsonDocument feature &&
+                    featureId.get().equals(feature.get(FIELD_FEATURE_ID))) {
+
+                // the feature array is not subject to index length restrictions
+                final BsonDocument nextFeature = shallowCopy(feature);
+                nextFeatures.set(i, nextFeature);
+                return setAtPointer(nextFeature, featurePointer.get(),
+                        DittoBsonJson.getInstance().parseValue(value));
+            }
+        }
+        return false;
+    }
+
+    /*
+     * Sets the value at the pointer by copying the documents along the pointer; a null value removes the field.
+     * Returns false if a parent document does not exist or the previous value was a document, as then the
+     * structure of the Thing changed.
+     */
+    private static boolean setAtPointer(final BsonDocument root, final JsonPointer pointer,
+            @Nullable final BsonValue value) {
+
+        final int levelCount = pointer.getLevelCount();
+        BsonDocument parent = root;
+        for (int level = 0; level < levelCount - 1; level++) {
+            final String key = toBsonKey(pointer.get(level).orElseThrow());
+            if (!(parent.get(key) instanceof BsonDocument child)) {
+                return false;
+            }
+            final BsonDocument childCopy = shallowCopy(child);
+            parent.put(key, childCopy);
+            parent = childCopy;
+        }
+        final String leafKey = toBsonKey(pointer.getLeaf().orElseThrow());
+        if (parent.get(leafKey) instanceof BsonDocument) {
+            return false;
+        }
+        if (null != value) {
+            parent.put(leafKey, value);
+        } else {
+            parent.remove(leafKey);
+        }
+        return true;
+    }
+
+    private static BsonDocument shallowCopy(final BsonDocument document) {
+        final BsonDocument result = new BsonDocument();
+        document.forEach(result::append);
+        return result;
+    }
+
+    private static String toBsonKey(final JsonKey key) {
+        return KEY_NAME_REVISER.apply(key.toString());
+    }
+
+}
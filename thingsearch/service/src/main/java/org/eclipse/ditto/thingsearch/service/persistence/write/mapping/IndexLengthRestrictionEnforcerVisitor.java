@@ -44,6 +44,12 @@ final class IndexLengthRestrictionEnforcerVisitor implements JsonObjectVisitor<J
                 .orElseThrow();
     }
 
+    static Optional<JsonValue> enforce(final String thingId, final JsonPointer pointer, final JsonValue value,
+            final int maxArraySize) {
+
+        return new IndexLengthRestrictionEnforcerVisitor(thingId, maxArraySize).value(pointer, value);
+    }
+
     @Override
     public Optional<JsonValue> nullValue(final JsonPointer key) {
         return singleton(key, JsonValue.nullLiteral());
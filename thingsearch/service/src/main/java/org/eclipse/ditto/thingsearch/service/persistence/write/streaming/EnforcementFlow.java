@@ -188,7 +188,7 @@ final class EnforcementFlow {
                                         .flatMapConcat(pair -> {
                                             final JsonObject thing = pair.second();
                                             searchUpdateObserver.process(changedMetadata, thing);
-                                            return computeWriteModel(changedMetadata, thing);
+                                            return computeWriteModel(changedMetadata, thing, null);
                                         })
                         )
                         .grouped(maxBulkSize))
@@ -207,7 +207,7 @@ final class EnforcementFlow {
                         .flatMapConcat(pair -> {
                             final JsonObject thing = pair.second();
                             searchUpdateObserver.process(data.metadata(), thing);
-                            return computeWriteModel(data.metadata(), thing);
+                            return computeWriteModel(data.metadata(), thing, data.lastWriteModel());
                         })
                         .flatMapConcat(writeModel -> mapper.processWriteModel(writeModel, data.lastWriteModel())
                                 .orElse(Source.lazySource(() -> {
@@ -257,7 +257,8 @@ final class EnforcementFlow {
     }
 
     private Source<AbstractWriteModel, NotUsed> computeWriteModel(final Metadata metadata,
-            @Nullable final JsonObject thing) {
+            @Nullable final JsonObject thing,
+            @Nullable final AbstractWriteModel lastWriteModel) {
 
         ConsistencyLag.startS4GetEnforcer(metadata);
         final ThingEvent<?> latestEvent = metadata.getEvents()
@@ -276,7 +277,7 @@ final class EnforcementFlow {
                             try {
                                 final Pair<Policy, Set<PolicyTag>> pair = entry.getValueOrThrow();
                                 return EnforcedThingMapper.toWriteModel(thing, pair.first(), pair.second(),
-                                        entry.getRevision(), metadata, maxArraySize);
+                                        entry.getRevision(), metadata, maxArraySize, lastWriteModel);
                             } catch (final JsonRuntimeException e) {
                                 log.error(e.getMessage(), e);
                                 log.info(
@@ -15,15 +15,26 @@ package org.eclipse.ditto.thingsearch.service.persistence.write.mapping;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.ditto.policies.model.PoliciesResourceType.THING;
 
+import java.util.List;
 import java.util.Set;
 
 import org.bson.BsonDocument;
+import org.eclipse.ditto.base.model.headers.DittoHeaders;
+import org.eclipse.ditto.json.JsonArray;
 import org.eclipse.ditto.json.JsonFactory;
 import org.eclipse.ditto.json.JsonObject;
+import org.eclipse.ditto.json.JsonPointer;
+import org.eclipse.ditto.json.JsonValue;
 import org.eclipse.ditto.policies.api.Permission;
 import org.eclipse.ditto.policies.model.PoliciesModelFactory;
 import org.eclipse.ditto.policies.model.PolicyId;
 import org.eclipse.ditto.policies.model.SubjectType;
+import org.eclipse.ditto.things.model.ThingId;
+import org.eclipse.ditto.things.model.signals.events.AttributeModified;
+import org.eclipse.ditto.things.model.signals.events.FeaturePropertyModified;
+import org.eclipse.ditto.things.model.signals.events.ThingEvent;
+import org.eclipse.ditto.thingsearch.service.persistence.write.model.Metadata;
+import org.eclipse.ditto.thingsearch.service.persistence.write.model.ThingWriteModel;
 import org.junit.Test;
 
 public final class EnforcedThingMapperTest {
@@ -292,4 +303,84 @@ public final class EnforcedThingMapperTest {
 
         assertThat(JsonFactory.newObject(result.toJson())).isEqualTo(expectedJson);
     }
+
+    @Test
+    public void incrementalUpdateEqualsFullMapping() {
+        final JsonObject thing = JsonFactory.newObject("""
+                {
+                  "thingId": "hello:world",
+                  "_revision": 1024,
+                  "_modified": "2019-01-02T03:04:05.006Z",
+                  "policyId": "hello:world",
+                  "features": {
+                    "hi": { "properties": { "there": true, "unchanged": { "x": 1 } } },
+                    "other": { "properties": { "y": 2 } }
+                  },
+                  "attributes": { "hello": "world", "nested": { "a": 1 } }
+                }""");
+        final var policy = PoliciesModelFactory.newPolicyBuilder(PolicyId.of("hello", "world"))
+                .forLabel("grant-root")
+                .setSubject("g:0", SubjectType.GENERATED)
+                .setGrantedPermissions(THING, "/", Permission.READ)
+                .build();
+        final long policyRevision = 56L;
+        final ThingWriteModel lastWriteModel =
+                EnforcedThingMapper.toWriteModel(thing, policy, Set.of(), policyRevision, null, -1);
+
+        final JsonObject nextThing = thing.setValue("/_revision", 1026)
+                .setValue("/_modified", "2019-01-02T03:04:06.006Z")
+                .setValue("/features/hi/properties/there", false)
+                .setValue("/attributes/hello", JsonArray.of(1, 2));
+        final ThingId thingId = ThingId.of("hello:world");
+        final List<ThingEvent<?>> events = List.of(
+                FeaturePropertyModified.of(thingId, "hi", JsonPointer.of("there"), JsonValue.of(false), 1025L, null,
+                        DittoHeaders.empty(), null),
+                AttributeModified.of(thingId, JsonPointer.of("hello"), JsonArray.of(1, 2), 1026L, null,
+                        DittoHeaders.empty(), null));
+        final Metadata metadata = Metadata.of(thingId, 1026L, null, null, Set.of(), events, null, null);
+
+        final BsonDocument result = EnforcedThingMapper.toWriteModel(nextThing, policy, Set.of(), policyRevision,
+                metadata, -1, lastWriteModel).getThingDocument();
+
+        final BsonDocument expected =
+                EnforcedThingMapper.toWriteModel(nextThing, policy, Set.of(), policyRevision, metadata, -1)
+                        .getThingDocument();
+        assertThat(JsonFactory.newObject(result.toJson())).isEqualTo(JsonFactory.newObject(expected.toJson()));
+        assertThat(result.getDocument("t").getDocument("attributes").get("nested"))
+                .isSameAs(lastWriteModel.getThingDocument().getDocument("t").getDocument("attributes").get("nested"));
+    }
+
+    @Test
+    public void structuralChangeIsMappedFully() {
+        final JsonObject thing = JsonFactory.newObject("""
+                {
+                  "thingId": "hello:world",
+                  "_revision": 1,
+                  "policyId": "hello:world",
+                  "attributes": { "hello": { "world": true } }
+                }""");
+        final var policy = PoliciesModelFactory.newPolicyBuilder(PolicyId.of("hello", "world"))
+                .forLabel("grant-root")
+                .setSubject("g:0", SubjectType.GENERATED)
+                .setGrantedPermissions(THING, "/", Permission.READ)
+                .forLabel("revoke-world")
+                .setSubject("g:0", SubjectType.GENERATED)
+                .setRevokedPermissions(THING, "/attributes/hello/world", Permission.READ)
+                .build();
+        final ThingWriteModel lastWriteModel = EnforcedThingMapper.toWriteModel(thing, policy, Set.of(), 1L, null, -1);
+
+        final JsonObject nextThing = thing.setValue("/_revision", 2).setValue("/attributes/hello", "world");
+        final ThingId thingId = ThingId.of("hello:world");
+        final List<ThingEvent<?>> events = List.of(AttributeModified.of(thingId, JsonPointer.of("hello"),
+                JsonValue.of("world"), 2L, null, DittoHeaders.empty(), null));
+        final Metadata metadata = Metadata.of(thingId, 2L, null, null, Set.of(), events, null, null);
+
+        final BsonDocument result = EnforcedThingMapper.toWriteModel(nextThing, policy, Set.of(), 1L, metadata, -1,
+                lastWriteModel).getThingDocument();
+
+        final BsonDocument expected =
+                EnforcedThingMapper.toWriteModel(nextThing, policy, Set.of(), 1L, metadata, -1).getThingDocument();
+        assertThat(JsonFactory.newObject(result.toJson())).isEqualTo(JsonFactory.newObject(expected.toJson()));
+    }
+
 }